@@ -0,0 +1,39 @@
+package com.paragon.api.consistency;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReadConsistencyContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Hands the client the WAL position its reads must observe (its own latest write, or the token it sent). Clients send
+// it back in the same header so later reads routed to the replica don't miss that write.
+@RestControllerAdvice
+public class ConsistencyTokenResponseAdvice implements ResponseBodyAdvice<Object> {
+    private final ReadConsistencyContext readConsistencyContext;
+
+    public ConsistencyTokenResponseAdvice(ReadConsistencyContext readConsistencyContext) {
+        this.readConsistencyContext = readConsistencyContext;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        readConsistencyContext.getRequiredLsn().ifPresent(lsn ->
+                response.getHeaders().set(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, lsn.toString())
+        );
+        return body;
+    }
+}
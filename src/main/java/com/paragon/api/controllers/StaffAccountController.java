@@ -1,20 +1,25 @@
 package com.paragon.api.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paragon.api.dtos.ResponseDto;
 import com.paragon.api.dtos.staffaccount.disable.DisableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.enable.EnableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.GetAllStaffAccountsResponseDto;
 import com.paragon.api.dtos.staffaccount.getbyusername.GetStaffAccountByUsernameResponseDto;
+import com.paragon.api.dtos.staffaccount.rebuildsummaries.RebuildStaffAccountSummariesResponseDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountRequestDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.resetpassword.ResetStaffAccountPasswordResponseDto;
 import com.paragon.api.mappers.StaffAccountMapper;
 import com.paragon.api.security.HttpContextHelperImpl;
+import com.paragon.api.security.RequiresPermission;
 import com.paragon.application.commands.CommandHandler;
 import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountCommand;
 import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountCommandResponse;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommand;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommandResponse;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommand;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandResponse;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommand;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommandResponse;
 import com.paragon.application.commands.resetstaffaccountpassword.ResetStaffAccountPasswordCommand;
@@ -22,15 +27,21 @@ import com.paragon.application.commands.resetstaffaccountpassword.ResetStaffAcco
 import com.paragon.application.queries.QueryHandler;
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQuery;
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQueryResponse;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQuery;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQueryResponse;
 import com.paragon.application.queries.getstaffaccountbyusername.GetStaffAccountByUsernameQuery;
 import com.paragon.application.queries.getstaffaccountbyusername.GetStaffAccountByUsernameQueryResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
@@ -40,9 +51,12 @@ public class StaffAccountController {
     private final CommandHandler<DisableStaffAccountCommand, DisableStaffAccountCommandResponse> disableStaffAccountCommandHandler;
     private final CommandHandler<EnableStaffAccountCommand, EnableStaffAccountCommandResponse> enableStaffAccountCommandHandler;
     private final CommandHandler<ResetStaffAccountPasswordCommand, ResetStaffAccountPasswordCommandResponse> resetStaffAccountPasswordCommandHandler;
+    private final CommandHandler<RebuildStaffAccountSummariesCommand, RebuildStaffAccountSummariesCommandResponse> rebuildStaffAccountSummariesCommandHandler;
     private final QueryHandler<GetAllStaffAccountsQuery, GetAllStaffAccountsQueryResponse> getAllStaffAccountsQueryHandler;
     private final QueryHandler<GetStaffAccountByUsernameQuery, GetStaffAccountByUsernameQueryResponse> getStaffAccountByUsernameQueryHandler;
+    private final QueryHandler<StreamAllStaffAccountsQuery, StreamAllStaffAccountsQueryResponse> streamAllStaffAccountsQueryHandler;
     private final HttpContextHelperImpl httpContextHelper;
+    private final ObjectMapper objectMapper;
     private final TaskExecutor taskExecutor;
     private static final Logger log = LoggerFactory.getLogger(StaffAccountController.class);
 
@@ -51,22 +65,28 @@ public class StaffAccountController {
             CommandHandler<DisableStaffAccountCommand, DisableStaffAccountCommandResponse> disableStaffAccountCommandHandler,
             CommandHandler<EnableStaffAccountCommand, EnableStaffAccountCommandResponse> enableStaffAccountCommandHandler,
             CommandHandler<ResetStaffAccountPasswordCommand, ResetStaffAccountPasswordCommandResponse> resetStaffAccountPasswordCommandHandler,
+            CommandHandler<RebuildStaffAccountSummariesCommand, RebuildStaffAccountSummariesCommandResponse> rebuildStaffAccountSummariesCommandHandler,
             QueryHandler<GetAllStaffAccountsQuery, GetAllStaffAccountsQueryResponse> getAllStaffAccountsQueryHandler,
             QueryHandler<GetStaffAccountByUsernameQuery, GetStaffAccountByUsernameQueryResponse> getStaffAccountByUsernameQueryHandler,
+            QueryHandler<StreamAllStaffAccountsQuery, StreamAllStaffAccountsQueryResponse> streamAllStaffAccountsQueryHandler,
             HttpContextHelperImpl httpContextHelper,
+            ObjectMapper objectMapper,
             TaskExecutor taskExecutor) {
         this.registerStaffAccountCommandHandler = registerStaffAccountCommandHandler;
         this.disableStaffAccountCommandHandler = disableStaffAccountCommandHandler;
         this.enableStaffAccountCommandHandler = enableStaffAccountCommandHandler;
         this.resetStaffAccountPasswordCommandHandler = resetStaffAccountPasswordCommandHandler;
+        this.rebuildStaffAccountSummariesCommandHandler = rebuildStaffAccountSummariesCommandHandler;
         this.getAllStaffAccountsQueryHandler = getAllStaffAccountsQueryHandler;
         this.getStaffAccountByUsernameQueryHandler = getStaffAccountByUsernameQueryHandler;
+        this.streamAllStaffAccountsQueryHandler = streamAllStaffAccountsQueryHandler;
         this.httpContextHelper = httpContextHelper;
+        this.objectMapper = objectMapper;
         this.taskExecutor = taskExecutor;
     }
 
     @PostMapping
-    @PreAuthorize("hasAuthority('MANAGE_ACCOUNTS')")
+    @RequiresPermission("MANAGE_ACCOUNTS")
     public CompletableFuture<ResponseEntity<ResponseDto<RegisterStaffAccountResponseDto>>> register(@RequestBody RegisterStaffAccountRequestDto requestDto) {
         String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
         log.info("Received request to register a new staff account from a staff account with ID: {}.", requestingStaffAccountId);
@@ -80,7 +100,7 @@ public class StaffAccountController {
     }
 
     @PutMapping("/enable/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ACCOUNTS')")
+    @RequiresPermission("MANAGE_ACCOUNTS")
     public CompletableFuture<ResponseEntity<ResponseDto<EnableStaffAccountResponseDto>>> enable(@PathVariable("id") String staffAccountIdToBeEnabled) {
         String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
         log.info("Received request to enable staff account with ID: {} from staff account with ID: {}.",
@@ -95,7 +115,7 @@ public class StaffAccountController {
     }
 
     @PutMapping("/disable/{id}")
-    @PreAuthorize("hasAuthority('MANAGE_ACCOUNTS')")
+    @RequiresPermission("MANAGE_ACCOUNTS")
     public CompletableFuture<ResponseEntity<ResponseDto<DisableStaffAccountResponseDto>>> disable(@PathVariable("id") String staffAccountIdToBeDisabled) {
         String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
         log.info("Received request to disable a staff account with ID: {} was received from a staff account with ID: {}.",
@@ -110,7 +130,7 @@ public class StaffAccountController {
     }
 
     @PutMapping("/reset-password/{id}")
-    @PreAuthorize("hasAuthority('RESET_ACCOUNT_PASSWORD')")
+    @RequiresPermission("RESET_ACCOUNT_PASSWORD")
     public CompletableFuture<ResponseEntity<ResponseDto<ResetStaffAccountPasswordResponseDto>>> resetPassword(@PathVariable("id") String staffAccountIdToReset) {
         String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
         log.info("Received request to reset password for staff account ID: {} from staff account ID: {}.",
@@ -124,29 +144,69 @@ public class StaffAccountController {
         }, taskExecutor);
     }
 
+    @PutMapping("/summaries/rebuild")
+    @RequiresPermission("MANAGE_ACCOUNTS")
+    public CompletableFuture<ResponseEntity<ResponseDto<RebuildStaffAccountSummariesResponseDto>>> rebuildSummaries() {
+        String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
+        log.info("Received request to rebuild staff account summaries from staff account with ID: {}.", requestingStaffAccountId);
+
+        return CompletableFuture.supplyAsync(() -> {
+            var command = StaffAccountMapper.toRebuildSummariesCommand(requestingStaffAccountId);
+            var commandResponse = rebuildStaffAccountSummariesCommandHandler.handle(command);
+            var responseDto = new ResponseDto<>(StaffAccountMapper.toRebuildSummariesResponseDto(commandResponse), null);
+            return ResponseEntity.ok(responseDto);
+        }, taskExecutor);
+    }
+
     // TODO: Add a registered by filter
     @GetMapping
-    @PreAuthorize("hasAuthority('VIEW_ACCOUNTS_LIST')")
+    @RequiresPermission("VIEW_ACCOUNTS_LIST")
     public CompletableFuture<ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>>> getAll(
             @RequestParam(value = "status", required = false) String status,
             @RequestParam(value = "enabledBy", required = false) String enabledBy,
             @RequestParam(value = "disabledBy", required = false) String disabledBy,
             @RequestParam(value = "createdBefore", required = false) String createdBefore,
-            @RequestParam(value = "createdAfter", required = false) String createdAfter
+            @RequestParam(value = "createdAfter", required = false) String createdAfter,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
         String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
         log.info("Received request to get all staff accounts from a staff account with ID: {}.", requestingStaffAccountId);
 
         return CompletableFuture.supplyAsync(() -> {
-            var query = new GetAllStaffAccountsQuery(status, enabledBy, disabledBy, createdBefore, createdAfter);
+            var query = new GetAllStaffAccountsQuery(status, enabledBy, disabledBy, createdBefore, createdAfter, limit, cursor);
             var queryResponse = getAllStaffAccountsQueryHandler.handle(query);
             var responseDto = new ResponseDto<>(StaffAccountMapper.toGetAllResponseDto(queryResponse), null);
             return ResponseEntity.ok(responseDto);
         }, taskExecutor);
     }
 
+    // Same listing as getAll, selected with "Accept: application/x-ndjson": one JSON summary per line, written as each
+    // row is read instead of materialising a page in memory
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @RequiresPermission("VIEW_ACCOUNTS_LIST")
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "enabledBy", required = false) String enabledBy,
+            @RequestParam(value = "disabledBy", required = false) String disabledBy,
+            @RequestParam(value = "createdBefore", required = false) String createdBefore,
+            @RequestParam(value = "createdAfter", required = false) String createdAfter
+    ) {
+        String requestingStaffAccountId = httpContextHelper.extractAuthenticatedStaffId();
+        log.info("Received request to stream all staff accounts from a staff account with ID: {}.", requestingStaffAccountId);
+
+        var query = new StreamAllStaffAccountsQuery(status, enabledBy, disabledBy, createdBefore, createdAfter);
+        var queryResponse = streamAllStaffAccountsQueryHandler.handle(query);
+        StreamingResponseBody body = outputStream -> queryResponse.summaries().forEach(summary ->
+                writeNdjsonLine(outputStream, StaffAccountMapper.toStaffAccountSummaryResponseDto(summary))
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/username/{username}")
-    @PreAuthorize("hasAuthority('VIEW_ACCOUNTS_LIST')")
+    @RequiresPermission("VIEW_ACCOUNTS_LIST")
     public CompletableFuture<ResponseEntity<ResponseDto<GetStaffAccountByUsernameResponseDto>>> getByUsername(
             @PathVariable("username") String username
     ) {
@@ -161,4 +221,13 @@ public class StaffAccountController {
             return ResponseEntity.ok(responseDto);
         }, taskExecutor);
     }
+
+    private void writeNdjsonLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
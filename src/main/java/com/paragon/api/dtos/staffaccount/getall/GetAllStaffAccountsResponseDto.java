@@ -6,5 +6,8 @@ import java.util.List;
 
 public record GetAllStaffAccountsResponseDto(
         @JsonProperty("staff_accounts")
-        List<StaffAccountSummaryResponseDto> staffAccountSummaryResponseDtos
+        List<StaffAccountSummaryResponseDto> staffAccountSummaryResponseDtos,
+
+        @JsonProperty("next_cursor")
+        String nextCursor
 ) {}
@@ -0,0 +1,6 @@
+package com.paragon.api.dtos.staffaccount.rebuildsummaries;
+
+public record RebuildStaffAccountSummariesResponseDto(
+        int rebuiltCount
+) {
+}
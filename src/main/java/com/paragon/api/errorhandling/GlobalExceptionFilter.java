@@ -44,6 +44,7 @@ public class GlobalExceptionFilter {
             case RESOURCE_OWNERSHIP_VIOLATION, PERMISSION_DENIED -> HttpStatus.FORBIDDEN;
             case INVALID_RESOURCE_STATE, RESOURCE_UNIQUENESS_VIOLATION -> HttpStatus.CONFLICT;
             case AUTHENTICATION_FAILED -> HttpStatus.UNAUTHORIZED;
+            case SERVICE_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
         };
     }
 }
@@ -5,6 +5,7 @@ import com.paragon.api.dtos.staffaccount.enable.EnableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.GetAllStaffAccountsResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.StaffAccountSummaryResponseDto;
 import com.paragon.api.dtos.staffaccount.getbyusername.GetStaffAccountByUsernameResponseDto;
+import com.paragon.api.dtos.staffaccount.rebuildsummaries.RebuildStaffAccountSummariesResponseDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountRequestDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.resetpassword.ResetStaffAccountPasswordResponseDto;
@@ -12,6 +13,8 @@ import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountC
 import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountCommandResponse;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommand;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommandResponse;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommand;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandResponse;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommand;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommandResponse;
 import com.paragon.application.commands.resetstaffaccountpassword.ResetStaffAccountPasswordCommand;
@@ -70,6 +73,14 @@ public class StaffAccountMapper {
         );
     }
 
+    public static RebuildStaffAccountSummariesCommand toRebuildSummariesCommand(String requestingStaffAccountId) {
+        return new RebuildStaffAccountSummariesCommand(requestingStaffAccountId);
+    }
+
+    public static RebuildStaffAccountSummariesResponseDto toRebuildSummariesResponseDto(RebuildStaffAccountSummariesCommandResponse commandResponse) {
+        return new RebuildStaffAccountSummariesResponseDto(commandResponse.rebuiltCount());
+    }
+
     public static ResetStaffAccountPasswordCommand toResetPasswordCommand(String staffAccountIdToReset, String requestingStaffAccountId) {
         return new ResetStaffAccountPasswordCommand(staffAccountIdToReset, requestingStaffAccountId);
     }
@@ -89,11 +100,12 @@ public class StaffAccountMapper {
                 queryResponse.staffAccountSummaries()
                         .stream()
                         .map(StaffAccountMapper::toStaffAccountSummaryResponseDto)
-                        .toList()
+                        .toList(),
+                queryResponse.nextCursor()
         );
     }
 
-    private static StaffAccountSummaryResponseDto toStaffAccountSummaryResponseDto(StaffAccountSummary staffAccountSummary) {
+    public static StaffAccountSummaryResponseDto toStaffAccountSummaryResponseDto(StaffAccountSummary staffAccountSummary) {
         return new StaffAccountSummaryResponseDto(
                 staffAccountSummary.id(),
                 staffAccountSummary.username(),
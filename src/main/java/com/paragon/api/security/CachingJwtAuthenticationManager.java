@@ -0,0 +1,141 @@
+package com.paragon.api.security;
+
+import com.paragon.infrastructure.persistence.cache.BoundedReadCache;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+// Authenticates bearer tokens like the resource server's own JWT provider, but keeps every verified token's
+// authentication until the token expires, so a client reusing its access token is only verified and converted once.
+// Entries are keyed by the SHA-256 of the raw token and compared against the token on a hit, and held in a
+// BoundedReadCache whose time-to-live for each entry is what is left of the token's lifetime. The cached authentication
+// is shared between requests, so unlike the provider it doesn't copy the request's details onto it.
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+    private static final MessageDigest SHA_256 = newSha256();
+
+    private final JwtDecoder jwtDecoder;
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter;
+    private final Clock clock;
+    private final BoundedReadCache<TokenDigest, Verified> verifiedTokens;
+
+    public CachingJwtAuthenticationManager(JwtDecoder jwtDecoder,
+                                           Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                                           int maximumSize) {
+        this(jwtDecoder, authenticationConverter, maximumSize, Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationManager(JwtDecoder jwtDecoder,
+                                    Converter<Jwt, ? extends AbstractAuthenticationToken> authenticationConverter,
+                                    int maximumSize,
+                                    Clock clock) {
+        this.jwtDecoder = jwtDecoder;
+        this.authenticationConverter = authenticationConverter;
+        this.clock = clock;
+        // Token expiry is wall-clock time, so the cache runs on the same clock the expiry is compared against
+        this.verifiedTokens = new BoundedReadCache<>(
+                maximumSize,
+                verified -> Duration.between(clock.instant(), verified.expiresAt()),
+                () -> epochNanos(clock.instant())
+        );
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String token = ((BearerTokenAuthenticationToken) authentication).getToken();
+        return verifiedTokens.get(TokenDigest.of(token), digest -> Optional.of(verify(token)),
+                        verified -> verified.token().equals(token))
+                .orElseThrow()
+                .authentication();
+    }
+
+    public long size() {
+        return verifiedTokens.size();
+    }
+
+    public long getHits() {
+        return verifiedTokens.getHits();
+    }
+
+    public long getMisses() {
+        return verifiedTokens.getMisses();
+    }
+
+    public long getEvictions() {
+        return verifiedTokens.getEvictions();
+    }
+
+    private Verified verify(String token) {
+        Jwt jwt = decode(token);
+        AbstractAuthenticationToken verified = authenticationConverter.convert(jwt);
+        if (verified == null) {
+            throw new AuthenticationServiceException("Converting the verified token produced no authentication");
+        }
+        // The decoder rejects expired tokens, so a token without an expiry is given none left and simply never cached
+        return new Verified(token, verified, jwt.getExpiresAt() != null ? jwt.getExpiresAt() : clock.instant());
+    }
+
+    private Jwt decode(String token) {
+        try {
+            return jwtDecoder.decode(token);
+        } catch (BadJwtException ex) {
+            throw new InvalidBearerTokenException(ex.getMessage(), ex);
+        } catch (JwtException ex) {
+            throw new AuthenticationServiceException(ex.getMessage(), ex);
+        }
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    // Cloning an initialised digest skips the provider lookup, and each call gets its own instance
+    private static MessageDigest sha256() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException ex) {
+            return newSha256();
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    // The first 128 bits of the token's SHA-256, which is plenty to tell tokens apart
+    private record TokenDigest(long high, long low) {
+        static TokenDigest of(String token) {
+            byte[] hash = sha256().digest(token.getBytes(StandardCharsets.UTF_8));
+            long high = 0L;
+            long low = 0L;
+            for (int i = 0; i < Long.BYTES; i++) {
+                high = (high << 8) | (hash[i] & 0xFF);
+                low = (low << 8) | (hash[i + Long.BYTES] & 0xFF);
+            }
+            return new TokenDigest(high, low);
+        }
+    }
+
+    private record Verified(String token, AbstractAuthenticationToken authentication, Instant expiresAt) {
+    }
+}
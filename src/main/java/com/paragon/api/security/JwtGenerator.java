@@ -1,12 +1,6 @@
 package com.paragon.api.security;
 
-import com.paragon.domain.models.valueobjects.PermissionCode;
-import com.paragon.domain.models.valueobjects.StaffAccountId;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwsHeader;
-import org.springframework.security.oauth2.jwt.JwtClaimsSet;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -16,25 +10,24 @@ import java.util.List;
 @Component
 public class JwtGenerator {
     private static final long ACCESS_TOKEN_EXPIRY_MINUTES = 15;
-    private final JwtEncoder jwtEncoder;
-
-    public JwtGenerator(JwtEncoder jwtEncoder) {
-        this.jwtEncoder = jwtEncoder;
+    private final HmacAccessTokenIssuer accessTokenIssuer;
+    private final boolean compactPermissions;
+
+    // Compact permissions stay off until every instance reading tokens understands the bitmask claim
+    public JwtGenerator(HmacAccessTokenIssuer accessTokenIssuer,
+                        @Value("${paragon.jwt.compact-permissions:false}") boolean compactPermissions) {
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.compactPermissions = compactPermissions;
     }
 
     public String generateAccessToken(String staffAccountId, List<String> permissionCodes) {
         Instant now = Instant.now();
         Instant expiresAt = now.plus(ACCESS_TOKEN_EXPIRY_MINUTES, ChronoUnit.MINUTES);
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuedAt(now)
-                .expiresAt(expiresAt)
-                .claim("staff_id", staffAccountId)
-                .claim("permissions", permissionCodes)
-                .build();
-
-        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
-
-        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        if (compactPermissions) {
+            long bits = StaffAccountAuthenticationConverter.bitsOf(permissionCodes);
+            return accessTokenIssuer.issueCompact(staffAccountId, bits, now, expiresAt);
+        }
+        return accessTokenIssuer.issue(staffAccountId, permissionCodes, now, expiresAt);
     }
 }
@@ -0,0 +1,51 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.constants.PermissionRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Grants a @RequiresPermission method when the caller's permission set has the required bit. The annotation is
+// resolved to its bit once per method, so the check itself is a map lookup and a bitwise AND with no allocation.
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Long> requiredBits = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        long required = requiredBits.computeIfAbsent(invocation.getMethod(), PermissionAuthorizationManager::resolve);
+        if (!(authentication.get() instanceof StaffAccountAuthenticationToken token) || !token.isAuthenticated()) {
+            return DENIED;
+        }
+        return (token.getPermissions().toBits() & required) == required ? GRANTED : DENIED;
+    }
+
+    // Still abstract on the Spring Security 6 interface, but the method interceptor only calls authorize
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return (AuthorizationDecision) authorize(authentication, invocation);
+    }
+
+    private static Long resolve(Method method) {
+        RequiresPermission annotation = AnnotationUtils.findAnnotation(method, RequiresPermission.class);
+        if (annotation == null) {
+            throw new IllegalStateException("No @RequiresPermission on " + method);
+        }
+        int ordinal = PermissionRegistry.ordinalOf(annotation.value());
+        if (ordinal < 0) {
+            throw new IllegalStateException("@RequiresPermission on " + method + " names unknown permission " + annotation.value());
+        }
+        return 1L << ordinal;
+    }
+}
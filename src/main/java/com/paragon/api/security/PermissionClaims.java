@@ -0,0 +1,47 @@
+package com.paragon.api.security;
+
+import java.util.Base64;
+import java.util.OptionalLong;
+
+// Access tokens carry permissions either as the list of names or, compactly, as the permission bitmask in base64url
+// together with the registry catalogue version it was written against. The bitmask is written as its shortest
+// big-endian bytes, so the 25 current permissions take at most six characters instead of several hundred.
+public final class PermissionClaims {
+
+    private PermissionClaims() {}
+
+    public static final String NAMES_CLAIM = "permissions";
+    public static final String BITMASK_CLAIM = "perm";
+    public static final String CATALOGUE_VERSION_CLAIM = "perm_v";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encodeBitmask(long bits) {
+        int length = (Long.SIZE - Long.numberOfLeadingZeros(bits) + 7) / 8;
+        byte[] bytes = new byte[length];
+        for (int i = length - 1; i >= 0; i--) {
+            bytes[i] = (byte) bits;
+            bits >>>= 8;
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    // Empty for a value that isn't base64url or is wider than a long
+    public static OptionalLong decodeBitmask(String value) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(value);
+        } catch (IllegalArgumentException ex) {
+            return OptionalLong.empty();
+        }
+        if (bytes.length > Long.BYTES) {
+            return OptionalLong.empty();
+        }
+        long bits = 0L;
+        for (byte b : bytes) {
+            bits = (bits << 8) | (b & 0xFF);
+        }
+        return OptionalLong.of(bits);
+    }
+}
@@ -0,0 +1,53 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.constants.PermissionRegistry;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+// A compact bitmask claim written against the current catalogue is used as is. Otherwise permission names from the
+// token are turned into bits, dropping names that aren't system permissions. A bitmask from another catalogue version
+// without names to fall back on grants nothing, the client gets a fresh token on its next refresh.
+public class StaffAccountAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private static final Logger log = LoggerFactory.getLogger(StaffAccountAuthenticationConverter.class);
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        return new StaffAccountAuthenticationToken(jwt, PermissionSet.fromBits(permissionBits(jwt)));
+    }
+
+    private static long permissionBits(Jwt jwt) {
+        String bitmask = jwt.getClaimAsString(PermissionClaims.BITMASK_CLAIM);
+        if (bitmask != null) {
+            OptionalLong bits = jwt.getClaim(PermissionClaims.CATALOGUE_VERSION_CLAIM) instanceof Number version
+                    && version.intValue() == PermissionRegistry.CATALOGUE_VERSION
+                    ? PermissionClaims.decodeBitmask(bitmask)
+                    : OptionalLong.empty();
+            if (bits.isPresent()) {
+                return bits.getAsLong();
+            }
+            log.debug("Ignoring permission bitmask claim that doesn't match catalogue version {}",
+                    PermissionRegistry.CATALOGUE_VERSION);
+        }
+        return bitsOf(jwt.getClaimAsStringList(PermissionClaims.NAMES_CLAIM));
+    }
+
+    static long bitsOf(List<String> permissionCodes) {
+        long bits = 0L;
+        if (permissionCodes != null) {
+            for (String permissionCode : permissionCodes) {
+                int ordinal = PermissionRegistry.ordinalOf(permissionCode);
+                if (ordinal >= 0) {
+                    bits |= 1L << ordinal;
+                }
+            }
+        }
+        return bits;
+    }
+}
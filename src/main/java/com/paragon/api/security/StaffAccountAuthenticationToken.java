@@ -0,0 +1,21 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+// The access token's permissions are held as a PermissionSet instead of string authorities, so authorization checks
+// are bitwise and never compare permission names
+public class StaffAccountAuthenticationToken extends JwtAuthenticationToken {
+    private final PermissionSet permissions;
+
+    public StaffAccountAuthenticationToken(Jwt jwt, PermissionSet permissions) {
+        super(jwt, AuthorityUtils.NO_AUTHORITIES);
+        this.permissions = permissions;
+    }
+
+    public PermissionSet getPermissions() {
+        return permissions;
+    }
+}
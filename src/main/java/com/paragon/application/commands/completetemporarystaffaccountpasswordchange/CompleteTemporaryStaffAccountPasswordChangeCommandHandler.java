@@ -45,11 +45,15 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandler implement
 
     @Override
     public CompleteTemporaryStaffAccountPasswordChangeCommandResponse handle(CompleteTemporaryStaffAccountPasswordChangeCommand command) {
-        try {
-            log.info("Completing temporary password change for staff account ID: {}", command.id());
+        log.info("Completing temporary password change for staff account ID: {}", command.id());
 
-            unitOfWork.begin();
-            StaffAccount staffAccount = staffAccountWriteRepo.getById(StaffAccountId.from(command.id()))
+        // The account and its history are read, and the new password checked and hashed, before the unit of work opens,
+        // so waiting on the password hashing engine never holds a pooled connection; the update below is still
+        // version-checked
+        StaffAccount staffAccount;
+        Password hashedPassword;
+        try {
+            staffAccount = staffAccountWriteRepo.getById(StaffAccountId.from(command.id()))
                     .orElseThrow(() -> new AppException(AppExceptionInfo.staffAccountNotFound(command.id())));
 
             PlaintextPassword enteredPassword = PlaintextPassword.of(command.newPassword());
@@ -58,7 +62,19 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandler implement
             StaffAccountPasswordHistory passwordHistory = staffAccountPasswordHistoryWriteRepo.getPasswordHistory(staffAccount.getId());
             staffAccountPasswordReusePolicy.ensureNotViolated(enteredPassword, passwordHistory);
 
-            Password hashedPassword = passwordHasher.hash(PlaintextPassword.of(command.newPassword()));
+            hashedPassword = passwordHasher.hash(enteredPassword);
+        } catch (DomainException ex) {
+            log.error("Failed to complete temporary password change for staff account ID '{}' due to domain rule violation: {}",
+                    command.id(), ex.getMessage(), ex);
+            throw appExceptionHandler.handleDomainException(ex);
+        } catch (InfraException ex) {
+            log.error("Failed to complete temporary password change for staff account ID '{}' due to infrastructure error: {}",
+                    command.id(), ex.getMessage(), ex);
+            throw appExceptionHandler.handleInfraException(ex);
+        }
+
+        unitOfWork.begin();
+        try {
             staffAccount.completeTemporaryPasswordChange(hashedPassword);
             staffAccountWriteRepo.update(staffAccount);
 
@@ -79,6 +95,9 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandler implement
                     staffAccount.getStatus().toString(),
                     staffAccount.getVersion().getValue()
             );
+        } catch (AppException ex) {
+            unitOfWork.rollback();
+            throw ex;
         } catch (DomainException ex) {
             log.error("Failed to complete temporary password change for staff account ID '{}' due to domain rule violation: {}",
                     command.id(), ex.getMessage(), ex);
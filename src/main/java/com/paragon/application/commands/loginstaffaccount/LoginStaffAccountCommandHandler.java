@@ -46,20 +46,39 @@ public class LoginStaffAccountCommandHandler implements CommandHandler<LoginStaf
 
     @Override
     public LoginStaffAccountCommandResponse handle(LoginStaffAccountCommand command) {
-        unitOfWork.begin();
-        StaffAccount staffAccount = null;
+        // The account is read and the password checked before the unit of work opens, so a login waiting on the
+        // password hashing engine never holds a pooled connection; the update below is still version-checked
+        StaffAccount staffAccount;
+        boolean validPassword;
+        Password rehashedPassword = null;
         try {
             staffAccount = staffAccountWriteRepo.getByUsername(Username.of(command.username()))
                     .orElseThrow(() -> new AppException(AppExceptionInfo.invalidLoginCredentials()));
+            validPassword = isValidPassword(command.password(), staffAccount.getPassword());
+            if (validPassword) {
+                rehashedPassword = rehashIfOutdated(command.password(), staffAccount.getPassword());
+            }
+        } catch (DomainException ex) {
+            log.error("Staff account login failed for username='{}': domain rule violation - {}",
+                    command.username(), ex.getMessage(), ex);
+            throw appExceptionHandler.handleDomainException(ex);
+        } catch (InfraException ex) {
+            log.error("Staff account login failed for username='{}': infrastructure related error occurred - {}",
+                    command.username(), ex.getMessage(), ex);
+            throw appExceptionHandler.handleInfraException(ex);
+        }
 
-            if (!isValidPassword(command.password(), staffAccount.getPassword())) {
+        unitOfWork.begin();
+        try {
+            if (!validPassword) {
                 staffAccount.registerFailedLoginAttempt();
                 staffAccountWriteRepo.update(staffAccount);
+                eventBus.publishAll(staffAccount.dequeueUncommittedEvents());
                 unitOfWork.commit();
                 throw new AppException(AppExceptionInfo.invalidLoginCredentials());
             }
 
-            staffAccount.login();
+            staffAccount.login(rehashedPassword);
             staffAccountWriteRepo.update(staffAccount);
 
             PlaintextRefreshToken plaintextRefreshToken = PlaintextRefreshToken.generate();
@@ -73,6 +92,7 @@ public class LoginStaffAccountCommandHandler implements CommandHandler<LoginStaf
                     .map(PermissionCode::getValue)
                     .collect(Collectors.toList());
 
+            eventBus.publishAll(staffAccount.dequeueUncommittedEvents());
             unitOfWork.commit();
 
             log.info("Staff account '{}' (ID: {}) successfully logged in.",
@@ -98,14 +118,21 @@ public class LoginStaffAccountCommandHandler implements CommandHandler<LoginStaf
                     command.username(), ex.getMessage(), ex);
             unitOfWork.rollback();
             throw appExceptionHandler.handleInfraException(ex);
-        } finally {
-            if (staffAccount != null) {
-                eventBus.publishAll(staffAccount.dequeueUncommittedEvents());
-            }
         }
     }
 
     private boolean isValidPassword(String enteredPassword, Password storedPassword) {
         return passwordHasher.verify(enteredPassword, storedPassword);
     }
+
+    // Upgrading an outdated hash is opportunistic: when the hashing engine is too busy the login goes ahead with the
+    // stored hash and the upgrade is retried on the next login
+    private Password rehashIfOutdated(String verifiedPassword, Password storedPassword) {
+        try {
+            return passwordHasher.rehashIfOutdated(verifiedPassword, storedPassword).orElse(null);
+        } catch (AppException ex) {
+            log.warn("Skipped upgrading an outdated password hash - {}", ex.getMessage());
+            return null;
+        }
+    }
 }
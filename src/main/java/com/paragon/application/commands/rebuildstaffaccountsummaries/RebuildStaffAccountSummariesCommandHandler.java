@@ -0,0 +1,45 @@
+package com.paragon.application.commands.rebuildstaffaccountsummaries;
+
+import com.paragon.application.commands.CommandHandler;
+import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.common.interfaces.StaffAccountSummaryProjection;
+import com.paragon.application.common.interfaces.UnitOfWork;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RebuildStaffAccountSummariesCommandHandler
+        implements CommandHandler<RebuildStaffAccountSummariesCommand, RebuildStaffAccountSummariesCommandResponse> {
+    private final StaffAccountSummaryProjection staffAccountSummaryProjection;
+    private final UnitOfWork unitOfWork;
+    private final AppExceptionHandler appExceptionHandler;
+    private static final Logger log = LoggerFactory.getLogger(RebuildStaffAccountSummariesCommandHandler.class);
+
+    public RebuildStaffAccountSummariesCommandHandler(StaffAccountSummaryProjection staffAccountSummaryProjection,
+                                                      UnitOfWork unitOfWork,
+                                                      AppExceptionHandler appExceptionHandler) {
+        this.staffAccountSummaryProjection = staffAccountSummaryProjection;
+        this.unitOfWork = unitOfWork;
+        this.appExceptionHandler = appExceptionHandler;
+    }
+
+    @Override
+    public RebuildStaffAccountSummariesCommandResponse handle(RebuildStaffAccountSummariesCommand command) {
+        // One transaction, so readers keep seeing the previous summaries until every row has been rebuilt
+        unitOfWork.begin();
+        try {
+            int rebuiltCount = staffAccountSummaryProjection.rebuildAll();
+            unitOfWork.commit();
+
+            log.info("Rebuilt {} staff account summaries, requested by {}", rebuiltCount, command.requestingStaffAccountId());
+
+            return new RebuildStaffAccountSummariesCommandResponse(rebuiltCount);
+        } catch (InfraException ex) {
+            log.error("Unable to rebuild staff account summaries: infrastructure error - {}", ex.getMessage(), ex);
+            unitOfWork.rollback();
+            throw appExceptionHandler.handleInfraException(ex);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.paragon.application.commands.rebuildstaffaccountsummaries;
+
+public record RebuildStaffAccountSummariesCommandResponse(int rebuiltCount) {
+}
@@ -44,13 +44,14 @@ public class RegisterStaffAccountCommandHandler implements CommandHandler<Regist
 
     @Override
     public RegisterStaffAccountCommandResponse handle(RegisterStaffAccountCommand command) {
+        // Hashed before the unit of work opens, so waiting on the password hashing engine never holds a pooled connection
+        PlaintextPassword plaintextTempPassword = PlaintextPassword.generate();
+        Password hashedTempPassword = passwordHasher.hash(plaintextTempPassword);
+
+        uow.begin();
         try {
-            uow.begin();
             assertUniqueUsername(command.username());
 
-            PlaintextPassword plaintextTempPassword = PlaintextPassword.generate();
-            Password hashedTempPassword = passwordHasher.hash(plaintextTempPassword);
-
             StaffAccount staffAccount = StaffAccount.register(
                     Username.of(command.username()),
                     command.email() != null ? Email.of(command.email()) : null,
@@ -85,6 +86,9 @@ public class RegisterStaffAccountCommandHandler implements CommandHandler<Regist
                     staffAccount.getStatus().toString(),
                     staffAccount.getVersion().getValue()
             );
+        } catch (AppException ex) {
+            uow.rollback();
+            throw ex;
         } catch (DomainException ex) {
             log.error("Staff account registration failed for createdBy={}: domain rule violation - {}",
                     command.createdBy(), ex.getMessage(), ex);
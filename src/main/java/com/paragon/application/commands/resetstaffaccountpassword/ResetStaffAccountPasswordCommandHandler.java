@@ -42,17 +42,18 @@ public class ResetStaffAccountPasswordCommandHandler implements CommandHandler<R
 
     @Override
     public ResetStaffAccountPasswordCommandResponse handle(ResetStaffAccountPasswordCommand command) {
+        log.info("Resetting password for staff account {}", command.staffAccountIdToReset());
+
+        // Hashed before the unit of work opens, so waiting on the password hashing engine never holds a pooled connection
+        PlaintextPassword plaintextTempPassword = PlaintextPassword.generate();
+        Password hashedTempPassword = passwordHasher.hash(plaintextTempPassword);
+
         unitOfWork.begin();
         try {
-            log.info("Resetting password for staff account {}", command.staffAccountIdToReset());
-
             StaffAccountId staffAccountId = StaffAccountId.from(command.staffAccountIdToReset());
             StaffAccount staffAccount = staffAccountWriteRepo.getById(staffAccountId)
                     .orElseThrow(() -> new AppException(AppExceptionInfo.staffAccountNotFound(command.staffAccountIdToReset())));
 
-            PlaintextPassword plaintextTempPassword = PlaintextPassword.generate();
-            Password hashedTempPassword = passwordHasher.hash(plaintextTempPassword);
-
             StaffAccountId resetBy = StaffAccountId.from(command.requestingStaffAccountId());
             staffAccount.resetPassword(hashedTempPassword, resetBy);
             staffAccountWriteRepo.update(staffAccount);
@@ -68,6 +69,9 @@ public class ResetStaffAccountPasswordCommandHandler implements CommandHandler<R
                     staffAccount.getPasswordIssuedAt(),
                     staffAccount.getVersion().getValue()
             );
+        } catch (AppException ex) {
+            unitOfWork.rollback();
+            throw ex;
         } catch (DomainException ex) {
             log.error("Failed to reset password for staff account {} due to domain rule violation: {}",
                     command.staffAccountIdToReset(), ex.getMessage(), ex);
@@ -4,6 +4,7 @@ import com.paragon.application.commands.CommandHandler;
 import com.paragon.application.common.exceptions.AppException;
 import com.paragon.application.common.exceptions.AppExceptionInfo;
 import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.common.interfaces.UnitOfWork;
 import com.paragon.application.events.EventBus;
 import com.paragon.domain.enums.StaffAccountRequestType;
 import com.paragon.domain.exceptions.DomainException;
@@ -22,22 +23,26 @@ public class SubmitPasswordChangeRequestCommandHandler implements CommandHandler
 
     private final StaffAccountWriteRepo staffAccountWriteRepo;
     private final StaffAccountRequestWriteRepo staffAccountRequestWriteRepo;
+    private final UnitOfWork unitOfWork;
     private final EventBus eventBus;
     private final AppExceptionHandler appExceptionHandler;
     private static final Logger log = LoggerFactory.getLogger(SubmitPasswordChangeRequestCommandHandler.class);
 
     public SubmitPasswordChangeRequestCommandHandler(StaffAccountWriteRepo staffAccountWriteRepo,
                                                       StaffAccountRequestWriteRepo staffAccountRequestWriteRepo,
+                                                      UnitOfWork unitOfWork,
                                                       EventBus eventBus,
                                                       AppExceptionHandler appExceptionHandler) {
         this.staffAccountWriteRepo = staffAccountWriteRepo;
         this.staffAccountRequestWriteRepo = staffAccountRequestWriteRepo;
+        this.unitOfWork = unitOfWork;
         this.eventBus = eventBus;
         this.appExceptionHandler = appExceptionHandler;
     }
 
     @Override
     public SubmitPasswordChangeRequestCommandResponse handle(SubmitPasswordChangeRequestCommand command) {
+        unitOfWork.begin();
         try {
             StaffAccountId staffAccountId = StaffAccountId.from(command.staffAccountId());
             StaffAccount staffAccount = staffAccountWriteRepo.getById(staffAccountId)
@@ -66,6 +71,8 @@ public class SubmitPasswordChangeRequestCommandHandler implements CommandHandler
 
             eventBus.publishAll(request.dequeueUncommittedEvents());
 
+            unitOfWork.commit();
+
             log.info("Password change request submitted for staff account {}", staffAccountId.getValue());
 
             return new SubmitPasswordChangeRequestCommandResponse(
@@ -76,13 +83,18 @@ public class SubmitPasswordChangeRequestCommandHandler implements CommandHandler
                     request.getSubmittedAt().getValue().toString(),
                     request.getExpiresAt().getValue().toString()
             );
+        } catch (AppException ex) {
+            unitOfWork.rollback();
+            throw ex;
         } catch (DomainException ex) {
             log.error("Unable to submit password change request for staff account {}: domain rule violation - {}",
                     command.staffAccountId(), ex.getMessage(), ex);
+            unitOfWork.rollback();
             throw appExceptionHandler.handleDomainException(ex);
         } catch (InfraException ex) {
             log.error("Unable to submit password change request for staff account {}: infrastructure error - {}",
                     command.staffAccountId(), ex.getMessage(), ex);
+            unitOfWork.rollback();
             throw appExceptionHandler.handleInfraException(ex);
         }
     }
@@ -308,7 +308,7 @@ public class AppExceptionHandlerImpl implements AppExceptionHandler {
         int domainErrorCode = exception.getDomainErrorCode();
 
         return switch (domainErrorCode) {
-            case 110001, 110002, 110003, 110004, 110005 -> // all permission code validation errors - user input (admin)
+            case 110001, 110002, 110003, 110004, 110005, 110006 -> // all permission code validation errors - user input (admin)
                     new AppException(exception, AppExceptionStatusCode.CLIENT_ERROR);
 
             default -> new AppException(exception, AppExceptionStatusCode.UNHANDLED_ERROR);
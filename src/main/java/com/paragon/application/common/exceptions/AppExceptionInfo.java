@@ -93,4 +93,36 @@ public class AppExceptionInfo {
                 AppExceptionStatusCode.RESOURCE_UNIQUENESS_VIOLATION
         );
     }
+
+    public static AppExceptionInfo invalidPageCursor(String cursor) {
+        return new AppExceptionInfo(
+                String.format("The provided page cursor '%s' is invalid.", cursor),
+                111,
+                AppExceptionStatusCode.CLIENT_ERROR
+        );
+    }
+
+    public static AppExceptionInfo invalidPageSize(int limit, int maxPageSize) {
+        return new AppExceptionInfo(
+                String.format("limit must be between 1 and %d, but was %d.", maxPageSize, limit),
+                112,
+                AppExceptionStatusCode.CLIENT_ERROR
+        );
+    }
+
+    public static AppExceptionInfo eventHandlerTimedOut(String eventName, long timeoutMillis) {
+        return new AppExceptionInfo(
+                String.format("A handler for event '%s' did not finish within %d ms.", eventName, timeoutMillis),
+                113,
+                AppExceptionStatusCode.SERVER_ERROR
+        );
+    }
+
+    public static AppExceptionInfo passwordHashingUnavailable() {
+        return new AppExceptionInfo(
+                "Too many password operations are in progress. Please try again shortly.",
+                114,
+                AppExceptionStatusCode.SERVICE_UNAVAILABLE
+        );
+    }
 }
@@ -9,6 +9,7 @@ public enum AppExceptionStatusCode {
     RESOURCE_UNIQUENESS_VIOLATION(1006),
     PERMISSION_DENIED(1007),
     AUTHENTICATION_FAILED(1008),
+    SERVICE_UNAVAILABLE(1009),
     UNHANDLED_ERROR(1999);
 
     AppExceptionStatusCode(int code) {
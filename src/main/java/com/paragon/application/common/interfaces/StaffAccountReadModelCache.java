@@ -0,0 +1,10 @@
+package com.paragon.application.common.interfaces;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+
+public interface StaffAccountReadModelCache {
+    void invalidate(StaffAccountId staffAccountId, Version version);
+    void invalidate(StaffAccountId staffAccountId);
+    void invalidateAll();
+}
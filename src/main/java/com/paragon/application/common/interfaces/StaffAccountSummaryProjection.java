@@ -0,0 +1,8 @@
+package com.paragon.application.common.interfaces;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+
+public interface StaffAccountSummaryProjection {
+    void refresh(StaffAccountId staffAccountId);
+    int rebuildAll();
+}
@@ -7,4 +7,5 @@ import java.util.List;
 public interface EventBus {
     <T extends DomainEvent> void registerHandler(EventHandler<T> handler);
     void publishAll(List<DomainEvent> events);
+    void dispatch(DomainEvent event);
 }
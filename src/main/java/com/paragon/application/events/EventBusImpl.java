@@ -1,39 +1,163 @@
 package com.paragon.application.events;
 
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
 import com.paragon.domain.events.DomainEvent;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 
+// publishAll only records events in the outbox, as part of the caller's unit of work; the outbox relay later hands
+// each one to dispatch, which runs the registered handlers. Relay workers dispatch concurrently, so the registry is an
+// immutable snapshot swapped on registration and read without locking. Handlers that run concurrently are started on
+// virtual threads first, the rest then run in order on the dispatching thread, and dispatch returns once all of them
+// have finished or the deadline has passed, throwing the first failure with any others suppressed.
 @Component
 public class EventBusImpl implements EventBus {
-    private static final Map<String, List<EventHandler<?>>> handlers = new HashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(EventBusImpl.class);
+
+    private final AtomicReference<Registry> registry = new AtomicReference<>(new Registry(Map.of()));
+    private final ExecutorService concurrentHandlerExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-handler-", 0).factory());
+    private final EventOutbox eventOutbox;
+    private final Duration concurrentHandlerTimeout;
+
+    public EventBusImpl(EventOutbox eventOutbox,
+                        @Value("${paragon.events.concurrent-handler-timeout:10s}") Duration concurrentHandlerTimeout) {
+        this.eventOutbox = eventOutbox;
+        this.concurrentHandlerTimeout = concurrentHandlerTimeout;
+    }
+
     @Override
     public <T extends DomainEvent> void registerHandler(EventHandler<T> eventHandler) {
-        for (String eventName : eventHandler.subscribedToEvents()) {
-            handlers.computeIfAbsent(eventName, k -> new ArrayList<>())
-                    .add(eventHandler);
-        }
+        registry.updateAndGet(current -> {
+            Map<String, List<EventHandler<?>>> updated = new HashMap<>(current.handlersByEventName());
+            for (String eventName : eventHandler.subscribedToEvents()) {
+                List<EventHandler<?>> eventHandlers = new ArrayList<>(updated.getOrDefault(eventName, List.of()));
+                eventHandlers.add(eventHandler);
+                updated.put(eventName, List.copyOf(eventHandlers));
+            }
+            return new Registry(Map.copyOf(updated));
+        });
     }
 
     @Override
     public void publishAll(List<DomainEvent> events) {
-        for (DomainEvent event : events) {
-            List<EventHandler<?>> eventHandlers = handlers.getOrDefault(event.getEventName(), List.of());
-            for (EventHandler<?> handler : eventHandlers) {
+        if (events.isEmpty()) {
+            return;
+        }
+        eventOutbox.append(events);
+        log.debug("Recorded {} domain events in the outbox", events.size());
+    }
+
+    @Override
+    public void dispatch(DomainEvent event) {
+        Route route = registry.get().routeFor(event);
+        if (route.concurrent().isEmpty()) {
+            for (EventHandler<?> handler : route.sequential()) {
                 invoke(handler, event);
             }
+            return;
+        }
+
+        long deadline = System.nanoTime() + concurrentHandlerTimeout.toNanos();
+        List<Future<?>> running = new ArrayList<>(route.concurrent().size());
+        for (EventHandler<?> handler : route.concurrent()) {
+            running.add(concurrentHandlerExecutor.submit(() -> invoke(handler, event)));
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (EventHandler<?> handler : route.sequential()) {
+                invoke(handler, event);
+            }
+        } catch (RuntimeException ex) {
+            failure = ex;
+        }
+        for (Future<?> handler : running) {
+            failure = aggregate(failure, await(handler, deadline, event));
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
+    @PreDestroy
+    public void close() {
+        concurrentHandlerExecutor.shutdownNow();
+    }
+
+    private RuntimeException await(Future<?> handler, long deadline, DomainEvent event) {
+        try {
+            handler.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                return cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            handler.cancel(true);
+            log.error("A handler for {} ({}) did not finish within {}",
+                    event.getEventName(), event.getEventId().getValue(), concurrentHandlerTimeout);
+            return new AppException(AppExceptionInfo.eventHandlerTimedOut(
+                    event.getEventName(), concurrentHandlerTimeout.toMillis()));
+        } catch (InterruptedException ex) {
+            handler.cancel(true);
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Interrupted while waiting for handlers of " + event.getEventName(), ex);
+        }
+    }
+
+    private static RuntimeException aggregate(RuntimeException failure, RuntimeException ex) {
+        if (failure == null) {
+            return ex;
+        }
+        if (ex != null) {
+            failure.addSuppressed(ex);
+        }
+        return failure;
+    }
+
     private <T extends DomainEvent> void invoke(EventHandler<T> handler, DomainEvent event) {
         @SuppressWarnings("unchecked")
         T typedEvent = (T) event;
         handler.handle(typedEvent);
     }
+
+    private record Route(List<EventHandler<?>> sequential, List<EventHandler<?>> concurrent) {
+        static Route of(List<EventHandler<?>> handlers) {
+            return new Route(
+                    handlers.stream().filter(handler -> !handler.runsConcurrently()).toList(),
+                    handlers.stream().filter(EventHandler::runsConcurrently).toList()
+            );
+        }
+    }
+
+    // Every concrete event class carries a single event name, so routes are resolved once per class and then found
+    // by class rather than by name
+    private record Registry(Map<String, List<EventHandler<?>>> handlersByEventName,
+                            ConcurrentMap<Class<?>, Route> routesByEventClass) {
+        Registry(Map<String, List<EventHandler<?>>> handlersByEventName) {
+            this(handlersByEventName, new ConcurrentHashMap<>());
+        }
+
+        Route routeFor(DomainEvent event) {
+            return routesByEventClass.computeIfAbsent(event.getClass(),
+                    eventClass -> Route.of(handlersByEventName.getOrDefault(event.getEventName(), List.of())));
+        }
+    }
 }
@@ -7,4 +7,10 @@ import java.util.List;
 public interface EventHandler<T extends DomainEvent> {
     void handle(T event);
     List<String> subscribedToEvents();
+
+    // Concurrent handlers run on their own threads alongside the event's other handlers, outside the dispatching
+    // thread's unit of work, so they must be idempotent and independent of the other handlers
+    default boolean runsConcurrently() {
+        return false;
+    }
 }
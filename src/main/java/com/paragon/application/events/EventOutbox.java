@@ -0,0 +1,9 @@
+package com.paragon.application.events;
+
+import com.paragon.domain.events.DomainEvent;
+
+import java.util.List;
+
+public interface EventOutbox {
+    void append(List<DomainEvent> events);
+}
@@ -39,6 +39,8 @@ public class StaffAccountEventAuditTrailHandler implements EventHandler<StaffAcc
         } catch (InfraException ex) {
             log.error("Infrastructure error occurred while persisting AuditTrailEntry for {} (staffAccountId={})",
                     event.getEventName(), event.getStaffAccountId().getValue(), ex);
+            // rethrown so the outbox relay retries the event
+            throw ex;
         }
     }
 
@@ -0,0 +1,41 @@
+package com.paragon.application.events.readmodelcache;
+
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
+import com.paragon.application.events.EventHandler;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.events.staffaccountevents.StaffAccountEventBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class StaffAccountReadModelCacheInvalidationHandler implements EventHandler<StaffAccountEventBase> {
+    private final StaffAccountReadModelCache staffAccountReadModelCache;
+    private static final Logger log = LoggerFactory.getLogger(StaffAccountReadModelCacheInvalidationHandler.class);
+
+    public StaffAccountReadModelCacheInvalidationHandler(StaffAccountReadModelCache staffAccountReadModelCache) {
+        this.staffAccountReadModelCache = staffAccountReadModelCache;
+    }
+
+    @Override
+    public void handle(StaffAccountEventBase event) {
+        staffAccountReadModelCache.invalidate(event.getStaffAccountId(), event.getStaffAccountVersion());
+        log.debug("Invalidated cached read models for staffAccountId={} after {} at version {}",
+                event.getStaffAccountId().getValue(), event.getEventName(), event.getStaffAccountVersion().getValue());
+    }
+
+    @Override
+    public List<String> subscribedToEvents() {
+        return List.of(
+                EventNames.STAFF_ACCOUNT_REGISTERED,
+                EventNames.STAFF_ACCOUNT_LOGGED_IN,
+                EventNames.STAFF_ACCOUNT_LOCKED,
+                EventNames.STAFF_ACCOUNT_DISABLED,
+                EventNames.STAFF_ACCOUNT_ENABLED,
+                EventNames.STAFF_ACCOUNT_PASSWORD_RESET,
+                EventNames.STAFF_ACCOUNT_PASSWORD_CHANGED
+        );
+    }
+}
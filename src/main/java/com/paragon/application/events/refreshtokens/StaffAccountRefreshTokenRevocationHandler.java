@@ -35,6 +35,8 @@ public class StaffAccountRefreshTokenRevocationHandler implements EventHandler<S
         } catch (InfraException ex) {
             log.error("Infrastructure related error occurred while revoking refresh tokens for staff account with ID={}, in event: {}. Error reason: {}",
                     event.getStaffAccountId().getValue(), event.getEventName(), ex.getMessage(), ex);
+            // rethrown so the outbox relay retries the event
+            throw ex;
         }
     }
 
@@ -46,4 +48,10 @@ public class StaffAccountRefreshTokenRevocationHandler implements EventHandler<S
                 EventNames.STAFF_ACCOUNT_PASSWORD_RESET
         );
     }
+
+    // Revoking already revoked tokens is a no-op, so this can run outside the relay's transaction
+    @Override
+    public boolean runsConcurrently() {
+        return true;
+    }
 }
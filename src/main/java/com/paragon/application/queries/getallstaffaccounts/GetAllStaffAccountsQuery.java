@@ -5,6 +5,8 @@ public record GetAllStaffAccountsQuery(
         String enabledBy,
         String disabledBy,
         String createdBefore,
-        String createdAfter
+        String createdAfter,
+        Integer limit,
+        String cursor
 ) {
 }
@@ -5,7 +5,6 @@ import com.paragon.application.common.exceptions.AppExceptionInfo;
 import com.paragon.application.common.interfaces.AppExceptionHandler;
 import com.paragon.application.queries.QueryHandler;
 import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
-import com.paragon.domain.enums.StaffAccountStatus;
 import com.paragon.domain.exceptions.DomainException;
 import com.paragon.domain.models.valueobjects.DateTimeUtc;
 import com.paragon.domain.models.valueobjects.Username;
@@ -22,6 +21,8 @@ public class GetAllStaffAccountsQueryHandler implements QueryHandler<GetAllStaff
     private final StaffAccountReadRepo staffAccountReadRepo;
     private final AppExceptionHandler appExceptionHandler;
     private static final Logger log = LoggerFactory.getLogger(GetAllStaffAccountsQueryHandler.class);
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 100;
 
     public GetAllStaffAccountsQueryHandler(StaffAccountReadRepo staffAccountReadRepo, AppExceptionHandler appExceptionHandler) {
         this.staffAccountReadRepo = staffAccountReadRepo;
@@ -31,27 +32,38 @@ public class GetAllStaffAccountsQueryHandler implements QueryHandler<GetAllStaff
     @Override
     public GetAllStaffAccountsQueryResponse handle(GetAllStaffAccountsQuery query) {
         try {
-            DateTimeUtc createdBefore = query.createdBefore() != null ? DateTimeUtc.from(query.createdBefore()) : null;
-            DateTimeUtc createdAfter = query.createdAfter() != null ? DateTimeUtc.from(query.createdAfter()) : null;
-            validateCreatedDateRange(createdBefore, createdAfter);
-
-            throwIfEnabledByAndDisabledByAreGiven(query.enabledBy(), query.disabledBy());
+            StaffAccountSummaryFilters filters = StaffAccountSummaryFilters.parse(
+                    query.status(),
+                    query.enabledBy(),
+                    query.disabledBy(),
+                    query.createdBefore(),
+                    query.createdAfter()
+            );
 
-            Username enabledByUsername = query.enabledBy() != null ? Username.of(query.enabledBy()) : null;
-            Username disabledByUsername = query.disabledBy() != null ? Username.of(query.disabledBy()) : null;
+            int pageSize = resolvePageSize(query.limit());
+            StaffAccountSummaryCursor after = hasText(query.cursor()) ? StaffAccountSummaryCursor.decode(query.cursor()) : null;
 
+            // One extra row tells us whether another page exists without a separate count query
             List<StaffAccountSummaryReadModel> staffAccountSummaryReadModels = staffAccountReadRepo.findAllSummaries(
-                    StaffAccountStatus.fromString(query.status()),
-                    enabledByUsername,
-                    disabledByUsername,
-                    createdBefore,
-                    createdAfter
+                    filters.status(),
+                    filters.enabledBy(),
+                    filters.disabledBy(),
+                    filters.createdBefore(),
+                    filters.createdAfter(),
+                    after,
+                    pageSize + 1
             );
-            List<StaffAccountSummary> staffAccountSummaries = staffAccountSummaryReadModels
+            boolean hasNextPage = staffAccountSummaryReadModels.size() > pageSize;
+            List<StaffAccountSummaryReadModel> page = hasNextPage
+                    ? staffAccountSummaryReadModels.subList(0, pageSize)
+                    : staffAccountSummaryReadModels;
+
+            List<StaffAccountSummary> staffAccountSummaries = page
                     .stream()
                     .map(StaffAccountSummary::fromReadModel)
                     .toList();
-            return new GetAllStaffAccountsQueryResponse(staffAccountSummaries);
+            String nextCursor = hasNextPage ? StaffAccountSummaryCursor.from(page.getLast()).encode() : null;
+            return new GetAllStaffAccountsQueryResponse(staffAccountSummaries, nextCursor);
         }
         catch (DomainException ex) {
             log.error("GetAllStaffAccounts query failed: domain violation occurred - {}", ex.getMessage(), ex);
@@ -63,19 +75,14 @@ public class GetAllStaffAccountsQueryHandler implements QueryHandler<GetAllStaff
         }
     }
 
-    private static void validateCreatedDateRange(DateTimeUtc createdBefore, DateTimeUtc createdAfter) {
-        if (createdBefore != null && createdAfter != null && createdBefore.isBefore(createdAfter)) {
-            throw new AppException(AppExceptionInfo.invalidStaffAccountCreatedDateRange(
-                    createdBefore.getValue().toString(),
-                    createdAfter.getValue().toString()
-            ));
+    private static int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
         }
-    }
-
-    private void throwIfEnabledByAndDisabledByAreGiven(String enabledBy, String disabledBy) {
-        if (hasText(enabledBy) && hasText(disabledBy)) {
-            throw new AppException(AppExceptionInfo.mutuallyExclusiveStaffAccountFilters());
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new AppException(AppExceptionInfo.invalidPageSize(limit, MAX_PAGE_SIZE));
         }
+        return limit;
     }
 
     private Username parseUsername(String usernameValue) {
@@ -2,4 +2,4 @@ package com.paragon.application.queries.getallstaffaccounts;
 
 import java.util.List;
 
-public record GetAllStaffAccountsQueryResponse(List<StaffAccountSummary> staffAccountSummaries) {}
+public record GetAllStaffAccountsQueryResponse(List<StaffAccountSummary> staffAccountSummaries, String nextCursor) {}
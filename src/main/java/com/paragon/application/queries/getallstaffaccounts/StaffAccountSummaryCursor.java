@@ -0,0 +1,42 @@
+package com.paragon.application.queries.getallstaffaccounts;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// Position of the last row of a page in the (created_at_utc DESC, id DESC) ordering, handed to clients as an
+// opaque continuation token
+public record StaffAccountSummaryCursor(Instant createdAtUtc, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public static StaffAccountSummaryCursor from(StaffAccountSummaryReadModel readModel) {
+        return new StaffAccountSummaryCursor(readModel.createdAtUtc(), readModel.id());
+    }
+
+    public String encode() {
+        String raw = createdAtUtc.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StaffAccountSummaryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new AppException(AppExceptionInfo.invalidPageCursor(token));
+            }
+            return new StaffAccountSummaryCursor(
+                    Instant.parse(raw.substring(0, separatorIndex)),
+                    UUID.fromString(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new AppException(AppExceptionInfo.invalidPageCursor(token));
+        }
+    }
+}
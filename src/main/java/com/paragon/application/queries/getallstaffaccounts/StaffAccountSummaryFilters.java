@@ -0,0 +1,55 @@
+package com.paragon.application.queries.getallstaffaccounts;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.valueobjects.DateTimeUtc;
+import com.paragon.domain.models.valueobjects.Username;
+
+// The filters shared by the paged and streamed staff account listings, parsed and validated once
+record StaffAccountSummaryFilters(
+        StaffAccountStatus status,
+        Username enabledBy,
+        Username disabledBy,
+        DateTimeUtc createdBefore,
+        DateTimeUtc createdAfter
+) {
+    static StaffAccountSummaryFilters parse(String status,
+                                            String enabledBy,
+                                            String disabledBy,
+                                            String createdBefore,
+                                            String createdAfter) {
+        DateTimeUtc createdBeforeUtc = createdBefore != null ? DateTimeUtc.from(createdBefore) : null;
+        DateTimeUtc createdAfterUtc = createdAfter != null ? DateTimeUtc.from(createdAfter) : null;
+        validateCreatedDateRange(createdBeforeUtc, createdAfterUtc);
+
+        throwIfEnabledByAndDisabledByAreGiven(enabledBy, disabledBy);
+
+        return new StaffAccountSummaryFilters(
+                StaffAccountStatus.fromString(status),
+                enabledBy != null ? Username.of(enabledBy) : null,
+                disabledBy != null ? Username.of(disabledBy) : null,
+                createdBeforeUtc,
+                createdAfterUtc
+        );
+    }
+
+    private static void validateCreatedDateRange(DateTimeUtc createdBefore, DateTimeUtc createdAfter) {
+        if (createdBefore != null && createdAfter != null && createdBefore.isBefore(createdAfter)) {
+            throw new AppException(AppExceptionInfo.invalidStaffAccountCreatedDateRange(
+                    createdBefore.getValue().toString(),
+                    createdAfter.getValue().toString()
+            ));
+        }
+    }
+
+    private static void throwIfEnabledByAndDisabledByAreGiven(String enabledBy, String disabledBy) {
+        if (hasText(enabledBy) && hasText(disabledBy)) {
+            throw new AppException(AppExceptionInfo.mutuallyExclusiveStaffAccountFilters());
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -0,0 +1,10 @@
+package com.paragon.application.queries.getallstaffaccounts;
+
+public record StreamAllStaffAccountsQuery(
+        String status,
+        String enabledBy,
+        String disabledBy,
+        String createdBefore,
+        String createdAfter
+) {
+}
@@ -0,0 +1,51 @@
+package com.paragon.application.queries.getallstaffaccounts;
+
+import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.queries.QueryHandler;
+import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
+import com.paragon.domain.exceptions.DomainException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StreamAllStaffAccountsQueryHandler implements QueryHandler<StreamAllStaffAccountsQuery, StreamAllStaffAccountsQueryResponse> {
+    private final StaffAccountReadRepo staffAccountReadRepo;
+    private final AppExceptionHandler appExceptionHandler;
+    private static final Logger log = LoggerFactory.getLogger(StreamAllStaffAccountsQueryHandler.class);
+
+    public StreamAllStaffAccountsQueryHandler(StaffAccountReadRepo staffAccountReadRepo, AppExceptionHandler appExceptionHandler) {
+        this.staffAccountReadRepo = staffAccountReadRepo;
+        this.appExceptionHandler = appExceptionHandler;
+    }
+
+    // Filters are validated up front so a bad request fails before the caller starts writing a response
+    @Override
+    public StreamAllStaffAccountsQueryResponse handle(StreamAllStaffAccountsQuery query) {
+        StaffAccountSummaryFilters filters;
+        try {
+            filters = StaffAccountSummaryFilters.parse(
+                    query.status(),
+                    query.enabledBy(),
+                    query.disabledBy(),
+                    query.createdBefore(),
+                    query.createdAfter()
+            );
+        }
+        catch (DomainException ex) {
+            log.error("StreamAllStaffAccounts query failed: domain violation occurred - {}", ex.getMessage(), ex);
+            throw appExceptionHandler.handleDomainException(ex);
+        }
+
+        // Rows are read while the response is being written, after its status has been sent, so a failure part way
+        // through can only abort the stream; it is left to propagate rather than translated into an error response
+        return new StreamAllStaffAccountsQueryResponse(consumer -> staffAccountReadRepo.streamAllSummaries(
+                filters.status(),
+                filters.enabledBy(),
+                filters.disabledBy(),
+                filters.createdBefore(),
+                filters.createdAfter(),
+                readModel -> consumer.accept(StaffAccountSummary.fromReadModel(readModel))
+        ));
+    }
+}
@@ -0,0 +1,12 @@
+package com.paragon.application.queries.getallstaffaccounts;
+
+import java.util.function.Consumer;
+
+// The summaries are read lazily: nothing touches the database until forEach is called, and each summary is handed
+// to the consumer as its row is read
+public record StreamAllStaffAccountsQueryResponse(StaffAccountSummaryStream summaries) {
+    @FunctionalInterface
+    public interface StaffAccountSummaryStream {
+        void forEach(Consumer<StaffAccountSummary> consumer);
+    }
+}
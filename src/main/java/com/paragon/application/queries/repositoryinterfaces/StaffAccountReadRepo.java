@@ -1,8 +1,10 @@
 package com.paragon.application.queries.repositoryinterfaces;
 
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
 import com.paragon.domain.enums.StaffAccountStatus;
 import com.paragon.domain.models.valueobjects.DateTimeUtc;
 import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
 import com.paragon.domain.models.valueobjects.Username;
 import com.paragon.infrastructure.persistence.readmodels.StaffAccountDetailedReadModel;
 import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
@@ -10,15 +12,25 @@ import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryRead
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface StaffAccountReadRepo {
     boolean exists(UUID staffAccountId);
     boolean hasPermission(UUID staffAccountId, PermissionCode permissionCode);
+    PermissionSet findPermissionsById(UUID staffAccountId);
     List<StaffAccountSummaryReadModel> findAllSummaries(StaffAccountStatus status,
                                                         Username enabledBy,
                                                         Username disabledBy,
                                                         DateTimeUtc createdBefore,
-                                                        DateTimeUtc createdAfter);
+                                                        DateTimeUtc createdAfter,
+                                                        StaffAccountSummaryCursor after,
+                                                        int limit);
+    void streamAllSummaries(StaffAccountStatus status,
+                            Username enabledBy,
+                            Username disabledBy,
+                            DateTimeUtc createdBefore,
+                            DateTimeUtc createdAfter,
+                            Consumer<StaffAccountSummaryReadModel> consumer);
     Optional<StaffAccountSummaryReadModel> findSummaryByUsername(String username);
     Optional<StaffAccountDetailedReadModel> findDetailedById(UUID staffAccountId);
     Optional<StaffAccountStatus> findStatusById(UUID staffAccountId);
@@ -2,9 +2,22 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+@Getter
 public class StaffAccountDisabledEvent extends StaffAccountEventBase {
+    private final StaffAccountId staffAccountDisabledBy;
+
     public StaffAccountDisabledEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_DISABLED);
+        this.staffAccountDisabledBy = staffAccount.getDisabledBy();
+    }
+
+    public StaffAccountDisabledEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, StaffAccountId staffAccountDisabledBy) {
+        super(eventId, EventNames.STAFF_ACCOUNT_DISABLED, staffAccountId, staffAccountVersion);
+        this.staffAccountDisabledBy = staffAccountDisabledBy;
     }
 }
@@ -2,9 +2,22 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+@Getter
 public class StaffAccountEnabledEvent extends StaffAccountEventBase {
+    private final StaffAccountId staffAccountEnabledBy;
+
     public StaffAccountEnabledEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_ENABLED);
+        this.staffAccountEnabledBy = staffAccount.getEnabledBy();
+    }
+
+    public StaffAccountEnabledEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, StaffAccountId staffAccountEnabledBy) {
+        super(eventId, EventNames.STAFF_ACCOUNT_ENABLED, staffAccountId, staffAccountVersion);
+        this.staffAccountEnabledBy = staffAccountEnabledBy;
     }
 }
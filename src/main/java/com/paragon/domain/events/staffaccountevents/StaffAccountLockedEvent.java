@@ -2,9 +2,24 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+import java.time.Instant;
+
+@Getter
 public class StaffAccountLockedEvent extends StaffAccountEventBase {
+    private final Instant lockedUntil;
+
     public StaffAccountLockedEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_LOCKED);
+        this.lockedUntil = staffAccount.getLockedUntil();
+    }
+
+    public StaffAccountLockedEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, Instant lockedUntil) {
+        super(eventId, EventNames.STAFF_ACCOUNT_LOCKED, staffAccountId, staffAccountVersion);
+        this.lockedUntil = lockedUntil;
     }
 }
@@ -2,9 +2,24 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+import java.time.Instant;
+
+@Getter
 public class StaffAccountLoggedInEvent extends StaffAccountEventBase {
+    private final Instant lastLoginAt;
+
     public StaffAccountLoggedInEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_LOGGED_IN);
+        this.lastLoginAt = staffAccount.getLastLoginAt();
+    }
+
+    public StaffAccountLoggedInEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, Instant lastLoginAt) {
+        super(eventId, EventNames.STAFF_ACCOUNT_LOGGED_IN, staffAccountId, staffAccountVersion);
+        this.lastLoginAt = lastLoginAt;
     }
 }
@@ -2,10 +2,16 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
 
 public class StaffAccountPasswordChangedEvent extends StaffAccountEventBase {
-
     public StaffAccountPasswordChangedEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_PASSWORD_CHANGED);
     }
+
+    public StaffAccountPasswordChangedEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion) {
+        super(eventId, EventNames.STAFF_ACCOUNT_PASSWORD_CHANGED, staffAccountId, staffAccountVersion);
+    }
 }
@@ -2,9 +2,22 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+@Getter
 public class StaffAccountPasswordResetEvent extends StaffAccountEventBase {
+    private final StaffAccountId staffAccountPasswordResetBy;
+
     public StaffAccountPasswordResetEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_PASSWORD_RESET);
+        this.staffAccountPasswordResetBy = staffAccount.getPasswordResetBy();
+    }
+
+    public StaffAccountPasswordResetEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, StaffAccountId staffAccountPasswordResetBy) {
+        super(eventId, EventNames.STAFF_ACCOUNT_PASSWORD_RESET, staffAccountId, staffAccountVersion);
+        this.staffAccountPasswordResetBy = staffAccountPasswordResetBy;
     }
 }
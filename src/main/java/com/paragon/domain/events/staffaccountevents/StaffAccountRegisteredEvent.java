@@ -2,9 +2,22 @@ package com.paragon.domain.events.staffaccountevents;
 
 import com.paragon.domain.events.EventNames;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import lombok.Getter;
 
+@Getter
 public class StaffAccountRegisteredEvent extends StaffAccountEventBase {
+    private final StaffAccountId staffAccountCreatedBy;
+
     public StaffAccountRegisteredEvent(StaffAccount staffAccount) {
         super(staffAccount, EventNames.STAFF_ACCOUNT_REGISTERED);
+        this.staffAccountCreatedBy = staffAccount.getCreatedBy();
+    }
+
+    public StaffAccountRegisteredEvent(EventId eventId, StaffAccountId staffAccountId, Version staffAccountVersion, StaffAccountId staffAccountCreatedBy) {
+        super(eventId, EventNames.STAFF_ACCOUNT_REGISTERED, staffAccountId, staffAccountVersion);
+        this.staffAccountCreatedBy = staffAccountCreatedBy;
     }
 }
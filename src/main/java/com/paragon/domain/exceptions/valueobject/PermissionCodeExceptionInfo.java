@@ -41,5 +41,11 @@ public class PermissionCodeExceptionInfo extends DomainExceptionInfo {
                 110005
         );
     }
-}
 
+    public static PermissionCodeExceptionInfo unknownPermission() {
+        return new PermissionCodeExceptionInfo(
+                "Permission code does not name a known permission.",
+                110006
+        );
+    }
+}
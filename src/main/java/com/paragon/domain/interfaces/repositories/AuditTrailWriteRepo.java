@@ -2,6 +2,9 @@ package com.paragon.domain.interfaces.repositories;
 
 import com.paragon.domain.models.entities.AuditTrailEntry;
 
+import java.util.List;
+
 public interface AuditTrailWriteRepo {
     void create(AuditTrailEntry auditTrailEntry);
+    void createAll(List<AuditTrailEntry> auditTrailEntries);
 }
@@ -3,7 +3,13 @@ package com.paragon.domain.interfaces.services;
 import com.paragon.domain.models.valueobjects.Password;
 import com.paragon.domain.models.valueobjects.PlaintextPassword;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 public interface PasswordHasher {
     Password hash(PlaintextPassword plaintextPassword);
     boolean verify(String enteredPassword, Password hashedPassword);
+    CompletableFuture<Password> hashAsync(PlaintextPassword plaintextPassword);
+    CompletableFuture<Boolean> verifyAsync(String enteredPassword, Password hashedPassword);
+    Optional<Password> rehashIfOutdated(String verifiedPassword, Password hashedPassword);
 }
@@ -3,21 +3,20 @@ package com.paragon.domain.models.aggregates;
 import com.paragon.domain.models.valueobjects.Version;
 import lombok.Getter;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 @Getter
 public abstract class EventSourcedAggregate<TEvent, TId> implements AggregateRoot {
     protected final TId id;
     protected Version version;
     private final Deque<TEvent> uncommittedEvents;
+    private final Set<String> modifiedProperties;
 
     protected EventSourcedAggregate(TId id) {
         this.id = id;
         this.version = Version.initial();
         this.uncommittedEvents = new ArrayDeque<>();
+        this.modifiedProperties = new LinkedHashSet<>();
     }
 
     public List<TEvent> dequeueUncommittedEvents() {
@@ -26,6 +25,16 @@ public abstract class EventSourcedAggregate<TEvent, TId> implements AggregateRoo
         return dequeuedEvents;
     }
 
+    // Names of the properties changed since the aggregate was loaded (or last persisted), so repositories can
+    // write only the columns that actually changed
+    public Set<String> getModifiedProperties() {
+        return Collections.unmodifiableSet(modifiedProperties);
+    }
+
+    public void clearModifiedProperties() {
+        modifiedProperties.clear();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -43,6 +52,10 @@ public abstract class EventSourcedAggregate<TEvent, TId> implements AggregateRoo
         uncommittedEvents.offer(event);
     }
 
+    protected void markModified(String... properties) {
+        Collections.addAll(modifiedProperties, properties);
+    }
+
     protected void increaseVersion() {
         version = version.increase();
     }
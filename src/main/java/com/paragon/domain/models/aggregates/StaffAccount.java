@@ -5,6 +5,7 @@ import com.paragon.domain.events.DomainEvent;
 import com.paragon.domain.events.staffaccountevents.*;
 import com.paragon.domain.exceptions.aggregate.StaffAccountException;
 import com.paragon.domain.exceptions.aggregate.StaffAccountExceptionInfo;
+import com.paragon.domain.models.constants.StaffAccountProperties;
 import com.paragon.domain.models.valueobjects.*;
 import lombok.Getter;
 
@@ -30,7 +31,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
     private StaffAccountId disabledBy;
     private StaffAccountId enabledBy;
     private StaffAccountId passwordResetBy;
-    private final List<PermissionCode> permissionCodes;
+    private final PermissionSet permissions;
 
     private StaffAccount(StaffAccountId id,
                          Username username,
@@ -67,7 +68,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         this.disabledBy = disabledBy;
         this.enabledBy = enabledBy;
         this.passwordResetBy = passwordResetBy;
-        this.permissionCodes = List.copyOf(permissionCodes);
+        this.permissions = PermissionSet.of(permissionCodes);
         this.version = version;
     }
 
@@ -87,6 +88,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
 
     public void registerFailedLoginAttempt() {
         failedLoginAttempts = failedLoginAttempts.increment();
+        markModified(StaffAccountProperties.FAILED_LOGIN_ATTEMPTS);
         increaseVersion();
         if (failedLoginAttempts.hasReachedMax()) {
             lockAccount();
@@ -94,11 +96,22 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
     }
 
     public void login() {
+        login(null);
+    }
+
+    // A login that rehashed the password with the current hashing parameters stores the new hash in the same change;
+    // the password itself is unchanged, so it isn't a password change and raises no event of its own
+    public void login(Password rehashedPassword) {
         throwIfAccountIsDisabled(StaffAccountExceptionInfo.loginFailedAccountDisabled());
         throwIfAccountIsLocked(StaffAccountExceptionInfo.loginFailedAccountLocked());
 
         failedLoginAttempts = failedLoginAttempts.reset();
         lastLoginAt = Instant.now();
+        markModified(StaffAccountProperties.FAILED_LOGIN_ATTEMPTS, StaffAccountProperties.LAST_LOGIN_AT);
+        if (rehashedPassword != null) {
+            password = rehashedPassword;
+            markModified(StaffAccountProperties.PASSWORD);
+        }
         increaseVersion();
         enqueue(new StaffAccountLoggedInEvent(this));
     }
@@ -108,6 +121,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         status = StaffAccountStatus.DISABLED;
         this.disabledBy = disabledBy;
         this.enabledBy = null;
+        markModified(StaffAccountProperties.STATUS, StaffAccountProperties.DISABLED_BY, StaffAccountProperties.ENABLED_BY);
         increaseVersion();
         enqueue(new StaffAccountDisabledEvent(this));
     }
@@ -118,6 +132,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         this.enabledBy = enabledBy;
         disabledBy = null;
         failedLoginAttempts = failedLoginAttempts.reset();
+        markModified(StaffAccountProperties.STATUS, StaffAccountProperties.ENABLED_BY, StaffAccountProperties.DISABLED_BY, StaffAccountProperties.FAILED_LOGIN_ATTEMPTS);
         increaseVersion();
         enqueue(new StaffAccountEnabledEvent(this));
     }
@@ -130,6 +145,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         isPasswordTemporary = true;
         status = StaffAccountStatus.PENDING_PASSWORD_CHANGE;
         failedLoginAttempts = failedLoginAttempts.reset();
+        markModified(StaffAccountProperties.PASSWORD, StaffAccountProperties.PASSWORD_RESET_BY, StaffAccountProperties.PASSWORD_ISSUED_AT, StaffAccountProperties.IS_PASSWORD_TEMPORARY, StaffAccountProperties.STATUS, StaffAccountProperties.FAILED_LOGIN_ATTEMPTS);
         increaseVersion();
         enqueue(new StaffAccountPasswordResetEvent(this));
     }
@@ -152,6 +168,14 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         );
     }
 
+    public List<PermissionCode> getPermissionCodes() {
+        return permissions.toCodes();
+    }
+
+    public boolean hasPermission(PermissionCode permissionCode) {
+        return permissions.contains(permissionCode);
+    }
+
     public boolean requiresPasswordReset() {
         return isPasswordTemporary;
     }
@@ -168,6 +192,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         this.isPasswordTemporary = false;
         this.passwordIssuedAt = null;
         this.status = StaffAccountStatus.ACTIVE;
+        markModified(StaffAccountProperties.PASSWORD, StaffAccountProperties.IS_PASSWORD_TEMPORARY, StaffAccountProperties.PASSWORD_ISSUED_AT, StaffAccountProperties.STATUS);
         increaseVersion();
         enqueue(new StaffAccountPasswordChangedEvent(this));
     }
@@ -234,6 +259,7 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
     private void lockAccount() {
         status = StaffAccountStatus.LOCKED;
         lockedUntil = Instant.now().plus(Duration.ofMinutes(15));
+        markModified(StaffAccountProperties.STATUS, StaffAccountProperties.LOCKED_UNTIL);
         enqueue(new StaffAccountLockedEvent(this));
     }
 
@@ -241,5 +267,6 @@ public class StaffAccount extends EventSourcedAggregate<DomainEvent, StaffAccoun
         status = isPasswordTemporary ? StaffAccountStatus.PENDING_PASSWORD_CHANGE : StaffAccountStatus.ACTIVE;
         lockedUntil = null;
         failedLoginAttempts = failedLoginAttempts.reset();
+        markModified(StaffAccountProperties.STATUS, StaffAccountProperties.LOCKED_UNTIL, StaffAccountProperties.FAILED_LOGIN_ATTEMPTS);
     }
 }
@@ -0,0 +1,85 @@
+package com.paragon.domain.models.constants;
+
+import com.paragon.domain.models.valueobjects.PermissionCode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Gives every system permission a fixed bit position, so a set of permissions fits in one long. Positions end up in
+// access tokens and caches, so new permissions are only ever appended and a retired permission keeps its position.
+public final class PermissionRegistry {
+
+    private PermissionRegistry() {}
+
+    // Identifies the position layout below. Appending keeps it; anything that moves or reuses a position must bump it
+    public static final int CATALOGUE_VERSION = 1;
+
+    private static final List<PermissionCode> CODES = List.of(
+            SystemPermissions.VIEW_ACCOUNTS_LIST,
+            SystemPermissions.MANAGE_ACCOUNTS,
+            SystemPermissions.RESET_ACCOUNT_PASSWORD,
+            SystemPermissions.APPROVE_PASSWORD_CHANGE,
+            SystemPermissions.APPROVE_ORDER_ACCESS,
+            SystemPermissions.APPROVE_MODMAIL_TRANSCRIPT_ACCESS,
+            SystemPermissions.VIEW_LOGIN_LOGS,
+            SystemPermissions.VIEW_PASSWORD_CHANGE_LOGS,
+            SystemPermissions.VIEW_MODMAIL_LOGS,
+            SystemPermissions.VIEW_WOOCOMMERCE_LOGS,
+            SystemPermissions.VIEW_BACKUP_LIST,
+            SystemPermissions.ACCESS_BACKUP_CONTENT,
+            SystemPermissions.LOAD_BACKUP_CONTENT,
+            SystemPermissions.VIEW_SYNCED_MEMBERS,
+            SystemPermissions.MIGRATE_SYNCED_MEMBERS,
+            SystemPermissions.VIEW_MODMAIL_TRANSCRIPT_LIST,
+            SystemPermissions.CREATE_MODMAIL_TRANSCRIPT_PUBLIC_SHARE_LINK,
+            SystemPermissions.VIEW_ORDER_LIST,
+            SystemPermissions.REQUEST_CENSORED_ORDER_CONTENT,
+            SystemPermissions.INSTANT_ACCESS_CENSORED_ORDER_CONTENT,
+            SystemPermissions.CREATE_ORDER_PUBLIC_SHARE_LINK,
+            SystemPermissions.VIEW_PRODUCT_LIST,
+            SystemPermissions.VIEW_PRODUCT_STOCK_COUNT,
+            SystemPermissions.VIEW_PRODUCT_SALES_COUNT,
+            SystemPermissions.VIEW_EARLY_DISPUTE_WARNINGS
+    );
+    private static final Map<String, Integer> ORDINALS = new HashMap<>();
+    private static final long KNOWN_BITS;
+
+    static {
+        if (CODES.size() > Long.SIZE) {
+            throw new IllegalStateException("At most " + Long.SIZE + " permissions fit in a permission set");
+        }
+        for (int ordinal = 0; ordinal < CODES.size(); ordinal++) {
+            ORDINALS.put(CODES.get(ordinal).getValue(), ordinal);
+        }
+        KNOWN_BITS = CODES.size() == Long.SIZE ? -1L : (1L << CODES.size()) - 1;
+    }
+
+    public static int size() {
+        return CODES.size();
+    }
+
+    // -1 for a code that isn't a system permission
+    public static int ordinalOf(String value) {
+        Integer ordinal = value != null ? ORDINALS.get(value) : null;
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public static int ordinalOf(PermissionCode permissionCode) {
+        return ordinalOf(permissionCode.getValue());
+    }
+
+    // 0 for a code that isn't a system permission
+    public static long bitOf(PermissionCode permissionCode) {
+        int ordinal = ordinalOf(permissionCode);
+        return ordinal >= 0 ? 1L << ordinal : 0L;
+    }
+
+    public static PermissionCode codeAt(int ordinal) {
+        return CODES.get(ordinal);
+    }
+
+    public static long knownBits() {
+        return KNOWN_BITS;
+    }
+}
@@ -0,0 +1,33 @@
+package com.paragon.domain.models.constants;
+
+import java.util.List;
+
+// Names StaffAccount marks as modified. The write repository maps them to columns and the event store uses them as
+// the keys of the stored state, so all three refer to these constants rather than repeating the strings.
+public final class StaffAccountProperties {
+
+    private StaffAccountProperties() {}
+
+    public static final String USERNAME = "username";
+    public static final String EMAIL = "email";
+    public static final String PASSWORD = "password";
+    public static final String IS_PASSWORD_TEMPORARY = "isPasswordTemporary";
+    public static final String PASSWORD_ISSUED_AT = "passwordIssuedAt";
+    public static final String ORDER_ACCESS_DURATION = "orderAccessDuration";
+    public static final String MODMAIL_TRANSCRIPT_ACCESS_DURATION = "modmailTranscriptAccessDuration";
+    public static final String STATUS = "status";
+    public static final String FAILED_LOGIN_ATTEMPTS = "failedLoginAttempts";
+    public static final String LOCKED_UNTIL = "lockedUntil";
+    public static final String LAST_LOGIN_AT = "lastLoginAt";
+    public static final String CREATED_BY = "createdBy";
+    public static final String DISABLED_BY = "disabledBy";
+    public static final String ENABLED_BY = "enabledBy";
+    public static final String PASSWORD_RESET_BY = "passwordResetBy";
+    public static final String PERMISSION_CODES = "permissionCodes";
+
+    public static final List<String> ALL = List.of(
+            USERNAME, EMAIL, PASSWORD, IS_PASSWORD_TEMPORARY, PASSWORD_ISSUED_AT, ORDER_ACCESS_DURATION,
+            MODMAIL_TRANSCRIPT_ACCESS_DURATION, STATUS, FAILED_LOGIN_ATTEMPTS, LOCKED_UNTIL, LAST_LOGIN_AT,
+            CREATED_BY, DISABLED_BY, ENABLED_BY, PASSWORD_RESET_BY, PERMISSION_CODES
+    );
+}
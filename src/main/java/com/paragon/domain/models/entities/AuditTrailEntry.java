@@ -9,19 +9,24 @@ import com.paragon.domain.models.valueobjects.TargetId;
 import com.paragon.domain.models.valueobjects.StaffAccountId;
 import lombok.Getter;
 
+import java.time.Instant;
+
 @Getter
 public class AuditTrailEntry extends Entity<AuditEntryId> {
     private final StaffAccountId actorId;
     private final AuditEntryActionType actionType;
     private final TargetId targetId;
     private final TargetType targetType;
+    private final Instant createdAtUtc;
 
-    private AuditTrailEntry(AuditEntryId id, StaffAccountId actorId, AuditEntryActionType actionType, TargetId targetId, TargetType targetType) {
+    private AuditTrailEntry(AuditEntryId id, StaffAccountId actorId, AuditEntryActionType actionType, TargetId targetId,
+                            TargetType targetType, Instant createdAtUtc) {
         super(id);
         this.actorId = actorId;
         this.actionType = actionType;
         this.targetId = targetId;
         this.targetType = targetType;
+        this.createdAtUtc = createdAtUtc;
     }
 
     public static AuditTrailEntry create(StaffAccountId actorId, AuditEntryActionType actionType, TargetId targetId,
@@ -33,19 +38,21 @@ public class AuditTrailEntry extends Entity<AuditEntryId> {
                 actorId,
                 actionType,
                 targetId,
-                targetType
+                targetType,
+                Instant.now()
         );
     }
 
     public static AuditTrailEntry createFrom(AuditEntryId id, StaffAccountId actorId, AuditEntryActionType actionType,
-                                             TargetId targetId, TargetType targetType
+                                             TargetId targetId, TargetType targetType, Instant createdAtUtc
     ) {
         return new AuditTrailEntry(
                 id,
                 actorId,
                 actionType,
                 targetId,
-                targetType
+                targetType,
+                createdAtUtc
         );
     }
 
@@ -16,6 +16,10 @@ public class EventId extends ValueObject {
         this.value = value;
     }
 
+    public static EventId of(UUID value) {
+        return new EventId(value);
+    }
+
     public static EventId generate() {
         return new EventId(UUID.randomUUID());
     }
@@ -8,10 +8,15 @@ import java.util.List;
 
 @Getter
 public class Password extends ValueObject {
+    public static final int UNKNOWN_WORK_FACTOR = -1;
+
     private final String value;
+    // The cost the hash was computed with, read from its BCrypt prefix ($2a$<cost>$)
+    private final int workFactor;
 
     private Password(String hashedValue) {
         this.value = hashedValue;
+        this.workFactor = parseWorkFactor(hashedValue);
     }
 
     public static Password of(String hashedValue) {
@@ -29,4 +34,20 @@ public class Password extends ValueObject {
     protected List<Object> getEqualityComponents() {
         return List.of(value);
     }
+
+    private static int parseWorkFactor(String hashedValue) {
+        if (hashedValue == null || !hashedValue.startsWith("$2")) {
+            return UNKNOWN_WORK_FACTOR;
+        }
+        int costStart = hashedValue.indexOf('$', 1) + 1;
+        if (costStart == 0 || hashedValue.length() < costStart + 3 || hashedValue.charAt(costStart + 2) != '$') {
+            return UNKNOWN_WORK_FACTOR;
+        }
+        char tens = hashedValue.charAt(costStart);
+        char units = hashedValue.charAt(costStart + 1);
+        if (!Character.isDigit(tens) || !Character.isDigit(units)) {
+            return UNKNOWN_WORK_FACTOR;
+        }
+        return (tens - '0') * 10 + (units - '0');
+    }
 }
@@ -0,0 +1,98 @@
+package com.paragon.domain.models.valueobjects;
+
+import com.paragon.domain.exceptions.valueobject.PermissionCodeException;
+import com.paragon.domain.exceptions.valueobject.PermissionCodeExceptionInfo;
+import com.paragon.domain.models.constants.PermissionRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// A set of system permissions held as one bit per PermissionRegistry position, so membership, containment and set
+// operations are single bitwise operations and checking a permission allocates nothing.
+public class PermissionSet extends ValueObject {
+    private static final PermissionSet EMPTY = new PermissionSet(0L);
+
+    private final long bits;
+
+    private PermissionSet(long bits) {
+        this.bits = bits;
+    }
+
+    public static PermissionSet empty() {
+        return EMPTY;
+    }
+
+    public static PermissionSet of(Collection<PermissionCode> permissionCodes) {
+        long bits = 0L;
+        for (PermissionCode permissionCode : permissionCodes) {
+            long bit = PermissionRegistry.bitOf(permissionCode);
+            if (bit == 0L) {
+                throw new PermissionCodeException(PermissionCodeExceptionInfo.unknownPermission());
+            }
+            bits |= bit;
+        }
+        return fromBits(bits);
+    }
+
+    // Positions no permission has been registered at are dropped rather than carried along
+    public static PermissionSet fromBits(long bits) {
+        long known = bits & PermissionRegistry.knownBits();
+        return known == 0L ? EMPTY : new PermissionSet(known);
+    }
+
+    public long toBits() {
+        return bits;
+    }
+
+    public boolean contains(PermissionCode permissionCode) {
+        long bit = PermissionRegistry.bitOf(permissionCode);
+        return bit != 0L && (bits & bit) != 0L;
+    }
+
+    public boolean containsAll(PermissionSet other) {
+        return (bits & other.bits) == other.bits;
+    }
+
+    public boolean containsAny(PermissionSet other) {
+        return (bits & other.bits) != 0L;
+    }
+
+    public PermissionSet union(PermissionSet other) {
+        return fromBits(bits | other.bits);
+    }
+
+    public PermissionSet intersect(PermissionSet other) {
+        return fromBits(bits & other.bits);
+    }
+
+    public PermissionSet without(PermissionSet other) {
+        return fromBits(bits & ~other.bits);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    // In registry order
+    public List<PermissionCode> toCodes() {
+        if (bits == 0L) {
+            return List.of();
+        }
+        List<PermissionCode> permissionCodes = new ArrayList<>(size());
+        for (long remaining = bits; remaining != 0L; remaining &= remaining - 1) {
+            permissionCodes.add(PermissionRegistry.codeAt(Long.numberOfTrailingZeros(remaining)));
+        }
+        return Collections.unmodifiableList(permissionCodes);
+    }
+
+    @Override
+    protected List<Object> getEqualityComponents() {
+        return List.of(bits);
+    }
+}
@@ -3,8 +3,10 @@ package com.paragon.infrastructure.config;
 import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -28,7 +30,16 @@ public class AsyncConfig {
     }
 
     @Bean(name = "taskExecutor")
-    public TaskExecutor taskExecutor() {
+    public TaskExecutor taskExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // One virtual thread per task: blocking JDBC and BCrypt calls unmount instead of holding a pool thread, so a
+            // burst waits on the connection pool rather than being rejected once a fixed queue fills up
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new MdcAndSecurityContextTaskDecorator(dataSource));
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(8);
         executor.setMaxPoolSize(200);
@@ -39,6 +50,8 @@ public class AsyncConfig {
         return executor;
     }
 
+    // Binds the submitting thread's context for the duration of the task and then restores whatever the running thread
+    // had before, so the task behaves the same on a pooled thread, a fresh virtual thread, or inline on the caller
     static class MdcAndSecurityContextTaskDecorator implements TaskDecorator {
         private final UnitOfWorkAwareDataSource dataSource;
 
@@ -48,22 +61,17 @@ public class AsyncConfig {
 
         @Override
         public Runnable decorate(Runnable runnable) {
-            Map<String, String> contextMap = MDC.getCopyOfContextMap();
-            SecurityContext context = SecurityContextHolder.getContext();
-            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            ContextSnapshot submitted = ContextSnapshot.capture();
 
             return () -> {
+                ContextSnapshot previous = ContextSnapshot.capture();
+                boolean transactionWasActive = dataSource.isTransactionActive();
+                submitted.bind();
                 try {
-                    if (contextMap != null) MDC.setContextMap(contextMap);
-                    SecurityContextHolder.setContext(context);
-                    if (requestAttributes != null) {
-                        RequestContextHolder.setRequestAttributes(requestAttributes);
-                    }
-
                     runnable.run();
                 } finally {
-                    // clean up any lingering transactions on this worker thread
-                    if (dataSource.isTransactionActive()) {
+                    // clean up any transaction the task left open, but never one the running thread already owned
+                    if (!transactionWasActive && dataSource.isTransactionActive()) {
                         try {
                             dataSource.rollbackTransaction();
                         } catch (SQLException e) {
@@ -71,11 +79,35 @@ public class AsyncConfig {
                         }
                     }
 
-                    MDC.clear();
-                    SecurityContextHolder.clearContext();
-                    RequestContextHolder.resetRequestAttributes();
+                    previous.bind();
                 }
             };
         }
     }
+
+    private record ContextSnapshot(Map<String, String> contextMap,
+                                   SecurityContext securityContext,
+                                   RequestAttributes requestAttributes) {
+        static ContextSnapshot capture() {
+            return new ContextSnapshot(
+                    MDC.getCopyOfContextMap(),
+                    SecurityContextHolder.getContext(),
+                    RequestContextHolder.getRequestAttributes()
+            );
+        }
+
+        void bind() {
+            if (contextMap != null) {
+                MDC.setContextMap(contextMap);
+            } else {
+                MDC.clear();
+            }
+            SecurityContextHolder.setContext(securityContext);
+            if (requestAttributes != null) {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+            } else {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.paragon.infrastructure.config;
 
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplica;
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplicaPool;
 import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -11,6 +13,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 public class DataSourceConfig {
@@ -26,9 +30,11 @@ public class DataSourceConfig {
     @Primary
     @ConfigurationProperties("spring.datasource.write")
     public DataSource writeDataSource(@Qualifier("writeDataSourceProperties") DataSourceProperties properties) {
-        DataSource hikariDataSource = properties.initializeDataSourceBuilder()
+        HikariDataSource hikariDataSource = properties.initializeDataSourceBuilder()
                 .type(HikariDataSource.class)
                 .build();
+        // lets pgjdbc collapse batched inserts into multi-row INSERT statements
+        hikariDataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
         return new UnitOfWorkAwareDataSource(hikariDataSource);
     }
 
@@ -56,4 +62,31 @@ public class DataSourceConfig {
     public NamedParameterJdbcTemplate readJdbcTemplate(@Qualifier("readDataSource") DataSource dataSource) {
         return new NamedParameterJdbcTemplate(dataSource);
     }
-}
\ No newline at end of file
+
+    @Bean
+    @ConfigurationProperties("paragon.datasource")
+    public ReadReplicaProperties readReplicaProperties() {
+        return new ReadReplicaProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaPool readReplicaPool(@Qualifier("readJdbcTemplate") NamedParameterJdbcTemplate readJdbcTemplate,
+                                           ReadReplicaProperties readReplicaProperties) {
+        List<ReadReplica> replicas = new ArrayList<>();
+        List<HikariDataSource> replicaDataSources = new ArrayList<>();
+        replicas.add(new ReadReplica("read", readJdbcTemplate, readReplicaProperties.getReadWeight()));
+
+        List<ReadReplicaProperties.Replica> additionalReplicas = readReplicaProperties.getReadReplicas();
+        for (int i = 0; i < additionalReplicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = additionalReplicas.get(i);
+            String name = "read-replica-" + (i + 1);
+            HikariDataSource dataSource = replica.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            dataSource.setPoolName(name);
+            replicaDataSources.add(dataSource);
+            replicas.add(new ReadReplica(name, new NamedParameterJdbcTemplate(dataSource), replica.getWeight()));
+        }
+        return new ReadReplicaPool(replicas, replicaDataSources);
+    }
+}
@@ -2,6 +2,7 @@ package com.paragon.infrastructure.config;
 
 import com.paragon.application.events.EventBus;
 import com.paragon.application.events.audittrail.StaffAccountEventAuditTrailHandler;
+import com.paragon.application.events.readmodelcache.StaffAccountReadModelCacheInvalidationHandler;
 import com.paragon.application.events.refreshtokens.StaffAccountRefreshTokenRevocationHandler;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.annotation.Configuration;
@@ -11,18 +12,22 @@ public class EventBusConfig {
     private final EventBus eventBus;
     private final StaffAccountEventAuditTrailHandler staffAccountEventAuditTrailHandler;
     private final StaffAccountRefreshTokenRevocationHandler staffAccountRefreshTokenRevocationHandler;
+    private final StaffAccountReadModelCacheInvalidationHandler staffAccountReadModelCacheInvalidationHandler;
 
     public EventBusConfig(EventBus eventBus,
                           StaffAccountEventAuditTrailHandler staffAccountEventAuditTrailHandler,
-                          StaffAccountRefreshTokenRevocationHandler staffAccountRefreshTokenRevocationHandler) {
+                          StaffAccountRefreshTokenRevocationHandler staffAccountRefreshTokenRevocationHandler,
+                          StaffAccountReadModelCacheInvalidationHandler staffAccountReadModelCacheInvalidationHandler) {
         this.eventBus = eventBus;
         this.staffAccountEventAuditTrailHandler = staffAccountEventAuditTrailHandler;
         this.staffAccountRefreshTokenRevocationHandler = staffAccountRefreshTokenRevocationHandler;
+        this.staffAccountReadModelCacheInvalidationHandler = staffAccountReadModelCacheInvalidationHandler;
     }
 
     @PostConstruct
     public void registerHandlers() {
         eventBus.registerHandler(staffAccountEventAuditTrailHandler);
         eventBus.registerHandler(staffAccountRefreshTokenRevocationHandler);
+        eventBus.registerHandler(staffAccountReadModelCacheInvalidationHandler);
     }
 }
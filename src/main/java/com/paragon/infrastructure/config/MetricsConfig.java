@@ -0,0 +1,98 @@
+package com.paragon.infrastructure.config;
+
+import com.paragon.api.security.CachingJwtAuthenticationManager;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import com.paragon.infrastructure.persistence.repos.read.CachingStaffAccountReadRepo;
+import com.paragon.infrastructure.security.PasswordHashingEngine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+// Publishes the counters the hashing engine, the unit of work data source and the in-process caches keep as Micrometer
+// meters, read on each scrape.
+// The caches follow Micrometer's own cache meter names, told apart by the cache tag.
+@Configuration
+public class MetricsConfig {
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingEngine engine) {
+        return registry -> {
+            Gauge.builder("password.hashing.threads", engine, PasswordHashingEngine::getPoolSize).register(registry);
+            Gauge.builder("password.hashing.queue.depth", engine, PasswordHashingEngine::getQueueDepth).register(registry);
+            Gauge.builder("password.hashing.active", engine, PasswordHashingEngine::getActiveCount).register(registry);
+            FunctionCounter.builder("password.hashing.rejected", engine, PasswordHashingEngine::getRejectedCount)
+                    .register(registry);
+            FunctionTimer.builder("password.hashing.wait", engine,
+                            PasswordHashingEngine::getCompletedCount, PasswordHashingEngine::getTotalWaitNanos,
+                            TimeUnit.NANOSECONDS)
+                    .register(registry);
+            TimeGauge.builder("password.hashing.wait.max", engine, TimeUnit.NANOSECONDS,
+                            PasswordHashingEngine::getMaxWaitNanos)
+                    .register(registry);
+            FunctionTimer.builder("password.hashing.duration", engine,
+                            PasswordHashingEngine::getCompletedCount, PasswordHashingEngine::getTotalHashNanos,
+                            TimeUnit.NANOSECONDS)
+                    .register(registry);
+            TimeGauge.builder("password.hashing.duration.max", engine, TimeUnit.NANOSECONDS,
+                            PasswordHashingEngine::getMaxHashNanos)
+                    .register(registry);
+        };
+    }
+
+    // A unit of work holds its pooled connection from begin to commit or rollback, so the transaction timer is how long
+    // each one kept a connection out of the pool
+    @Bean
+    public MeterBinder unitOfWorkMetrics(UnitOfWorkAwareDataSource dataSource) {
+        return registry -> {
+            FunctionCounter.builder("unit.of.work.connections", dataSource,
+                            UnitOfWorkAwareDataSource::getConnectionWrappersCreated)
+                    .register(registry);
+            FunctionTimer.builder("unit.of.work.transactions", dataSource,
+                            UnitOfWorkAwareDataSource::getTransactionsCompleted,
+                            UnitOfWorkAwareDataSource::getTotalTransactionNanos,
+                            TimeUnit.NANOSECONDS)
+                    .register(registry);
+            TimeGauge.builder("unit.of.work.transactions.max", dataSource, TimeUnit.NANOSECONDS,
+                            UnitOfWorkAwareDataSource::getMaxTransactionNanos)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder staffAccountReadCacheMetrics(CachingStaffAccountReadRepo repo) {
+        return registry -> registerCache(registry, "staffAccountReadModels", repo,
+                CachingStaffAccountReadRepo::getCacheHits,
+                CachingStaffAccountReadRepo::getCacheMisses,
+                CachingStaffAccountReadRepo::getCacheEvictions,
+                CachingStaffAccountReadRepo::getCacheSize);
+    }
+
+    @Bean
+    public MeterBinder jwtAuthenticationCacheMetrics(CachingJwtAuthenticationManager manager) {
+        return registry -> registerCache(registry, "jwtAuthentications", manager,
+                CachingJwtAuthenticationManager::getHits,
+                CachingJwtAuthenticationManager::getMisses,
+                CachingJwtAuthenticationManager::getEvictions,
+                CachingJwtAuthenticationManager::size);
+    }
+
+    private static <T> void registerCache(MeterRegistry registry,
+                                          String cache,
+                                          T source,
+                                          ToDoubleFunction<T> hits,
+                                          ToDoubleFunction<T> misses,
+                                          ToDoubleFunction<T> evictions,
+                                          ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", source, hits).tags("cache", cache, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", source, misses).tags("cache", cache, "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", source, evictions).tag("cache", cache).register(registry);
+        Gauge.builder("cache.size", source, size).tag("cache", cache).register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.paragon.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Replicas in addition to spring.datasource.read, which is always the first one in the pool
+@Getter
+@Setter
+public class ReadReplicaProperties {
+    private int readWeight = 1;
+    private List<Replica> readReplicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica extends DataSourceProperties {
+        private int weight = 1;
+    }
+}
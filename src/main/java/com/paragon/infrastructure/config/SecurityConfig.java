@@ -1,20 +1,26 @@
 package com.paragon.infrastructure.config;
 
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.paragon.api.security.CachingJwtAuthenticationManager;
 import com.paragon.api.security.CustomAccessDeniedHandler;
+import com.paragon.api.security.HmacAccessTokenIssuer;
+import com.paragon.api.security.PermissionAuthorizationManager;
+import com.paragon.api.security.RequiresPermission;
+import com.paragon.api.security.StaffAccountAuthenticationConverter;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
-import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
@@ -42,27 +48,41 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtEncoder jwtEncoder() {
+    public HmacAccessTokenIssuer accessTokenIssuer() {
         SecretKeySpec secretKey = new SecretKeySpec(
                 jwtSecret.getBytes(StandardCharsets.UTF_8),
                 "HmacSHA256"
         );
-        return new NimbusJwtEncoder(new ImmutableSecret<>(secretKey));
+        return new HmacAccessTokenIssuer(secretKey);
     }
 
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
-        grantedAuthoritiesConverter.setAuthoritiesClaimName("permissions");
-        grantedAuthoritiesConverter.setAuthorityPrefix("");
+    public StaffAccountAuthenticationConverter jwtAuthenticationConverter() {
+        return new StaffAccountAuthenticationConverter();
+    }
+
+    // Runs where @PreAuthorize would, for methods annotated with @RequiresPermission
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresPermissionAuthorizationAdvisor() {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, RequiresPermission.class, true),
+                new PermissionAuthorizationManager()
+        );
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
 
-        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
-        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
-        return jwtAuthenticationConverter;
+    // Tokens are reused for their whole lifetime, so each is verified and converted once and then served from memory
+    @Bean
+    public CachingJwtAuthenticationManager jwtAuthenticationManager(
+            @Value("${paragon.jwt.verified-cache.maximum-size:10000}") int maximumSize) {
+        return new CachingJwtAuthenticationManager(jwtDecoder(), jwtAuthenticationConverter(), maximumSize);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CachingJwtAuthenticationManager jwtAuthenticationManager) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
@@ -70,10 +90,7 @@ public class SecurityConfig {
                     .anyRequest().authenticated()
             )
             .oauth2ResourceServer(oauth2 ->
-                    oauth2.jwt(jwt -> jwt
-                            .decoder(jwtDecoder())
-                            .jwtAuthenticationConverter(jwtAuthenticationConverter())
-                    )
+                    oauth2.jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager))
             )
             .exceptionHandling(exceptions -> exceptions
                     .accessDeniedHandler(customAccessDeniedHandler)
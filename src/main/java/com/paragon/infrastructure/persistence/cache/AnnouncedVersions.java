@@ -0,0 +1,115 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+// The highest version announced for each aggregate, which a read model has to have reached before it is served from
+// or stored in a cache. Bounded like the caches it guards: a floor lasts time-to-live after its latest announcement,
+// by which time every entry cached before that announcement has expired too, and when more aggregates are announced
+// than fit, the least recently announced floor is dropped and handed to onEvicted so the caller can drop whatever it
+// still holds for that aggregate.
+public class AnnouncedVersions {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final List<Segment> segments;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Consumer<UUID> onEvicted;
+
+    public AnnouncedVersions(int maximumSize, Duration timeToLive, Consumer<UUID> onEvicted) {
+        this(maximumSize, timeToLive, onEvicted, System::nanoTime);
+    }
+
+    AnnouncedVersions(int maximumSize, Duration timeToLive, Consumer<UUID> onEvicted, LongSupplier nanoClock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        int segmentCount = Math.min(SEGMENT_COUNT, maximumSize);
+        int segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new Segment(segmentCapacity));
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.onEvicted = onEvicted;
+    }
+
+    // Announcements can arrive out of order, from the local dispatcher and from other instances, so the highest wins
+    public void announce(UUID aggregateId, int version) {
+        Segment segment = segmentFor(aggregateId);
+        long now = nanoClock.getAsLong();
+        UUID evicted = null;
+        synchronized (segment) {
+            Floor previous = segment.remove(aggregateId);
+            int floor = previous != null && now - previous.expiresAtNanos() < 0
+                    ? Math.max(previous.version(), version)
+                    : version;
+            // Re-inserted so the segment stays ordered by latest announcement
+            segment.put(aggregateId, new Floor(floor, now + timeToLiveNanos));
+            if (segment.size() > segment.capacity) {
+                Iterator<Map.Entry<UUID, Floor>> eldest = segment.entrySet().iterator();
+                Map.Entry<UUID, Floor> entry = eldest.next();
+                eldest.remove();
+                if (now - entry.getValue().expiresAtNanos() < 0) {
+                    evicted = entry.getKey();
+                }
+            }
+        }
+        // Outside the lock: the caches call isCurrent while holding their own locks, so this must never wait on them
+        if (evicted != null) {
+            onEvicted.accept(evicted);
+        }
+    }
+
+    public boolean isCurrent(UUID aggregateId, int version) {
+        Segment segment = segmentFor(aggregateId);
+        long now = nanoClock.getAsLong();
+        synchronized (segment) {
+            Floor floor = segment.get(aggregateId);
+            if (floor == null) {
+                return true;
+            }
+            if (now - floor.expiresAtNanos() >= 0) {
+                segment.remove(aggregateId);
+                return true;
+            }
+            return version >= floor.version();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segmentFor(UUID key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments.get(Math.floorMod(hash, segments.size()));
+    }
+
+    private record Floor(int version, long expiresAtNanos) {
+    }
+
+    // Insertion-ordered, and announce re-inserts, so the eldest entry is the least recently announced one
+    private static class Segment extends LinkedHashMap<UUID, Floor> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+// A size-bounded, least-recently-used cache of read models, split into independently locked segments so concurrent
+// lookups of different keys rarely contend. Entries expire time-to-live after they were loaded, where the time-to-live
+// is either fixed or taken from each value, for values that carry their own expiry. Only present values are cached,
+// so an account created after a miss is never hidden behind a cached absence.
+//
+// Callers that know which version of a value is current pass an isCurrent check: a cached entry failing it is dropped
+// and reloaded, and a loaded value failing it is returned but not stored, so a replica that hasn't caught up yet is
+// read through until it has. Invalidations that carry no version advance a generation instead, and a load is only
+// stored if no such invalidation happened while it was in flight.
+public class BoundedReadCache<K, V> {
+    private static final int SEGMENT_COUNT = 16;
+
+    private final List<Segment> segments;
+    private final Function<V, Duration> timeToLive;
+    private final LongSupplier nanoClock;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedReadCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, value -> timeToLive, System::nanoTime);
+    }
+
+    BoundedReadCache(int maximumSize, Duration timeToLive, LongSupplier nanoClock) {
+        this(maximumSize, value -> timeToLive, nanoClock);
+    }
+
+    // A value whose time-to-live isn't positive by the time it is loaded is returned but not stored
+    public BoundedReadCache(int maximumSize, Function<V, Duration> timeToLive, LongSupplier nanoClock) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+        int segmentCount = Math.min(SEGMENT_COUNT, maximumSize);
+        int segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new Segment(segmentCapacity));
+        }
+        this.timeToLive = timeToLive;
+        this.nanoClock = nanoClock;
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader, Predicate<V> isCurrent) {
+        Segment segment = segmentFor(key);
+        long now = nanoClock.getAsLong();
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry != null) {
+                if (now - entry.expiresAtNanos() < 0 && isCurrent.test(entry.value())) {
+                    hits.increment();
+                    return Optional.of(entry.value());
+                }
+                segment.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+
+        long stamp = generation.get();
+        Optional<V> loaded = loader.apply(key);
+        loaded.filter(isCurrent).ifPresent(value -> {
+            long lifetimeNanos = timeToLive.apply(value).toNanos();
+            if (lifetimeNanos <= 0) {
+                return;
+            }
+            synchronized (segment) {
+                if (generation.get() == stamp) {
+                    segment.put(key, new Entry<>(value, nanoClock.getAsLong() + lifetimeNanos));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        // Advanced before anything is removed, so loads already in flight see it and don't store their values
+        generation.incrementAndGet();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Map.Entry<K, Entry<V>>> entries = segment.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<K, Entry<V>> entry = entries.next();
+                    if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                        entries.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments.get(Math.floorMod(hash, segments.size()));
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    // Access-ordered, so the eldest entry is the least recently read one
+    private class Segment extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+
+import java.util.Optional;
+import java.util.UUID;
+
+// Names a changed aggregate, or every aggregate of a type when aggregateId is null. Sent between instances as
+// "type:id:version", with "*" in place of the id for every aggregate of the type.
+public record CacheInvalidation(String aggregateType, UUID aggregateId, int version) {
+    public static final String STAFF_ACCOUNT = "staff_account";
+    private static final String ALL = "*";
+
+    public static CacheInvalidation staffAccount(StaffAccountId staffAccountId, Version version) {
+        return new CacheInvalidation(STAFF_ACCOUNT, staffAccountId.getValue(), version.getValue());
+    }
+
+    // For writers that don't know the version they produced, such as read model projections
+    public static CacheInvalidation staffAccount(StaffAccountId staffAccountId) {
+        return new CacheInvalidation(STAFF_ACCOUNT, staffAccountId.getValue(), 0);
+    }
+
+    public static CacheInvalidation allStaffAccounts() {
+        return new CacheInvalidation(STAFF_ACCOUNT, null, 0);
+    }
+
+    public boolean coversAll() {
+        return aggregateId == null;
+    }
+
+    // Version 0 means the writer didn't know it
+    public boolean isVersioned() {
+        return version > 0;
+    }
+
+    public String toPayload() {
+        return aggregateType + ":" + (coversAll() ? ALL : aggregateId) + ":" + version;
+    }
+
+    public static Optional<CacheInvalidation> fromPayload(String payload) {
+        String[] parts = payload == null ? new String[0] : payload.split(":");
+        if (parts.length != 3 || parts[0].isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            UUID aggregateId = ALL.equals(parts[1]) ? null : UUID.fromString(parts[1]);
+            return Optional.of(new CacheInvalidation(parts[0], aggregateId, Integer.parseInt(parts[2])));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.paragon.infrastructure.persistence.cache;
+
+public interface CacheInvalidationBus {
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,158 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// Holds one connection outside the pool LISTENing on the invalidation channel and evicts what other instances (and
+// this one) announce. Notifications sent while the connection is down are lost, so every time it (re)connects the
+// local caches are flushed in full before listening resumes; the caches refill from the database on demand.
+@Component
+public class CacheInvalidationListener {
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final StaffAccountReadModelCache staffAccountReadModelCache;
+    private final boolean enabled;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private volatile boolean running;
+    private Thread worker;
+
+    @Autowired
+    public CacheInvalidationListener(@Qualifier("writeDataSourceProperties") DataSourceProperties writeDataSourceProperties,
+                                     StaffAccountReadModelCache staffAccountReadModelCache,
+                                     @Value("${paragon.cache-invalidation.enabled:true}") boolean enabled,
+                                     @Value("${paragon.cache-invalidation.poll-timeout:1s}") Duration pollTimeout,
+                                     @Value("${paragon.cache-invalidation.reconnect-delay:2s}") Duration reconnectDelay) {
+        this(() -> DriverManager.getConnection(
+                        writeDataSourceProperties.determineUrl(),
+                        writeDataSourceProperties.determineUsername(),
+                        writeDataSourceProperties.determinePassword()),
+                staffAccountReadModelCache, enabled, pollTimeout, reconnectDelay);
+    }
+
+    CacheInvalidationListener(ConnectionFactory connectionFactory,
+                              StaffAccountReadModelCache staffAccountReadModelCache,
+                              boolean enabled,
+                              Duration pollTimeout,
+                              Duration reconnectDelay) {
+        this.connectionFactory = connectionFactory;
+        this.staffAccountReadModelCache = staffAccountReadModelCache;
+        this.enabled = enabled;
+        this.pollTimeoutMillis = Math.toIntExact(pollTimeout.toMillis());
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon()
+                .start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            if (!worker.join(SHUTDOWN_TIMEOUT)) {
+                log.warn("Cache invalidation listener did not stop within {}", SHUTDOWN_TIMEOUT);
+            }
+            worker = null;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                listen();
+            } catch (SQLException | RuntimeException ex) {
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms - {}",
+                        reconnectDelayMillis, ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void listen() throws SQLException {
+        try (Connection connection = connectionFactory.connect()) {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + PgNotifyCacheInvalidationBus.CHANNEL);
+            }
+            // Whatever was announced while not listening is gone, so nothing cached before now can be trusted
+            staffAccountReadModelCache.invalidateAll();
+            log.info("Listening for cache invalidations on {}", PgNotifyCacheInvalidationBus.CHANNEL);
+
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            while (running) {
+                PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                if (notifications == null || notifications.length == 0) {
+                    // A silently dropped connection just times out, so check it is still there between notifications
+                    if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                        throw new SQLException("Cache invalidation listener connection is no longer valid");
+                    }
+                    continue;
+                }
+                for (PGNotification notification : notifications) {
+                    apply(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    void apply(String payload) {
+        CacheInvalidation invalidation = CacheInvalidation.fromPayload(payload).orElse(null);
+        if (invalidation == null) {
+            log.warn("Ignoring malformed cache invalidation '{}'", payload);
+            return;
+        }
+        if (!CacheInvalidation.STAFF_ACCOUNT.equals(invalidation.aggregateType())) {
+            log.debug("Ignoring cache invalidation for unknown aggregate type {}", invalidation.aggregateType());
+            return;
+        }
+        if (invalidation.coversAll()) {
+            staffAccountReadModelCache.invalidateAll();
+        } else if (invalidation.isVersioned()) {
+            staffAccountReadModelCache.invalidate(
+                    StaffAccountId.of(invalidation.aggregateId()), Version.of(invalidation.version()));
+        } else {
+            staffAccountReadModelCache.invalidate(StaffAccountId.of(invalidation.aggregateId()));
+        }
+    }
+}
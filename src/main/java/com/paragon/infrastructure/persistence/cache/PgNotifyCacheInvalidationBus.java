@@ -0,0 +1,78 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.infrastructure.persistence.daos.CacheInvalidationNotifyDao;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Invalidations published inside a unit of work are held until it commits and then sent with pg_notify on the
+// transaction's own connection just before COMMIT. Postgres only delivers notifications of committed transactions,
+// so no instance evicts for a change that was rolled back, nor before the change is visible. Invalidations published
+// outside a unit of work are sent straight away.
+@Component
+public class PgNotifyCacheInvalidationBus implements CacheInvalidationBus {
+    public static final String CHANNEL = "paragon_cache_invalidation";
+    private static final String NOTIFY_SQL = """
+            SELECT count(pg_notify(:channel, payload)) AS notified
+            FROM unnest(CAST(:payloads AS text[])) AS payload
+        """;
+
+    private final WriteJdbcHelper jdbcHelper;
+    private final UnitOfWorkAwareDataSource dataSource;
+    private final boolean enabled;
+    private final ThreadLocal<Map<String, CacheInvalidation>> pending = new ThreadLocal<>();
+
+    public PgNotifyCacheInvalidationBus(WriteJdbcHelper jdbcHelper,
+                                        UnitOfWorkAwareDataSource dataSource,
+                                        @Value("${paragon.cache-invalidation.enabled:true}") boolean enabled) {
+        this.jdbcHelper = jdbcHelper;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (!dataSource.isTransactionActive()) {
+            sendNotifications(List.of(invalidation));
+            return;
+        }
+        Map<String, CacheInvalidation> invalidations = pending.get();
+        if (invalidations == null) {
+            invalidations = new LinkedHashMap<>();
+            pending.set(invalidations);
+        }
+        // An aggregate written several times in one unit of work is announced once, at its last version
+        invalidations.merge(invalidation.aggregateType() + ":" + invalidation.aggregateId(), invalidation,
+                (earlier, later) -> later.version() >= earlier.version() ? later : earlier);
+    }
+
+    public void flushPending() {
+        Map<String, CacheInvalidation> invalidations = pending.get();
+        pending.remove();
+        if (invalidations != null && !invalidations.isEmpty()) {
+            sendNotifications(invalidations.values());
+        }
+    }
+
+    public void discardPending() {
+        pending.remove();
+    }
+
+    private void sendNotifications(Collection<CacheInvalidation> invalidations) {
+        String[] payloads = invalidations.stream().map(CacheInvalidation::toPayload).toArray(String[]::new);
+        jdbcHelper.query(new SqlStatement(NOTIFY_SQL, new SqlParamsBuilder()
+                .add("channel", CHANNEL)
+                .add("payloads", payloads)), CacheInvalidationNotifyDao.class);
+    }
+}
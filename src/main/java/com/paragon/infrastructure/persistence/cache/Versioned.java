@@ -0,0 +1,5 @@
+package com.paragon.infrastructure.persistence.cache;
+
+// A cached value that doesn't carry the version it was read at itself
+public record Versioned<V>(V value, int version) {
+}
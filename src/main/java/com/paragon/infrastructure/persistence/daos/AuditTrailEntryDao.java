@@ -24,7 +24,8 @@ public record AuditTrailEntryDao(
                 StaffAccountId.from(actorId.toString()),
                 AuditEntryActionType.valueOf(actionType),
                 targetId != null ? TargetId.of(targetId) : null,
-                targetType != null ? TargetType.valueOf(targetType) : null
+                targetType != null ? TargetType.valueOf(targetType) : null,
+                createdAtUtc
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,3 @@
+package com.paragon.infrastructure.persistence.daos;
+
+public record CacheInvalidationNotifyDao(long notified) {}
@@ -0,0 +1,12 @@
+package com.paragon.infrastructure.persistence.daos;
+
+import java.util.UUID;
+
+public record OutboxEventDao(
+        long sequenceNumber,
+        UUID id,
+        UUID aggregateId,
+        String eventName,
+        String payload,
+        int attempts
+) {}
@@ -27,10 +27,11 @@ public record StaffAccountDao(
         UUID passwordResetBy,
         int version,
         Instant createdAtUtc,
-        Instant updatedAtUtc
+        Instant updatedAtUtc,
+        List<String> permissionCodes
 ) {
 
-    public StaffAccount toStaffAccount(List<PermissionCode> permissionCodes) {
+    public StaffAccount toStaffAccount() {
         return StaffAccount.createFrom(
                 StaffAccountId.of(id),
                 Username.of(username),
@@ -48,7 +49,7 @@ public record StaffAccountDao(
                 disabledBy != null ? StaffAccountId.of(disabledBy) : null,
                 enabledBy != null ? StaffAccountId.of(enabledBy) : null,
                 passwordResetBy != null ? StaffAccountId.of(passwordResetBy) : null,
-                permissionCodes,
+                permissionCodes.stream().map(PermissionCode::of).toList(),
                 Version.of(version)
         );
     }
@@ -1,6 +1,7 @@
 package com.paragon.infrastructure.persistence.daos;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public record StaffAccountDetailedReadModelDao(
@@ -13,6 +14,8 @@ public record StaffAccountDetailedReadModelDao(
         Instant lastLoginAtUtc,
         UUID createdBy,
         UUID disabledBy,
-        Instant createdAtUtc
+        List<String> permissionCodes,
+        Instant createdAtUtc,
+        int version
 ) {
 }
@@ -0,0 +1,6 @@
+package com.paragon.infrastructure.persistence.daos;
+
+public record StaffAccountEventDao(
+        int version,
+        String changes
+) {}
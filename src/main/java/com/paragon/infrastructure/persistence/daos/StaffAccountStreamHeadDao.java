@@ -0,0 +1,11 @@
+package com.paragon.infrastructure.persistence.daos;
+
+import java.util.UUID;
+
+public record StaffAccountStreamHeadDao(
+        UUID id,
+        String password,
+        int currentVersion,
+        Integer snapshotVersion,
+        String snapshotState
+) {}
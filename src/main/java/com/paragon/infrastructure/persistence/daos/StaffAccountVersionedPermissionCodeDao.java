@@ -0,0 +1,4 @@
+package com.paragon.infrastructure.persistence.daos;
+
+public record StaffAccountVersionedPermissionCodeDao(int version, String permissionCode) {
+}
@@ -0,0 +1,9 @@
+package com.paragon.infrastructure.persistence.daos;
+
+import com.paragon.domain.enums.StaffAccountStatus;
+
+public record StaffAccountVersionedStatusDao(String status, int version) {
+    public StaffAccountStatus toEnum() {
+        return StaffAccountStatus.fromString(status);
+    }
+}
@@ -0,0 +1,173 @@
+package com.paragon.infrastructure.persistence.eventstore;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.Password;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.domain.models.valueobjects.Version;
+import com.paragon.infrastructure.persistence.daos.StaffAccountEventDao;
+import com.paragon.infrastructure.persistence.daos.StaffAccountStreamHeadDao;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Every persisted version of a staff account is appended as the properties it changed, keyed by (aggregate_id,
+// version), so a concurrent writer of the same version fails on the primary key. Every snapshot-interval versions
+// the full state is written as a snapshot, and loading folds the events after the latest snapshot onto it. The
+// password hash is never stored here: loading reads it from the account's row, in the same query as the snapshot.
+// An account persisted before the store kept a history is adopted by its next append, which snapshots it.
+@Component
+public class StaffAccountEventStore {
+    private static final String APPEND_EVENT_SQL = """
+            INSERT INTO staff_account_events
+            (aggregate_id, version, event_name, changes)
+            VALUES
+            (:aggregateId, :version, :eventName, CAST(:changes AS jsonb))
+        """;
+    private static final String SAVE_SNAPSHOT_SQL = """
+            INSERT INTO staff_account_snapshots
+            (aggregate_id, version, state)
+            VALUES
+            (:aggregateId, :version, CAST(:state AS jsonb))
+            ON CONFLICT (aggregate_id) DO UPDATE
+            SET version = EXCLUDED.version, state = EXCLUDED.state, taken_at_utc = NOW()
+            WHERE staff_account_snapshots.version < EXCLUDED.version
+        """;
+    // Only inserts when the account has neither a snapshot nor a first event, i.e. its history predates the store
+    private static final String ADOPT_SQL = """
+            INSERT INTO staff_account_snapshots
+            (aggregate_id, version, state)
+            SELECT :aggregateId, :version, CAST(:state AS jsonb)
+            WHERE NOT EXISTS (SELECT 1 FROM staff_account_snapshots WHERE aggregate_id = :aggregateId)
+              AND NOT EXISTS (
+                  SELECT 1 FROM staff_account_events WHERE aggregate_id = :aggregateId AND version = :initialVersion
+              )
+        """;
+    private static final String SELECT_STREAM_HEAD_SQL = """
+            SELECT sa.id, sa.password, sa.version AS current_version,
+                   s.version AS snapshot_version, s.state::text AS snapshot_state
+            FROM staff_accounts sa
+            LEFT JOIN staff_account_snapshots s ON s.aggregate_id = sa.id
+        """;
+    private static final String SELECT_EVENTS_SQL = """
+            SELECT version, changes::text AS changes
+            FROM staff_account_events
+            WHERE aggregate_id = :aggregateId AND version > :afterVersion
+            ORDER BY version
+        """;
+    private static final Logger log = LoggerFactory.getLogger(StaffAccountEventStore.class);
+
+    private final WriteJdbcHelper jdbcHelper;
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+
+    public StaffAccountEventStore(WriteJdbcHelper jdbcHelper,
+                                  ObjectMapper objectMapper,
+                                  @Value("${paragon.event-store.snapshot-interval:25}") int snapshotInterval) {
+        this.jdbcHelper = jdbcHelper;
+        // ISO strings keep timestamps exact whatever the shared mapper's date settings are
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public void append(StaffAccount staffAccount, Collection<String> changedProperties) {
+        ObjectNode state = objectMapper.valueToTree(StaffAccountState.from(staffAccount));
+        ObjectNode changes = state.deepCopy().retain(changedProperties);
+        int version = staffAccount.getVersion().getValue();
+
+        List<SqlStatement> statements = new ArrayList<>(2);
+        statements.add(new SqlStatement(APPEND_EVENT_SQL, new SqlParamsBuilder()
+                .add("aggregateId", staffAccount.getId().getValue())
+                .add("version", version)
+                .add("eventName", latestEventName(staffAccount))
+                .add("changes", changes.toString())));
+        if (version % snapshotInterval == 0) {
+            statements.add(snapshotStatement(SAVE_SNAPSHOT_SQL, staffAccount, state));
+        } else if (version != Version.initial().getValue()) {
+            SqlStatement adopt = snapshotStatement(ADOPT_SQL, staffAccount, state);
+            adopt.params().add("initialVersion", Version.initial().getValue());
+            statements.add(adopt);
+        }
+        jdbcHelper.executeMultiple(statements);
+    }
+
+    // Empty when there is no such account, or when its history predates the store and has not been adopted yet
+    public Optional<StaffAccount> load(StaffAccountId staffAccountId) {
+        return jdbcHelper.queryFirstOrDefault(new SqlStatement(
+                SELECT_STREAM_HEAD_SQL + "WHERE sa.id = :id", new SqlParamsBuilder().add("id", staffAccountId.getValue())
+        ), StaffAccountStreamHeadDao.class).flatMap(this::rebuild);
+    }
+
+    public Optional<StaffAccount> loadByUsername(Username username) {
+        return jdbcHelper.queryFirstOrDefault(new SqlStatement(
+                SELECT_STREAM_HEAD_SQL + "WHERE sa.username = :username",
+                new SqlParamsBuilder().add("username", username.getValue())
+        ), StaffAccountStreamHeadDao.class).flatMap(this::rebuild);
+    }
+
+    private Optional<StaffAccount> rebuild(StaffAccountStreamHeadDao head) {
+        StaffAccountId staffAccountId = StaffAccountId.of(head.id());
+        int version = head.snapshotVersion() != null ? head.snapshotVersion() : 0;
+
+        // A snapshot at the row's version is the whole state, so the events don't need reading
+        List<StaffAccountEventDao> events = version < head.currentVersion()
+                ? jdbcHelper.query(new SqlStatement(SELECT_EVENTS_SQL, new SqlParamsBuilder()
+                        .add("aggregateId", head.id())
+                        .add("afterVersion", version)), StaffAccountEventDao.class)
+                : List.of();
+        // Without a snapshot, history that does not begin at the first version belongs to an account persisted
+        // before the store kept one and cannot be rebuilt from it
+        if (head.snapshotVersion() == null
+                && (events.isEmpty() || events.getFirst().version() != Version.initial().getValue())) {
+            return Optional.empty();
+        }
+
+        try {
+            ObjectNode state = head.snapshotVersion() != null
+                    ? (ObjectNode) objectMapper.readTree(head.snapshotState())
+                    : objectMapper.createObjectNode();
+            for (StaffAccountEventDao event : events) {
+                state.setAll((ObjectNode) objectMapper.readTree(event.changes()));
+                version = event.version();
+            }
+            if (version != head.currentVersion()) {
+                log.warn("Event store has staff account {} at version {} but its row is at {}, reading the row",
+                        staffAccountId.getValue(), version, head.currentVersion());
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.treeToValue(state, StaffAccountState.class)
+                    .toStaffAccount(staffAccountId, Version.of(version), Password.fromHashed(head.password())));
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.error("Failed to rebuild staff account {} at version {} from the event store",
+                    staffAccountId.getValue(), version, ex);
+            throw new InfraException();
+        }
+    }
+
+    private static SqlStatement snapshotStatement(String sql, StaffAccount staffAccount, ObjectNode state) {
+        return new SqlStatement(sql, new SqlParamsBuilder()
+                .add("aggregateId", staffAccount.getId().getValue())
+                .add("version", staffAccount.getVersion().getValue())
+                .add("state", state.toString()));
+    }
+
+    private static String latestEventName(StaffAccount staffAccount) {
+        DomainEvent latest = staffAccount.getUncommittedEvents().peekLast();
+        return latest != null ? latest.getEventName() : null;
+    }
+}
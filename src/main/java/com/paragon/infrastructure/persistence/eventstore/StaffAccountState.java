@@ -0,0 +1,80 @@
+package com.paragon.infrastructure.persistence.eventstore;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.constants.StaffAccountProperties;
+import com.paragon.domain.models.valueobjects.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Keys are the StaffAccountProperties names StaffAccount marks as modified, so a change is stored as the subset of
+// this state named by its modified properties. The password hash is deliberately left out; it stays on the row.
+@JsonIgnoreProperties(ignoreUnknown = true)
+record StaffAccountState(
+        @JsonProperty(StaffAccountProperties.USERNAME) String username,
+        @JsonProperty(StaffAccountProperties.EMAIL) String email,
+        @JsonProperty(StaffAccountProperties.IS_PASSWORD_TEMPORARY) boolean isPasswordTemporary,
+        @JsonProperty(StaffAccountProperties.PASSWORD_ISSUED_AT) Instant passwordIssuedAt,
+        @JsonProperty(StaffAccountProperties.ORDER_ACCESS_DURATION) int orderAccessDuration,
+        @JsonProperty(StaffAccountProperties.MODMAIL_TRANSCRIPT_ACCESS_DURATION) int modmailTranscriptAccessDuration,
+        @JsonProperty(StaffAccountProperties.STATUS) String status,
+        @JsonProperty(StaffAccountProperties.FAILED_LOGIN_ATTEMPTS) int failedLoginAttempts,
+        @JsonProperty(StaffAccountProperties.LOCKED_UNTIL) Instant lockedUntil,
+        @JsonProperty(StaffAccountProperties.LAST_LOGIN_AT) Instant lastLoginAt,
+        @JsonProperty(StaffAccountProperties.CREATED_BY) UUID createdBy,
+        @JsonProperty(StaffAccountProperties.DISABLED_BY) UUID disabledBy,
+        @JsonProperty(StaffAccountProperties.ENABLED_BY) UUID enabledBy,
+        @JsonProperty(StaffAccountProperties.PASSWORD_RESET_BY) UUID passwordResetBy,
+        @JsonProperty(StaffAccountProperties.PERMISSION_CODES) List<String> permissionCodes
+) {
+    static StaffAccountState from(StaffAccount staffAccount) {
+        return new StaffAccountState(
+                staffAccount.getUsername().getValue(),
+                staffAccount.getEmail() != null ? staffAccount.getEmail().getValue() : null,
+                staffAccount.isPasswordTemporary(),
+                staffAccount.getPasswordIssuedAt(),
+                (int) staffAccount.getOrderAccessDuration().getValueInDays(),
+                (int) staffAccount.getModmailTranscriptAccessDuration().getValueInDays(),
+                staffAccount.getStatus().toString(),
+                staffAccount.getFailedLoginAttempts().getValue(),
+                staffAccount.getLockedUntil(),
+                staffAccount.getLastLoginAt(),
+                idOrNull(staffAccount.getCreatedBy()),
+                idOrNull(staffAccount.getDisabledBy()),
+                idOrNull(staffAccount.getEnabledBy()),
+                idOrNull(staffAccount.getPasswordResetBy()),
+                staffAccount.getPermissionCodes().stream().map(PermissionCode::getValue).toList()
+        );
+    }
+
+    StaffAccount toStaffAccount(StaffAccountId id, Version version, Password password) {
+        return StaffAccount.createFrom(
+                id,
+                Username.of(username),
+                email != null ? Email.of(email) : null,
+                password,
+                isPasswordTemporary,
+                passwordIssuedAt,
+                OrderAccessDuration.from(orderAccessDuration),
+                ModmailTranscriptAccessDuration.from(modmailTranscriptAccessDuration),
+                StaffAccountStatus.valueOf(status),
+                FailedLoginAttempts.of(failedLoginAttempts),
+                lockedUntil,
+                lastLoginAt,
+                createdBy != null ? StaffAccountId.of(createdBy) : null,
+                disabledBy != null ? StaffAccountId.of(disabledBy) : null,
+                enabledBy != null ? StaffAccountId.of(enabledBy) : null,
+                passwordResetBy != null ? StaffAccountId.of(passwordResetBy) : null,
+                permissionCodes.stream().map(PermissionCode::of).toList(),
+                version
+        );
+    }
+
+    private static UUID idOrNull(StaffAccountId staffAccountId) {
+        return staffAccountId != null ? staffAccountId.getValue() : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.paragon.infrastructure.persistence.jdbc.consistency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+// The lowest WAL position reads in the current request must observe. It starts from the consistency token the client
+// sent back (the position of its last write) and is raised by every unit of work committed during the request. Kept
+// on the request so it follows the request onto the async task executor.
+@Component
+public class ReadConsistencyContext {
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+    private static final String REQUIRED_LSN_ATTRIBUTE = ReadConsistencyContext.class.getName() + ".requiredLsn";
+    private static final Logger log = LoggerFactory.getLogger(ReadConsistencyContext.class);
+
+    public boolean isAvailable() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes;
+    }
+
+    public Optional<WalLsn> getRequiredLsn() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return Optional.empty();
+        }
+        if (attributes.getAttribute(REQUIRED_LSN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof WalLsn requiredLsn) {
+            return Optional.of(requiredLsn);
+        }
+
+        WalLsn fromToken = parseToken(attributes.getRequest().getHeader(CONSISTENCY_TOKEN_HEADER));
+        if (fromToken != null) {
+            attributes.setAttribute(REQUIRED_LSN_ATTRIBUTE, fromToken, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.ofNullable(fromToken);
+    }
+
+    public void requireAtLeast(WalLsn lsn) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return;
+        }
+        Optional<WalLsn> current = getRequiredLsn();
+        if (current.isEmpty() || lsn.compareTo(current.get()) > 0) {
+            attributes.setAttribute(REQUIRED_LSN_ATTRIBUTE, lsn, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static WalLsn parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return WalLsn.parse(token.trim());
+        } catch (IllegalArgumentException ex) {
+            log.debug("Ignoring malformed consistency token '{}'", token);
+            return null;
+        }
+    }
+}
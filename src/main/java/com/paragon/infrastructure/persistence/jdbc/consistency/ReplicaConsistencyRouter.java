@@ -0,0 +1,115 @@
+package com.paragon.infrastructure.persistence.jdbc.consistency;
+
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplica;
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplicaPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.concurrent.locks.LockSupport;
+
+// Spreads reads across the replicas in rotation without serving results older than the caller's own writes. After a
+// commit the primary's WAL position is recorded on the request; a read that needs that position goes to a replica
+// known to have replayed it, waits briefly for the chosen replica to catch up, and otherwise goes to the primary.
+@Component
+public class ReplicaConsistencyRouter {
+    private static final String CURRENT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLAY_LSN_SQL = "SELECT pg_last_wal_replay_lsn()::text";
+    private static final long POLL_INTERVAL_NANOS = Duration.ofMillis(5).toNanos();
+    private static final Logger log = LoggerFactory.getLogger(ReplicaConsistencyRouter.class);
+
+    private final ReadReplicaPool readReplicaPool;
+    private final NamedParameterJdbcTemplate writeJdbc;
+    private final ReadConsistencyContext readConsistencyContext;
+    private final long replicaWaitTimeoutNanos;
+
+    public ReplicaConsistencyRouter(ReadReplicaPool readReplicaPool,
+                                    @Qualifier("writeJdbcTemplate") NamedParameterJdbcTemplate writeJdbc,
+                                    ReadConsistencyContext readConsistencyContext,
+                                    @Value("${paragon.jdbc.replica-wait-timeout-ms:50}") long replicaWaitTimeoutMillis) {
+        this.readReplicaPool = readReplicaPool;
+        this.writeJdbc = writeJdbc;
+        this.readConsistencyContext = readConsistencyContext;
+        this.replicaWaitTimeoutNanos = Duration.ofMillis(replicaWaitTimeoutMillis).toNanos();
+    }
+
+    public void recordCommit() {
+        if (!readConsistencyContext.isAvailable()) {
+            return;
+        }
+        try {
+            String currentLsn = writeJdbc.getJdbcOperations().queryForObject(CURRENT_LSN_SQL, String.class);
+            readConsistencyContext.requireAtLeast(WalLsn.parse(currentLsn));
+        } catch (DataAccessException | IllegalArgumentException ex) {
+            // The write is already committed; losing the token only risks a stale read, so don't fail the command
+            log.warn("Failed to record WAL position after commit - {}", ex.getMessage());
+        }
+    }
+
+    public <T> T read(Function<NamedParameterJdbcTemplate, T> work) {
+        WalLsn requiredLsn = readConsistencyContext.getRequiredLsn().orElse(null);
+        Optional<ReadReplica> selected = readReplicaPool.select(requiredLsn);
+        if (selected.isEmpty()) {
+            log.debug("No read replica in rotation, reading from the primary");
+            return work.apply(writeJdbc);
+        }
+
+        ReadReplica replica = selected.get();
+        replica.acquire();
+        try {
+            if (requiredLsn != null && !awaitReplay(replica, requiredLsn)) {
+                log.debug("Read replica {} has not replayed {} yet, reading from the primary", replica, requiredLsn);
+                return work.apply(writeJdbc);
+            }
+            T result = work.apply(replica.getJdbc());
+            replica.recordSuccess();
+            return result;
+        } catch (CannotGetJdbcConnectionException ex) {
+            // Nothing ran on the replica, so the read is safe to repeat on the primary
+            replica.recordConnectionError();
+            log.warn("Could not connect to read replica {}, reading from the primary - {}", replica, ex.getMessage());
+            return work.apply(writeJdbc);
+        } finally {
+            replica.release();
+        }
+    }
+
+    private boolean awaitReplay(ReadReplica replica, WalLsn requiredLsn) {
+        if (replica.hasReplayed(requiredLsn)) {
+            return true;
+        }
+
+        long deadline = System.nanoTime() + replicaWaitTimeoutNanos;
+        while (true) {
+            WalLsn replayedLsn;
+            try {
+                replayedLsn = fetchReplayedLsn(replica);
+            } catch (DataAccessException | IllegalArgumentException ex) {
+                log.warn("Failed to read the replay position of {}, reading from the primary - {}", replica, ex.getMessage());
+                return false;
+            }
+            // A null position means the source is not in recovery, i.e. the primary itself, and always current
+            replica.recordReplayedLsn(replayedLsn);
+            if (replica.hasReplayed(requiredLsn)) {
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+        }
+    }
+
+    private static WalLsn fetchReplayedLsn(ReadReplica replica) {
+        String replayedLsn = replica.getJdbc().getJdbcOperations().queryForObject(REPLAY_LSN_SQL, String.class);
+        return replayedLsn != null ? WalLsn.parse(replayedLsn) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.paragon.infrastructure.persistence.jdbc.consistency;
+
+// A postgres write-ahead log position, e.g. "16/B374D848" (high and low 32 bits in hex)
+public record WalLsn(long value) implements Comparable<WalLsn> {
+    private static final long MAX_HALF = 0xFFFFFFFFL;
+
+    public static WalLsn parse(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("WAL LSN must not be null");
+        }
+        int separator = text.indexOf('/');
+        if (separator <= 0 || separator == text.length() - 1) {
+            throw new IllegalArgumentException("Invalid WAL LSN: " + text);
+        }
+        try {
+            long high = Long.parseLong(text, 0, separator, 16);
+            long low = Long.parseLong(text, separator + 1, text.length(), 16);
+            if (high < 0 || high > MAX_HALF || low < 0 || low > MAX_HALF) {
+                throw new IllegalArgumentException("Invalid WAL LSN: " + text);
+            }
+            return new WalLsn((high << 32) | low);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid WAL LSN: " + text, ex);
+        }
+    }
+
+    public boolean isAtLeast(WalLsn other) {
+        return compareTo(other) >= 0;
+    }
+
+    @Override
+    public int compareTo(WalLsn other) {
+        return Long.compareUnsigned(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return "%X/%X".formatted(value >>> 32, value & MAX_HALF);
+    }
+}
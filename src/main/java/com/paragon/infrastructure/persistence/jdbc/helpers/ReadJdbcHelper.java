@@ -4,8 +4,10 @@ import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ReadJdbcHelper {
     <T> List<T> query(SqlStatement sqlStatement, Class<T> type);
     <T> Optional<T> queryFirstOrDefault(SqlStatement sqlStatement, Class<T> type);
+    <T> void stream(SqlStatement sqlStatement, Class<T> type, Consumer<T> consumer);
 }
@@ -1,25 +1,43 @@
 package com.paragon.infrastructure.persistence.jdbc.helpers;
 
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReplicaConsistencyRouter;
+import com.paragon.infrastructure.persistence.jdbc.mapping.RowMapperRegistry;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 public class ReadJdbcHelperImpl implements ReadJdbcHelper {
-    private final NamedParameterJdbcTemplate jdbc;
+    private final ReplicaConsistencyRouter replicaConsistencyRouter;
+    private final RowMapperRegistry rowMapperRegistry;
+    private final int streamFetchSize;
 
-    public ReadJdbcHelperImpl(@Qualifier("readJdbcTemplate") NamedParameterJdbcTemplate jdbc) {
-        this.jdbc = jdbc;
+    public ReadJdbcHelperImpl(ReplicaConsistencyRouter replicaConsistencyRouter,
+                              RowMapperRegistry rowMapperRegistry,
+                              @Value("${paragon.jdbc.stream-fetch-size:500}") int streamFetchSize) {
+        this.replicaConsistencyRouter = replicaConsistencyRouter;
+        this.rowMapperRegistry = rowMapperRegistry;
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
     public <T> List<T> query(SqlStatement sqlStatement, Class<T> type) {
-        return jdbc.query(sqlStatement.sql(), sqlStatement.params().build(), DataClassRowMapper.newInstance(type));
+        return replicaConsistencyRouter.read(jdbc ->
+                jdbc.query(sqlStatement.sql(), sqlStatement.params().build(), rowMapperRegistry.getRowMapper(type)));
     }
 
     @Override
@@ -27,4 +45,47 @@ public class ReadJdbcHelperImpl implements ReadJdbcHelper {
         List<T> result = query(sqlStatement, type);
         return result.isEmpty() ? Optional.empty() : Optional.of(result.getFirst());
     }
+
+    @Override
+    public <T> void stream(SqlStatement sqlStatement, Class<T> type, Consumer<T> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource(sqlStatement.params().build());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sqlStatement.sql());
+        String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, params);
+        Object[] args = NamedParameterUtils.buildValueArray(parsedSql, params, null);
+        RowMapper<T> rowMapper = rowMapperRegistry.getRowMapper(type);
+
+        ConnectionCallback<Void> streamRows = connection -> {
+            // The postgres driver only reads through a server-side cursor (fetch size rows per round trip) inside a
+            // transaction; with auto-commit on it buffers the whole result set in memory before returning. A connection
+            // that is already in a transaction (a unit of work on the primary) is used as is and left for its owner.
+            boolean ownsTransaction = connection.getAutoCommit();
+            if (ownsTransaction) {
+                connection.setAutoCommit(false);
+            }
+            try (PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                ps.setFetchSize(streamFetchSize);
+                new ArgumentPreparedStatementSetter(args).setValues(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    int rowNum = 0;
+                    while (rs.next()) {
+                        consumer.accept(rowMapper.mapRow(rs, rowNum++));
+                    }
+                }
+                if (ownsTransaction) {
+                    connection.commit();
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (ownsTransaction) {
+                    connection.rollback();
+                }
+                throw ex;
+            } finally {
+                if (ownsTransaction) {
+                    connection.setAutoCommit(true);
+                }
+            }
+            return null;
+        };
+        replicaConsistencyRouter.read(jdbc -> jdbc.getJdbcOperations().execute(streamRows));
+    }
 }
@@ -1,12 +1,14 @@
 package com.paragon.infrastructure.persistence.jdbc.helpers;
 
 import com.paragon.infrastructure.persistence.exceptions.InfraExceptionHandler;
+import com.paragon.infrastructure.persistence.jdbc.mapping.RowMapperRegistry;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +20,14 @@ import java.util.Optional;
 public class WriteJdbcHelperImpl implements WriteJdbcHelper {
     private final NamedParameterJdbcTemplate jdbc;
     private final InfraExceptionHandler infraExceptionHandler;
+    private final RowMapperRegistry rowMapperRegistry;
 
-    public WriteJdbcHelperImpl(@Qualifier("writeJdbcTemplate") NamedParameterJdbcTemplate jdbc, InfraExceptionHandler infraExceptionHandler) {
+    public WriteJdbcHelperImpl(@Qualifier("writeJdbcTemplate") NamedParameterJdbcTemplate jdbc,
+                               InfraExceptionHandler infraExceptionHandler,
+                               RowMapperRegistry rowMapperRegistry) {
         this.jdbc = jdbc;
         this.infraExceptionHandler = infraExceptionHandler;
+        this.rowMapperRegistry = rowMapperRegistry;
     }
 
     @Override
@@ -33,21 +39,30 @@ public class WriteJdbcHelperImpl implements WriteJdbcHelper {
         }
     }
 
+    // Consecutive statements sharing the same SQL are sent as one JDBC batch; only consecutive ones are grouped so
+    // ordering between different statements (e.g. parent row before child rows) is preserved.
+    // Returns the affected row count per statement (rewritten multi-row inserts report Statement.SUCCESS_NO_INFO).
     @Override
-    public void executeMultiple(List<SqlStatement> queries) {
+    public int[] executeMultiple(List<SqlStatement> queries) {
+        int[] affectedRows = new int[queries.size()];
         try {
-            for (SqlStatement query : queries) {
-                jdbc.update(query.sql(), query.params().build());
+            int runStart = 0;
+            while (runStart < queries.size()) {
+                int runEnd = findEndOfRun(queries, runStart);
+                int[] runAffectedRows = executeRun(queries.subList(runStart, runEnd));
+                System.arraycopy(runAffectedRows, 0, affectedRows, runStart, runAffectedRows.length);
+                runStart = runEnd;
             }
         } catch (DataAccessException e) {
             throw infraExceptionHandler.handleDatabaseException(e);
         }
+        return affectedRows;
     }
 
     @Override
     public <T> List<T> query(SqlStatement sqlStatement, Class<T> type) {
         try {
-            return jdbc.query(sqlStatement.sql(), sqlStatement.params().build(), DataClassRowMapper.newInstance(type));
+            return jdbc.query(sqlStatement.sql(), sqlStatement.params().build(), rowMapperRegistry.getRowMapper(type));
         } catch (DataAccessException e) {
             throw infraExceptionHandler.handleDatabaseException(e);
         }
@@ -58,4 +73,25 @@ public class WriteJdbcHelperImpl implements WriteJdbcHelper {
         List<T> result = query(sqlStatement, type);
         return result.isEmpty() ? Optional.empty() : Optional.of(result.getFirst());
     }
+
+    private static int findEndOfRun(List<SqlStatement> queries, int runStart) {
+        String sql = queries.get(runStart).sql();
+        int runEnd = runStart + 1;
+        while (runEnd < queries.size() && queries.get(runEnd).sql().equals(sql)) {
+            runEnd++;
+        }
+        return runEnd;
+    }
+
+    private int[] executeRun(List<SqlStatement> run) {
+        SqlStatement first = run.getFirst();
+        if (run.size() == 1) {
+            return new int[]{jdbc.update(first.sql(), first.params().build())};
+        }
+
+        SqlParameterSource[] batchParams = run.stream()
+                .map(statement -> new MapSqlParameterSource(statement.params().build()))
+                .toArray(SqlParameterSource[]::new);
+        return jdbc.batchUpdate(first.sql(), batchParams);
+    }
 }
@@ -0,0 +1,195 @@
+package com.paragon.infrastructure.persistence.jdbc.mapping;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Precompiled mapping for a record type: the canonical constructor, component types and column readers are resolved
+// once, and the component -> column index lookup is resolved once per result-set shape and cached by column labels.
+public class RecordRowMapper<T extends Record> {
+    private final Class<T> recordType;
+    private final Constructor<T> constructor;
+    private final String[] columnNames;
+    private final String[] underscoredColumnNames;
+    private final Class<?>[] componentTypes;
+    private final TypeDescriptor[] componentTypeDescriptors;
+    private final ColumnReader[] columnReaders;
+    private final Map<String, int[]> columnIndexesByShape = new ConcurrentHashMap<>();
+    private final ConversionService conversionService;
+
+    public RecordRowMapper(Class<T> recordType) {
+        this.recordType = recordType;
+        this.conversionService = DefaultConversionService.getSharedInstance();
+
+        RecordComponent[] components = recordType.getRecordComponents();
+        this.componentTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            componentTypes[i] = components[i].getType();
+        }
+
+        try {
+            this.constructor = recordType.getDeclaredConstructor(componentTypes);
+            this.constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No canonical constructor found for record " + recordType.getName(), e);
+        }
+
+        this.columnNames = new String[components.length];
+        this.underscoredColumnNames = new String[components.length];
+        this.componentTypeDescriptors = new TypeDescriptor[components.length];
+        this.columnReaders = new ColumnReader[components.length];
+        for (int i = 0; i < components.length; i++) {
+            columnNames[i] = components[i].getName().toLowerCase(Locale.US);
+            underscoredColumnNames[i] = underscoreName(components[i].getName());
+            componentTypeDescriptors[i] = new TypeDescriptor(new MethodParameter(constructor, i));
+            columnReaders[i] = columnReaderFor(componentTypes[i]);
+        }
+    }
+
+    // A fresh row mapper is handed out per query; it binds to the result set's column indexes on the first row so
+    // subsequent rows are read purely by index.
+    public RowMapper<T> newRowMapper() {
+        return new RowMapper<>() {
+            private int[] columnIndexes;
+
+            @Override
+            public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+                if (columnIndexes == null) {
+                    columnIndexes = resolveColumnIndexes(rs.getMetaData());
+                }
+                return readRow(rs, columnIndexes);
+            }
+        };
+    }
+
+    T readRow(ResultSet rs, int[] columnIndexes) throws SQLException {
+        Object[] args = new Object[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            args[i] = toComponentValue(i, columnReaders[i].read(rs, columnIndexes[i], componentTypes[i]));
+        }
+        return instantiate(args);
+    }
+
+    int[] resolveColumnIndexes(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columnLabels = new String[columnCount];
+        for (int column = 1; column <= columnCount; column++) {
+            columnLabels[column - 1] = JdbcUtils.lookupColumnName(metaData, column).toLowerCase(Locale.US);
+        }
+
+        String shape = String.join(",", columnLabels);
+        int[] cached = columnIndexesByShape.get(shape);
+        if (cached != null) {
+            return cached;
+        }
+
+        int[] columnIndexes = new int[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnIndexes[i] = findColumn(columnLabels, i);
+        }
+        columnIndexesByShape.putIfAbsent(shape, columnIndexes);
+        return columnIndexes;
+    }
+
+    private int findColumn(String[] columnLabels, int componentIndex) throws SQLException {
+        for (int column = 0; column < columnLabels.length; column++) {
+            if (columnLabels[column].equals(columnNames[componentIndex])) {
+                return column + 1;
+            }
+        }
+        for (int column = 0; column < columnLabels.length; column++) {
+            if (columnLabels[column].equals(underscoredColumnNames[componentIndex])) {
+                return column + 1;
+            }
+        }
+        throw new SQLException("No column found for component '%s' of %s"
+                .formatted(recordType.getRecordComponents()[componentIndex].getName(), recordType.getName()));
+    }
+
+    private Object toComponentValue(int componentIndex, Object value) {
+        Class<?> componentType = componentTypes[componentIndex];
+        if (value == null) {
+            return componentType.isPrimitive() ? defaultValueOf(componentType) : null;
+        }
+        if (ClassUtils.isAssignableValue(componentType, value)) {
+            return value;
+        }
+        return conversionService.convert(value, TypeDescriptor.forObject(value), componentTypeDescriptors[componentIndex]);
+    }
+
+    private T instantiate(Object[] args) throws SQLException {
+        try {
+            return constructor.newInstance(args);
+        } catch (InvocationTargetException e) {
+            throw new SQLException("Failed to instantiate " + recordType.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Failed to instantiate " + recordType.getName(), e);
+        }
+    }
+
+    private static ColumnReader columnReaderFor(Class<?> type) {
+        if (type == String.class) {
+            return (rs, index, requiredType) -> rs.getString(index);
+        }
+        // Reading timestamps directly avoids the driver rejecting getObject(index, Instant.class) on every row
+        if (type == Instant.class) {
+            return (rs, index, requiredType) -> {
+                Timestamp timestamp = rs.getTimestamp(index);
+                return timestamp != null ? timestamp.toInstant() : null;
+            };
+        }
+        if (Collection.class.isAssignableFrom(type) || (type.isArray() && type != byte[].class)) {
+            return (rs, index, requiredType) -> {
+                Array array = rs.getArray(index);
+                return array != null ? array.getArray() : null;
+            };
+        }
+        return JdbcUtils::getResultSetValue;
+    }
+
+    private static Object defaultValueOf(Class<?> primitiveType) {
+        if (primitiveType == boolean.class) return false;
+        if (primitiveType == char.class) return '\0';
+        if (primitiveType == byte.class) return (byte) 0;
+        if (primitiveType == short.class) return (short) 0;
+        if (primitiveType == int.class) return 0;
+        if (primitiveType == long.class) return 0L;
+        if (primitiveType == float.class) return 0f;
+        return 0d;
+    }
+
+    private static String underscoreName(String name) {
+        StringBuilder result = new StringBuilder();
+        for (char c : name.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                result.append('_').append(Character.toLowerCase(c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet rs, int index, Class<?> requiredType) throws SQLException;
+    }
+}
@@ -0,0 +1,60 @@
+package com.paragon.infrastructure.persistence.jdbc.mapping;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RowMapperRegistry {
+    private static final Logger log = LoggerFactory.getLogger(RowMapperRegistry.class);
+    private static final String[] MAPPED_PACKAGES = {
+            "com.paragon.infrastructure.persistence.daos",
+            "com.paragon.infrastructure.persistence.readmodels"
+    };
+
+    private final Map<Class<?>, RecordRowMapper<?>> mappers = new ConcurrentHashMap<>();
+
+    public RowMapperRegistry() {
+        registerRecordsIn(MAPPED_PACKAGES);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RowMapper<T> getRowMapper(Class<T> type) {
+        if (!type.isRecord()) {
+            return DataClassRowMapper.newInstance(type);
+        }
+        RecordRowMapper<?> mapper = mappers.computeIfAbsent(type, recordType -> createMapper((Class<? extends Record>) recordType));
+        return (RowMapper<T>) mapper.newRowMapper();
+    }
+
+    boolean isRegistered(Class<?> type) {
+        return mappers.containsKey(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerRecordsIn(String... basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(Record.class));
+
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), getClass().getClassLoader());
+                mappers.computeIfAbsent(type, recordType -> createMapper((Class<? extends Record>) recordType));
+            }
+        }
+        log.info("Registered {} precompiled row mappers", mappers.size());
+    }
+
+    private static <R extends Record> RecordRowMapper<R> createMapper(Class<R> recordType) {
+        return new RecordRowMapper<>(recordType);
+    }
+}
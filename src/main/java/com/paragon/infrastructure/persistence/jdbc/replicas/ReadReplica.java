@@ -0,0 +1,114 @@
+package com.paragon.infrastructure.persistence.jdbc.replicas;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// One read source and what we know about it: how busy it is, whether it is in rotation and how far it has replayed
+public class ReadReplica {
+    public static final int MAX_CONSECUTIVE_ERRORS = 3;
+
+    private final String name;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final int weight;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private final AtomicInteger consecutiveErrors = new AtomicInteger();
+    // Replay only moves forward, so anything at or below this position can be read here without asking again
+    private final AtomicLong highestReplayedLsn = new AtomicLong();
+    private volatile boolean inRotation = true;
+    // false once the source reports it is not in recovery, i.e. it is a primary and always current
+    private volatile boolean standby = true;
+    private volatile long replicationLagMillis;
+
+    public ReadReplica(String name, NamedParameterJdbcTemplate jdbc, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("Read replica weight must be at least 1, was " + weight + " for " + name);
+        }
+        this.name = name;
+        this.jdbc = jdbc;
+        this.weight = weight;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public NamedParameterJdbcTemplate getJdbc() {
+        return jdbc;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    public boolean isInRotation() {
+        return inRotation;
+    }
+
+    public boolean isStandby() {
+        return standby;
+    }
+
+    public long getReplicationLagMillis() {
+        return replicationLagMillis;
+    }
+
+    public void acquire() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    public void release() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    public void recordSuccess() {
+        if (consecutiveErrors.get() != 0) {
+            consecutiveErrors.set(0);
+        }
+    }
+
+    public void recordConnectionError() {
+        if (consecutiveErrors.incrementAndGet() >= MAX_CONSECUTIVE_ERRORS) {
+            inRotation = false;
+        }
+    }
+
+    public boolean hasReplayed(WalLsn lsn) {
+        return !standby || new WalLsn(highestReplayedLsn.get()).isAtLeast(lsn);
+    }
+
+    public void recordReplayedLsn(WalLsn lsn) {
+        if (lsn == null) {
+            standby = false;
+            return;
+        }
+        highestReplayedLsn.accumulateAndGet(lsn.value(), ReadReplica::unsignedMax);
+    }
+
+    void recordHealthCheck(long lagMillis, WalLsn replayedLsn, long maxLagMillis) {
+        replicationLagMillis = lagMillis;
+        recordReplayedLsn(replayedLsn);
+        consecutiveErrors.set(0);
+        inRotation = lagMillis <= maxLagMillis;
+    }
+
+    void recordHealthCheckFailure() {
+        consecutiveErrors.incrementAndGet();
+        inRotation = false;
+    }
+
+    private static long unsignedMax(long left, long right) {
+        return Long.compareUnsigned(left, right) >= 0 ? left : right;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
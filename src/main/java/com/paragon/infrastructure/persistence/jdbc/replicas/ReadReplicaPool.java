@@ -0,0 +1,68 @@
+package com.paragon.infrastructure.persistence.jdbc.replicas;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Picks the read replica with the fewest outstanding requests relative to its weight, among the replicas in rotation.
+// The scan starts at a rotating offset so equally loaded replicas share traffic round-robin.
+public class ReadReplicaPool implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaPool.class);
+
+    private final List<ReadReplica> replicas;
+    private final List<? extends AutoCloseable> ownedResources;
+    private final AtomicInteger nextStart = new AtomicInteger();
+
+    public ReadReplicaPool(List<ReadReplica> replicas, List<? extends AutoCloseable> ownedResources) {
+        this.replicas = List.copyOf(replicas);
+        this.ownedResources = List.copyOf(ownedResources);
+    }
+
+    public List<ReadReplica> getReplicas() {
+        return replicas;
+    }
+
+    // Replicas already known to have replayed requiredLsn are preferred; otherwise the least loaded replica in
+    // rotation is returned and the caller decides whether to wait for it
+    public Optional<ReadReplica> select(WalLsn requiredLsn) {
+        int start = Math.floorMod(nextStart.getAndIncrement(), replicas.size());
+        ReadReplica best = null;
+        ReadReplica bestCaughtUp = null;
+
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplica candidate = replicas.get((start + i) % replicas.size());
+            if (!candidate.isInRotation()) {
+                continue;
+            }
+            if (best == null || isLessLoaded(candidate, best)) {
+                best = candidate;
+            }
+            if (requiredLsn != null && candidate.hasReplayed(requiredLsn)
+                    && (bestCaughtUp == null || isLessLoaded(candidate, bestCaughtUp))) {
+                bestCaughtUp = candidate;
+            }
+        }
+        return Optional.ofNullable(bestCaughtUp != null ? bestCaughtUp : best);
+    }
+
+    private static boolean isLessLoaded(ReadReplica candidate, ReadReplica current) {
+        // outstanding / weight, compared without division
+        return (long) candidate.getOutstandingRequests() * current.getWeight()
+                < (long) current.getOutstandingRequests() * candidate.getWeight();
+    }
+
+    @Override
+    public void close() {
+        for (AutoCloseable resource : ownedResources) {
+            try {
+                resource.close();
+            } catch (Exception ex) {
+                log.warn("Failed to close read replica resource - {}", ex.getMessage());
+            }
+        }
+    }
+}
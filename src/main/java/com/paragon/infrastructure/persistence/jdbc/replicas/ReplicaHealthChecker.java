@@ -0,0 +1,87 @@
+package com.paragon.infrastructure.persistence.jdbc.replicas;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Periodically measures each replica's replication lag and takes replicas past the threshold (or unreachable, or no
+// longer streaming from the primary) out of rotation, putting them back once they recover
+@Component
+public class ReplicaHealthChecker {
+    // Lag is the age of the last replayed transaction, except when everything received has been replayed: an idle
+    // primary produces no transactions, and that would otherwise read as ever-growing lag. That shortcut also reads 0
+    // when the WAL receiver has disconnected and nothing new arrives, so a standby must be streaming to count as
+    // healthy. Roles without pg_read_all_stats only see the receiver's pid, in which case a running receiver has to do
+    private static final String HEALTH_CHECK_SQL = """
+            SELECT NOT pg_is_in_recovery()
+                       OR EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE COALESCE(status, 'streaming') = 'streaming')
+                       AS receiving,
+                   CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::bigint AS lag_millis,
+                   pg_last_wal_replay_lsn()::text AS replay_lsn
+            """;
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    private final ReadReplicaPool readReplicaPool;
+    private final long maxLagMillis;
+
+    public ReplicaHealthChecker(ReadReplicaPool readReplicaPool,
+                                @Value("${paragon.datasource.replica-max-lag:5s}") Duration maxLag) {
+        this.readReplicaPool = readReplicaPool;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${paragon.datasource.replica-health-check-interval-ms:2000}")
+    public void checkReplicas() {
+        for (ReadReplica replica : readReplicaPool.getReplicas()) {
+            check(replica);
+        }
+    }
+
+    void check(ReadReplica replica) {
+        boolean wasInRotation = replica.isInRotation();
+        try {
+            HealthCheckResult result = replica.getJdbc().getJdbcOperations().queryForObject(
+                    HEALTH_CHECK_SQL,
+                    (rs, rowNum) -> new HealthCheckResult(
+                            rs.getBoolean("receiving"), rs.getLong("lag_millis"), rs.getString("replay_lsn"))
+            );
+            if (!result.receiving()) {
+                replica.recordHealthCheckFailure();
+                if (wasInRotation) {
+                    log.warn("Read replica {} is not streaming WAL from the primary and was taken out of rotation", replica);
+                }
+                return;
+            }
+            replica.recordHealthCheck(
+                    result.lagMillis(),
+                    result.replayLsn() != null ? WalLsn.parse(result.replayLsn()) : null,
+                    maxLagMillis
+            );
+        } catch (DataAccessException | IllegalArgumentException ex) {
+            replica.recordHealthCheckFailure();
+            if (wasInRotation) {
+                log.warn("Read replica {} failed its health check and was taken out of rotation - {}", replica, ex.getMessage());
+            }
+            return;
+        }
+
+        if (wasInRotation && !replica.isInRotation()) {
+            log.warn("Read replica {} is {}ms behind (max {}ms) and was taken out of rotation",
+                    replica, replica.getReplicationLagMillis(), maxLagMillis);
+        } else if (!wasInRotation && replica.isInRotation()) {
+            log.info("Read replica {} is healthy again and was put back into rotation", replica);
+        }
+    }
+
+    private record HealthCheckResult(boolean receiving, long lagMillis, String replayLsn) {}
+}
@@ -1,6 +1,8 @@
 package com.paragon.infrastructure.persistence.jdbc.transaction;
 
 import com.paragon.application.common.interfaces.UnitOfWork;
+import com.paragon.infrastructure.persistence.cache.PgNotifyCacheInvalidationBus;
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReplicaConsistencyRouter;
 import com.paragon.infrastructure.persistence.exceptions.InfraException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,10 +13,16 @@ import java.sql.SQLException;
 @Component
 public class JdbcUnitOfWork implements UnitOfWork {
     private final UnitOfWorkAwareDataSource dataSource;
+    private final ReplicaConsistencyRouter replicaConsistencyRouter;
+    private final PgNotifyCacheInvalidationBus cacheInvalidationBus;
     private static final Logger log = LoggerFactory.getLogger(JdbcUnitOfWork.class);
 
-    public JdbcUnitOfWork(UnitOfWorkAwareDataSource dataSource) {
+    public JdbcUnitOfWork(UnitOfWorkAwareDataSource dataSource,
+                          ReplicaConsistencyRouter replicaConsistencyRouter,
+                          PgNotifyCacheInvalidationBus cacheInvalidationBus) {
         this.dataSource = dataSource;
+        this.replicaConsistencyRouter = replicaConsistencyRouter;
+        this.cacheInvalidationBus = cacheInvalidationBus;
     }
 
     @Override
@@ -30,6 +38,8 @@ public class JdbcUnitOfWork implements UnitOfWork {
 
     @Override
     public void commit() {
+        // Sent inside the transaction, so other instances are only told once the change commits
+        cacheInvalidationBus.flushPending();
         try {
             dataSource.commitTransaction();
             log.debug("Transaction committed for thread: {}", Thread.currentThread().getName());
@@ -37,10 +47,12 @@ public class JdbcUnitOfWork implements UnitOfWork {
             log.error("Failed to commit transaction", e);
             throw new InfraException();
         }
+        replicaConsistencyRouter.recordCommit();
     }
 
     @Override
     public void rollback() {
+        cacheInvalidationBus.discardPending();
         try {
             dataSource.rollbackTransaction();
             log.debug("Transaction rolled back for thread: {}", Thread.currentThread().getName());
@@ -2,16 +2,20 @@ package com.paragon.infrastructure.persistence.jdbc.transaction;
 
 import javax.sql.DataSource;
 import java.io.PrintWriter;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 public class UnitOfWorkAwareDataSource implements DataSource {
     private final DataSource delegate;
-    private final ThreadLocal<Connection> connectionHolder = new ThreadLocal<>();
+    private final ThreadLocal<ActiveTransaction> transactionHolder = new ThreadLocal<>();
+    private final LongAdder connectionWrappersCreated = new LongAdder();
+    private final LongAdder transactionsCompleted = new LongAdder();
+    private final LongAdder totalTransactionNanos = new LongAdder();
+    private final LongAccumulator maxTransactionNanos = new LongAccumulator(Math::max, 0);
 
     public UnitOfWorkAwareDataSource(DataSource delegate) {
         this.delegate = delegate;
@@ -19,82 +23,93 @@ public class UnitOfWorkAwareDataSource implements DataSource {
 
     @Override
     public Connection getConnection() throws SQLException {
-        Connection connection = connectionHolder.get();
+        ActiveTransaction transaction = transactionHolder.get();
 
-        if (connection != null) {
-            // Return proxy that ignores close() - JdbcTemplate will call close() after each query,
-            // but we need to keep the connection open until commit/rollback
-            return createNonClosingProxy(connection);
+        if (transaction != null) {
+            // JdbcTemplate will call close() after each query, but we need to keep the connection open until
+            // commit/rollback - the same non-closing wrapper is reused for the whole transaction
+            return transaction.nonClosingConnection();
         }
 
         // no active transaction - get new connection from pool
         return delegate.getConnection();
     }
 
-    private Connection createNonClosingProxy(Connection target) {
-        return (Connection) Proxy.newProxyInstance(
-                Connection.class.getClassLoader(),
-                new Class<?>[]{Connection.class},
-                (InvocationHandler) (proxy, method, args) -> {
-                    // Ignore close() calls during transaction
-                    if ("close".equals(method.getName())) {
-                        return null;
-                    }
-                    // Delegate everything else to the real connection
-                    return method.invoke(target, args);
-                }
-        );
-    }
-    
     public Connection beginTransaction() throws SQLException {
-        if (connectionHolder.get() != null) {
+        if (transactionHolder.get() != null) {
             throw new IllegalStateException("Transaction already active for this thread");
         }
 
         Connection connection = delegate.getConnection();
         connection.setAutoCommit(false);
-        connectionHolder.set(connection);
+        transactionHolder.set(new ActiveTransaction(connection, new NonClosingConnection(connection), System.nanoTime()));
+        connectionWrappersCreated.increment();
         return connection;
     }
 
-    
     public void commitTransaction() throws SQLException {
-        Connection connection = connectionHolder.get();
-        if (connection == null) {
+        ActiveTransaction transaction = transactionHolder.get();
+        if (transaction == null) {
             throw new IllegalStateException("No active transaction to commit");
         }
 
         try {
-            connection.commit();
+            transaction.connection().commit();
         } finally {
-            cleanup(connection);
+            cleanup(transaction);
         }
     }
 
-    
     public void rollbackTransaction() throws SQLException {
-        Connection connection = connectionHolder.get();
-        if (connection == null) {
+        ActiveTransaction transaction = transactionHolder.get();
+        if (transaction == null) {
             throw new IllegalStateException("No active transaction to rollback");
         }
 
         try {
-            connection.rollback();
+            transaction.connection().rollback();
         } finally {
-            cleanup(connection);
+            cleanup(transaction);
         }
     }
-    
+
     public boolean isTransactionActive() {
-        return connectionHolder.get() != null;
+        return transactionHolder.get() != null;
+    }
+
+    public long getConnectionWrappersCreated() {
+        return connectionWrappersCreated.sum();
+    }
+
+    public long getTransactionsCompleted() {
+        return transactionsCompleted.sum();
+    }
+
+    public long getTotalTransactionNanos() {
+        return totalTransactionNanos.sum();
     }
-    
-    private void cleanup(Connection connection) throws SQLException {
-        connectionHolder.remove();
+
+    public long getMaxTransactionNanos() {
+        return maxTransactionNanos.get();
+    }
+
+    private void cleanup(ActiveTransaction transaction) throws SQLException {
+        transactionHolder.remove();
+        recordDuration(System.nanoTime() - transaction.startedAtNanos());
+
+        Connection connection = transaction.connection();
         connection.setAutoCommit(true);
         connection.close();
     }
 
+    private void recordDuration(long elapsedNanos) {
+        transactionsCompleted.increment();
+        totalTransactionNanos.add(elapsedNanos);
+        maxTransactionNanos.accumulate(elapsedNanos);
+    }
+
+    private record ActiveTransaction(Connection connection, NonClosingConnection nonClosingConnection, long startedAtNanos) {}
+
     // ========== DataSource Interface Methods (Delegate to underlying DataSource) ==========
 
     @Override
@@ -0,0 +1,92 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.events.staffaccountevents.*;
+import com.paragon.domain.events.staffaccountrequestevents.StaffAccountRequestEventBase;
+import com.paragon.domain.events.staffaccountrequestevents.StaffAccountRequestSubmittedEvent;
+import com.paragon.domain.models.aggregates.StaffAccountRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Staff account events are stored as the fields they carry and rebuilt through their field constructors, keeping
+// their EventId. Request events snapshot their aggregate, so they are stored as that snapshot and rebuilt by
+// reconstituting the request and running the event's constructor again, which gives them a fresh EventId; the outbox
+// row keeps the original one.
+@Component
+public class DomainEventSerializer {
+    private static final Map<String, Function<StaffAccountEventPayload, DomainEvent>> STAFF_ACCOUNT_EVENTS = Map.of(
+            EventNames.STAFF_ACCOUNT_REGISTERED, payload -> new StaffAccountRegisteredEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(),
+                    StaffAccountEventPayload.idOrNull(payload.createdBy())),
+            EventNames.STAFF_ACCOUNT_LOGGED_IN, payload -> new StaffAccountLoggedInEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(), payload.lastLoginAtUtc()),
+            EventNames.STAFF_ACCOUNT_LOCKED, payload -> new StaffAccountLockedEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(), payload.lockedUntilUtc()),
+            EventNames.STAFF_ACCOUNT_DISABLED, payload -> new StaffAccountDisabledEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(),
+                    StaffAccountEventPayload.idOrNull(payload.disabledBy())),
+            EventNames.STAFF_ACCOUNT_ENABLED, payload -> new StaffAccountEnabledEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(),
+                    StaffAccountEventPayload.idOrNull(payload.enabledBy())),
+            EventNames.STAFF_ACCOUNT_PASSWORD_RESET, payload -> new StaffAccountPasswordResetEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion(),
+                    StaffAccountEventPayload.idOrNull(payload.passwordResetBy())),
+            EventNames.STAFF_ACCOUNT_PASSWORD_CHANGED, payload -> new StaffAccountPasswordChangedEvent(
+                    payload.toEventId(), payload.toStaffAccountId(), payload.toVersion())
+    );
+    private static final Map<String, Function<StaffAccountRequest, DomainEvent>> STAFF_ACCOUNT_REQUEST_EVENTS = Map.of(
+            EventNames.STAFF_ACCOUNT_REQUEST_SUBMITTED, StaffAccountRequestSubmittedEvent::new
+    );
+
+    private final ObjectMapper objectMapper;
+
+    public DomainEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String serialize(DomainEvent event) {
+        Object payload = switch (event) {
+            case StaffAccountEventBase staffAccountEvent -> StaffAccountEventPayload.from(staffAccountEvent);
+            case StaffAccountRequestEventBase requestEvent -> StaffAccountRequestEventPayload.from(requestEvent);
+            default -> throw new IllegalArgumentException("Unsupported event type: " + event.getEventName());
+        };
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Failed to serialize event " + event.getEventName(), ex);
+        }
+    }
+
+    // The relay keeps events for the same aggregate in order, so each row records which aggregate it belongs to
+    public UUID aggregateIdOf(DomainEvent event) {
+        return switch (event) {
+            case StaffAccountEventBase staffAccountEvent -> staffAccountEvent.getStaffAccountId().getValue();
+            case StaffAccountRequestEventBase requestEvent -> requestEvent.getStaffAccountRequestId().getValue();
+            default -> throw new IllegalArgumentException("Unsupported event type: " + event.getEventName());
+        };
+    }
+
+    public DomainEvent deserialize(String eventName, String payload) {
+        try {
+            Function<StaffAccountEventPayload, DomainEvent> staffAccountEvent = STAFF_ACCOUNT_EVENTS.get(eventName);
+            if (staffAccountEvent != null) {
+                return staffAccountEvent.apply(objectMapper.readValue(payload, StaffAccountEventPayload.class));
+            }
+            Function<StaffAccountRequest, DomainEvent> requestEvent = STAFF_ACCOUNT_REQUEST_EVENTS.get(eventName);
+            if (requestEvent != null) {
+                return requestEvent.apply(
+                        objectMapper.readValue(payload, StaffAccountRequestEventPayload.class).toStaffAccountRequest()
+                );
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Failed to deserialize event " + eventName, ex);
+        }
+        throw new IllegalArgumentException("Unsupported event type: " + eventName);
+    }
+}
@@ -0,0 +1,41 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.paragon.application.events.EventOutbox;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Written through the write helper, so inside a unit of work the rows commit or roll back with the aggregate
+@Component
+public class JdbcEventOutbox implements EventOutbox {
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events
+            (id, aggregate_id, event_name, payload)
+            VALUES
+            (:id, :aggregateId, :eventName, CAST(:payload AS jsonb))
+        """;
+
+    private final WriteJdbcHelper jdbcHelper;
+    private final DomainEventSerializer domainEventSerializer;
+
+    public JdbcEventOutbox(WriteJdbcHelper jdbcHelper, DomainEventSerializer domainEventSerializer) {
+        this.jdbcHelper = jdbcHelper;
+        this.domainEventSerializer = domainEventSerializer;
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        List<SqlStatement> statements = events.stream()
+                .map(event -> new SqlStatement(INSERT_SQL, new SqlParamsBuilder()
+                        .add("id", event.getEventId().getValue())
+                        .add("aggregateId", domainEventSerializer.aggregateIdOf(event))
+                        .add("eventName", event.getEventName())
+                        .add("payload", domainEventSerializer.serialize(event))))
+                .toList();
+        jdbcHelper.executeMultiple(statements);
+    }
+}
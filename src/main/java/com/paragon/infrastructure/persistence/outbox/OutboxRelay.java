@@ -0,0 +1,267 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.paragon.application.common.interfaces.UnitOfWork;
+import com.paragon.application.events.EventBus;
+import com.paragon.infrastructure.persistence.daos.OutboxEventDao;
+import com.paragon.infrastructure.persistence.daos.OutboxStripeLockDao;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Outbox rows are split into a fixed number of stripes by a hash of their aggregate id, and only one worker relays a
+// stripe at a time, so events for one staff account are handled in order while different accounts are handled in
+// parallel. The stripe count is shared by every instance (the hash has to agree everywhere), while each instance's
+// workers take turns over the stripes that fall to them modulo the worker count. A worker holds a stripe's advisory
+// lock for the whole batch, which keeps other instances off the stripe, and claims rows with
+// FOR UPDATE SKIP LOCKED. Handlers run inside the claiming transaction, so their writes commit together with the
+// row's removal; a handler that throws is rolled back to its savepoint and the event is retried with backoff until
+// max-attempts, after which the row is left in place for inspection. Later events for an aggregate wait while an
+// earlier one is backing off, so a retry never lets them overtake it.
+@Component
+public class OutboxRelay {
+    private static final int STRIPE_LOCK_KEY = 0x0B0E;
+    private static final String LOCK_STRIPE_SQL = "SELECT pg_try_advisory_xact_lock(:lockKey, :stripe) AS acquired";
+    private static final String CLAIM_SQL = """
+            SELECT e.sequence_number, e.id, e.aggregate_id, e.event_name, e.payload::text AS payload, e.attempts
+            FROM outbox_events e
+            WHERE e.available_at_utc <= NOW() AND e.attempts < :maxAttempts
+              AND mod(hashtext(e.aggregate_id::text) & 2147483647, :stripes) = :stripe
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM outbox_events earlier
+                  WHERE earlier.aggregate_id = e.aggregate_id
+                    AND earlier.sequence_number < e.sequence_number
+                    AND earlier.available_at_utc > NOW() AND earlier.attempts < :maxAttempts
+              )
+            ORDER BY e.sequence_number
+            LIMIT :batchSize
+            FOR UPDATE OF e SKIP LOCKED
+        """;
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE sequence_number IN (:sequenceNumbers)";
+    private static final String RECORD_FAILURE_SQL = """
+            UPDATE outbox_events
+            SET attempts = attempts + 1, last_error = :lastError, available_at_utc = :availableAtUtc
+            WHERE sequence_number = :sequenceNumber
+        """;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final EventBus eventBus;
+    private final DomainEventSerializer domainEventSerializer;
+    private final UnitOfWork unitOfWork;
+    private final UnitOfWorkAwareDataSource dataSource;
+    private final WriteJdbcHelper jdbcHelper;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int stripeCount;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public OutboxRelay(EventBus eventBus,
+                       DomainEventSerializer domainEventSerializer,
+                       UnitOfWork unitOfWork,
+                       UnitOfWorkAwareDataSource dataSource,
+                       WriteJdbcHelper jdbcHelper,
+                       @Value("${paragon.outbox.relay-enabled:true}") boolean enabled,
+                       @Value("${paragon.outbox.workers:4}") int workerCount,
+                       @Value("${paragon.outbox.stripes:16}") int stripeCount,
+                       @Value("${paragon.outbox.batch-size:50}") int batchSize,
+                       @Value("${paragon.outbox.poll-interval-ms:100}") long pollIntervalMillis,
+                       @Value("${paragon.outbox.max-attempts:10}") int maxAttempts) {
+        this.eventBus = eventBus;
+        this.domainEventSerializer = domainEventSerializer;
+        this.unitOfWork = unitOfWork;
+        this.dataSource = dataSource;
+        this.jdbcHelper = jdbcHelper;
+        this.enabled = enabled;
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("paragon.outbox.stripes must be at least 1, was " + stripeCount);
+        }
+        // A worker beyond the stripe count would have nothing to relay
+        this.workerCount = Math.min(workerCount, stripeCount);
+        this.stripeCount = stripeCount;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            List<Integer> stripes = stripesFor(i, workerCount, stripeCount);
+            workers.add(Thread.ofPlatform()
+                    .name("outbox-relay-" + i)
+                    .daemon()
+                    .start(() -> runWorker(stripes)));
+        }
+        log.info("Started {} outbox relay workers over {} stripes", workerCount, stripeCount);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            // Not interrupted: a worker mid-batch finishes and commits it rather than abandoning its connection
+            if (!worker.join(SHUTDOWN_TIMEOUT)) {
+                log.warn("Outbox relay worker {} did not stop within {}", worker.getName(), SHUTDOWN_TIMEOUT);
+            }
+        }
+        workers.clear();
+    }
+
+    static List<Integer> stripesFor(int worker, int workerCount, int stripeCount) {
+        List<Integer> stripes = new ArrayList<>();
+        for (int stripe = worker; stripe < stripeCount; stripe += workerCount) {
+            stripes.add(stripe);
+        }
+        return stripes;
+    }
+
+    private void runWorker(List<Integer> stripes) {
+        while (running) {
+            try {
+                int claimed = 0;
+                for (int stripe : stripes) {
+                    if (!running) {
+                        return;
+                    }
+                    claimed += relayBatch(stripe);
+                }
+                if (claimed == 0) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Outbox relay batch failed", ex);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    int relayBatch(int stripe) {
+        unitOfWork.begin();
+        try {
+            if (!lockStripe(stripe)) {
+                // Another instance is relaying this stripe; taking rows from it now could reorder its aggregates
+                unitOfWork.commit();
+                return 0;
+            }
+
+            List<OutboxEventDao> claimed = jdbcHelper.query(new SqlStatement(CLAIM_SQL, new SqlParamsBuilder()
+                    .add("maxAttempts", maxAttempts)
+                    .add("stripes", stripeCount)
+                    .add("stripe", stripe)
+                    .add("batchSize", batchSize)), OutboxEventDao.class);
+
+            List<Long> relayed = new ArrayList<>(claimed.size());
+            if (!claimed.isEmpty()) {
+                Connection connection = dataSource.getConnection();
+                Set<UUID> failedAggregates = new HashSet<>();
+                for (OutboxEventDao outboxEvent : claimed) {
+                    // Left for a later batch, behind the failed event it followed
+                    if (failedAggregates.contains(outboxEvent.aggregateId())) {
+                        continue;
+                    }
+                    if (relay(connection, outboxEvent)) {
+                        relayed.add(outboxEvent.sequenceNumber());
+                    } else {
+                        failedAggregates.add(outboxEvent.aggregateId());
+                    }
+                }
+            }
+            if (!relayed.isEmpty()) {
+                jdbcHelper.execute(new SqlStatement(DELETE_SQL, new SqlParamsBuilder().add("sequenceNumbers", relayed)));
+            }
+
+            unitOfWork.commit();
+            if (!claimed.isEmpty()) {
+                log.debug("Relayed {} of {} claimed outbox events", relayed.size(), claimed.size());
+            }
+            return claimed.size();
+        } catch (SQLException ex) {
+            unitOfWork.rollback();
+            log.error("Outbox relay failed to manage savepoints", ex);
+            throw new InfraException();
+        } catch (RuntimeException ex) {
+            unitOfWork.rollback();
+            throw ex;
+        }
+    }
+
+    private boolean lockStripe(int stripe) {
+        return jdbcHelper.queryFirstOrDefault(new SqlStatement(LOCK_STRIPE_SQL, new SqlParamsBuilder()
+                        .add("lockKey", STRIPE_LOCK_KEY)
+                        .add("stripe", stripe)), OutboxStripeLockDao.class)
+                .map(OutboxStripeLockDao::acquired)
+                .orElse(false);
+    }
+
+    private boolean relay(Connection connection, OutboxEventDao outboxEvent) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            eventBus.dispatch(domainEventSerializer.deserialize(outboxEvent.eventName(), outboxEvent.payload()));
+            connection.releaseSavepoint(savepoint);
+            return true;
+        } catch (RuntimeException ex) {
+            connection.rollback(savepoint);
+            recordFailure(outboxEvent, ex);
+            return false;
+        }
+    }
+
+    private void recordFailure(OutboxEventDao outboxEvent, RuntimeException ex) {
+        int attempts = outboxEvent.attempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Giving up on outbox event {} ({}) after {} attempts",
+                    outboxEvent.id(), outboxEvent.eventName(), attempts, ex);
+        } else {
+            log.warn("Handling outbox event {} ({}) failed on attempt {}, will retry",
+                    outboxEvent.id(), outboxEvent.eventName(), attempts, ex);
+        }
+
+        jdbcHelper.execute(new SqlStatement(RECORD_FAILURE_SQL, new SqlParamsBuilder()
+                .add("lastError", String.valueOf(ex))
+                .add("availableAtUtc", Instant.now().plus(backoff(attempts)))
+                .add("sequenceNumber", outboxEvent.sequenceNumber())));
+    }
+
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,60 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.paragon.domain.events.staffaccountevents.*;
+import com.paragon.domain.models.valueobjects.EventId;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Only what the event itself carries, so password hashes and permission lists never reach the outbox. Unknown
+// properties are ignored so rows written as full account snapshots still relay.
+@JsonIgnoreProperties(ignoreUnknown = true)
+record StaffAccountEventPayload(
+        UUID eventId,
+        UUID staffAccountId,
+        int version,
+        UUID createdBy,
+        UUID disabledBy,
+        UUID enabledBy,
+        UUID passwordResetBy,
+        Instant lockedUntilUtc,
+        Instant lastLoginAtUtc
+) {
+    static StaffAccountEventPayload from(StaffAccountEventBase event) {
+        return new StaffAccountEventPayload(
+                event.getEventId().getValue(),
+                event.getStaffAccountId().getValue(),
+                event.getStaffAccountVersion().getValue(),
+                event instanceof StaffAccountRegisteredEvent registered ? idOrNull(registered.getStaffAccountCreatedBy()) : null,
+                event instanceof StaffAccountDisabledEvent disabled ? idOrNull(disabled.getStaffAccountDisabledBy()) : null,
+                event instanceof StaffAccountEnabledEvent enabled ? idOrNull(enabled.getStaffAccountEnabledBy()) : null,
+                event instanceof StaffAccountPasswordResetEvent reset ? idOrNull(reset.getStaffAccountPasswordResetBy()) : null,
+                event instanceof StaffAccountLockedEvent locked ? locked.getLockedUntil() : null,
+                event instanceof StaffAccountLoggedInEvent loggedIn ? loggedIn.getLastLoginAt() : null
+        );
+    }
+
+    // Rows written before events kept their id in the payload get a fresh one
+    EventId toEventId() {
+        return eventId != null ? EventId.of(eventId) : EventId.generate();
+    }
+
+    StaffAccountId toStaffAccountId() {
+        return StaffAccountId.of(staffAccountId);
+    }
+
+    Version toVersion() {
+        return Version.of(version);
+    }
+
+    static StaffAccountId idOrNull(UUID id) {
+        return id != null ? StaffAccountId.of(id) : null;
+    }
+
+    private static UUID idOrNull(StaffAccountId staffAccountId) {
+        return staffAccountId != null ? staffAccountId.getValue() : null;
+    }
+}
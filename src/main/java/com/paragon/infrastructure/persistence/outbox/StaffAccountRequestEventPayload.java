@@ -0,0 +1,63 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.paragon.domain.enums.StaffAccountRequestStatus;
+import com.paragon.domain.enums.StaffAccountRequestType;
+import com.paragon.domain.enums.TargetType;
+import com.paragon.domain.events.staffaccountrequestevents.StaffAccountRequestEventBase;
+import com.paragon.domain.models.aggregates.StaffAccountRequest;
+import com.paragon.domain.models.valueobjects.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+record StaffAccountRequestEventPayload(
+        UUID staffAccountRequestId,
+        UUID submittedBy,
+        String requestType,
+        String targetId,
+        String targetType,
+        String status,
+        Instant submittedAtUtc,
+        Instant expiresAtUtc,
+        UUID approvedBy,
+        Instant approvedAtUtc,
+        UUID rejectedBy,
+        Instant rejectedAtUtc,
+        int version
+) {
+    static StaffAccountRequestEventPayload from(StaffAccountRequestEventBase event) {
+        return new StaffAccountRequestEventPayload(
+                event.getStaffAccountRequestId().getValue(),
+                event.getSubmittedBy().getValue(),
+                event.getRequestType().toString(),
+                event.getTargetId() != null ? event.getTargetId().getValue() : null,
+                event.getTargetType() != null ? event.getTargetType().toString() : null,
+                event.getStatus().toString(),
+                event.getSubmittedAt().getValue(),
+                event.getExpiresAt().getValue(),
+                event.getApprovedBy() != null ? event.getApprovedBy().getValue() : null,
+                event.getApprovedAt() != null ? event.getApprovedAt().getValue() : null,
+                event.getRejectedBy() != null ? event.getRejectedBy().getValue() : null,
+                event.getRejectedAt() != null ? event.getRejectedAt().getValue() : null,
+                event.getVersion().getValue()
+        );
+    }
+
+    StaffAccountRequest toStaffAccountRequest() {
+        return StaffAccountRequest.createFrom(
+                StaffAccountRequestId.of(staffAccountRequestId),
+                StaffAccountId.of(submittedBy),
+                StaffAccountRequestType.valueOf(requestType),
+                targetId != null ? TargetId.of(targetId) : null,
+                targetType != null ? TargetType.valueOf(targetType) : null,
+                StaffAccountRequestStatus.valueOf(status),
+                DateTimeUtc.of(submittedAtUtc),
+                DateTimeUtc.of(expiresAtUtc),
+                approvedBy != null ? StaffAccountId.of(approvedBy) : null,
+                approvedAtUtc != null ? DateTimeUtc.of(approvedAtUtc) : null,
+                rejectedBy != null ? StaffAccountId.of(rejectedBy) : null,
+                rejectedAtUtc != null ? DateTimeUtc.of(rejectedAtUtc) : null,
+                Version.of(version)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.paragon.infrastructure.persistence.projections;
+
+import com.paragon.application.common.interfaces.StaffAccountSummaryProjection;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidation;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// staff_account_summaries holds one row per account with the enabler and disabler usernames and the permission codes
+// already resolved, so listings read a single table. A row is always rebuilt from the account's current state rather
+// than patched from the event, which makes a refresh idempotent and independent of the order writes arrive in. A row
+// already at the account's version is left alone, so refreshing it again writes nothing.
+@Component
+public class StaffAccountSummaryProjectionImpl implements StaffAccountSummaryProjection {
+    private static final String UPSERT_SQL = """
+            INSERT INTO staff_account_summaries (
+                id, username, status, order_access_duration, modmail_transcript_access_duration, locked_until_utc,
+                last_login_at_utc, created_by, enabled_by, enabled_by_username, disabled_by, disabled_by_username,
+                permission_codes, version, created_at_utc
+            )
+            SELECT
+                sa.id, sa.username, sa.status, sa.order_access_duration, sa.modmail_transcript_access_duration,
+                sa.locked_until_utc, sa.last_login_at_utc, sa.created_by, sa.enabled_by, enabler.username,
+                sa.disabled_by, disabler.username,
+                ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id),
+                sa.version, sa.created_at_utc
+            FROM staff_accounts sa
+            LEFT JOIN staff_accounts enabler ON enabler.id = sa.enabled_by
+            LEFT JOIN staff_accounts disabler ON disabler.id = sa.disabled_by
+            %s
+            ON CONFLICT (id) DO UPDATE SET
+                username = EXCLUDED.username,
+                status = EXCLUDED.status,
+                order_access_duration = EXCLUDED.order_access_duration,
+                modmail_transcript_access_duration = EXCLUDED.modmail_transcript_access_duration,
+                locked_until_utc = EXCLUDED.locked_until_utc,
+                last_login_at_utc = EXCLUDED.last_login_at_utc,
+                created_by = EXCLUDED.created_by,
+                enabled_by = EXCLUDED.enabled_by,
+                enabled_by_username = EXCLUDED.enabled_by_username,
+                disabled_by = EXCLUDED.disabled_by,
+                disabled_by_username = EXCLUDED.disabled_by_username,
+                permission_codes = EXCLUDED.permission_codes,
+                version = EXCLUDED.version,
+                created_at_utc = EXCLUDED.created_at_utc
+            WHERE staff_account_summaries.version < EXCLUDED.version
+        """;
+    static final String REFRESH_SQL = UPSERT_SQL.formatted("WHERE sa.id = :id");
+    static final String REBUILD_SQL = UPSERT_SQL.formatted("");
+    static final String DELETE_ALL_SQL = "DELETE FROM staff_account_summaries";
+
+    private final WriteJdbcHelper jdbcHelper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public StaffAccountSummaryProjectionImpl(WriteJdbcHelper jdbcHelper, CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcHelper = jdbcHelper;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Override
+    public void refresh(StaffAccountId staffAccountId) {
+        jdbcHelper.execute(new SqlStatement(REFRESH_SQL, new SqlParamsBuilder().add("id", staffAccountId.getValue())));
+        // Listings are cached from this table, so caches are told again once the row has caught up with the write
+        cacheInvalidationBus.publish(CacheInvalidation.staffAccount(staffAccountId));
+    }
+
+    // Replaces every row, so a projection that drifted or missed events is brought back in line with the accounts
+    @Override
+    public int rebuildAll() {
+        int[] affected = jdbcHelper.executeMultiple(List.of(
+                new SqlStatement(DELETE_ALL_SQL, new SqlParamsBuilder()),
+                new SqlStatement(REBUILD_SQL, new SqlParamsBuilder())
+        ));
+        cacheInvalidationBus.publish(CacheInvalidation.allStaffAccounts());
+        return affected[1];
+    }
+}
@@ -17,12 +17,10 @@ public record StaffAccountDetailedReadModel(
         UUID createdBy,
         UUID disabledBy,
         List<String> permissionCodes,
-        Instant createdAtUtc
+        Instant createdAtUtc,
+        int version
 ) {
-    public static StaffAccountDetailedReadModel from(
-            StaffAccountDetailedReadModelDao dao,
-            List<String> permissionCodes
-    ) {
+    public static StaffAccountDetailedReadModel from(StaffAccountDetailedReadModelDao dao) {
         return new StaffAccountDetailedReadModel(
                 dao.id(),
                 dao.username(),
@@ -33,8 +31,9 @@ public record StaffAccountDetailedReadModel(
                 dao.lastLoginAtUtc(),
                 dao.createdBy(),
                 dao.disabledBy(),
-                permissionCodes,
-                dao.createdAtUtc()
+                dao.permissionCodes(),
+                dao.createdAtUtc(),
+                dao.version()
         );
     }
 }
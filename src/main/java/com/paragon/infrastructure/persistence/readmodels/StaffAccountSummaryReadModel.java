@@ -7,5 +7,6 @@ public record StaffAccountSummaryReadModel(
         UUID id,
         String username,
         String status,
-        Instant createdAtUtc
+        Instant createdAtUtc,
+        int version
 ) {}
@@ -0,0 +1,178 @@
+package com.paragon.infrastructure.persistence.repos.read;
+
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
+import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
+import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.valueobjects.DateTimeUtc;
+import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.domain.models.valueobjects.Version;
+import com.paragon.infrastructure.persistence.cache.AnnouncedVersions;
+import com.paragon.infrastructure.persistence.cache.BoundedReadCache;
+import com.paragon.infrastructure.persistence.cache.Versioned;
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReadConsistencyContext;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountDetailedReadModel;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Single-account lookups are served from bounded in-process caches. Every cached value carries the account version it
+// was read at, and each version announced for an account, by a dispatched event or another instance, becomes the floor
+// for that account: older entries are dropped when next read, and a load that comes back older because the replica
+// hasn't caught up is returned without being stored. Listings are not cached. A request carrying a consistency token
+// reads through to the replica, so a client never gets an answer from before its own write.
+@Primary
+@Repository
+public class CachingStaffAccountReadRepo implements StaffAccountReadRepo, StaffAccountReadModelCache {
+    private final StaffAccountReadRepoImpl delegate;
+    private final ReadConsistencyContext readConsistencyContext;
+    private final BoundedReadCache<String, StaffAccountSummaryReadModel> summariesByUsername;
+    private final BoundedReadCache<UUID, StaffAccountDetailedReadModel> detailedById;
+    private final BoundedReadCache<UUID, Versioned<StaffAccountStatus>> statusById;
+    private final BoundedReadCache<UUID, Versioned<PermissionSet>> permissionsById;
+    private final AnnouncedVersions announcedVersions;
+
+    public CachingStaffAccountReadRepo(StaffAccountReadRepoImpl delegate,
+                                       ReadConsistencyContext readConsistencyContext,
+                                       @Value("${paragon.read-cache.maximum-size:1000}") int maximumSize,
+                                       @Value("${paragon.read-cache.time-to-live:60s}") Duration timeToLive) {
+        this.delegate = delegate;
+        this.readConsistencyContext = readConsistencyContext;
+        this.summariesByUsername = new BoundedReadCache<>(maximumSize, timeToLive);
+        this.detailedById = new BoundedReadCache<>(maximumSize, timeToLive);
+        this.statusById = new BoundedReadCache<>(maximumSize, timeToLive);
+        this.permissionsById = new BoundedReadCache<>(maximumSize, timeToLive);
+        // A floor pushed out before it expires may still guard a stale entry, so that account's entries go with it
+        this.announcedVersions = new AnnouncedVersions(maximumSize, timeToLive,
+                staffAccountId -> invalidate(StaffAccountId.of(staffAccountId)));
+    }
+
+    @Override
+    public boolean exists(UUID staffAccountId) {
+        return delegate.exists(staffAccountId);
+    }
+
+    @Override
+    public boolean hasPermission(UUID staffAccountId, PermissionCode permissionCode) {
+        if (mustReadThrough()) {
+            return delegate.hasPermission(staffAccountId, permissionCode);
+        }
+        return findPermissionsById(staffAccountId).contains(permissionCode);
+    }
+
+    // The whole set is cached per account, so any permission check on a cached account is one bitwise operation
+    @Override
+    public PermissionSet findPermissionsById(UUID staffAccountId) {
+        if (mustReadThrough()) {
+            return delegate.findPermissionsById(staffAccountId);
+        }
+        return permissionsById.get(staffAccountId, delegate::findVersionedPermissionsById,
+                        permissions -> announcedVersions.isCurrent(staffAccountId, permissions.version()))
+                .map(Versioned::value)
+                .orElseGet(PermissionSet::empty);
+    }
+
+    @Override
+    public List<StaffAccountSummaryReadModel> findAllSummaries(StaffAccountStatus status,
+                                                               Username enabledBy,
+                                                               Username disabledBy,
+                                                               DateTimeUtc createdBefore,
+                                                               DateTimeUtc createdAfter,
+                                                               StaffAccountSummaryCursor after,
+                                                               int limit) {
+        return delegate.findAllSummaries(status, enabledBy, disabledBy, createdBefore, createdAfter, after, limit);
+    }
+
+    @Override
+    public void streamAllSummaries(StaffAccountStatus status,
+                                   Username enabledBy,
+                                   Username disabledBy,
+                                   DateTimeUtc createdBefore,
+                                   DateTimeUtc createdAfter,
+                                   Consumer<StaffAccountSummaryReadModel> consumer) {
+        delegate.streamAllSummaries(status, enabledBy, disabledBy, createdBefore, createdAfter, consumer);
+    }
+
+    @Override
+    public Optional<StaffAccountSummaryReadModel> findSummaryByUsername(String username) {
+        if (mustReadThrough()) {
+            return delegate.findSummaryByUsername(username);
+        }
+        return summariesByUsername.get(username, delegate::findSummaryByUsername,
+                summary -> announcedVersions.isCurrent(summary.id(), summary.version()));
+    }
+
+    @Override
+    public Optional<StaffAccountDetailedReadModel> findDetailedById(UUID staffAccountId) {
+        if (mustReadThrough()) {
+            return delegate.findDetailedById(staffAccountId);
+        }
+        return detailedById.get(staffAccountId, delegate::findDetailedById,
+                detailed -> announcedVersions.isCurrent(detailed.id(), detailed.version()));
+    }
+
+    @Override
+    public Optional<StaffAccountStatus> findStatusById(UUID staffAccountId) {
+        if (mustReadThrough()) {
+            return delegate.findStatusById(staffAccountId);
+        }
+        return statusById.get(staffAccountId, delegate::findVersionedStatusById,
+                        status -> announcedVersions.isCurrent(staffAccountId, status.version()))
+                .map(Versioned::value);
+    }
+
+    // Nothing is evicted here: every lookup checks the floor, so stale entries go when they are next read
+    @Override
+    public void invalidate(StaffAccountId staffAccountId, Version version) {
+        announcedVersions.announce(staffAccountId.getValue(), version.getValue());
+    }
+
+    // For changes announced without a version, such as read model repairs
+    @Override
+    public void invalidate(StaffAccountId staffAccountId) {
+        UUID id = staffAccountId.getValue();
+        summariesByUsername.invalidateIf((username, summary) -> summary.id().equals(id));
+        detailedById.invalidateIf((key, detailed) -> key.equals(id));
+        statusById.invalidateIf((key, status) -> key.equals(id));
+        permissionsById.invalidateIf((key, permissions) -> key.equals(id));
+    }
+
+    @Override
+    public void invalidateAll() {
+        summariesByUsername.invalidateAll();
+        detailedById.invalidateAll();
+        statusById.invalidateAll();
+        permissionsById.invalidateAll();
+    }
+
+    public long getCacheSize() {
+        return summariesByUsername.size() + detailedById.size() + statusById.size() + permissionsById.size();
+    }
+
+    public long getCacheHits() {
+        return summariesByUsername.getHits() + detailedById.getHits() + statusById.getHits() + permissionsById.getHits();
+    }
+
+    public long getCacheMisses() {
+        return summariesByUsername.getMisses() + detailedById.getMisses() + statusById.getMisses() + permissionsById.getMisses();
+    }
+
+    public long getCacheEvictions() {
+        return summariesByUsername.getEvictions() + detailedById.getEvictions() + statusById.getEvictions()
+                + permissionsById.getEvictions();
+    }
+
+    private boolean mustReadThrough() {
+        return readConsistencyContext.getRequiredLsn().isPresent();
+    }
+}
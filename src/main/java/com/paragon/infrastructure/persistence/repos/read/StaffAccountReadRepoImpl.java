@@ -1,10 +1,14 @@
 package com.paragon.infrastructure.persistence.repos.read;
 
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
 import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
 import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.constants.PermissionRegistry;
 import com.paragon.domain.models.valueobjects.DateTimeUtc;
 import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
 import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.infrastructure.persistence.cache.Versioned;
 import com.paragon.infrastructure.persistence.daos.*;
 import com.paragon.infrastructure.persistence.jdbc.helpers.ReadJdbcHelper;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
@@ -16,10 +20,19 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+// Listings and the detailed view read staff_account_summaries, a single denormalized table refreshed in the same unit of
+// work as every staff account write, so it is as current as staff_accounts. Existence, permission and status checks
+// guard commands and keep reading staff_accounts.
 @Repository
 public class StaffAccountReadRepoImpl implements StaffAccountReadRepo {
     private final ReadJdbcHelper readJdbcHelper;
+    private static final String SELECT_SUMMARIES_SQL = """
+            SELECT id, username, status, created_at_utc, version
+            FROM staff_account_summaries
+            WHERE 1=1
+            """;
 
     public StaffAccountReadRepoImpl(ReadJdbcHelper readJdbcHelper) {
         this.readJdbcHelper = readJdbcHelper;
@@ -49,46 +62,43 @@ public class StaffAccountReadRepoImpl implements StaffAccountReadRepo {
         ).isPresent();
     }
 
+    // Codes are turned straight into bits, and rows for codes that are no longer system permissions are skipped
+    @Override
+    public PermissionSet findPermissionsById(UUID staffAccountId) {
+        String sql = "SELECT permission_code FROM staff_account_permissions WHERE staff_account_id = :staffAccountId";
+        SqlParamsBuilder params = new SqlParamsBuilder().add("staffAccountId", staffAccountId);
+
+        long bits = 0L;
+        for (PermissionCodeDao row : readJdbcHelper.query(new SqlStatement(sql, params), PermissionCodeDao.class)) {
+            int ordinal = PermissionRegistry.ordinalOf(row.permissionCode());
+            if (ordinal >= 0) {
+                bits |= 1L << ordinal;
+            }
+        }
+        return PermissionSet.fromBits(bits);
+    }
+
     @Override
     public List<StaffAccountSummaryReadModel> findAllSummaries(StaffAccountStatus status,
                                                                Username enabledBy,
                                                                Username disabledBy,
                                                                DateTimeUtc createdBefore,
-                                                               DateTimeUtc createdAfter) {
-        StringBuilder sql = new StringBuilder("""
-                SELECT id, username, status, created_at_utc
-                FROM staff_accounts
-                WHERE 1=1
-                """);
-
+                                                               DateTimeUtc createdAfter,
+                                                               StaffAccountSummaryCursor after,
+                                                               int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARIES_SQL);
         SqlParamsBuilder params = new SqlParamsBuilder();
+        appendSummaryFilters(sql, params, status, enabledBy, disabledBy, createdBefore, createdAfter);
 
-        if (status != null) {
-            sql.append(" AND status = :status");
-            params.add("status", status.name());
+        // Keyset pagination: seek past the last row of the previous page instead of scanning and discarding an offset
+        if (after != null) {
+            sql.append(" AND (created_at_utc, id) < (:afterCreatedAtUtc, :afterId)");
+            params.add("afterCreatedAtUtc", after.createdAtUtc());
+            params.add("afterId", after.id());
         }
 
-        if (enabledBy != null) {
-            sql.append(" AND EXISTS (SELECT 1 FROM staff_accounts enabler WHERE enabler.id = staff_accounts.enabled_by AND enabler.username = :enabledBy)");
-            params.add("enabledBy", enabledBy.getValue());
-        }
-
-        if (disabledBy != null) {
-            sql.append(" AND EXISTS (SELECT 1 FROM staff_accounts disabler WHERE disabler.id = staff_accounts.disabled_by AND disabler.username = :disabledBy)");
-            params.add("disabledBy", disabledBy.getValue());
-        }
-
-        if (createdBefore != null) {
-            sql.append(" AND created_at_utc < :createdBefore");
-            params.add("createdBefore", createdBefore.getValue());
-        }
-
-        if (createdAfter != null) {
-            sql.append(" AND created_at_utc > :createdAfter");
-            params.add("createdAfter", createdAfter.getValue());
-        }
-
-        sql.append(" ORDER BY created_at_utc DESC");
+        sql.append(" ORDER BY created_at_utc DESC, id DESC LIMIT :limit");
+        params.add("limit", limit);
 
         return readJdbcHelper.query(
                 new SqlStatement(sql.toString(), params),
@@ -96,11 +106,30 @@ public class StaffAccountReadRepoImpl implements StaffAccountReadRepo {
         );
     }
 
+    @Override
+    public void streamAllSummaries(StaffAccountStatus status,
+                                   Username enabledBy,
+                                   Username disabledBy,
+                                   DateTimeUtc createdBefore,
+                                   DateTimeUtc createdAfter,
+                                   Consumer<StaffAccountSummaryReadModel> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SUMMARIES_SQL);
+        SqlParamsBuilder params = new SqlParamsBuilder();
+        appendSummaryFilters(sql, params, status, enabledBy, disabledBy, createdBefore, createdAfter);
+        sql.append(" ORDER BY created_at_utc DESC, id DESC");
+
+        readJdbcHelper.stream(
+                new SqlStatement(sql.toString(), params),
+                StaffAccountSummaryReadModel.class,
+                consumer
+        );
+    }
+
     @Override
     public Optional<StaffAccountSummaryReadModel> findSummaryByUsername(String username) {
         String sql = """
-                SELECT id, username, status, created_at_utc
-                FROM staff_accounts
+                SELECT id, username, status, created_at_utc, version
+                FROM staff_account_summaries
                 WHERE username = :username
                 """;
 
@@ -124,22 +153,18 @@ public class StaffAccountReadRepoImpl implements StaffAccountReadRepo {
                             last_login_at_utc,
                             created_by,
                             disabled_by,
-                            created_at_utc
-                        FROM staff_accounts
+                            permission_codes,
+                            created_at_utc,
+                            version
+                        FROM staff_account_summaries
                         WHERE id = :id
                     """;
         SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId);
 
-        Optional<StaffAccountDetailedReadModelDao> optionalDao = readJdbcHelper.queryFirstOrDefault(
+        return readJdbcHelper.queryFirstOrDefault(
                 new SqlStatement(sql, params),
                 StaffAccountDetailedReadModelDao.class
-        );
-        if (optionalDao.isEmpty()) {
-            return Optional.empty();
-        }
-
-        List<String> permissionCodes = getPermissionCodesBy(staffAccountId);
-        return Optional.of(StaffAccountDetailedReadModel.from(optionalDao.get(), permissionCodes));
+        ).map(StaffAccountDetailedReadModel::from);
     }
 
     @Override
@@ -154,17 +179,76 @@ public class StaffAccountReadRepoImpl implements StaffAccountReadRepo {
                 .map(StaffAccountStatusDao::toEnum);
     }
 
-    private List<String> getPermissionCodesBy(UUID staffAccountId) {
-        String sql = "SELECT permission_code FROM staff_account_permissions WHERE staff_account_id = :id";
+    // The caching repo needs to know which version of the account a status or permission set was read at, so these
+    // also select the version from staff_accounts, which is written in the same unit of work as both
+    public Optional<Versioned<StaffAccountStatus>> findVersionedStatusById(UUID staffAccountId) {
+        String sql = """
+                        SELECT status, version FROM staff_accounts
+                        WHERE id = :id
+                    """;
+        SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId);
+        return readJdbcHelper
+                .queryFirstOrDefault(new SqlStatement(sql, params), StaffAccountVersionedStatusDao.class)
+                .map(row -> new Versioned<>(row.toEnum(), row.version()));
+    }
+
+    // Empty when the account doesn't exist; an account without permissions still returns one row with a null code
+    public Optional<Versioned<PermissionSet>> findVersionedPermissionsById(UUID staffAccountId) {
+        String sql = """
+                        SELECT sa.version, p.permission_code
+                        FROM staff_accounts sa
+                        LEFT JOIN staff_account_permissions p ON p.staff_account_id = sa.id
+                        WHERE sa.id = :id
+                    """;
         SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId);
 
-        List<PermissionCodeDao> permissionCodeDaos = readJdbcHelper.query(
+        List<StaffAccountVersionedPermissionCodeDao> rows = readJdbcHelper.query(
                 new SqlStatement(sql, params),
-                PermissionCodeDao.class
+                StaffAccountVersionedPermissionCodeDao.class
         );
-        return permissionCodeDaos
-                .stream()
-                .map(dao -> dao.toPermissionCode().getValue())
-                .toList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        long bits = 0L;
+        for (StaffAccountVersionedPermissionCodeDao row : rows) {
+            int ordinal = row.permissionCode() == null ? -1 : PermissionRegistry.ordinalOf(row.permissionCode());
+            if (ordinal >= 0) {
+                bits |= 1L << ordinal;
+            }
+        }
+        return Optional.of(new Versioned<>(PermissionSet.fromBits(bits), rows.getFirst().version()));
+    }
+
+    private static void appendSummaryFilters(StringBuilder sql,
+                                             SqlParamsBuilder params,
+                                             StaffAccountStatus status,
+                                             Username enabledBy,
+                                             Username disabledBy,
+                                             DateTimeUtc createdBefore,
+                                             DateTimeUtc createdAfter) {
+        if (status != null) {
+            sql.append(" AND status = :status");
+            params.add("status", status.name());
+        }
+
+        if (enabledBy != null) {
+            sql.append(" AND enabled_by_username = :enabledBy");
+            params.add("enabledBy", enabledBy.getValue());
+        }
+
+        if (disabledBy != null) {
+            sql.append(" AND disabled_by_username = :disabledBy");
+            params.add("disabledBy", disabledBy.getValue());
+        }
+
+        if (createdBefore != null) {
+            sql.append(" AND created_at_utc < :createdBefore");
+            params.add("createdBefore", createdBefore.getValue());
+        }
+
+        if (createdAfter != null) {
+            sql.append(" AND created_at_utc > :createdAfter");
+            params.add("createdAfter", createdAfter.getValue());
+        }
     }
 }
@@ -7,10 +7,17 @@ import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
 import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
 import org.springframework.stereotype.Repository;
 
-import java.time.Instant;
+import java.util.List;
 
 @Repository
 public class AuditTrailWriteRepoImpl implements AuditTrailWriteRepo {
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_trail
+            (id, actor_id, action_type, target_id, target_type, created_at_utc)
+            VALUES
+            (:id, :actorId, :actionType, :targetId, :targetType, :createdAtUtc)
+        """;
+
     private final WriteJdbcHelper jdbcHelper;
 
     public AuditTrailWriteRepoImpl(WriteJdbcHelper jdbcHelper) {
@@ -19,21 +26,30 @@ public class AuditTrailWriteRepoImpl implements AuditTrailWriteRepo {
 
     @Override
     public void create(AuditTrailEntry auditTrailEntry) {
-        String sql = """
-            INSERT INTO audit_trail
-            (id, actor_id, action_type, target_id, target_type, created_at_utc)
-            VALUES
-            (:id, :actorId, :actionType, :targetId, :targetType, :createdAtUtc)
-        """;
+        jdbcHelper.execute(toInsertStatement(auditTrailEntry));
+    }
+
+    // Sent as one JDBC batch, which the driver rewrites into multi-row INSERTs
+    @Override
+    public void createAll(List<AuditTrailEntry> auditTrailEntries) {
+        if (auditTrailEntries.isEmpty()) {
+            return;
+        }
+        List<SqlStatement> statements = auditTrailEntries.stream()
+                .map(AuditTrailWriteRepoImpl::toInsertStatement)
+                .toList();
+        jdbcHelper.executeMultiple(statements);
+    }
 
+    private static SqlStatement toInsertStatement(AuditTrailEntry auditTrailEntry) {
         SqlParamsBuilder params = new SqlParamsBuilder()
                 .add("id", auditTrailEntry.getId().getValue())
                 .add("actorId", auditTrailEntry.getActorId().getValue())
                 .add("actionType", auditTrailEntry.getActionType().toString())
                 .add("targetId", auditTrailEntry.getTargetId() != null ? auditTrailEntry.getTargetId().getValue() : null)
                 .add("targetType", auditTrailEntry.getTargetType() != null ? auditTrailEntry.getTargetType().toString() : null)
-                .add("createdAtUtc", Instant.now());
+                .add("createdAtUtc", auditTrailEntry.getCreatedAtUtc());
 
-        jdbcHelper.execute(new SqlStatement(sql, params));
+        return new SqlStatement(INSERT_SQL, params);
     }
 }
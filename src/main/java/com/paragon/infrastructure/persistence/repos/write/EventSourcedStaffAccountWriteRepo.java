@@ -0,0 +1,79 @@
+package com.paragon.infrastructure.persistence.repos.write;
+
+import com.paragon.application.common.interfaces.StaffAccountSummaryProjection;
+import com.paragon.domain.interfaces.repositories.StaffAccountWriteRepo;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.constants.StaffAccountProperties;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidation;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.paragon.infrastructure.persistence.eventstore.StaffAccountEventStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.Set;
+
+// Every create and update is appended to the staff account event store in the same unit of work as the row write,
+// and the account's summary row is refreshed there too, so a read that follows the write sees it without waiting for
+// the outbox. The row stays authoritative: queries, joins and foreign keys read staff_accounts, and loads read the row
+// in one query unless loading from the store is switched on for rebuilding or replaying from history, in which case an
+// account whose history predates the store is read from its row until its next write adopts it. Every write is
+// announced on the cache invalidation bus so other instances drop what they cached for it.
+@Primary
+@Repository
+public class EventSourcedStaffAccountWriteRepo implements StaffAccountWriteRepo {
+    private final StaffAccountWriteRepoImpl rows;
+    private final StaffAccountEventStore eventStore;
+    private final StaffAccountSummaryProjection staffAccountSummaryProjection;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean loadFromStore;
+
+    public EventSourcedStaffAccountWriteRepo(StaffAccountWriteRepoImpl rows,
+                                             StaffAccountEventStore eventStore,
+                                             StaffAccountSummaryProjection staffAccountSummaryProjection,
+                                             CacheInvalidationBus cacheInvalidationBus,
+                                             @Value("${paragon.event-store.load-from-store:false}") boolean loadFromStore) {
+        this.rows = rows;
+        this.eventStore = eventStore;
+        this.staffAccountSummaryProjection = staffAccountSummaryProjection;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.loadFromStore = loadFromStore;
+    }
+
+    @Override
+    public void create(StaffAccount staffAccount) {
+        rows.create(staffAccount);
+        eventStore.append(staffAccount, StaffAccountProperties.ALL);
+        staffAccountSummaryProjection.refresh(staffAccount.getId());
+        cacheInvalidationBus.publish(CacheInvalidation.staffAccount(staffAccount.getId(), staffAccount.getVersion()));
+    }
+
+    @Override
+    public Optional<StaffAccount> getById(StaffAccountId staffAccountId) {
+        if (!loadFromStore) {
+            return rows.getById(staffAccountId);
+        }
+        return eventStore.load(staffAccountId).or(() -> rows.getById(staffAccountId));
+    }
+
+    @Override
+    public Optional<StaffAccount> getByUsername(Username username) {
+        if (!loadFromStore) {
+            return rows.getByUsername(username);
+        }
+        return eventStore.loadByUsername(username).or(() -> rows.getByUsername(username));
+    }
+
+    @Override
+    public void update(StaffAccount staffAccount) {
+        // Copied first, the row update clears the modified properties once it succeeds
+        Set<String> changedProperties = Set.copyOf(staffAccount.getModifiedProperties());
+        rows.update(staffAccount);
+        eventStore.append(staffAccount, changedProperties);
+        staffAccountSummaryProjection.refresh(staffAccount.getId());
+        cacheInvalidationBus.publish(CacheInvalidation.staffAccount(staffAccount.getId(), staffAccount.getVersion()));
+    }
+}
@@ -130,6 +130,11 @@ public class RefreshTokenWriteRepoImpl implements RefreshTokenWriteRepo {
             sqlStatements.add(new SqlStatement(sql, params));
         }
 
-        jdbcHelper.executeMultiple(sqlStatements);
+        int[] affectedRows = jdbcHelper.executeMultiple(sqlStatements);
+        for (int affectedRowCount : affectedRows) {
+            if (affectedRowCount != 1) {
+                throw new InfraException(); // potential concurrency detected
+            }
+        }
     }
 }
@@ -2,8 +2,8 @@ package com.paragon.infrastructure.persistence.repos.write;
 
 import com.paragon.domain.interfaces.repositories.StaffAccountWriteRepo;
 import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.constants.StaffAccountProperties;
 import com.paragon.domain.models.valueobjects.*;
-import com.paragon.infrastructure.persistence.daos.PermissionCodeDao;
 import com.paragon.infrastructure.persistence.daos.StaffAccountDao;
 import com.paragon.infrastructure.persistence.exceptions.InfraException;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
@@ -15,10 +15,36 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
+import java.util.function.Function;
 
 @Repository
 public class StaffAccountWriteRepoImpl implements StaffAccountWriteRepo {
+    // Loads the account row together with its permission codes (aggregated into an array column) in one round trip
+    private static final String SELECT_STAFF_ACCOUNT_SQL = """
+            SELECT sa.*,
+                   ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id) AS permission_codes
+            FROM staff_accounts sa
+            """;
+
+    // Kept in a fixed order so the same set of modified properties always produces the same statement text
+    private static final List<UpdatableColumn> UPDATABLE_COLUMNS = List.of(
+            new UpdatableColumn(StaffAccountProperties.USERNAME, "username", "username", a -> a.getUsername().getValue()),
+            new UpdatableColumn(StaffAccountProperties.EMAIL, "email", "email", a -> a.getEmail() != null ? a.getEmail().getValue() : null),
+            new UpdatableColumn(StaffAccountProperties.PASSWORD, "password", "password", a -> a.getPassword().getValue()),
+            new UpdatableColumn(StaffAccountProperties.IS_PASSWORD_TEMPORARY, "is_password_temporary", "isPasswordTemporary", StaffAccount::isPasswordTemporary),
+            new UpdatableColumn(StaffAccountProperties.PASSWORD_ISSUED_AT, "password_issued_at_utc", "passwordIssuedAtUtc", StaffAccount::getPasswordIssuedAt),
+            new UpdatableColumn(StaffAccountProperties.ORDER_ACCESS_DURATION, "order_access_duration", "orderAccessDuration", a -> a.getOrderAccessDuration().getValueInDays()),
+            new UpdatableColumn(StaffAccountProperties.MODMAIL_TRANSCRIPT_ACCESS_DURATION, "modmail_transcript_access_duration", "modmailTranscriptAccessDuration", a -> a.getModmailTranscriptAccessDuration().getValueInDays()),
+            new UpdatableColumn(StaffAccountProperties.STATUS, "status", "status", a -> a.getStatus().toString()),
+            new UpdatableColumn(StaffAccountProperties.FAILED_LOGIN_ATTEMPTS, "failed_login_attempts", "failedLoginAttempts", a -> a.getFailedLoginAttempts().getValue()),
+            new UpdatableColumn(StaffAccountProperties.LOCKED_UNTIL, "locked_until_utc", "lockedUntilUtc", StaffAccount::getLockedUntil),
+            new UpdatableColumn(StaffAccountProperties.LAST_LOGIN_AT, "last_login_at_utc", "lastLoginAtUtc", StaffAccount::getLastLoginAt),
+            new UpdatableColumn(StaffAccountProperties.DISABLED_BY, "disabled_by", "disabledBy", a -> a.getDisabledBy() != null ? a.getDisabledBy().getValue() : null),
+            new UpdatableColumn(StaffAccountProperties.ENABLED_BY, "enabled_by", "enabledBy", a -> a.getEnabledBy() != null ? a.getEnabledBy().getValue() : null),
+            new UpdatableColumn(StaffAccountProperties.PASSWORD_RESET_BY, "password_reset_by", "passwordResetBy", a -> a.getPasswordResetBy() != null ? a.getPasswordResetBy().getValue() : null)
+    );
+
     private final WriteJdbcHelper jdbcHelper;
 
     public StaffAccountWriteRepoImpl(WriteJdbcHelper jdbcHelper) {
@@ -85,84 +111,56 @@ public class StaffAccountWriteRepoImpl implements StaffAccountWriteRepo {
 
     @Override
     public Optional<StaffAccount> getById(StaffAccountId staffAccountId) {
-        String sql = "SELECT * FROM staff_accounts WHERE id = :id";
+        String sql = SELECT_STAFF_ACCOUNT_SQL + "WHERE sa.id = :id";
         SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId.getValue());
 
-        Optional<StaffAccountDao> optional = jdbcHelper.queryFirstOrDefault(
+        return jdbcHelper.queryFirstOrDefault(
                 new SqlStatement(sql, params),
                 StaffAccountDao.class
-        );
-        return optional.map(dao -> {
-                List<PermissionCode> permissionCodes = getPermissionCodesBy(dao.id());
-                return dao.toStaffAccount(permissionCodes);
-        });
+        ).map(StaffAccountDao::toStaffAccount);
     }
 
     @Override
     public Optional<StaffAccount> getByUsername(Username username) {
-        String sql = "SELECT * FROM staff_accounts WHERE username = :username";
+        String sql = SELECT_STAFF_ACCOUNT_SQL + "WHERE sa.username = :username";
         SqlParamsBuilder params = new SqlParamsBuilder().add("username", username.getValue());
 
-        Optional<StaffAccountDao> optional = jdbcHelper.queryFirstOrDefault(
+        return jdbcHelper.queryFirstOrDefault(
                 new SqlStatement(sql, params),
                 StaffAccountDao.class
-        );
-        return optional.map(dao -> {
-            List<PermissionCode> permissionCodes = getPermissionCodesBy(dao.id());
-            return dao.toStaffAccount(permissionCodes);
-        });
-    }
-
-    private List<PermissionCode> getPermissionCodesBy(UUID staffAccountId) {
-        String sql = "SELECT permission_code FROM staff_account_permissions WHERE staff_account_id = :id";
-        SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId);
-
-        List<PermissionCodeDao> permissionCodeDaos = jdbcHelper.query(
-                new SqlStatement(sql, params),
-                PermissionCodeDao.class
-        );
-        return permissionCodeDaos
-                .stream()
-                .map(PermissionCodeDao::toPermissionCode)
-                .toList();
+        ).map(StaffAccountDao::toStaffAccount);
     }
 
     @Override
     public void update(StaffAccount staffAccount) {
-        String sql = """
-                    UPDATE staff_accounts
-                    SET username = :username, email = :email, password = :password, is_password_temporary = :isPasswordTemporary,
-                        password_issued_at_utc = :passwordIssuedAtUtc, order_access_duration = :orderAccessDuration,
-                        modmail_transcript_access_duration = :modmailTranscriptAccessDuration, status = :status,
-                        failed_login_attempts = :failedLoginAttempts, locked_until_utc = :lockedUntilUtc,
-                        last_login_at_utc = :lastLoginAtUtc, disabled_by = :disabledBy, enabled_by = :enabledBy, password_reset_by = :passwordResetBy,
-                        version = :version, updated_at_utc = :updatedAtUtc
-                    WHERE id = :id AND version = :currentVersion
-                """;
-
-        SqlParamsBuilder params = new SqlParamsBuilder()
-                .add("username", staffAccount.getUsername().getValue())
-                .add("email", staffAccount.getEmail() != null ? staffAccount.getEmail().getValue() : null)
-                .add("password", staffAccount.getPassword().getValue())
-                .add("isPasswordTemporary", staffAccount.isPasswordTemporary())
-                .add("passwordIssuedAtUtc", staffAccount.getPasswordIssuedAt())
-                .add("orderAccessDuration", staffAccount.getOrderAccessDuration().getValueInDays())
-                .add("modmailTranscriptAccessDuration", staffAccount.getModmailTranscriptAccessDuration().getValueInDays())
-                .add("status", staffAccount.getStatus().toString())
-                .add("failedLoginAttempts", staffAccount.getFailedLoginAttempts().getValue())
-                .add("lockedUntilUtc", staffAccount.getLockedUntil())
-                .add("lastLoginAtUtc", staffAccount.getLastLoginAt())
-                .add("disabledBy", staffAccount.getDisabledBy() != null ? staffAccount.getDisabledBy().getValue() : null)
-                .add("enabledBy", staffAccount.getEnabledBy() != null ? staffAccount.getEnabledBy().getValue() : null)
-                .add("passwordResetBy", staffAccount.getPasswordResetBy() != null ? staffAccount.getPasswordResetBy().getValue() : null)
-                .add("version", staffAccount.getVersion().getValue())
+        // Only the columns behind modified properties are written, the version guard still detects concurrent updates
+        Set<String> modifiedProperties = staffAccount.getModifiedProperties();
+        StringBuilder sql = new StringBuilder("UPDATE staff_accounts SET ");
+        SqlParamsBuilder params = new SqlParamsBuilder();
+
+        for (UpdatableColumn column : UPDATABLE_COLUMNS) {
+            if (modifiedProperties.contains(column.property())) {
+                sql.append(column.name()).append(" = :").append(column.param()).append(", ");
+                params.add(column.param(), column.valueOf(staffAccount));
+            }
+        }
+        sql.append("version = :version, updated_at_utc = :updatedAtUtc WHERE id = :id AND version = :currentVersion");
+
+        params.add("version", staffAccount.getVersion().getValue())
                 .add("updatedAtUtc", Instant.now())
                 .add("id", staffAccount.getId().getValue())
                 .add("currentVersion", staffAccount.getVersion().getValue() - 1);
 
-        int affectedRows = jdbcHelper.execute(new SqlStatement(sql, params));
+        int affectedRows = jdbcHelper.execute(new SqlStatement(sql.toString(), params));
         if (affectedRows != 1) {
             throw new InfraException(); // potential concurrency detected
         }
+        staffAccount.clearModifiedProperties();
+    }
+
+    private record UpdatableColumn(String property, String name, String param, Function<StaffAccount, Object> value) {
+        Object valueOf(StaffAccount staffAccount) {
+            return value.apply(staffAccount);
+        }
     }
 }
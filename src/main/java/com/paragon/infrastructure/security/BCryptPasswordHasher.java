@@ -3,25 +3,76 @@ package com.paragon.infrastructure.security;
 import com.paragon.domain.interfaces.services.PasswordHasher;
 import com.paragon.domain.models.valueobjects.Password;
 import com.paragon.domain.models.valueobjects.PlaintextPassword;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// Every hash and verify runs on the PasswordHashingEngine; the blocking methods wait for it on the calling thread.
+// New hashes use the work factor calibrated at startup. Stored hashes are only ever upgraded, never weakened, so
+// instances that calibrated to different factors don't keep rehashing each other's passwords.
 @Component
 public class BCryptPasswordHasher implements PasswordHasher {
     private final BCryptPasswordEncoder encoder;
+    private final PasswordHashingEngine hashingEngine;
+    private final int workFactor;
+
+    @Autowired
+    public BCryptPasswordHasher(PasswordHashingEngine hashingEngine, BCryptWorkFactorCalibrator workFactorCalibrator) {
+        this(hashingEngine, workFactorCalibrator.calibrate());
+    }
 
-    public BCryptPasswordHasher() {
-        this.encoder = new BCryptPasswordEncoder();
+    public BCryptPasswordHasher(PasswordHashingEngine hashingEngine, int workFactor) {
+        this.encoder = new BCryptPasswordEncoder(workFactor);
+        this.hashingEngine = hashingEngine;
+        this.workFactor = workFactor;
     }
 
     @Override
     public Password hash(PlaintextPassword plaintextPassword) {
-        String encodedPassword = encoder.encode(plaintextPassword.getValue());
-        return Password.of(encodedPassword);
+        return await(hashAsync(plaintextPassword));
     }
 
     @Override
     public boolean verify(String plaintextPassword, Password hashedPassword) {
-        return encoder.matches(plaintextPassword, hashedPassword.getValue());
+        return await(verifyAsync(plaintextPassword, hashedPassword));
+    }
+
+    @Override
+    public CompletableFuture<Password> hashAsync(PlaintextPassword plaintextPassword) {
+        return hashingEngine.submit(() -> Password.of(encoder.encode(plaintextPassword.getValue())));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> verifyAsync(String plaintextPassword, Password hashedPassword) {
+        return hashingEngine.submit(() -> encoder.matches(plaintextPassword, hashedPassword.getValue()));
+    }
+
+    // The entered password has already been verified against the stored hash, so it is rehashed as is
+    @Override
+    public Optional<Password> rehashIfOutdated(String verifiedPassword, Password hashedPassword) {
+        if (hashedPassword.getWorkFactor() >= workFactor) {
+            return Optional.empty();
+        }
+        return Optional.of(await(hashingEngine.submit(() -> Password.of(encoder.encode(verifiedPassword)))));
+    }
+
+    public int getWorkFactor() {
+        return workFactor;
+    }
+
+    // Rethrows what the operation itself threw, so callers see the same exceptions as a direct call
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.paragon.infrastructure.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+// Picks the BCrypt work factor for this machine at startup: a hash is timed at the minimum work factor and, since each
+// step doubles the cost, the factor is raised while the estimate stays within the target verify time. The minimum
+// always applies, however slow the machine, and a configured work factor skips calibration altogether.
+@Component
+public class BCryptWorkFactorCalibrator {
+    private static final int SAMPLES = 3;
+    private static final Logger log = LoggerFactory.getLogger(BCryptWorkFactorCalibrator.class);
+
+    private final int configuredWorkFactor;
+    private final Duration targetVerifyTime;
+    private final int minimumWorkFactor;
+    private final int maximumWorkFactor;
+    private final IntToLongFunction hashNanos;
+
+    @Autowired
+    public BCryptWorkFactorCalibrator(@Value("${paragon.password-hashing.work-factor:0}") int configuredWorkFactor,
+                                      @Value("${paragon.password-hashing.target-verify-time:250ms}") Duration targetVerifyTime,
+                                      @Value("${paragon.password-hashing.minimum-work-factor:10}") int minimumWorkFactor,
+                                      @Value("${paragon.password-hashing.maximum-work-factor:16}") int maximumWorkFactor) {
+        this(configuredWorkFactor, targetVerifyTime, minimumWorkFactor, maximumWorkFactor, BCryptWorkFactorCalibrator::timeHash);
+    }
+
+    BCryptWorkFactorCalibrator(int configuredWorkFactor,
+                               Duration targetVerifyTime,
+                               int minimumWorkFactor,
+                               int maximumWorkFactor,
+                               IntToLongFunction hashNanos) {
+        if (minimumWorkFactor < 4 || maximumWorkFactor > 31 || minimumWorkFactor > maximumWorkFactor) {
+            throw new IllegalArgumentException("BCrypt work factors must satisfy 4 <= minimum <= maximum <= 31");
+        }
+        this.configuredWorkFactor = configuredWorkFactor;
+        this.targetVerifyTime = targetVerifyTime;
+        this.minimumWorkFactor = minimumWorkFactor;
+        this.maximumWorkFactor = maximumWorkFactor;
+        this.hashNanos = hashNanos;
+    }
+
+    public int calibrate() {
+        if (configuredWorkFactor > 0) {
+            log.info("Using the configured BCrypt work factor {}", configuredWorkFactor);
+            return configuredWorkFactor;
+        }
+
+        // The first run also pays for class loading and JIT warm-up, so only the fastest sample is kept
+        long estimatedNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            estimatedNanos = Math.min(estimatedNanos, hashNanos.applyAsLong(minimumWorkFactor));
+        }
+
+        int workFactor = minimumWorkFactor;
+        long targetNanos = targetVerifyTime.toNanos();
+        while (workFactor < maximumWorkFactor && estimatedNanos * 2 <= targetNanos) {
+            workFactor++;
+            estimatedNanos *= 2;
+        }
+        log.info("Calibrated BCrypt work factor {} (about {} ms per verify, target {} ms)",
+                workFactor, Duration.ofNanos(estimatedNanos).toMillis(), targetVerifyTime.toMillis());
+        return workFactor;
+    }
+
+    private static long timeHash(int workFactor) {
+        String salt = BCrypt.gensalt(workFactor);
+        long startedAt = System.nanoTime();
+        BCrypt.hashpw("work-factor-calibration", salt);
+        return System.nanoTime() - startedAt;
+    }
+}
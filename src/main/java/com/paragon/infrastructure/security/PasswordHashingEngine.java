@@ -0,0 +1,125 @@
+package com.paragon.infrastructure.security;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Runs the CPU-bound password hashing on its own pool, one thread per core by default, so a login storm queues here
+// instead of occupying the request executor. The queue is bounded and a submission that doesn't fit fails straight
+// away with a service-unavailable error rather than waiting. Futures complete on a hashing thread, so callers that
+// chain further work should use the async stages to move it off the pool.
+@Component
+public class PasswordHashingEngine {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingEngine.class);
+
+    private final ThreadPoolExecutor executor;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0L);
+
+    public PasswordHashingEngine(@Value("${paragon.password-hashing.threads:0}") int threads,
+                                 @Value("${paragon.password-hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hasher-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("Password hashing engine started with {} threads and a queue of {}", poolSize, queueCapacity);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                record(totalWaitNanos, maxWaitNanos, startedAt - submittedAt);
+                T value = null;
+                Throwable failure = null;
+                try {
+                    value = operation.get();
+                } catch (Throwable ex) {
+                    failure = ex;
+                }
+                // Recorded before completing, so whoever is waiting sees the metrics include its own operation
+                record(totalHashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                completed.increment();
+                if (failure == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            log.warn("Password hashing queue is full ({} waiting), rejecting the request", executor.getQueue().size());
+            result.completeExceptionally(new AppException(AppExceptionInfo.passwordHashingUnavailable()));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    public long getTotalHashNanos() {
+        return totalHashNanos.sum();
+    }
+
+    public long getMaxHashNanos() {
+        return maxHashNanos.get();
+    }
+
+    private static void record(LongAdder total, LongAccumulator max, long elapsedNanos) {
+        total.add(elapsedNanos);
+        max.accumulate(elapsedNanos);
+    }
+}
@@ -0,0 +1,2 @@
+-- Supports keyset pagination of staff account summaries ordered by (created_at_utc DESC, id DESC)
+CREATE INDEX IF NOT EXISTS ix_staff_accounts_created_at_utc_id ON staff_accounts (created_at_utc DESC, id DESC);
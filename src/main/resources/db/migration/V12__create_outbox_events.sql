@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS outbox_events (
+    sequence_number             BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    id                          UUID NOT NULL UNIQUE,
+
+    event_name                  VARCHAR(128) NOT NULL,
+    payload                     JSONB NOT NULL,
+
+    attempts                    INTEGER NOT NULL DEFAULT 0,
+    last_error                  TEXT,
+    available_at_utc            TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    created_at_utc              TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX ix_outbox_events_available_at_utc ON outbox_events (available_at_utc);
@@ -0,0 +1,8 @@
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS aggregate_id UUID;
+
+-- Rows written before this column existed have no recorded aggregate; routing them by their own id keeps them relayable
+UPDATE outbox_events SET aggregate_id = id WHERE aggregate_id IS NULL;
+
+ALTER TABLE outbox_events ALTER COLUMN aggregate_id SET NOT NULL;
+
+CREATE INDEX ix_outbox_events_aggregate_id_sequence_number ON outbox_events (aggregate_id, sequence_number);
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS staff_account_events (
+    aggregate_id                UUID NOT NULL,
+    version                     INTEGER NOT NULL,
+
+    event_name                  VARCHAR(128),
+    changes                     JSONB NOT NULL,
+
+    recorded_at_utc             TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+
+    PRIMARY KEY (aggregate_id, version)
+);
+
+CREATE TABLE IF NOT EXISTS staff_account_snapshots (
+    aggregate_id                UUID PRIMARY KEY,
+    version                     INTEGER NOT NULL,
+    state                       JSONB NOT NULL,
+
+    taken_at_utc                TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
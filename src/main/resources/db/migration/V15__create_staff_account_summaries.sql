@@ -0,0 +1,41 @@
+-- Denormalized staff account listing, kept up to date from staff account events
+CREATE TABLE IF NOT EXISTS staff_account_summaries (
+    id                                  UUID PRIMARY KEY REFERENCES staff_accounts (id) ON DELETE CASCADE,
+    username                            VARCHAR(20) NOT NULL UNIQUE,
+    status                              VARCHAR(32) NOT NULL,
+
+    order_access_duration               INTEGER,
+    modmail_transcript_access_duration  INTEGER,
+    locked_until_utc                    TIMESTAMP WITH TIME ZONE,
+    last_login_at_utc                   TIMESTAMP WITH TIME ZONE,
+
+    created_by                          UUID,
+    enabled_by                          UUID,
+    enabled_by_username                 VARCHAR(20),
+    disabled_by                         UUID,
+    disabled_by_username                VARCHAR(20),
+    permission_codes                    TEXT[] NOT NULL DEFAULT '{}',
+
+    version                             INTEGER NOT NULL,
+    created_at_utc                      TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_staff_account_summaries_created_at_utc_id ON staff_account_summaries (created_at_utc DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_staff_account_summaries_status ON staff_account_summaries (status, created_at_utc DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_staff_account_summaries_enabled_by_username ON staff_account_summaries (enabled_by_username, created_at_utc DESC, id DESC);
+CREATE INDEX IF NOT EXISTS ix_staff_account_summaries_disabled_by_username ON staff_account_summaries (disabled_by_username, created_at_utc DESC, id DESC);
+
+INSERT INTO staff_account_summaries (
+    id, username, status, order_access_duration, modmail_transcript_access_duration, locked_until_utc,
+    last_login_at_utc, created_by, enabled_by, enabled_by_username, disabled_by, disabled_by_username,
+    permission_codes, version, created_at_utc
+)
+SELECT
+    sa.id, sa.username, sa.status, sa.order_access_duration, sa.modmail_transcript_access_duration, sa.locked_until_utc,
+    sa.last_login_at_utc, sa.created_by, sa.enabled_by, enabler.username, sa.disabled_by, disabler.username,
+    ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id),
+    sa.version, sa.created_at_utc
+FROM staff_accounts sa
+LEFT JOIN staff_accounts enabler ON enabler.id = sa.enabled_by
+LEFT JOIN staff_accounts disabler ON disabler.id = sa.disabled_by
+ON CONFLICT (id) DO NOTHING;
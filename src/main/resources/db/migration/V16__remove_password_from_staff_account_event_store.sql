@@ -0,0 +1,4 @@
+-- Password hashes stay on staff_accounts only; strip the ones already written to the event store
+UPDATE staff_account_events SET changes = changes - 'password' WHERE changes -> 'password' IS NOT NULL;
+
+UPDATE staff_account_snapshots SET state = state - 'password' WHERE state -> 'password' IS NOT NULL;
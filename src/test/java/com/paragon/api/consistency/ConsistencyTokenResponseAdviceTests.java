@@ -0,0 +1,63 @@
+package com.paragon.api.consistency;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReadConsistencyContext;
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ConsistencyTokenResponseAdviceTests {
+    @Nested
+    class BeforeBodyWrite {
+        private final ReadConsistencyContext readConsistencyContextMock;
+        private final ConsistencyTokenResponseAdvice sut;
+
+        public BeforeBodyWrite() {
+            readConsistencyContextMock = mock(ReadConsistencyContext.class);
+            sut = new ConsistencyTokenResponseAdvice(readConsistencyContextMock);
+        }
+
+        @Test
+        void shouldSetConsistencyTokenHeader_whenRequestHasARequiredPosition() throws IOException {
+            // Given
+            when(readConsistencyContextMock.getRequiredLsn()).thenReturn(Optional.of(WalLsn.parse("16/B374D848")));
+            MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+            ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+
+            // When
+            Object body = sut.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                    new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+            response.flush();
+
+            // Then
+            assertThat(body).isEqualTo("body");
+            assertThat(servletResponse.getHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER)).isEqualTo("16/B374D848");
+        }
+
+        @Test
+        void shouldNotSetHeader_whenNoPositionIsRequired() throws IOException {
+            // Given
+            when(readConsistencyContextMock.getRequiredLsn()).thenReturn(Optional.empty());
+            MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+            ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+
+            // When
+            sut.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                    new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+            response.flush();
+
+            // Then
+            assertThat(servletResponse.getHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER)).isNull();
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.paragon.api.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paragon.api.dtos.ResponseDto;
 import com.paragon.api.dtos.staffaccount.disable.DisableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.enable.EnableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.GetAllStaffAccountsResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.StaffAccountSummaryResponseDto;
 import com.paragon.api.dtos.staffaccount.getbyusername.GetStaffAccountByUsernameResponseDto;
+import com.paragon.api.dtos.staffaccount.rebuildsummaries.RebuildStaffAccountSummariesResponseDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountRequestDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.resetpassword.ResetStaffAccountPasswordResponseDto;
@@ -16,6 +18,9 @@ import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountC
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommand;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommandHandler;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommandResponse;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommand;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandHandler;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandResponse;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommand;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommandHandler;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommandResponse;
@@ -27,6 +32,9 @@ import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQu
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQueryHandler;
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQueryResponse;
 import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummary;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQuery;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQueryHandler;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQueryResponse;
 import com.paragon.application.queries.getstaffaccountbyusername.GetStaffAccountByUsernameQuery;
 import com.paragon.application.queries.getstaffaccountbyusername.GetStaffAccountByUsernameQueryHandler;
 import com.paragon.application.queries.getstaffaccountbyusername.GetStaffAccountByUsernameQueryResponse;
@@ -38,8 +46,16 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +66,9 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 public class StaffAccountControllerTests {
     @Nested
@@ -59,8 +78,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
         private final RegisterStaffAccountCommandResponse commandResponse;
         private final String requestingStaffId;
@@ -70,10 +91,13 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             requestingStaffId = UUID.randomUUID().toString();
             when(httpContextHelperMock.extractAuthenticatedStaffId()).thenReturn(requestingStaffId);
@@ -83,9 +107,12 @@ public class StaffAccountControllerTests {
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
 
@@ -187,8 +214,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
         private final String staffIdToBeEnabled;
         private final String requestingStaffId;
@@ -199,19 +228,25 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             sut = new StaffAccountController(
                     registerStaffAccountCommandHandlerMock,
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
 
@@ -280,8 +315,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
         private final String staffIdToBeDisabled;
         private final String requestingStaffId;
@@ -292,19 +329,25 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             sut = new StaffAccountController(
                     registerStaffAccountCommandHandlerMock,
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
 
@@ -376,8 +419,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
         private final String targetStaffAccountId;
         private final String requestingStaffId;
@@ -388,19 +433,25 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             sut = new StaffAccountController(
                     registerStaffAccountCommandHandlerMock,
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
 
@@ -464,6 +515,77 @@ public class StaffAccountControllerTests {
         }
     }
 
+    @Nested
+    class RebuildSummaries {
+        private final StaffAccountController sut;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
+        private final HttpContextHelperImpl httpContextHelperMock;
+        private final String requestingStaffId;
+
+        public RebuildSummaries() {
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
+            httpContextHelperMock = mock(HttpContextHelperImpl.class);
+            TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+            sut = new StaffAccountController(
+                    mock(RegisterStaffAccountCommandHandler.class),
+                    mock(DisableStaffAccountCommandHandler.class),
+                    mock(EnableStaffAccountCommandHandler.class),
+                    mock(ResetStaffAccountPasswordCommandHandler.class),
+                    rebuildStaffAccountSummariesCommandHandlerMock,
+                    mock(GetAllStaffAccountsQueryHandler.class),
+                    mock(GetStaffAccountByUsernameQueryHandler.class),
+                    mock(StreamAllStaffAccountsQueryHandler.class),
+                    httpContextHelperMock,
+                    objectMapper,
+                    taskExecutor
+            );
+
+            requestingStaffId = UUID.randomUUID().toString();
+
+            when(httpContextHelperMock.extractAuthenticatedStaffId()).thenReturn(requestingStaffId);
+            when(rebuildStaffAccountSummariesCommandHandlerMock.handle(any(RebuildStaffAccountSummariesCommand.class)))
+                    .thenReturn(new RebuildStaffAccountSummariesCommandResponse(12));
+        }
+
+        @Test
+        void shouldReturnExpectedResponseDto() {
+            // When
+            CompletableFuture<ResponseEntity<ResponseDto<RebuildStaffAccountSummariesResponseDto>>> futureDto = sut.rebuildSummaries();
+
+            // Then
+            ResponseDto<RebuildStaffAccountSummariesResponseDto> responseDto = futureDto.join().getBody();
+            assertThat(responseDto.result()).isNotNull();
+            assertThat(responseDto.errorDto()).isNull();
+            assertThat(responseDto.result().rebuiltCount()).isEqualTo(12);
+        }
+
+        @Test
+        void shouldPassCorrectCommandToHandler() {
+            // Given
+            ArgumentCaptor<RebuildStaffAccountSummariesCommand> commandCaptor = ArgumentCaptor.forClass(RebuildStaffAccountSummariesCommand.class);
+
+            // When
+            sut.rebuildSummaries();
+
+            // Then
+            verify(rebuildStaffAccountSummariesCommandHandlerMock).handle(commandCaptor.capture());
+            assertThat(commandCaptor.getValue().requestingStaffAccountId()).isEqualTo(requestingStaffId);
+        }
+
+        @Test
+        void shouldPropagateAppException_whenHandlerThrows() {
+            // Given
+            when(rebuildStaffAccountSummariesCommandHandlerMock.handle(any(RebuildStaffAccountSummariesCommand.class)))
+                    .thenThrow(AppException.class);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.rebuildSummaries().join())
+                    .hasCauseInstanceOf(AppException.class);
+        }
+    }
+
     @Nested
     class GetAll {
         private final StaffAccountController sut;
@@ -471,8 +593,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
         private final GetAllStaffAccountsQueryResponse queryResponse;
 
@@ -481,19 +605,25 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             sut = new StaffAccountController(
                     registerStaffAccountCommandHandlerMock,
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
 
@@ -504,7 +634,7 @@ public class StaffAccountControllerTests {
                             "active",
                             Instant.now()
                     )
-            ));
+            ), "next-cursor");
 
             when(getAllStaffAccountsQueryHandlerMock.handle(any(GetAllStaffAccountsQuery.class))).thenReturn(queryResponse);
         }
@@ -512,7 +642,7 @@ public class StaffAccountControllerTests {
         @Test
         void getAllStaffAccounts_returnsOk() {
             // When
-            CompletableFuture<ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>>> futureDto = sut.getAll(null, null, null, null, null);
+            CompletableFuture<ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>>> futureDto = sut.getAll(null, null, null, null, null, null, null);
 
             // Then
             ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>> completedResponse = futureDto.join();
@@ -522,7 +652,7 @@ public class StaffAccountControllerTests {
         @Test
         void shouldReturnExpectedResponseDto() {
             // When
-            CompletableFuture<ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>>> futureDto = sut.getAll(null, null, null, null, null);
+            CompletableFuture<ResponseEntity<ResponseDto<GetAllStaffAccountsResponseDto>>> futureDto = sut.getAll(null, null, null, null, null, null, null);
 
             // Then
             ResponseDto<GetAllStaffAccountsResponseDto> responseDto = futureDto.join().getBody();
@@ -539,6 +669,7 @@ public class StaffAccountControllerTests {
             assertThat(actualSummary.id()).isEqualTo(expectedSummary.id());
             assertThat(actualSummary.username()).isEqualTo(expectedSummary.username());
             assertThat(actualSummary.status()).isEqualTo(expectedSummary.status());
+            assertThat(actualResponseDto.nextCursor()).isEqualTo("next-cursor");
         }
 
         @ParameterizedTest
@@ -546,10 +677,10 @@ public class StaffAccountControllerTests {
         void callsHandler_withCorrectQuery(String status, String enabledBy, String disabledBy, String createdBefore, String createdAfter) {
             // Given
             ArgumentCaptor<GetAllStaffAccountsQuery> queryCaptor = ArgumentCaptor.forClass(GetAllStaffAccountsQuery.class);
-            GetAllStaffAccountsQuery expectedQuery = new GetAllStaffAccountsQuery(status, enabledBy, disabledBy, createdBefore, createdAfter);
+            GetAllStaffAccountsQuery expectedQuery = new GetAllStaffAccountsQuery(status, enabledBy, disabledBy, createdBefore, createdAfter, 25, "cursor");
 
             // When
-            sut.getAll(status, enabledBy, disabledBy, createdBefore, createdAfter);
+            sut.getAll(status, enabledBy, disabledBy, createdBefore, createdAfter, 25, "cursor");
 
             // Then
             verify(getAllStaffAccountsQueryHandlerMock, times(1)).handle(queryCaptor.capture());
@@ -563,7 +694,7 @@ public class StaffAccountControllerTests {
                     .thenThrow(AppException.class);
 
             // When & Then
-            assertThatThrownBy(() -> sut.getAll(null, null, null, null, null).join())
+            assertThatThrownBy(() -> sut.getAll(null, null, null, null, null, null, null).join())
                     .hasCauseInstanceOf(AppException.class);
         }
 
@@ -585,8 +716,10 @@ public class StaffAccountControllerTests {
         private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
         private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
         private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
         private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
         private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
         private final HttpContextHelperImpl httpContextHelperMock;
 
         public GetByUsername() {
@@ -594,19 +727,25 @@ public class StaffAccountControllerTests {
             disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
             enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
             resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
             getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
             getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
             httpContextHelperMock = mock(HttpContextHelperImpl.class);
             TaskExecutor taskExecutor = Runnable::run;
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
             sut = new StaffAccountController(
                     registerStaffAccountCommandHandlerMock,
                     disableStaffAccountCommandHandlerMock,
                     enableStaffAccountCommandHandlerMock,
                     resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
                     getAllStaffAccountsQueryHandlerMock,
                     getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
                     httpContextHelperMock,
+                    objectMapper,
                     taskExecutor
             );
         }
@@ -667,4 +806,152 @@ public class StaffAccountControllerTests {
                     .hasCauseInstanceOf(AppException.class);
         }
     }
+
+    @Nested
+    class StreamAll {
+        private final StaffAccountController sut;
+        private final RegisterStaffAccountCommandHandler registerStaffAccountCommandHandlerMock;
+        private final DisableStaffAccountCommandHandler disableStaffAccountCommandHandlerMock;
+        private final EnableStaffAccountCommandHandler enableStaffAccountCommandHandlerMock;
+        private final ResetStaffAccountPasswordCommandHandler resetStaffAccountPasswordCommandHandlerMock;
+        private final RebuildStaffAccountSummariesCommandHandler rebuildStaffAccountSummariesCommandHandlerMock;
+        private final GetAllStaffAccountsQueryHandler getAllStaffAccountsQueryHandlerMock;
+        private final GetStaffAccountByUsernameQueryHandler getStaffAccountByUsernameQueryHandlerMock;
+        private final StreamAllStaffAccountsQueryHandler streamAllStaffAccountsQueryHandlerMock;
+        private final HttpContextHelperImpl httpContextHelperMock;
+        private final ObjectMapper objectMapper;
+        private final MockMvc mockMvc;
+
+        public StreamAll() {
+            registerStaffAccountCommandHandlerMock = mock(RegisterStaffAccountCommandHandler.class);
+            disableStaffAccountCommandHandlerMock = mock(DisableStaffAccountCommandHandler.class);
+            enableStaffAccountCommandHandlerMock = mock(EnableStaffAccountCommandHandler.class);
+            resetStaffAccountPasswordCommandHandlerMock = mock(ResetStaffAccountPasswordCommandHandler.class);
+            rebuildStaffAccountSummariesCommandHandlerMock = mock(RebuildStaffAccountSummariesCommandHandler.class);
+            getAllStaffAccountsQueryHandlerMock = mock(GetAllStaffAccountsQueryHandler.class);
+            getStaffAccountByUsernameQueryHandlerMock = mock(GetStaffAccountByUsernameQueryHandler.class);
+            streamAllStaffAccountsQueryHandlerMock = mock(StreamAllStaffAccountsQueryHandler.class);
+            httpContextHelperMock = mock(HttpContextHelperImpl.class);
+            objectMapper = new ObjectMapper().findAndRegisterModules();
+            TaskExecutor taskExecutor = Runnable::run;
+
+            sut = new StaffAccountController(
+                    registerStaffAccountCommandHandlerMock,
+                    disableStaffAccountCommandHandlerMock,
+                    enableStaffAccountCommandHandlerMock,
+                    resetStaffAccountPasswordCommandHandlerMock,
+                    rebuildStaffAccountSummariesCommandHandlerMock,
+                    getAllStaffAccountsQueryHandlerMock,
+                    getStaffAccountByUsernameQueryHandlerMock,
+                    streamAllStaffAccountsQueryHandlerMock,
+                    httpContextHelperMock,
+                    objectMapper,
+                    taskExecutor
+            );
+            mockMvc = MockMvcBuilders.standaloneSetup(sut).build();
+        }
+
+        @Test
+        void givenNdjsonAcceptHeader_shouldSelectTheStreamingEndpoint() throws Exception {
+            // Given
+            List<StaffAccountSummary> summaries = List.of(
+                    new StaffAccountSummary(UUID.randomUUID(), "john_doe", "ACTIVE", Instant.parse("2025-01-02T10:00:00Z"))
+            );
+            when(streamAllStaffAccountsQueryHandlerMock.handle(any(StreamAllStaffAccountsQuery.class)))
+                    .thenReturn(new StreamAllStaffAccountsQueryResponse(summaries::forEach));
+
+            // When
+            MvcResult result = mockMvc.perform(get("/v1/staff-accounts").accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+            assertThat(result.getResponse().getContentAsString()).contains("\"username\":\"john_doe\"");
+            verify(streamAllStaffAccountsQueryHandlerMock, times(1)).handle(any(StreamAllStaffAccountsQuery.class));
+            verifyNoInteractions(getAllStaffAccountsQueryHandlerMock);
+        }
+
+        @Test
+        void givenJsonAcceptHeader_shouldSelectThePagedEndpoint() throws Exception {
+            // Given
+            when(getAllStaffAccountsQueryHandlerMock.handle(any(GetAllStaffAccountsQuery.class)))
+                    .thenReturn(new GetAllStaffAccountsQueryResponse(List.of(), null));
+
+            // When
+            MvcResult result = mockMvc.perform(get("/v1/staff-accounts").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+            verify(getAllStaffAccountsQueryHandlerMock, times(1)).handle(any(GetAllStaffAccountsQuery.class));
+            verifyNoInteractions(streamAllStaffAccountsQueryHandlerMock);
+        }
+
+        @Test
+        void shouldWriteOneJsonLinePerSummary() throws IOException {
+            // Given
+            List<StaffAccountSummary> summaries = List.of(
+                    new StaffAccountSummary(UUID.randomUUID(), "john_doe", "ACTIVE", Instant.parse("2025-01-02T10:00:00Z")),
+                    new StaffAccountSummary(UUID.randomUUID(), "jane_doe", "DISABLED", Instant.parse("2025-01-01T10:00:00Z"))
+            );
+            when(streamAllStaffAccountsQueryHandlerMock.handle(any(StreamAllStaffAccountsQuery.class)))
+                    .thenReturn(new StreamAllStaffAccountsQueryResponse(summaries::forEach));
+
+            // When
+            ResponseEntity<StreamingResponseBody> response = sut.streamAll(null, null, null, null, null);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            response.getBody().writeTo(outputStream);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+
+            String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines.length).isEqualTo(2);
+            StaffAccountSummaryResponseDto first = objectMapper.readValue(lines[0], StaffAccountSummaryResponseDto.class);
+            StaffAccountSummaryResponseDto second = objectMapper.readValue(lines[1], StaffAccountSummaryResponseDto.class);
+            assertThat(first.username()).isEqualTo("john_doe");
+            assertThat(first.id()).isEqualTo(summaries.get(0).id());
+            assertThat(second.username()).isEqualTo("jane_doe");
+            assertThat(second.status()).isEqualTo("DISABLED");
+        }
+
+        @Test
+        void shouldPassCorrectQueryToHandler() {
+            // Given
+            when(streamAllStaffAccountsQueryHandlerMock.handle(any(StreamAllStaffAccountsQuery.class)))
+                    .thenReturn(new StreamAllStaffAccountsQueryResponse(consumer -> {}));
+
+            // When
+            sut.streamAll("ACTIVE", "admin", null, "2025-01-02T00:00:00Z", "2025-01-01T00:00:00Z");
+
+            // Then
+            ArgumentCaptor<StreamAllStaffAccountsQuery> queryCaptor = ArgumentCaptor.forClass(StreamAllStaffAccountsQuery.class);
+            verify(streamAllStaffAccountsQueryHandlerMock, times(1)).handle(queryCaptor.capture());
+
+            StreamAllStaffAccountsQuery capturedQuery = queryCaptor.getValue();
+            assertThat(capturedQuery.status()).isEqualTo("ACTIVE");
+            assertThat(capturedQuery.enabledBy()).isEqualTo("admin");
+            assertThat(capturedQuery.disabledBy()).isNull();
+            assertThat(capturedQuery.createdBefore()).isEqualTo("2025-01-02T00:00:00Z");
+            assertThat(capturedQuery.createdAfter()).isEqualTo("2025-01-01T00:00:00Z");
+        }
+
+        @Test
+        void whenHandlerRejectsQuery_shouldThrowBeforeAnyResponseIsWritten() {
+            // Given
+            when(streamAllStaffAccountsQueryHandlerMock.handle(any(StreamAllStaffAccountsQuery.class)))
+                    .thenThrow(AppException.class);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.streamAll(null, "admin", "admin", null, null))
+                    .isInstanceOf(AppException.class);
+        }
+    }
 }
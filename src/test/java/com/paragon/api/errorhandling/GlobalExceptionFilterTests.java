@@ -46,7 +46,8 @@ public class GlobalExceptionFilterTests {
             return Stream.of(
                     Arguments.of(new AppException(AppExceptionInfo.staffAccountNotFound("staff-id")), HttpStatus.NOT_FOUND),
                     Arguments.of(new AppException(AppExceptionInfo.staffAccountUsernameAlreadyExists("john_doe")), HttpStatus.CONFLICT),
-                    Arguments.of(new AppException(AppExceptionInfo.invalidLoginCredentials()), HttpStatus.UNAUTHORIZED)
+                    Arguments.of(new AppException(AppExceptionInfo.invalidLoginCredentials()), HttpStatus.UNAUTHORIZED),
+                    Arguments.of(new AppException(AppExceptionInfo.passwordHashingUnavailable()), HttpStatus.SERVICE_UNAVAILABLE)
             );
         }
     }
@@ -5,6 +5,7 @@ import com.paragon.api.dtos.staffaccount.enable.EnableStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.GetAllStaffAccountsResponseDto;
 import com.paragon.api.dtos.staffaccount.getall.StaffAccountSummaryResponseDto;
 import com.paragon.api.dtos.staffaccount.getbyusername.GetStaffAccountByUsernameResponseDto;
+import com.paragon.api.dtos.staffaccount.rebuildsummaries.RebuildStaffAccountSummariesResponseDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountRequestDto;
 import com.paragon.api.dtos.staffaccount.register.RegisterStaffAccountResponseDto;
 import com.paragon.api.dtos.staffaccount.resetpassword.ResetStaffAccountPasswordResponseDto;
@@ -12,6 +13,8 @@ import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountC
 import com.paragon.application.commands.disablestaffaccount.DisableStaffAccountCommandResponse;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommand;
 import com.paragon.application.commands.enablestaffaccount.EnableStaffAccountCommandResponse;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommand;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandResponse;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommand;
 import com.paragon.application.commands.registerstaffaccount.RegisterStaffAccountCommandResponse;
 import com.paragon.application.commands.resetstaffaccountpassword.ResetStaffAccountPasswordCommand;
@@ -156,6 +159,30 @@ public class StaffAccountMapperTests {
         }
     }
 
+    @Nested
+    class ToRebuildSummariesCommand {
+        @Test
+        void shouldMapAllFieldsCorrectly() {
+            String requestingStaffAccountId = UUID.randomUUID().toString();
+
+            RebuildStaffAccountSummariesCommand command = StaffAccountMapper.toRebuildSummariesCommand(requestingStaffAccountId);
+
+            assertThat(command.requestingStaffAccountId()).isEqualTo(requestingStaffAccountId);
+        }
+    }
+
+    @Nested
+    class ToRebuildSummariesResponseDto {
+        @Test
+        void shouldMapAllFieldsCorrectly() {
+            RebuildStaffAccountSummariesCommandResponse commandResponse = new RebuildStaffAccountSummariesCommandResponse(42);
+
+            RebuildStaffAccountSummariesResponseDto responseDto = StaffAccountMapper.toRebuildSummariesResponseDto(commandResponse);
+
+            assertThat(responseDto.rebuiltCount()).isEqualTo(commandResponse.rebuiltCount());
+        }
+    }
+
     @Nested
     class ToResetPasswordCommand {
         @Test
@@ -218,7 +245,8 @@ public class StaffAccountMapperTests {
                     createdAt.plusSeconds(3600)
             );
             GetAllStaffAccountsQueryResponse queryResponse = new GetAllStaffAccountsQueryResponse(
-                    List.of(summary1, summary2)
+                    List.of(summary1, summary2),
+                    "next-cursor"
             );
 
             // When
@@ -238,12 +266,13 @@ public class StaffAccountMapperTests {
             assertThat(dto2.username()).isEqualTo(summary2.username());
             assertThat(dto2.status()).isEqualTo(summary2.status());
             assertThat(dto2.createdAtUtc()).isEqualTo(summary2.createdAtUtc());
+            assertThat(responseDto.nextCursor()).isEqualTo("next-cursor");
         }
 
         @Test
         void shouldHandleEmptyList() {
             // Given
-            GetAllStaffAccountsQueryResponse queryResponse = new GetAllStaffAccountsQueryResponse(List.of());
+            GetAllStaffAccountsQueryResponse queryResponse = new GetAllStaffAccountsQueryResponse(List.of(), null);
 
             // When
             GetAllStaffAccountsResponseDto responseDto = StaffAccountMapper.toGetAllResponseDto(queryResponse);
@@ -0,0 +1,161 @@
+package com.paragon.api.security;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class CachingJwtAuthenticationManagerTests {
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private final JwtDecoder jwtDecoderMock;
+    private final Clock clockMock;
+    private final CachingJwtAuthenticationManager sut;
+
+    public CachingJwtAuthenticationManagerTests() {
+        jwtDecoderMock = mock(JwtDecoder.class);
+        clockMock = mock(Clock.class);
+        when(clockMock.instant()).thenReturn(NOW);
+        when(jwtDecoderMock.decode(anyString())).thenAnswer(invocation -> jwt(invocation.getArgument(0), NOW.plusSeconds(900)));
+        sut = new CachingJwtAuthenticationManager(jwtDecoderMock, new StaffAccountAuthenticationConverter(), 100, clockMock);
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .claim("staff_id", "staff-id")
+                .claim("permissions", List.of("VIEW_ACCOUNTS_LIST"))
+                .build();
+    }
+
+    private Authentication authenticate(String token) {
+        return sut.authenticate(new BearerTokenAuthenticationToken(token));
+    }
+
+    @Nested
+    class Authenticate {
+        @Test
+        void shouldVerifyATokenOnce_andServeItsReuseFromTheCache() {
+            // When
+            Authentication first = authenticate("token-a");
+            Authentication second = authenticate("token-a");
+
+            // Then
+            assertThat(first).isInstanceOf(StaffAccountAuthenticationToken.class);
+            assertThat(first.isAuthenticated()).isTrue();
+            assertThat(second).isSameAs(first);
+            verify(jwtDecoderMock, times(1)).decode("token-a");
+            assertThat(sut.getHits()).isEqualTo(1);
+            assertThat(sut.getMisses()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldKeepTokensApart() {
+            // When
+            Authentication first = authenticate("token-a");
+            Authentication second = authenticate("token-b");
+
+            // Then
+            assertThat(second).isNotSameAs(first);
+            assertThat(((StaffAccountAuthenticationToken) second).getToken().getTokenValue()).isEqualTo("token-b");
+            assertThat(sut.size()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldVerifyAgain_onceTheTokenHasExpired() {
+            // Given
+            authenticate("token-a");
+            when(clockMock.instant()).thenReturn(NOW.plusSeconds(900));
+
+            // When
+            authenticate("token-a");
+
+            // Then
+            verify(jwtDecoderMock, times(2)).decode("token-a");
+            assertThat(sut.getEvictions()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotCacheATokenWithoutAnExpiry() {
+            // Given
+            when(jwtDecoderMock.decode("token-a")).thenReturn(Jwt.withTokenValue("token-a")
+                    .header("alg", "HS256")
+                    .claim("staff_id", "staff-id")
+                    .claim("permissions", List.of("VIEW_ACCOUNTS_LIST"))
+                    .build());
+
+            // When
+            authenticate("token-a");
+            authenticate("token-a");
+
+            // Then
+            verify(jwtDecoderMock, times(2)).decode("token-a");
+            assertThat(sut.size()).isZero();
+        }
+
+        @Test
+        void shouldRejectAnInvalidToken_withoutCachingIt() {
+            // Given
+            when(jwtDecoderMock.decode("forged")).thenThrow(new BadJwtException("bad signature"));
+
+            // When & Then
+            assertThatThrownBy(() -> authenticate("forged")).isInstanceOf(InvalidBearerTokenException.class);
+            assertThatThrownBy(() -> authenticate("forged")).isInstanceOf(InvalidBearerTokenException.class);
+            verify(jwtDecoderMock, times(2)).decode("forged");
+            assertThat(sut.size()).isZero();
+        }
+
+        @Test
+        void shouldReportADecoderFailureAsAServiceError() {
+            // Given
+            when(jwtDecoderMock.decode("token-a")).thenThrow(new JwtException("decoder unavailable"));
+
+            // When & Then
+            assertThatThrownBy(() -> authenticate("token-a")).isInstanceOf(AuthenticationServiceException.class);
+        }
+    }
+
+    @Nested
+    class SizeBound {
+        @Test
+        void shouldDropTheLeastRecentlyUsedTokens_whenFull() {
+            // Given
+            CachingJwtAuthenticationManager small =
+                    new CachingJwtAuthenticationManager(jwtDecoderMock, new StaffAccountAuthenticationConverter(), 1, clockMock);
+
+            // When
+            small.authenticate(new BearerTokenAuthenticationToken("token-a"));
+            small.authenticate(new BearerTokenAuthenticationToken("token-b"));
+            small.authenticate(new BearerTokenAuthenticationToken("token-a"));
+
+            // Then
+            assertThat(small.size()).isEqualTo(1);
+            assertThat(small.getEvictions()).isEqualTo(2);
+            verify(jwtDecoderMock, times(2)).decode("token-a");
+        }
+
+        @Test
+        void shouldRejectANonPositiveMaximumSize() {
+            // When & Then
+            assertThatThrownBy(() -> new CachingJwtAuthenticationManager(jwtDecoderMock, new StaffAccountAuthenticationConverter(), 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
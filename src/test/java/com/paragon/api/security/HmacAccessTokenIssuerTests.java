@@ -0,0 +1,155 @@
+package com.paragon.api.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.paragon.domain.models.constants.PermissionRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HmacAccessTokenIssuerTests {
+    private static final SecretKeySpec SECRET = new SecretKeySpec(
+            "a-test-secret-that-is-at-least-32-bytes-long".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    private static final List<String> PERMISSIONS = List.of("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST");
+
+    private final HmacAccessTokenIssuer sut;
+    private final JwtDecoder decoder;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    HmacAccessTokenIssuerTests() {
+        sut = new HmacAccessTokenIssuer(SECRET);
+        decoder = NimbusJwtDecoder.withSecretKey(SECRET).build();
+        issuedAt = Instant.now().minusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
+        expiresAt = issuedAt.plusSeconds(900);
+    }
+
+    @Nested
+    class Issue {
+        @Test
+        void shouldProduceATokenTheResourceServerAccepts() {
+            // When
+            Jwt jwt = decoder.decode(sut.issue("staff-id", PERMISSIONS, issuedAt, expiresAt));
+
+            // Then
+            assertThat(jwt.getHeaders()).containsEntry("alg", "HS256");
+            assertThat(jwt.getClaimAsString("staff_id")).isEqualTo("staff-id");
+            assertThat(jwt.getClaimAsStringList("permissions")).isEqualTo(PERMISSIONS);
+            assertThat(jwt.getIssuedAt()).isEqualTo(issuedAt);
+            assertThat(jwt.getExpiresAt()).isEqualTo(expiresAt);
+        }
+
+        @Test
+        void shouldCarryTheSameClaimsAsTheJwtEncoder() {
+            // Given
+            JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(SECRET));
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .issuedAt(issuedAt)
+                    .expiresAt(expiresAt)
+                    .claim("staff_id", "staff-id")
+                    .claim("permissions", PERMISSIONS)
+                    .build();
+            String encoded = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                    .getTokenValue();
+
+            // When
+            Jwt issued = decoder.decode(sut.issue("staff-id", PERMISSIONS, issuedAt, expiresAt));
+
+            // Then
+            assertThat(issued.getClaims()).isEqualTo(decoder.decode(encoded).getClaims());
+            assertThat(issued.getHeaders()).isEqualTo(decoder.decode(encoded).getHeaders());
+        }
+
+        @Test
+        void shouldEscapeStringClaims() {
+            // Given
+            String staffAccountId = "quote\" backslash\\ newline\n tab\t é";
+
+            // When
+            Jwt jwt = decoder.decode(sut.issue(staffAccountId, List.of("A\"B"), issuedAt, expiresAt));
+
+            // Then
+            assertThat(jwt.getClaimAsString("staff_id")).isEqualTo(staffAccountId);
+            assertThat(jwt.getClaimAsStringList("permissions")).containsExactly("A\"B");
+        }
+
+        @Test
+        void shouldWriteAnEmptyList_whenThereAreNoPermissions() {
+            // When
+            Jwt jwt = decoder.decode(sut.issue("staff-id", List.of(), issuedAt, expiresAt));
+
+            // Then
+            assertThat(jwt.getClaimAsStringList("permissions")).isEmpty();
+        }
+
+        @Test
+        void shouldSignCorrectly_fromManyThreadsAtOnce() throws Exception {
+            // Given
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            List<Future<String>> tokens = new ArrayList<>();
+
+            // When
+            try {
+                for (int i = 0; i < 200; i++) {
+                    String staffAccountId = "staff-" + i;
+                    tokens.add(executor.submit(() -> sut.issue(staffAccountId, PERMISSIONS, issuedAt, expiresAt)));
+                }
+
+                // Then
+                for (int i = 0; i < tokens.size(); i++) {
+                    assertThat(decoder.decode(tokens.get(i).get()).getClaimAsString("staff_id")).isEqualTo("staff-" + i);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    class IssueCompact {
+        @Test
+        void shouldWriteTheBitmaskAndCatalogueVersion() {
+            // When
+            Jwt jwt = decoder.decode(sut.issueCompact("staff-id", 0b101L, issuedAt, expiresAt));
+
+            // Then
+            assertThat(jwt.hasClaim("permissions")).isFalse();
+            assertThat(PermissionClaims.decodeBitmask(jwt.getClaimAsString("perm"))).hasValue(0b101L);
+            assertThat(jwt.<Number>getClaim("perm_v").intValue()).isEqualTo(PermissionRegistry.CATALOGUE_VERSION);
+        }
+    }
+
+    @Test
+    void shouldRejectASecretShorterThan256Bits() {
+        // Given
+        SecretKeySpec shortSecret = new SecretKeySpec("too-short".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+        // When & Then
+        assertThatThrownBy(() -> new HmacAccessTokenIssuer(shortSecret))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotBeAcceptedUnderADifferentSecret() {
+        // Given
+        String token = sut.issue("staff-id", PERMISSIONS, issuedAt, expiresAt);
+        JwtDecoder otherDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(
+                "another-secret-that-is-also-32-bytes-long".getBytes(StandardCharsets.UTF_8), "HmacSHA256")).build();
+
+        // When & Then
+        assertThatThrownBy(() -> otherDecoder.decode(token)).isInstanceOf(BadJwtException.class);
+    }
+}
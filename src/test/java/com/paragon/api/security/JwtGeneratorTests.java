@@ -0,0 +1,64 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.constants.PermissionRegistry;
+import com.paragon.domain.models.constants.SystemPermissions;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JwtGeneratorTests {
+    private static final SecretKeySpec SECRET = new SecretKeySpec(
+            "a-test-secret-that-is-at-least-32-bytes-long".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+    private static final List<String> PERMISSIONS = List.of("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST");
+
+    private final JwtDecoder decoder = NimbusJwtDecoder.withSecretKey(SECRET).build();
+
+    private static JwtGenerator generator(boolean compactPermissions) {
+        return new JwtGenerator(new HmacAccessTokenIssuer(SECRET), compactPermissions);
+    }
+
+    @Test
+    void shouldWritePermissionNames_byDefault() {
+        // When
+        Jwt jwt = decoder.decode(generator(false).generateAccessToken("staff-id", PERMISSIONS));
+
+        // Then
+        assertThat(jwt.getClaimAsStringList("permissions")).isEqualTo(PERMISSIONS);
+        assertThat(jwt.hasClaim("perm")).isFalse();
+        assertThat(jwt.getClaimAsString("staff_id")).isEqualTo("staff-id");
+    }
+
+    @Test
+    void shouldWriteAVersionedBitmaskInsteadOfNames_whenCompact() {
+        // When
+        Jwt jwt = decoder.decode(generator(true).generateAccessToken("staff-id", PERMISSIONS));
+
+        // Then
+        assertThat(jwt.hasClaim("permissions")).isFalse();
+        assertThat(jwt.<Number>getClaim("perm_v").intValue()).isEqualTo(PermissionRegistry.CATALOGUE_VERSION);
+        var token = (StaffAccountAuthenticationToken) new StaffAccountAuthenticationConverter().convert(jwt);
+        assertThat(token.getPermissions()).isEqualTo(PermissionSet.of(List.of(
+                SystemPermissions.MANAGE_ACCOUNTS, SystemPermissions.VIEW_ACCOUNTS_LIST)));
+    }
+
+    @Test
+    void shouldProduceAShorterToken_whenCompact() {
+        // Given
+        List<String> everyPermission = PermissionSet.fromBits(-1L).toCodes().stream().map(code -> code.getValue()).toList();
+
+        // When
+        String full = generator(false).generateAccessToken("staff-id", everyPermission);
+        String compact = generator(true).generateAccessToken("staff-id", everyPermission);
+
+        // Then
+        assertThat(compact.length()).isLessThan(full.length() / 3);
+    }
+}
@@ -0,0 +1,93 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.constants.SystemPermissions;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PermissionAuthorizationManagerTests {
+    private final PermissionAuthorizationManager sut = new PermissionAuthorizationManager();
+
+    static class Guarded {
+        @RequiresPermission("MANAGE_ACCOUNTS")
+        void manage() {}
+
+        @RequiresPermission("NOT_A_PERMISSION")
+        void misconfigured() {}
+    }
+
+    private static MethodInvocation invocationOf(String methodName) throws NoSuchMethodException {
+        Method method = Guarded.class.getDeclaredMethod(methodName);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        return invocation;
+    }
+
+    private static StaffAccountAuthenticationToken tokenGranting(PermissionSet permissions) {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .claim("staff_id", "staff-id")
+                .build();
+        return new StaffAccountAuthenticationToken(jwt, permissions);
+    }
+
+    @Test
+    void shouldGrant_whenThePermissionSetHasTheRequiredPermission() throws Exception {
+        // Given
+        var token = tokenGranting(PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST, SystemPermissions.MANAGE_ACCOUNTS)));
+
+        // When
+        var decision = sut.authorize(() -> token, invocationOf("manage"));
+
+        // Then
+        assertThat(decision.isGranted()).isTrue();
+    }
+
+    @Test
+    void shouldDeny_whenThePermissionSetLacksTheRequiredPermission() throws Exception {
+        // Given
+        var token = tokenGranting(PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST)));
+
+        // When
+        var decision = sut.authorize(() -> token, invocationOf("manage"));
+
+        // Then
+        assertThat(decision.isGranted()).isFalse();
+    }
+
+    @Test
+    void shouldDeny_whenTheCallerIsNotAStaffAccount() throws Exception {
+        // Given
+        var authentication = new TestingAuthenticationToken("user", null, "MANAGE_ACCOUNTS");
+
+        // When
+        var decision = sut.authorize(() -> authentication, invocationOf("manage"));
+
+        // Then
+        assertThat(decision.isGranted()).isFalse();
+    }
+
+    @Test
+    void shouldFail_whenTheAnnotationNamesAnUnknownPermission() {
+        // Given
+        var token = tokenGranting(PermissionSet.fromBits(-1L));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.authorize(() -> token, invocationOf("misconfigured")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("NOT_A_PERMISSION");
+    }
+}
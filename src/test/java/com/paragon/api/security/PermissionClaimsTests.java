@@ -0,0 +1,36 @@
+package com.paragon.api.security;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PermissionClaimsTests {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 0xFFL, 0x100L, (1L << 25) - 1, Long.MAX_VALUE, -1L})
+    void shouldRoundTripTheBitmask(long bits) {
+        // When
+        String encoded = PermissionClaims.encodeBitmask(bits);
+
+        // Then
+        assertThat(PermissionClaims.decodeBitmask(encoded)).hasValue(bits);
+    }
+
+    @Test
+    void shouldEncodeEveryCurrentPermissionInSixCharacters() {
+        // When
+        String encoded = PermissionClaims.encodeBitmask((1L << 25) - 1);
+
+        // Then
+        assertThat(encoded).hasSize(6).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "AAAAAAAAAAAA"})
+    void shouldRejectValuesThatAreNotABitmask(String value) {
+        // When & Then
+        assertThat(PermissionClaims.decodeBitmask(value)).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.paragon.api.security;
+
+import com.paragon.domain.models.constants.PermissionRegistry;
+import com.paragon.domain.models.constants.SystemPermissions;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StaffAccountAuthenticationConverterTests {
+    private final StaffAccountAuthenticationConverter sut = new StaffAccountAuthenticationConverter();
+
+    private static Jwt.Builder jwt() {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .claim("staff_id", "staff-id");
+    }
+
+    @Test
+    void shouldCarryThePermissionsClaimAsAPermissionSet() {
+        // Given
+        Jwt token = jwt().claim("permissions", List.of("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST")).build();
+
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(token);
+
+        // Then
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getPrincipal()).isEqualTo(token);
+        assertThat(result.getPermissions()).isEqualTo(PermissionSet.of(List.of(
+                SystemPermissions.MANAGE_ACCOUNTS, SystemPermissions.VIEW_ACCOUNTS_LIST)));
+        assertThat(result.getAuthorities()).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreNamesThatAreNotSystemPermissions() {
+        // Given
+        Jwt token = jwt().claim("permissions", List.of("VIEW_ACCOUNTS_LIST", "SUPERUSER")).build();
+
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(token);
+
+        // Then
+        assertThat(result.getPermissions()).isEqualTo(PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST)));
+    }
+
+    @Test
+    void shouldGrantNothing_whenTheClaimIsMissing() {
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(jwt().build());
+
+        // Then
+        assertThat(result.getPermissions().isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldUseTheCompactBitmask_whenWrittenAgainstTheCurrentCatalogue() {
+        // Given
+        PermissionSet granted = PermissionSet.of(List.of(SystemPermissions.MANAGE_ACCOUNTS, SystemPermissions.VIEW_LOGIN_LOGS));
+        Jwt token = jwt()
+                .claim("perm", PermissionClaims.encodeBitmask(granted.toBits()))
+                .claim("perm_v", PermissionRegistry.CATALOGUE_VERSION)
+                .build();
+
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(token);
+
+        // Then
+        assertThat(result.getPermissions()).isEqualTo(granted);
+    }
+
+    @Test
+    void shouldFallBackToNames_whenTheBitmaskIsFromAnotherCatalogueVersion() {
+        // Given
+        Jwt token = jwt()
+                .claim("perm", PermissionClaims.encodeBitmask(-1L))
+                .claim("perm_v", PermissionRegistry.CATALOGUE_VERSION + 1)
+                .claim("permissions", List.of("VIEW_ACCOUNTS_LIST"))
+                .build();
+
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(token);
+
+        // Then
+        assertThat(result.getPermissions()).isEqualTo(PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST)));
+    }
+
+    @Test
+    void shouldGrantNothing_whenTheBitmaskIsMalformed() {
+        // Given
+        Jwt token = jwt()
+                .claim("perm", "not base64!")
+                .claim("perm_v", PermissionRegistry.CATALOGUE_VERSION)
+                .build();
+
+        // When
+        StaffAccountAuthenticationToken result = (StaffAccountAuthenticationToken) sut.convert(token);
+
+        // Then
+        assertThat(result.getPermissions().isEmpty()).isTrue();
+    }
+}
@@ -205,7 +205,20 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandlerTests {
     }
 
     @Test
-    void whenDomainExceptionIsThrown_shouldRollbackTransaction_andTranslateToAppException() {
+    void shouldCheckAndHashThePassword_beforeBeginningTransaction() {
+        // When
+        sut.handle(command);
+
+        // Then
+        var inOrder = inOrder(staffAccountPasswordReusePolicyMock, passwordHasherMock, unitOfWorkMock, staffAccountWriteRepoMock);
+        inOrder.verify(staffAccountPasswordReusePolicyMock).ensureNotViolated(any(PlaintextPassword.class), any(StaffAccountPasswordHistory.class));
+        inOrder.verify(passwordHasherMock).hash(any(PlaintextPassword.class));
+        inOrder.verify(unitOfWorkMock).begin();
+        inOrder.verify(staffAccountWriteRepoMock).update(staffAccount);
+    }
+
+    @Test
+    void whenDomainExceptionIsThrownBeforeTheUnitOfWork_shouldTranslateToAppException_withoutBeginningTransaction() {
         // Given
         StaffAccountId staffAccountId = StaffAccountId.generate();
         CompleteTemporaryStaffAccountPasswordChangeCommand invalidCommand = new CompleteTemporaryStaffAccountPasswordChangeCommand(
@@ -218,11 +231,12 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandlerTests {
         // When & Then
         assertThatExceptionOfType(AppException.class)
                 .isThrownBy(() -> sut.handle(invalidCommand));
-        verify(unitOfWorkMock, times(1)).rollback();
+        verify(unitOfWorkMock, never()).begin();
+        verify(unitOfWorkMock, never()).rollback();
     }
 
     @Test
-    void whenInfraExceptionIsThrown_shouldRollbackTransaction_andTranslateToAppException() {
+    void whenInfraExceptionIsThrownBeforeTheUnitOfWork_shouldTranslateToAppException_withoutBeginningTransaction() {
         // Given
         doThrow(InfraException.class)
                 .when(staffAccountWriteRepoMock)
@@ -233,6 +247,34 @@ public class CompleteTemporaryStaffAccountPasswordChangeCommandHandlerTests {
         // When & Then
         assertThatExceptionOfType(AppException.class)
                 .isThrownBy(() -> sut.handle(command));
+        verify(unitOfWorkMock, never()).begin();
+        verify(unitOfWorkMock, never()).rollback();
+    }
+
+    @Test
+    void whenInfraExceptionIsThrown_shouldRollbackTransaction_andTranslateToAppException() {
+        // Given
+        doThrow(InfraException.class)
+                .when(staffAccountWriteRepoMock)
+                .update(any(StaffAccount.class));
+        when(appExceptionHandlerMock.handleInfraException(any(InfraException.class)))
+                .thenReturn(mock(AppException.class));
+
+        // When & Then
+        assertThatExceptionOfType(AppException.class)
+                .isThrownBy(() -> sut.handle(command));
+        verify(unitOfWorkMock, times(1)).rollback();
+    }
+
+    @Test
+    void whenAppExceptionIsThrown_shouldRollbackTransaction_andRethrowIt() {
+        // Given
+        AppException expectedException = new AppException(AppExceptionInfo.passwordHashingUnavailable());
+        doThrow(expectedException).when(eventBusMock).publishAll(anyList());
+
+        // When & Then
+        assertThatThrownBy(() -> sut.handle(command)).isSameAs(expectedException);
         verify(unitOfWorkMock, times(1)).rollback();
+        verify(unitOfWorkMock, never()).commit();
     }
 }
@@ -162,6 +162,49 @@ public class LoginStaffAccountCommandHandlerTests {
         verify(eventBusMock, times(1)).publishAll(anyList());
     }
 
+    @Test
+    void shouldStoreTheRehashedPassword_whenTheStoredHashIsOutdated() {
+        // Given
+        Password rehashedPassword = Password.of("$2a$12$rehashedPasswordValue");
+        when(passwordHasherMock.rehashIfOutdated(command.password(), staffAccountToLogin.getPassword()))
+                .thenReturn(Optional.of(rehashedPassword));
+        ArgumentCaptor<StaffAccount> staffAccountArgumentCaptor = ArgumentCaptor.forClass(StaffAccount.class);
+
+        // When
+        sut.handle(command);
+
+        // Then
+        verify(staffAccountWriteRepoMock, times(1)).update(staffAccountArgumentCaptor.capture());
+        assertThat(staffAccountArgumentCaptor.getValue().getPassword()).isEqualTo(rehashedPassword);
+    }
+
+    @Test
+    void shouldLogInWithTheStoredHash_whenRehashingIsUnavailable() {
+        // Given
+        Password storedPassword = staffAccountToLogin.getPassword();
+        when(passwordHasherMock.rehashIfOutdated(anyString(), any(Password.class)))
+                .thenThrow(new AppException(AppExceptionInfo.passwordHashingUnavailable()));
+
+        // When
+        sut.handle(command);
+
+        // Then
+        verify(uowMock, times(1)).commit();
+        assertThat(staffAccountToLogin.getPassword()).isEqualTo(storedPassword);
+    }
+
+    @Test
+    void whenPasswordIsInvalid_shouldNotRehashIt() {
+        // Given
+        when(passwordHasherMock.verify(anyString(), any(Password.class)))
+                .thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.handle(command))
+                .isInstanceOf(AppException.class);
+        verify(passwordHasherMock, never()).rehashIfOutdated(anyString(), any(Password.class));
+    }
+
     @Test
     void givenUsernameThatDoesNotExist_shouldThrowAppException() {
         // Given
@@ -222,7 +265,7 @@ public class LoginStaffAccountCommandHandlerTests {
     }
 
     @Test
-    void whenDomainExceptionIsThrown_shouldRollbackAndTranslateToAppException() {
+    void whenDomainExceptionIsThrownBeforeTheUnitOfWork_shouldTranslateToAppExceptionWithoutOpeningIt() {
         // Given
         LoginStaffAccountCommand command = new LoginStaffAccountCommand(
                 "", // forces a domain exception when constructing Username VO
@@ -236,7 +279,34 @@ public class LoginStaffAccountCommandHandlerTests {
         // When & ThenThen
         assertThatThrownBy(() -> sut.handle(command))
                 .isInstanceOf(AppException.class);
-        verify(uowMock, times(1)).rollback();
+        verify(uowMock, never()).begin();
+        verify(uowMock, never()).rollback();
+    }
+
+    @Test
+    void shouldVerifyThePasswordBeforeBeginningTheUnitOfWork() {
+        // When
+        sut.handle(command);
+
+        // Then
+        var inOrder = inOrder(passwordHasherMock, uowMock);
+        inOrder.verify(passwordHasherMock).verify(anyString(), any(Password.class));
+        inOrder.verify(uowMock).begin();
+    }
+
+    @Test
+    void whenPasswordHashingIsUnavailable_shouldThrowWithoutOpeningTheUnitOfWork() {
+        // Given
+        when(passwordHasherMock.verify(anyString(), any(Password.class)))
+                .thenThrow(new AppException(AppExceptionInfo.passwordHashingUnavailable()));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.handle(command))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(AppExceptionInfo.passwordHashingUnavailable().getAppErrorCode());
+        verify(uowMock, never()).begin();
+        verify(staffAccountWriteRepoMock, never()).update(any(StaffAccount.class));
     }
 
     @Test
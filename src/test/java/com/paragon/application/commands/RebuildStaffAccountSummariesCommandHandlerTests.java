@@ -0,0 +1,79 @@
+package com.paragon.application.commands;
+
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommand;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandHandler;
+import com.paragon.application.commands.rebuildstaffaccountsummaries.RebuildStaffAccountSummariesCommandResponse;
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.common.interfaces.StaffAccountSummaryProjection;
+import com.paragon.application.common.interfaces.UnitOfWork;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+public class RebuildStaffAccountSummariesCommandHandlerTests {
+    private final RebuildStaffAccountSummariesCommandHandler sut;
+    private final StaffAccountSummaryProjection staffAccountSummaryProjectionMock;
+    private final UnitOfWork unitOfWorkMock;
+    private final AppExceptionHandler appExceptionHandlerMock;
+    private final RebuildStaffAccountSummariesCommand command;
+
+    RebuildStaffAccountSummariesCommandHandlerTests() {
+        staffAccountSummaryProjectionMock = mock(StaffAccountSummaryProjection.class);
+        unitOfWorkMock = mock(UnitOfWork.class);
+        appExceptionHandlerMock = mock(AppExceptionHandler.class);
+        sut = new RebuildStaffAccountSummariesCommandHandler(
+                staffAccountSummaryProjectionMock,
+                unitOfWorkMock,
+                appExceptionHandlerMock
+        );
+        command = new RebuildStaffAccountSummariesCommand(UUID.randomUUID().toString());
+    }
+
+    @Test
+    void shouldRebuildEverySummaryInOneUnitOfWork() {
+        // Given
+        when(staffAccountSummaryProjectionMock.rebuildAll()).thenReturn(5);
+
+        // When
+        sut.handle(command);
+
+        // Then
+        InOrder inOrder = inOrder(unitOfWorkMock, staffAccountSummaryProjectionMock);
+        inOrder.verify(unitOfWorkMock).begin();
+        inOrder.verify(staffAccountSummaryProjectionMock).rebuildAll();
+        inOrder.verify(unitOfWorkMock).commit();
+    }
+
+    @Test
+    void shouldReturnTheNumberOfRebuiltSummaries() {
+        // Given
+        when(staffAccountSummaryProjectionMock.rebuildAll()).thenReturn(5);
+
+        // When
+        RebuildStaffAccountSummariesCommandResponse response = sut.handle(command);
+
+        // Then
+        assertThat(response.rebuiltCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRollbackAndTranslate_whenRebuildFails() {
+        // Given
+        InfraException infraException = mock(InfraException.class);
+        AppException appException = mock(AppException.class);
+        when(staffAccountSummaryProjectionMock.rebuildAll()).thenThrow(infraException);
+        when(appExceptionHandlerMock.handleInfraException(infraException)).thenReturn(appException);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.handle(command)).isSameAs(appException);
+        verify(unitOfWorkMock).rollback();
+        verify(unitOfWorkMock, never()).commit();
+    }
+}
@@ -67,6 +67,17 @@ public class RegisterStaffAccountCommandHandlerTests {
         verify(uowMock, times(1)).begin();
     }
 
+    @Test
+    void shouldHashTemporaryPassword_beforeBeginningTransaction() {
+        // When
+        sut.handle(command);
+
+        // Then
+        var inOrder = inOrder(passwordHasherMock, uowMock);
+        inOrder.verify(passwordHasherMock).hash(any(PlaintextPassword.class));
+        inOrder.verify(uowMock).begin();
+    }
+
     @Test
     void shouldCommitTransaction() {
         // When
@@ -148,6 +159,8 @@ public class RegisterStaffAccountCommandHandlerTests {
         // When & Then
         assertThatThrownBy(() -> sut.handle(command))
                 .isEqualTo(expectedAppException);
+        verify(uowMock, times(1)).rollback();
+        verify(uowMock, never()).commit();
     }
 
     @Test
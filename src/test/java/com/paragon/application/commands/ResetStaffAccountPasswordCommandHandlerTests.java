@@ -84,6 +84,17 @@ public class ResetStaffAccountPasswordCommandHandlerTests {
         verify(uowMock, times(1)).begin();
     }
 
+    @Test
+    void shouldHashTemporaryPassword_beforeBeginningTransaction() {
+        // When
+        sut.handle(command);
+
+        // Then
+        var inOrder = inOrder(passwordHasherMock, uowMock);
+        inOrder.verify(passwordHasherMock).hash(any(PlaintextPassword.class));
+        inOrder.verify(uowMock).begin();
+    }
+
     @Test
     void shouldResetPasswordAndCommitTransaction() {
         // Given
@@ -154,6 +165,8 @@ public class ResetStaffAccountPasswordCommandHandlerTests {
                 .isInstanceOf(AppException.class)
                 .extracting("message", "errorCode")
                 .containsExactly(expectedErrorMessage, expectedErrorCode);
+        verify(uowMock, times(1)).rollback();
+        verify(uowMock, never()).commit();
     }
 
     @Test
@@ -6,6 +6,7 @@ import com.paragon.application.commands.submitstaffaccountpasswordchangerequest.
 import com.paragon.application.common.exceptions.AppException;
 import com.paragon.application.common.exceptions.AppExceptionInfo;
 import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.common.interfaces.UnitOfWork;
 import com.paragon.application.events.EventBus;
 import com.paragon.domain.enums.StaffAccountRequestStatus;
 import com.paragon.domain.enums.StaffAccountRequestType;
@@ -31,6 +32,7 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
     private final SubmitPasswordChangeRequestCommandHandler sut;
     private final StaffAccountWriteRepo staffAccountWriteRepoMock;
     private final StaffAccountRequestWriteRepo staffAccountRequestWriteRepoMock;
+    private final UnitOfWork unitOfWorkMock;
     private final EventBus eventBusMock;
     private final AppExceptionHandler appExceptionHandlerMock;
     private final SubmitPasswordChangeRequestCommand command;
@@ -39,12 +41,14 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
     public SubmitPasswordChangeRequestCommandHandlerTests() {
         staffAccountWriteRepoMock = mock(StaffAccountWriteRepo.class);
         staffAccountRequestWriteRepoMock = mock(StaffAccountRequestWriteRepo.class);
+        unitOfWorkMock = mock(UnitOfWork.class);
         eventBusMock = mock(EventBus.class);
         appExceptionHandlerMock = mock(AppExceptionHandler.class);
 
         sut = new SubmitPasswordChangeRequestCommandHandler(
                 staffAccountWriteRepoMock,
                 staffAccountRequestWriteRepoMock,
+                unitOfWorkMock,
                 eventBusMock,
                 appExceptionHandlerMock
         );
@@ -67,6 +71,28 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
                 .thenReturn(false);
     }
 
+    @Test
+    void shouldBeginTransaction() {
+        // When
+        sut.handle(command);
+
+        // Then
+        verify(unitOfWorkMock, times(1)).begin();
+    }
+
+    @Test
+    void shouldCreateRequestAndPublishEvents_beforeCommittingTransaction() {
+        // When
+        sut.handle(command);
+
+        // Then
+        var inOrder = inOrder(unitOfWorkMock, staffAccountRequestWriteRepoMock, eventBusMock);
+        inOrder.verify(unitOfWorkMock).begin();
+        inOrder.verify(staffAccountRequestWriteRepoMock).create(any(StaffAccountRequest.class));
+        inOrder.verify(eventBusMock).publishAll(anyList());
+        inOrder.verify(unitOfWorkMock).commit();
+    }
+
     @Test
     void shouldSubmitPasswordChangeRequest() {
         // Given
@@ -167,6 +193,8 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
         // When & Then
         assertThatExceptionOfType(AppException.class)
                 .isThrownBy(() -> sut.handle(command));
+        verify(unitOfWorkMock, times(1)).rollback();
+        verify(unitOfWorkMock, never()).commit();
     }
 
     @Test
@@ -180,6 +208,7 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
         // When & Then
         assertThatExceptionOfType(AppException.class)
                 .isThrownBy(() -> sut.handle(invalidCommand));
+        verify(unitOfWorkMock, times(1)).rollback();
     }
 
     @Test
@@ -195,5 +224,7 @@ public class SubmitPasswordChangeRequestCommandHandlerTests {
         // When & Then
         assertThatExceptionOfType(AppException.class)
                 .isThrownBy(() -> sut.handle(command));
+        verify(unitOfWorkMock, times(1)).rollback();
+        verify(eventBusMock, never()).publishAll(anyList());
     }
 }
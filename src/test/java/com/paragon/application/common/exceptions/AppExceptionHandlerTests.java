@@ -356,6 +356,10 @@ public class AppExceptionHandlerTests {
                             new PermissionCodeException(PermissionCodeExceptionInfo.consecutiveUnderscores()),
                             AppExceptionStatusCode.CLIENT_ERROR
                     ),
+                    arguments(
+                            new PermissionCodeException(PermissionCodeExceptionInfo.unknownPermission()),
+                            AppExceptionStatusCode.CLIENT_ERROR
+                    ),
 
                     // AuditEntryIdException - internal error (SERVER_ERROR)
                     arguments(
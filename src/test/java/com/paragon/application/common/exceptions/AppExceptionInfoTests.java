@@ -125,4 +125,37 @@ public class AppExceptionInfoTests {
         assertThat(info.getAppErrorCode()).isEqualTo(110);
         assertThat(info.getStatusCode()).isEqualTo(AppExceptionStatusCode.RESOURCE_UNIQUENESS_VIOLATION);
     }
+
+    @Test
+    void invalidPageCursor_shouldHaveExpectedCodeAndMessage() {
+        // When
+        AppExceptionInfo info = AppExceptionInfo.invalidPageCursor("abc");
+
+        // Then
+        assertThat(info.getMessage()).isEqualTo("The provided page cursor 'abc' is invalid.");
+        assertThat(info.getAppErrorCode()).isEqualTo(111);
+        assertThat(info.getStatusCode()).isEqualTo(AppExceptionStatusCode.CLIENT_ERROR);
+    }
+
+    @Test
+    void invalidPageSize_shouldHaveExpectedCodeAndMessage() {
+        // When
+        AppExceptionInfo info = AppExceptionInfo.invalidPageSize(500, 100);
+
+        // Then
+        assertThat(info.getMessage()).isEqualTo("limit must be between 1 and 100, but was 500.");
+        assertThat(info.getAppErrorCode()).isEqualTo(112);
+        assertThat(info.getStatusCode()).isEqualTo(AppExceptionStatusCode.CLIENT_ERROR);
+    }
+
+    @Test
+    void passwordHashingUnavailable_shouldHaveExpectedCodeAndMessage() {
+        // When
+        AppExceptionInfo info = AppExceptionInfo.passwordHashingUnavailable();
+
+        // Then
+        assertThat(info.getMessage()).isEqualTo("Too many password operations are in progress. Please try again shortly.");
+        assertThat(info.getAppErrorCode()).isEqualTo(114);
+        assertThat(info.getStatusCode()).isEqualTo(AppExceptionStatusCode.SERVICE_UNAVAILABLE);
+    }
 }
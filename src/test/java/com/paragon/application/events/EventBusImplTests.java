@@ -0,0 +1,322 @@
+package com.paragon.application.events;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.events.staffaccountevents.StaffAccountEventBase;
+import com.paragon.domain.events.staffaccountevents.StaffAccountLockedEvent;
+import com.paragon.domain.events.staffaccountevents.StaffAccountLoggedInEvent;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class EventBusImplTests {
+    @Nested
+    class PublishAll {
+        private final EventOutbox eventOutboxMock;
+        private final EventBusImpl sut;
+
+        public PublishAll() {
+            eventOutboxMock = mock(EventOutbox.class);
+            sut = new EventBusImpl(eventOutboxMock, Duration.ofSeconds(5));
+        }
+
+        @Test
+        void shouldRecordEventsInOutbox() {
+            // Given
+            List<DomainEvent> events = List.of(new StaffAccountLockedEvent(StaffAccountFixture.validStaffAccount()));
+
+            // When
+            sut.publishAll(events);
+
+            // Then
+            verify(eventOutboxMock, times(1)).append(events);
+        }
+
+        @Test
+        void shouldNotTouchOutbox_whenThereAreNoEvents() {
+            // When
+            sut.publishAll(List.of());
+
+            // Then
+            verifyNoInteractions(eventOutboxMock);
+        }
+    }
+
+    @Nested
+    class Dispatch {
+        private final EventBusImpl sut = new EventBusImpl(mock(EventOutbox.class), Duration.ofSeconds(5));
+
+        private EventHandler<DomainEvent> recordingHandler(String eventName, List<DomainEvent> handled) {
+            return new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    handled.add(event);
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of(eventName);
+                }
+            };
+        }
+
+        @Test
+        void shouldRunHandlersSubscribedToTheEvent() {
+            // Given
+            List<DomainEvent> handled = new ArrayList<>();
+            sut.registerHandler(recordingHandler("dispatch_test_subscribed", handled));
+            DomainEvent event = mock(DomainEvent.class);
+            when(event.getEventName()).thenReturn("dispatch_test_subscribed");
+
+            // When
+            sut.dispatch(event);
+
+            // Then
+            assertThat(handled).containsExactly(event);
+        }
+
+        @Test
+        void shouldRunHandlersInRegistrationOrder() {
+            // Given
+            List<String> order = new ArrayList<>();
+            sut.registerHandler(new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    order.add("first");
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of("dispatch_test_ordered");
+                }
+            });
+            sut.registerHandler(new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    order.add("second");
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of("dispatch_test_ordered");
+                }
+            });
+            DomainEvent event = mock(DomainEvent.class);
+            when(event.getEventName()).thenReturn("dispatch_test_ordered");
+
+            // When
+            sut.dispatch(event);
+
+            // Then
+            assertThat(order).containsExactly("first", "second");
+        }
+
+        @Test
+        void shouldKeepEveryHandler_whenRegisteredConcurrently() throws InterruptedException {
+            // Given
+            List<DomainEvent> handled = Collections.synchronizedList(new ArrayList<>());
+            int registrations = 32;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            for (int i = 0; i < registrations; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    sut.registerHandler(recordingHandler("dispatch_test_concurrent", handled));
+                    return null;
+                });
+            }
+
+            // When
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            DomainEvent event = mock(DomainEvent.class);
+            when(event.getEventName()).thenReturn("dispatch_test_concurrent");
+            sut.dispatch(event);
+
+            // Then
+            assertThat(handled).hasSize(registrations);
+        }
+
+        @Test
+        void shouldIgnoreEventsWithoutHandlers() {
+            // Given
+            DomainEvent event = mock(DomainEvent.class);
+            when(event.getEventName()).thenReturn("dispatch_test_unsubscribed");
+
+            // When & Then
+            assertThatNoException().isThrownBy(() -> sut.dispatch(event));
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldPropagateHandlerFailures() {
+            // Given
+            EventHandler<StaffAccountEventBase> failingHandler = mock(EventHandler.class);
+            when(failingHandler.subscribedToEvents()).thenReturn(List.of(EventNames.STAFF_ACCOUNT_LOGGED_IN));
+            doThrow(InfraException.class).when(failingHandler).handle(any());
+            sut.registerHandler(failingHandler);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.dispatch(new StaffAccountLoggedInEvent(StaffAccountFixture.validStaffAccount())))
+                    .isInstanceOf(InfraException.class);
+        }
+    }
+
+    @Nested
+    class ConcurrentDispatch {
+        private final EventBusImpl sut = new EventBusImpl(mock(EventOutbox.class), Duration.ofMillis(500));
+        private final StaffAccountLoggedInEvent event = new StaffAccountLoggedInEvent(StaffAccountFixture.validStaffAccount());
+
+        private EventHandler<DomainEvent> concurrentHandler(Consumer<DomainEvent> action) {
+            return new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    action.accept(event);
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of(EventNames.STAFF_ACCOUNT_LOGGED_IN);
+                }
+
+                @Override
+                public boolean runsConcurrently() {
+                    return true;
+                }
+            };
+        }
+
+        @Test
+        void shouldRunConcurrentHandlersInParallel_withTheSequentialOnes() {
+            // Given
+            CyclicBarrier barrier = new CyclicBarrier(3);
+            Runnable awaitOthers = () -> {
+                try {
+                    barrier.await(2, TimeUnit.SECONDS);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+            sut.registerHandler(concurrentHandler(e -> awaitOthers.run()));
+            sut.registerHandler(concurrentHandler(e -> awaitOthers.run()));
+            sut.registerHandler(new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    awaitOthers.run();
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of(EventNames.STAFF_ACCOUNT_LOGGED_IN);
+                }
+            });
+
+            // When & Then
+            assertThatNoException().isThrownBy(() -> sut.dispatch(event));
+        }
+
+        @Test
+        void shouldRunSequentialHandlersOnTheDispatchingThread() {
+            // Given
+            List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+            sut.registerHandler(concurrentHandler(e -> threads.add(Thread.currentThread())));
+            sut.registerHandler(new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    threads.add(Thread.currentThread());
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of(EventNames.STAFF_ACCOUNT_LOGGED_IN);
+                }
+            });
+
+            // When
+            sut.dispatch(event);
+
+            // Then
+            assertThat(threads).hasSize(2);
+            assertThat(threads).containsOnlyOnce(Thread.currentThread());
+        }
+
+        @Test
+        void shouldThrowFirstFailure_withTheOthersSuppressed() {
+            // Given
+            IllegalStateException first = new IllegalStateException("first");
+            IllegalStateException second = new IllegalStateException("second");
+            sut.registerHandler(concurrentHandler(e -> { throw first; }));
+            sut.registerHandler(concurrentHandler(e -> { throw second; }));
+
+            // When & Then
+            assertThatThrownBy(() -> sut.dispatch(event))
+                    .isSameAs(first)
+                    .satisfies(ex -> assertThat(ex.getSuppressed()).containsExactly(second));
+        }
+
+        @Test
+        void shouldWaitForConcurrentHandlers_whenASequentialHandlerFails() {
+            // Given
+            CountDownLatch finished = new CountDownLatch(1);
+            sut.registerHandler(concurrentHandler(e -> finished.countDown()));
+            sut.registerHandler(new EventHandler<>() {
+                @Override
+                public void handle(DomainEvent event) {
+                    throw new InfraException();
+                }
+
+                @Override
+                public List<String> subscribedToEvents() {
+                    return List.of(EventNames.STAFF_ACCOUNT_LOGGED_IN);
+                }
+            });
+
+            // When & Then
+            assertThatThrownBy(() -> sut.dispatch(event)).isInstanceOf(InfraException.class);
+            assertThat(finished.getCount()).isZero();
+        }
+
+        @Test
+        void shouldThrowAppException_whenAConcurrentHandlerMissesTheDeadline() {
+            // Given
+            CountDownLatch interrupted = new CountDownLatch(1);
+            sut.registerHandler(concurrentHandler(e -> {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                }
+            }));
+
+            // When & Then
+            assertThatThrownBy(() -> sut.dispatch(event)).isInstanceOf(AppException.class);
+            assertThat(awaitQuietly(interrupted)).isTrue();
+        }
+
+        private boolean awaitQuietly(CountDownLatch latch) {
+            try {
+                return latch.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
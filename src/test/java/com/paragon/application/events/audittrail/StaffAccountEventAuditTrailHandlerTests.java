@@ -16,6 +16,7 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -58,7 +59,7 @@ public class StaffAccountEventAuditTrailHandlerTests {
     }
 
     @Test
-    void shouldCatchInfraException() {
+    void shouldRethrowInfraException_soTheEventIsRetried() {
         // Given
         StaffAccount staffAccount = new StaffAccountFixture()
                 .withId(UUID.randomUUID().toString())
@@ -70,8 +71,8 @@ public class StaffAccountEventAuditTrailHandlerTests {
                 .create(any(AuditTrailEntry.class));
 
         // When & Then
-        assertThatNoException()
-                .isThrownBy(() -> sut.handle(event));
+        assertThatThrownBy(() -> sut.handle(event))
+                .isInstanceOf(InfraException.class);
     }
 
     private static Stream<Arguments> provideEvents() {
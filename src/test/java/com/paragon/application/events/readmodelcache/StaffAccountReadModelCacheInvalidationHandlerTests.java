@@ -0,0 +1,60 @@
+package com.paragon.application.events.readmodelcache;
+
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.events.staffaccountevents.*;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class StaffAccountReadModelCacheInvalidationHandlerTests {
+    private final StaffAccountReadModelCacheInvalidationHandler sut;
+    private final StaffAccountReadModelCache staffAccountReadModelCacheMock;
+
+    StaffAccountReadModelCacheInvalidationHandlerTests() {
+        staffAccountReadModelCacheMock = mock(StaffAccountReadModelCache.class);
+        sut = new StaffAccountReadModelCacheInvalidationHandler(staffAccountReadModelCacheMock);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideEvents")
+    void shouldAnnounceTheEventsStaffAccountVersion(StaffAccountEventBase event) {
+        // When
+        sut.handle(event);
+
+        // Then
+        verify(staffAccountReadModelCacheMock, times(1)).invalidate(event.getStaffAccountId(), event.getStaffAccountVersion());
+        verifyNoMoreInteractions(staffAccountReadModelCacheMock);
+    }
+
+    @Test
+    void shouldSubscribeToEveryStaffAccountEvent() {
+        // When & Then
+        assertThat(sut.subscribedToEvents()).containsExactlyInAnyOrder(
+                EventNames.STAFF_ACCOUNT_REGISTERED,
+                EventNames.STAFF_ACCOUNT_LOGGED_IN,
+                EventNames.STAFF_ACCOUNT_LOCKED,
+                EventNames.STAFF_ACCOUNT_DISABLED,
+                EventNames.STAFF_ACCOUNT_ENABLED,
+                EventNames.STAFF_ACCOUNT_PASSWORD_RESET,
+                EventNames.STAFF_ACCOUNT_PASSWORD_CHANGED
+        );
+    }
+
+    private static Stream<Arguments> provideEvents() {
+        return Stream.of(
+                Arguments.of(new StaffAccountRegisteredEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountLockedEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountDisabledEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountEnabledEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountPasswordChangedEvent(StaffAccountFixture.validStaffAccount()))
+        );
+    }
+}
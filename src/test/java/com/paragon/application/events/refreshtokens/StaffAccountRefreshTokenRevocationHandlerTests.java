@@ -6,6 +6,8 @@ import com.paragon.domain.events.staffaccountevents.StaffAccountEventBase;
 import com.paragon.domain.events.staffaccountevents.StaffAccountLockedEvent;
 import com.paragon.domain.events.staffaccountevents.StaffAccountPasswordResetEvent;
 import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -13,6 +15,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 public class StaffAccountRefreshTokenRevocationHandlerTests {
@@ -35,6 +39,25 @@ public class StaffAccountRefreshTokenRevocationHandlerTests {
                 .revokeAllTokensForStaffAccount(event.getStaffAccountId());
     }
 
+    @Test
+    void shouldRethrowInfraException_soTheEventIsRetried() {
+        // Given
+        StaffAccountLockedEvent event = new StaffAccountLockedEvent(StaffAccountFixture.validStaffAccount());
+        doThrow(InfraException.class)
+                .when(staffAccountRefreshTokenRevocationServiceMock)
+                .revokeAllTokensForStaffAccount(any());
+
+        // When & Then
+        assertThatThrownBy(() -> sut.handle(event))
+                .isInstanceOf(InfraException.class);
+    }
+
+    @Test
+    void shouldRunConcurrently() {
+        // When & Then
+        assertThat(sut.runsConcurrently()).isTrue();
+    }
+
     private static Stream<Arguments> provideEvents() {
         return Stream.of(
                 Arguments.of(new StaffAccountLockedEvent(StaffAccountFixture.validStaffAccount())),
@@ -7,6 +7,7 @@ import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQu
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQueryHandler;
 import com.paragon.application.queries.getallstaffaccounts.GetAllStaffAccountsQueryResponse;
 import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummary;
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
 import com.paragon.domain.enums.StaffAccountStatus;
 import com.paragon.domain.models.valueobjects.DateTimeUtc;
 import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Instant;
 import java.util.List;
@@ -43,23 +45,25 @@ public class GetAllStaffAccountsQueryHandlerTests {
     @Test
     void givenQueryWithNoFilters_shouldReturnAllStaffAccountSummaries() {
         // Given
-        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null);
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, null, null);
 
         List<StaffAccountSummaryReadModel> readModels = List.of(
                 new StaffAccountSummaryReadModel(
                         UUID.randomUUID(),
                         "john_doe",
                         "active",
-                        Instant.now()
+                        Instant.now(),
+                        1
                 ),
                 new StaffAccountSummaryReadModel(
                         UUID.randomUUID(),
                         "jane_smith",
                         "pending_password_change",
-                        Instant.now()
+                        Instant.now(),
+                        1
                 )
         );
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any())).thenReturn(readModels);
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(readModels);
 
         // When
         GetAllStaffAccountsQueryResponse response = sut.handle(query);
@@ -78,7 +82,7 @@ public class GetAllStaffAccountsQueryHandlerTests {
     @Test
     void givenValidQuery_shouldCorrectlyMapReadModelsToSummaries() {
         // Given
-        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null);
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null, null, null);
 
         UUID expectedId = UUID.randomUUID();
         Instant expectedTimestamp = Instant.now();
@@ -86,9 +90,10 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 expectedId,
                 "test_user",
                 "active",
-                expectedTimestamp
+                expectedTimestamp,
+                1
         );
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any())).thenReturn(List.of(readModel));
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of(readModel));
 
         // When
         GetAllStaffAccountsQueryResponse response = sut.handle(query);
@@ -106,23 +111,23 @@ public class GetAllStaffAccountsQueryHandlerTests {
     @Test
     void givenValidQuery_shouldCallRepoOnceToFindAllSummaries() {
         // Given
-        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null);
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null, null, null);
 
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
 
         // When
         sut.handle(query);
 
         // Then
-        verify(staffAccountReadRepoMock, times(1)).findAllSummaries(any(), any(), any(), any(), any());
+        verify(staffAccountReadRepoMock, times(1)).findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt());
     }
 
     @Test
     void givenValidQuery_shouldReturnEmptyListWhenNoStaffAccountsExist() {
         // Given
-        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null);
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null, null, null);
 
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any())).thenReturn(List.of());
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
 
         // When
         GetAllStaffAccountsQueryResponse response = sut.handle(query);
@@ -152,10 +157,12 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 enabledBy,
                 disabledBy,
                 createdBefore,
-                createdAfter
+                createdAfter,
+                null,
+                null
         );
 
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any()))
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt()))
                 .thenReturn(List.of());
 
         ArgumentCaptor<StaffAccountStatus> statusCaptor = ArgumentCaptor.forClass(StaffAccountStatus.class);
@@ -173,7 +180,9 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 enabledByCaptor.capture(),
                 disabledByCaptor.capture(),
                 createdBeforeCaptor.capture(),
-                createdAfterCaptor.capture()
+                createdAfterCaptor.capture(),
+                isNull(),
+                eq(51) // default page size + 1 look-ahead row
         );
 
         assertThat(statusCaptor.getValue()).isEqualTo(expectedStatus);
@@ -191,6 +200,8 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 UUID.randomUUID().toString(),
                 UUID.randomUUID().toString(),
                 null,
+                null,
+                null,
                 null
         );
 
@@ -199,7 +210,7 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 .isThrownBy(() -> sut.handle(invalidQuery))
                 .extracting("message", "errorCode")
                 .containsExactly(AppExceptionInfo.mutuallyExclusiveStaffAccountFilters().getMessage(), AppExceptionInfo.mutuallyExclusiveStaffAccountFilters().getAppErrorCode());
-        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any());
+        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt());
     }
 
     @Test
@@ -210,7 +221,9 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 null,
                 null,
                 "2024-01-01T00:00:00Z",
-                "2024-02-01T00:00:00Z"
+                "2024-02-01T00:00:00Z",
+                null,
+                null
         );
 
         String expectedErrorMessage = AppExceptionInfo.invalidStaffAccountCreatedDateRange(
@@ -227,15 +240,15 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 .isThrownBy(() -> sut.handle(invalidQuery))
                 .extracting("message", "errorCode")
                 .containsExactly(expectedErrorMessage, expectedErrorCode);
-        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any());
+        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt());
     }
 
     @Test
     void whenInfraExceptionIsThrown_shouldCatchAndTranslateToAppException() {
         // Given
-        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null);
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery("ACTIVE", null, null, null, null, null, null);
 
-        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any()))
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt()))
                 .thenThrow(mock(InfraException.class));
 
         when(appExceptionHandlerMock.handleInfraException(any(InfraException.class)))
@@ -246,6 +259,88 @@ public class GetAllStaffAccountsQueryHandlerTests {
                 .isInstanceOf(AppException.class);
     }
 
+    @Test
+    void shouldReturnNextCursor_whenMoreRowsThanPageSizeExist() {
+        // Given
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, 2, null);
+        Instant now = Instant.now();
+        List<StaffAccountSummaryReadModel> readModels = List.of(
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "user_a", "active", now, 1),
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "user_b", "active", now.minusSeconds(60), 1),
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "user_c", "active", now.minusSeconds(120), 1)
+        );
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), eq(3))).thenReturn(readModels);
+
+        // When
+        GetAllStaffAccountsQueryResponse response = sut.handle(query);
+
+        // Then
+        assertThat(response.staffAccountSummaries()).extracting(StaffAccountSummary::username).containsExactly("user_a", "user_b");
+        assertThat(response.nextCursor()).isNotNull();
+        assertThat(StaffAccountSummaryCursor.decode(response.nextCursor()))
+                .isEqualTo(new StaffAccountSummaryCursor(readModels.get(1).createdAtUtc(), readModels.get(1).id()));
+    }
+
+    @Test
+    void shouldNotReturnNextCursor_whenLastPageIsReached() {
+        // Given
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, 2, null);
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of(
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "user_a", "active", Instant.now(), 1)
+        ));
+
+        // When
+        GetAllStaffAccountsQueryResponse response = sut.handle(query);
+
+        // Then
+        assertThat(response.staffAccountSummaries()).hasSize(1);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldPassDecodedCursorToRepository() {
+        // Given
+        StaffAccountSummaryCursor cursor = new StaffAccountSummaryCursor(Instant.parse("2024-06-01T10:15:30.123456Z"), UUID.randomUUID());
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, null, cursor.encode());
+        when(staffAccountReadRepoMock.findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        sut.handle(query);
+
+        // Then
+        verify(staffAccountReadRepoMock, times(1)).findAllSummaries(any(), any(), any(), any(), any(), eq(cursor), anyInt());
+    }
+
+    @Test
+    void shouldThrowAppException_whenCursorIsInvalid() {
+        // Given
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, null, "not-a-cursor");
+
+        // When & Then
+        assertThatExceptionOfType(AppException.class)
+                .isThrownBy(() -> sut.handle(query))
+                .extracting("errorCode")
+                .isEqualTo(AppExceptionInfo.invalidPageCursor("not-a-cursor").getAppErrorCode());
+        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101})
+    void shouldThrowAppException_whenLimitIsOutOfRange(int limit) {
+        // Given
+        GetAllStaffAccountsQuery query = new GetAllStaffAccountsQuery(null, null, null, null, null, limit, null);
+
+        // When & Then
+        assertThatExceptionOfType(AppException.class)
+                .isThrownBy(() -> sut.handle(query))
+                .extracting("message", "errorCode")
+                .containsExactly(
+                        AppExceptionInfo.invalidPageSize(limit, 100).getMessage(),
+                        AppExceptionInfo.invalidPageSize(limit, 100).getAppErrorCode()
+                );
+        verify(staffAccountReadRepoMock, never()).findAllSummaries(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
     private static Stream<Arguments> provideValidFilterCombinations() {
         Username enabledByUsername = Username.of("admin_user");
         Username disabledByUsername = Username.of("admin_user");
@@ -0,0 +1,60 @@
+package com.paragon.application.queries;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class StaffAccountSummaryCursorTests {
+    @Nested
+    class Encode {
+        @Test
+        void shouldProduceUrlSafeTokenThatDecodesToTheSameCursor() {
+            // Given
+            StaffAccountSummaryCursor cursor = new StaffAccountSummaryCursor(Instant.parse("2024-06-01T10:15:30.123456Z"), UUID.randomUUID());
+
+            // When
+            String token = cursor.encode();
+
+            // Then
+            assertThat(token).doesNotContain("+", "/", "=");
+            assertThat(StaffAccountSummaryCursor.decode(token)).isEqualTo(cursor);
+        }
+    }
+
+    @Nested
+    class Decode {
+        @ParameterizedTest
+        @ValueSource(strings = {"***", "bm8tc2VwYXJhdG9y", "bm90LWEtZGF0ZXxub3QtYS11dWlk"})
+        void shouldThrowAppException_whenTokenIsMalformed(String token) {
+            // When & Then
+            assertThatExceptionOfType(AppException.class)
+                    .isThrownBy(() -> StaffAccountSummaryCursor.decode(token))
+                    .extracting("message", "errorCode")
+                    .containsExactly(
+                            AppExceptionInfo.invalidPageCursor(token).getMessage(),
+                            AppExceptionInfo.invalidPageCursor(token).getAppErrorCode()
+                    );
+        }
+
+        @Test
+        void shouldThrowAppException_whenIdIsNotAUuid() {
+            // Given
+            String token = Base64.getUrlEncoder().encodeToString("2024-06-01T10:15:30Z|123".getBytes(StandardCharsets.UTF_8));
+
+            // When & Then
+            assertThatExceptionOfType(AppException.class)
+                    .isThrownBy(() -> StaffAccountSummaryCursor.decode(token));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.paragon.application.queries;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import com.paragon.application.common.interfaces.AppExceptionHandler;
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummary;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQuery;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQueryHandler;
+import com.paragon.application.queries.getallstaffaccounts.StreamAllStaffAccountsQueryResponse;
+import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
+import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.valueobjects.DateTimeUtc;
+import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StreamAllStaffAccountsQueryHandlerTests {
+    private final StreamAllStaffAccountsQueryHandler sut;
+    private final StaffAccountReadRepo staffAccountReadRepoMock;
+    private final AppExceptionHandler appExceptionHandlerMock;
+
+    public StreamAllStaffAccountsQueryHandlerTests() {
+        staffAccountReadRepoMock = mock(StaffAccountReadRepo.class);
+        appExceptionHandlerMock = mock(AppExceptionHandler.class);
+
+        sut = new StreamAllStaffAccountsQueryHandler(staffAccountReadRepoMock, appExceptionHandlerMock);
+    }
+
+    @Test
+    void shouldNotQueryRepository_untilSummariesAreConsumed() {
+        // Given
+        StreamAllStaffAccountsQuery query = new StreamAllStaffAccountsQuery(null, null, null, null, null);
+
+        // When
+        sut.handle(query);
+
+        // Then
+        verify(staffAccountReadRepoMock, never()).streamAllSummaries(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandEachReadModelToConsumer_asSummary() {
+        // Given
+        StreamAllStaffAccountsQuery query = new StreamAllStaffAccountsQuery(null, null, null, null, null);
+        List<StaffAccountSummaryReadModel> readModels = List.of(
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "john_doe", "active", Instant.now(), 1),
+                new StaffAccountSummaryReadModel(UUID.randomUUID(), "jane_smith", "disabled", Instant.now(), 1)
+        );
+        doAnswer(invocation -> {
+            Consumer<StaffAccountSummaryReadModel> consumer = invocation.getArgument(5);
+            readModels.forEach(consumer);
+            return null;
+        }).when(staffAccountReadRepoMock).streamAllSummaries(any(), any(), any(), any(), any(), any(Consumer.class));
+
+        // When
+        StreamAllStaffAccountsQueryResponse response = sut.handle(query);
+        List<StaffAccountSummary> summaries = new ArrayList<>();
+        response.summaries().forEach(summaries::add);
+
+        // Then
+        assertThat(summaries).hasSize(2);
+        assertThat(summaries.get(0).id()).isEqualTo(readModels.get(0).id());
+        assertThat(summaries.get(0).username()).isEqualTo("john_doe");
+        assertThat(summaries.get(1).username()).isEqualTo("jane_smith");
+        assertThat(summaries.get(1).status()).isEqualTo("disabled");
+    }
+
+    @Test
+    void shouldPassParsedFiltersToRepository() {
+        // Given
+        StreamAllStaffAccountsQuery query = new StreamAllStaffAccountsQuery(
+                "active",
+                "admin_user",
+                null,
+                "2024-02-01T00:00:00Z",
+                "2024-01-01T00:00:00Z"
+        );
+
+        // When
+        sut.handle(query).summaries().forEach(summary -> {});
+
+        // Then
+        ArgumentCaptor<Username> enabledByCaptor = ArgumentCaptor.forClass(Username.class);
+        ArgumentCaptor<DateTimeUtc> createdBeforeCaptor = ArgumentCaptor.forClass(DateTimeUtc.class);
+        ArgumentCaptor<DateTimeUtc> createdAfterCaptor = ArgumentCaptor.forClass(DateTimeUtc.class);
+        verify(staffAccountReadRepoMock, times(1)).streamAllSummaries(
+                eq(StaffAccountStatus.ACTIVE),
+                enabledByCaptor.capture(),
+                isNull(),
+                createdBeforeCaptor.capture(),
+                createdAfterCaptor.capture(),
+                any()
+        );
+
+        assertThat(enabledByCaptor.getValue().getValue()).isEqualTo("admin_user");
+        assertThat(createdBeforeCaptor.getValue().getValue()).isEqualTo(Instant.parse("2024-02-01T00:00:00Z"));
+        assertThat(createdAfterCaptor.getValue().getValue()).isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldThrowAppException_whenEnabledAndDisabledFiltersAreProvided() {
+        // Given
+        StreamAllStaffAccountsQuery invalidQuery = new StreamAllStaffAccountsQuery(
+                null,
+                "admin_user",
+                "other_admin",
+                null,
+                null
+        );
+
+        // When & Then
+        assertThatExceptionOfType(AppException.class)
+                .isThrownBy(() -> sut.handle(invalidQuery))
+                .extracting("message", "errorCode")
+                .containsExactly(AppExceptionInfo.mutuallyExclusiveStaffAccountFilters().getMessage(), AppExceptionInfo.mutuallyExclusiveStaffAccountFilters().getAppErrorCode());
+    }
+
+    @Test
+    void shouldThrowAppException_whenCreatedBeforeIsPriorToCreatedAfter() {
+        // Given
+        StreamAllStaffAccountsQuery invalidQuery = new StreamAllStaffAccountsQuery(
+                null,
+                null,
+                null,
+                "2024-01-01T00:00:00Z",
+                "2024-02-01T00:00:00Z"
+        );
+
+        // When & Then
+        assertThatExceptionOfType(AppException.class)
+                .isThrownBy(() -> sut.handle(invalidQuery))
+                .extracting("errorCode")
+                .isEqualTo(AppExceptionInfo.invalidStaffAccountCreatedDateRange(
+                        invalidQuery.createdBefore(),
+                        invalidQuery.createdAfter()
+                ).getAppErrorCode());
+    }
+
+    @Test
+    void whenInfraExceptionIsThrownWhileStreaming_shouldAbortTheStream_withoutTranslatingIt() {
+        // Given
+        StreamAllStaffAccountsQuery query = new StreamAllStaffAccountsQuery(null, null, null, null, null);
+        InfraException expectedException = mock(InfraException.class);
+        doThrow(expectedException)
+                .when(staffAccountReadRepoMock).streamAllSummaries(any(), any(), any(), any(), any(), any());
+
+        StreamAllStaffAccountsQueryResponse response = sut.handle(query);
+
+        // When & Then
+        assertThatThrownBy(() -> response.summaries().forEach(summary -> {}))
+                .isSameAs(expectedException);
+        verifyNoInteractions(appExceptionHandlerMock);
+    }
+}
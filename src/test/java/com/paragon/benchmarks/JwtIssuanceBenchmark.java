@@ -0,0 +1,110 @@
+package com.paragon.benchmarks;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.paragon.api.security.HmacAccessTokenIssuer;
+import com.paragon.api.security.PermissionClaims;
+import com.paragon.domain.models.constants.PermissionRegistry;
+import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares minting an access token through NimbusJwtEncoder (which is what JwtGenerator used to do) against the
+// HmacAccessTokenIssuer, for a staff account holding a couple of permissions and one holding all of them, in both
+// the permission names and the compact bitmask form. Add -t <threads> to the runner to see the cloned Mac under load.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.paragon.benchmarks.JwtIssuanceBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtIssuanceBenchmark {
+    private static final SecretKeySpec SECRET = new SecretKeySpec(
+            "a-string-secret-at-least-256-bits-long".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    @Param({"2", "25"})
+    private int permissionCount;
+
+    private JwtEncoder jwtEncoder;
+    private HmacAccessTokenIssuer accessTokenIssuer;
+    private String staffAccountId;
+    private List<String> permissionCodes;
+    private long permissionBits;
+
+    @Setup
+    public void setUp() {
+        jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(SECRET));
+        accessTokenIssuer = new HmacAccessTokenIssuer(SECRET);
+        staffAccountId = UUID.randomUUID().toString();
+        permissionCodes = PermissionSet.fromBits(-1L).toCodes().stream()
+                .limit(permissionCount)
+                .map(PermissionCode::getValue)
+                .toList();
+        permissionBits = PermissionSet.of(permissionCodes.stream().map(PermissionCode::of).toList()).toBits();
+    }
+
+    @Benchmark
+    public String nimbusJwtEncoder() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(900))
+                .claim("staff_id", staffAccountId)
+                .claim(PermissionClaims.NAMES_CLAIM, permissionCodes)
+                .build();
+        return encode(claims);
+    }
+
+    @Benchmark
+    public String nimbusJwtEncoderCompact() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(900))
+                .claim("staff_id", staffAccountId)
+                .claim(PermissionClaims.BITMASK_CLAIM, PermissionClaims.encodeBitmask(permissionBits))
+                .claim(PermissionClaims.CATALOGUE_VERSION_CLAIM, PermissionRegistry.CATALOGUE_VERSION)
+                .build();
+        return encode(claims);
+    }
+
+    @Benchmark
+    public String hmacAccessTokenIssuer() {
+        Instant now = Instant.now();
+        return accessTokenIssuer.issue(staffAccountId, permissionCodes, now, now.plusSeconds(900));
+    }
+
+    @Benchmark
+    public String hmacAccessTokenIssuerCompact() {
+        Instant now = Instant.now();
+        return accessTokenIssuer.issueCompact(staffAccountId, permissionBits, now, now.plusSeconds(900));
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtIssuanceBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
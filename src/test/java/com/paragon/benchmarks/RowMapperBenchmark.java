@@ -0,0 +1,112 @@
+package com.paragon.benchmarks;
+
+import com.paragon.infrastructure.persistence.jdbc.mapping.RowMapperRegistry;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountRequestReadModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares the precompiled record mappers against Spring's DataClassRowMapper (which is what the jdbc helpers used to
+// build per query) over an in-memory result set shaped like the staff_account_requests read query.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.paragon.benchmarks.RowMapperBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+    private static final String[] COLUMNS = {
+            "id", "submitted_by", "submitted_by_username", "request_type", "target_id", "target_type", "status",
+            "submitted_at_utc", "expires_at_utc", "approved_by", "approved_by_username", "approved_at_utc",
+            "rejected_by", "rejected_by_username", "rejected_at_utc"
+    };
+    private static final int[] COLUMN_TYPES = {
+            Types.OTHER, Types.OTHER, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.TIMESTAMP, Types.OTHER, Types.VARCHAR, Types.TIMESTAMP,
+            Types.OTHER, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    @Param({"1", "50", "500"})
+    private int rowCount;
+
+    private CachedRowSet resultSet;
+    private RowMapperRegistry rowMapperRegistry;
+
+    @Setup
+    public void setUp() throws SQLException {
+        rowMapperRegistry = new RowMapperRegistry();
+        resultSet = RowSetProvider.newFactory().createCachedRowSet();
+
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(COLUMNS.length);
+        for (int i = 0; i < COLUMNS.length; i++) {
+            metaData.setColumnName(i + 1, COLUMNS[i]);
+            metaData.setColumnLabel(i + 1, COLUMNS[i]);
+            metaData.setColumnType(i + 1, COLUMN_TYPES[i]);
+            metaData.setNullable(i + 1, RowSetMetaDataImpl.columnNullable);
+        }
+        resultSet.setMetaData(metaData);
+
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int row = 0; row < rowCount; row++) {
+            resultSet.moveToInsertRow();
+            resultSet.updateObject(1, UUID.randomUUID());
+            resultSet.updateObject(2, UUID.randomUUID());
+            resultSet.updateString(3, "admin");
+            resultSet.updateString(4, "PASSWORD_CHANGE");
+            resultSet.updateString(5, UUID.randomUUID().toString());
+            resultSet.updateString(6, "ACCOUNT");
+            resultSet.updateString(7, "PENDING");
+            resultSet.updateTimestamp(8, now);
+            resultSet.updateTimestamp(9, now);
+            resultSet.updateNull(10);
+            resultSet.updateNull(11);
+            resultSet.updateNull(12);
+            resultSet.updateNull(13);
+            resultSet.updateNull(14);
+            resultSet.updateNull(15);
+            resultSet.insertRow();
+        }
+        resultSet.moveToCurrentRow();
+    }
+
+    @Benchmark
+    public void dataClassRowMapper(Blackhole blackhole) throws SQLException {
+        mapAll(DataClassRowMapper.newInstance(StaffAccountRequestReadModel.class), blackhole);
+    }
+
+    @Benchmark
+    public void precompiledRowMapper(Blackhole blackhole) throws SQLException {
+        mapAll(rowMapperRegistry.getRowMapper(StaffAccountRequestReadModel.class), blackhole);
+    }
+
+    private void mapAll(RowMapper<StaffAccountRequestReadModel> rowMapper, Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet, rowNum++));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RowMapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
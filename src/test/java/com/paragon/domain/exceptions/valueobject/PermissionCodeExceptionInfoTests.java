@@ -56,4 +56,14 @@ class PermissionCodeExceptionInfoTests {
         assertThat(info.getMessage()).isEqualTo("Permission code must not contain consecutive underscores.");
         assertThat(info.getDomainErrorCode()).isEqualTo(110005);
     }
+
+    @Test
+    void unknownPermission_shouldHaveExpectedCodeAndMessage() {
+        // Given
+        PermissionCodeExceptionInfo info = PermissionCodeExceptionInfo.unknownPermission();
+
+        // Then
+        assertThat(info.getMessage()).isEqualTo("Permission code does not name a known permission.");
+        assertThat(info.getDomainErrorCode()).isEqualTo(110006);
+    }
 }
@@ -5,6 +5,7 @@ import com.paragon.domain.events.DomainEvent;
 import com.paragon.domain.events.staffaccountevents.*;
 import com.paragon.domain.exceptions.aggregate.StaffAccountException;
 import com.paragon.domain.exceptions.aggregate.StaffAccountExceptionInfo;
+import com.paragon.domain.exceptions.valueobject.PermissionCodeException;
 import com.paragon.domain.models.constants.SystemPermissions;
 import com.paragon.domain.models.valueobjects.*;
 import com.paragon.helpers.fixtures.StaffAccountFixture;
@@ -347,6 +348,38 @@ public class StaffAccountTests {
             assertThat(staffAccount.getLockedUntil()).isNull();
             assertThat(staffAccount.getLastLoginAt()).isNotNull();
         }
+
+        @Test
+        void shouldStoreTheRehashedPasswordInTheSameChange() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            Password rehashedPassword = Password.of("$2a$12$abcdefghijklmnopqrstuvwxyz1234567890ABCDEFGHIJKLMNO");
+
+            // When
+            staffAccount.login(rehashedPassword);
+
+            // Then
+            assertThat(staffAccount.getPassword()).isEqualTo(rehashedPassword);
+            assertThat(staffAccount.getVersion().getValue()).isEqualTo(2);
+            assertThat(staffAccount.getModifiedProperties()).contains("password", "lastLoginAt");
+            assertThat(staffAccount.dequeueUncommittedEvents())
+                    .singleElement()
+                    .isInstanceOf(StaffAccountLoggedInEvent.class);
+        }
+
+        @Test
+        void shouldKeepThePassword_whenItWasNotRehashed() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            Password password = staffAccount.getPassword();
+
+            // When
+            staffAccount.login();
+
+            // Then
+            assertThat(staffAccount.getPassword()).isEqualTo(password);
+            assertThat(staffAccount.getModifiedProperties()).doesNotContain("password");
+        }
     }
 
     @Nested
@@ -510,6 +543,30 @@ public class StaffAccountTests {
         }
     }
 
+    @Nested
+    class HasPermission {
+        @Test
+        void shouldAnswerFromTheAccountsPermissionSet() {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture()
+                    .withPermissionCodes(List.of("VIEW_LOGIN_LOGS", "VIEW_ACCOUNTS_LIST"))
+                    .build();
+
+            // When & Then
+            assertThat(staffAccount.hasPermission(SystemPermissions.VIEW_ACCOUNTS_LIST)).isTrue();
+            assertThat(staffAccount.hasPermission(SystemPermissions.VIEW_LOGIN_LOGS)).isTrue();
+            assertThat(staffAccount.hasPermission(SystemPermissions.MANAGE_ACCOUNTS)).isFalse();
+            assertThat(staffAccount.getPermissions().size()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldRejectPermissionsThatAreNotSystemPermissions() {
+            // When & Then
+            assertThatThrownBy(() -> new StaffAccountFixture().withPermissionCodes(List.of("NOT_A_PERMISSION")).build())
+                    .isInstanceOf(PermissionCodeException.class);
+        }
+    }
+
     @Nested
     class EnsureCanUpdatePassword {
         @Test
@@ -651,23 +708,76 @@ public class StaffAccountTests {
 
     }
 
+    @Nested
+    class ModifiedProperties {
+        @Test
+        void shouldBeEmpty_whenAccountIsRehydrated() {
+            // When
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+
+            // Then
+            assertThat(staffAccount.getModifiedProperties()).isEmpty();
+        }
+
+        @Test
+        void shouldTrackOnlyPropertiesChangedByLogin() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+
+            // When
+            staffAccount.login();
+
+            // Then
+            assertThat(staffAccount.getModifiedProperties()).containsExactly("failedLoginAttempts", "lastLoginAt");
+        }
+
+        @Test
+        void shouldTrackLockProperties_whenFinalFailedLoginAttemptLocksAccount() {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture()
+                    .withFailedLoginAttempts(4)
+                    .build();
+
+            // When
+            staffAccount.registerFailedLoginAttempt();
+
+            // Then
+            assertThat(staffAccount.getModifiedProperties())
+                    .containsExactlyInAnyOrder("failedLoginAttempts", "status", "lockedUntil");
+        }
+
+        @Test
+        void shouldAccumulateAcrossOperations_untilCleared() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            staffAccount.login();
+            staffAccount.disable(StaffAccountId.generate());
+
+            // When
+            staffAccount.clearModifiedProperties();
+
+            // Then
+            assertThat(staffAccount.getModifiedProperties()).isEmpty();
+        }
+    }
+
     private static void assertThatEventDataIsCorrect(StaffAccountEventBase event, StaffAccount staffAccount) {
         assertThat(event.getStaffAccountId()).isEqualTo(staffAccount.getId());
-        assertThat(event.getUsername()).isEqualTo(staffAccount.getUsername());
-        assertThat(event.getEmail()).isEqualTo(staffAccount.getEmail());
-        assertThat(event.getPassword()).isEqualTo(staffAccount.getPassword());
-        assertThat(event.getPasswordIssuedAt()).isEqualTo(staffAccount.getPasswordIssuedAt());
-        assertThat(event.getOrderAccessDuration()).isEqualTo(staffAccount.getOrderAccessDuration());
-        assertThat(event.getModmailTranscriptAccessDuration()).isEqualTo(staffAccount.getModmailTranscriptAccessDuration());
-        assertThat(event.getStaffAccountStatus()).isEqualTo(staffAccount.getStatus());
-        assertThat(event.getFailedLoginAttempts()).isEqualTo(staffAccount.getFailedLoginAttempts());
-        assertThat(event.getLockedUntil()).isEqualTo(staffAccount.getLockedUntil());
-        assertThat(event.getLastLoginAt()).isEqualTo(staffAccount.getLastLoginAt());
-        assertThat(event.getStaffAccountCreatedBy()).isEqualTo(staffAccount.getCreatedBy());
-        assertThat(event.getStaffAccountDisabledBy()).isEqualTo(staffAccount.getDisabledBy());
-        assertThat(event.getStaffAccountEnabledBy()).isEqualTo(staffAccount.getEnabledBy());
-        assertThat(event.getStaffAccountPasswordResetBy()).isEqualTo(staffAccount.getPasswordResetBy());
-        assertThat(event.getPermissionCodes()).isEqualTo(staffAccount.getPermissionCodes());
         assertThat(event.getStaffAccountVersion()).isEqualTo(staffAccount.getVersion());
+        switch (event) {
+            case StaffAccountRegisteredEvent registered ->
+                    assertThat(registered.getStaffAccountCreatedBy()).isEqualTo(staffAccount.getCreatedBy());
+            case StaffAccountLoggedInEvent loggedIn ->
+                    assertThat(loggedIn.getLastLoginAt()).isEqualTo(staffAccount.getLastLoginAt());
+            case StaffAccountLockedEvent locked ->
+                    assertThat(locked.getLockedUntil()).isEqualTo(staffAccount.getLockedUntil());
+            case StaffAccountDisabledEvent disabled ->
+                    assertThat(disabled.getStaffAccountDisabledBy()).isEqualTo(staffAccount.getDisabledBy());
+            case StaffAccountEnabledEvent enabled ->
+                    assertThat(enabled.getStaffAccountEnabledBy()).isEqualTo(staffAccount.getEnabledBy());
+            case StaffAccountPasswordResetEvent reset ->
+                    assertThat(reset.getStaffAccountPasswordResetBy()).isEqualTo(staffAccount.getPasswordResetBy());
+            default -> {}
+        }
     }
 }
@@ -39,6 +39,7 @@ public class AuditTrailEntryTests {
             assertThat(auditTrailEntry.getActionType()).isEqualTo(actionType);
             assertThat(auditTrailEntry.getTargetId()).isEqualTo(targetId);
             assertThat(auditTrailEntry.getTargetType()).isEqualTo(targetType);
+            assertThat(auditTrailEntry.getCreatedAtUtc()).isNotNull();
         }
 
         @Test
@@ -49,4 +49,28 @@ public class PasswordTests {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class WorkFactor {
+        @ParameterizedTest
+        @MethodSource("hashes")
+        void shouldBeReadFromTheHash(String hashedValue, int expectedWorkFactor) {
+            // When
+            Password password = Password.of(hashedValue);
+
+            // Then
+            assertThat(password.getWorkFactor()).isEqualTo(expectedWorkFactor);
+        }
+
+        private static Stream<Arguments> hashes() {
+            return Stream.of(
+                    Arguments.of("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy", 10),
+                    Arguments.of("$2b$12$abcdefghijklmnopqrstuvwxyz1234567890ABCDEFGHIJKLMNO", 12),
+                    Arguments.of("$2y$04$abcdefghijklmnopqrstuvwxyz1234567890ABCDEFGHIJKLMNO", 4),
+                    Arguments.of("some-hashed-password-value", Password.UNKNOWN_WORK_FACTOR),
+                    Arguments.of("$2a$1x$abcdefghijklmnopqrstuvwxyz", Password.UNKNOWN_WORK_FACTOR),
+                    Arguments.of("$2a$", Password.UNKNOWN_WORK_FACTOR)
+            );
+        }
+    }
+}
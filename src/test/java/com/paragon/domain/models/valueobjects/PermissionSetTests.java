@@ -0,0 +1,124 @@
+package com.paragon.domain.models.valueobjects;
+
+import com.paragon.domain.exceptions.valueobject.PermissionCodeException;
+import com.paragon.domain.models.constants.PermissionRegistry;
+import com.paragon.domain.models.constants.SystemPermissions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class PermissionSetTests {
+    private final PermissionSet viewAndManage = PermissionSet.of(List.of(
+            SystemPermissions.MANAGE_ACCOUNTS, SystemPermissions.VIEW_ACCOUNTS_LIST));
+    private final PermissionSet view = PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST));
+
+    @Nested
+    class Of {
+        @Test
+        void shouldSetOneBitPerPermission_atItsRegistryPosition() {
+            // When
+            long bits = viewAndManage.toBits();
+
+            // Then
+            assertThat(bits).isEqualTo((1L << PermissionRegistry.ordinalOf(SystemPermissions.VIEW_ACCOUNTS_LIST))
+                    | (1L << PermissionRegistry.ordinalOf(SystemPermissions.MANAGE_ACCOUNTS)));
+            assertThat(viewAndManage.size()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldCollapseRepeatedPermissions() {
+            // When
+            PermissionSet result = PermissionSet.of(List.of(SystemPermissions.VIEW_ACCOUNTS_LIST, PermissionCode.of("view_accounts_list")));
+
+            // Then
+            assertThat(result).isEqualTo(view);
+        }
+
+        @Test
+        void shouldThrow_whenACodeIsNotASystemPermission() {
+            // When & Then
+            assertThatThrownBy(() -> PermissionSet.of(List.of(PermissionCode.of("NOT_A_PERMISSION"))))
+                    .isInstanceOf(PermissionCodeException.class)
+                    .extracting("domainErrorCode")
+                    .isEqualTo(110006);
+        }
+    }
+
+    @Nested
+    class FromBits {
+        @Test
+        void shouldRoundTripThroughBits() {
+            // When & Then
+            assertThat(PermissionSet.fromBits(viewAndManage.toBits())).isEqualTo(viewAndManage);
+        }
+
+        @Test
+        void shouldDropPositionsNoPermissionIsRegisteredAt() {
+            // When
+            PermissionSet result = PermissionSet.fromBits(view.toBits() | (1L << 63));
+
+            // Then
+            assertThat(result).isEqualTo(view);
+        }
+    }
+
+    @Nested
+    class Contains {
+        @Test
+        void shouldAnswerMembership() {
+            // When & Then
+            assertThat(view.contains(SystemPermissions.VIEW_ACCOUNTS_LIST)).isTrue();
+            assertThat(view.contains(SystemPermissions.MANAGE_ACCOUNTS)).isFalse();
+            assertThat(view.contains(PermissionCode.of("NOT_A_PERMISSION"))).isFalse();
+        }
+
+        @Test
+        void shouldCompareWholeSets() {
+            // When & Then
+            assertThat(viewAndManage.containsAll(view)).isTrue();
+            assertThat(view.containsAll(viewAndManage)).isFalse();
+            assertThat(view.containsAny(viewAndManage)).isTrue();
+            assertThat(view.containsAll(PermissionSet.empty())).isTrue();
+        }
+    }
+
+    @Nested
+    class SetOperations {
+        @Test
+        void shouldCombineSets() {
+            // Given
+            PermissionSet manage = PermissionSet.of(List.of(SystemPermissions.MANAGE_ACCOUNTS));
+
+            // When & Then
+            assertThat(view.union(manage)).isEqualTo(viewAndManage);
+            assertThat(viewAndManage.intersect(manage)).isEqualTo(manage);
+            assertThat(viewAndManage.without(manage)).isEqualTo(view);
+            assertThat(view.without(view).isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    class ToCodes {
+        @Test
+        void shouldListCodesInRegistryOrder() {
+            // When
+            List<PermissionCode> result = viewAndManage.toCodes();
+
+            // Then
+            assertThat(result).containsExactly(SystemPermissions.VIEW_ACCOUNTS_LIST, SystemPermissions.MANAGE_ACCOUNTS);
+        }
+
+        @Test
+        void shouldCoverEveryRegisteredPermission() {
+            // When
+            PermissionSet all = PermissionSet.fromBits(-1L);
+
+            // Then
+            assertThat(all.size()).isEqualTo(PermissionRegistry.size());
+            assertThat(all.toCodes()).doesNotHaveDuplicates().contains(SystemPermissions.VIEW_EARLY_DISPUTE_WARNINGS);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.paragon.infrastructure.persistence.daos.*;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
 import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import com.paragon.infrastructure.persistence.projections.StaffAccountSummaryProjectionImpl;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -83,10 +84,17 @@ public class TestJdbcHelper {
         }
 
         writeJdbcHelper.executeMultiple(queries);
+        // Accounts inserted directly skip the events that maintain the summaries, so their summary is written here
+        new StaffAccountSummaryProjectionImpl(writeJdbcHelper, invalidation -> {}).refresh(staffAccount.getId());
     }
 
     public Optional<StaffAccount> getStaffAccountById(StaffAccountId staffAccountId) {
-        String sql = "SELECT * FROM staff_accounts WHERE id = :id";
+        String sql = """
+                SELECT sa.*,
+                       ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id) AS permission_codes
+                FROM staff_accounts sa
+                WHERE sa.id = :id
+                """;
         SqlParamsBuilder params = new SqlParamsBuilder().add("id", staffAccountId.getValue());
 
         Optional<StaffAccountDao> optionalDao =
@@ -95,14 +103,16 @@ public class TestJdbcHelper {
                         StaffAccountDao.class
                 );
 
-        return optionalDao.map(dao -> {
-            List<PermissionCode> permissionCodes = getPermissionsForStaff(StaffAccountId.of(dao.id()));
-            return dao.toStaffAccount(permissionCodes);
-        });
+        return optionalDao.map(StaffAccountDao::toStaffAccount);
     }
 
     public Optional<StaffAccount> getStaffAccountByUsername(Username username) {
-        String sql = "SELECT * FROM staff_accounts WHERE username = :username";
+        String sql = """
+                SELECT sa.*,
+                       ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id) AS permission_codes
+                FROM staff_accounts sa
+                WHERE sa.username = :username
+                """;
         SqlParamsBuilder params = new SqlParamsBuilder().add("username", username.getValue());
 
         Optional<StaffAccountDao> optionalDao = writeJdbcHelper.queryFirstOrDefault(
@@ -110,10 +120,7 @@ public class TestJdbcHelper {
                 StaffAccountDao.class
         );
 
-        return optionalDao.map(dao -> {
-            List<PermissionCode> permissionCodes = getPermissionsForStaff(StaffAccountId.of(dao.id()));
-            return dao.toStaffAccount(permissionCodes);
-        });
+        return optionalDao.map(StaffAccountDao::toStaffAccount);
     }
 
     public List<PermissionCode> getPermissionsForStaff(StaffAccountId staffAccountId) {
@@ -2,9 +2,10 @@ package com.paragon.helpers;
 
 import com.paragon.domain.models.valueobjects.PlaintextPassword;
 import com.paragon.infrastructure.security.BCryptPasswordHasher;
+import com.paragon.infrastructure.security.PasswordHashingEngine;
 
 public final class TestPasswordHasherHelper {
-    private static final BCryptPasswordHasher PASSWORD_HASHER = new BCryptPasswordHasher();
+    private static final BCryptPasswordHasher PASSWORD_HASHER = new BCryptPasswordHasher(new PasswordHashingEngine(1, 16), 10);
 
     private TestPasswordHasherHelper() {
     }
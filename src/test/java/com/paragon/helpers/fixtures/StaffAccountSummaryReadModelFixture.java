@@ -10,6 +10,7 @@ public class StaffAccountSummaryReadModelFixture {
     private String username = "testuser";
     private String status = "PENDING_PASSWORD_CHANGE";
     private Instant createdAtUtc = Instant.now();
+    private int version = 1;
 
     public StaffAccountSummaryReadModelFixture withId(UUID value) {
         this.id = value;
@@ -31,12 +32,18 @@ public class StaffAccountSummaryReadModelFixture {
         return this;
     }
 
+    public StaffAccountSummaryReadModelFixture withVersion(int value) {
+        this.version = value;
+        return this;
+    }
+
     public StaffAccountSummaryReadModel build() {
         return new StaffAccountSummaryReadModel(
                 id,
                 username,
                 status,
-                createdAtUtc
+                createdAtUtc,
+                version
         );
     }
 
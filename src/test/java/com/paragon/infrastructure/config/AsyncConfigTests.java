@@ -0,0 +1,160 @@
+package com.paragon.infrastructure.config;
+
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AsyncConfigTests {
+    @AfterEach
+    void resetContext() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class TaskExecutorMode {
+        private final AsyncConfig sut = new AsyncConfig(new UnitOfWorkAwareDataSource(mock(DataSource.class)));
+
+        @Test
+        void shouldRunTasksOnVirtualThreads_whenVirtualThreadsAreEnabled() {
+            // Given
+            TaskExecutor executor = sut.taskExecutor(true);
+
+            // When
+            Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+            // Then
+            assertThat(thread.isVirtual()).isTrue();
+            assertThat(thread.getName()).startsWith("Async-");
+        }
+
+        @Test
+        void shouldUseBoundedPlatformThreadPool_byDefault() {
+            // Given
+            TaskExecutor executor = sut.taskExecutor(false);
+
+            // When
+            Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+            // Then
+            assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+            assertThat(thread.isVirtual()).isFalse();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    @Nested
+    class MdcAndSecurityContextTaskDecorator {
+        private final UnitOfWorkAwareDataSource dataSource;
+        private final AsyncConfig.MdcAndSecurityContextTaskDecorator sut;
+
+        public MdcAndSecurityContextTaskDecorator() throws SQLException {
+            DataSource delegateMock = mock(DataSource.class);
+            when(delegateMock.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+            dataSource = new UnitOfWorkAwareDataSource(delegateMock);
+            sut = new AsyncConfig.MdcAndSecurityContextTaskDecorator(dataSource);
+        }
+
+        @Test
+        void shouldPropagateSubmittingThreadContext_toAVirtualThread() throws InterruptedException {
+            // Given
+            Authentication authentication = new TestingAuthenticationToken("admin", null);
+            RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+            MDC.put("correlationId", "abc-123");
+            SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            AtomicReference<String> seenCorrelationId = new AtomicReference<>();
+            AtomicReference<Authentication> seenAuthentication = new AtomicReference<>();
+            AtomicReference<RequestAttributes> seenRequestAttributes = new AtomicReference<>();
+
+            Runnable task = sut.decorate(() -> {
+                seenCorrelationId.set(MDC.get("correlationId"));
+                seenAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+                seenRequestAttributes.set(RequestContextHolder.getRequestAttributes());
+            });
+
+            // When
+            Thread.ofVirtual().start(task).join();
+
+            // Then
+            assertThat(seenCorrelationId.get()).isEqualTo("abc-123");
+            assertThat(seenAuthentication.get()).isSameAs(authentication);
+            assertThat(seenRequestAttributes.get()).isSameAs(requestAttributes);
+        }
+
+        @Test
+        void shouldRestoreRunningThreadContext_whenTaskRunsInline() {
+            // Given
+            MDC.put("correlationId", "submitter");
+            Runnable task = sut.decorate(() -> MDC.put("correlationId", "changed-by-task"));
+            Authentication callerAuthentication = new TestingAuthenticationToken("caller", null);
+            MDC.put("correlationId", "caller");
+            SecurityContextHolder.setContext(new SecurityContextImpl(callerAuthentication));
+
+            // When
+            task.run();
+
+            // Then
+            assertThat(MDC.get("correlationId")).isEqualTo("caller");
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(callerAuthentication);
+        }
+
+        @Test
+        void shouldRollBackTransactionLeftOpenByTask() throws InterruptedException {
+            // Given
+            AtomicReference<Boolean> activeAfterTask = new AtomicReference<>();
+            Runnable task = sut.decorate(() -> {
+                try {
+                    dataSource.beginTransaction();
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            // When
+            Thread.ofVirtual().start(() -> {
+                task.run();
+                activeAfterTask.set(dataSource.isTransactionActive());
+            }).join();
+
+            // Then
+            assertThat(activeAfterTask.get()).isFalse();
+        }
+
+        @Test
+        void shouldLeaveRunningThreadsOwnTransactionAlone_whenTaskRunsInline() throws SQLException {
+            // Given
+            dataSource.beginTransaction();
+            Runnable task = sut.decorate(() -> {});
+
+            // When
+            task.run();
+
+            // Then
+            assertThat(dataSource.isTransactionActive()).isTrue();
+            dataSource.rollbackTransaction();
+        }
+    }
+}
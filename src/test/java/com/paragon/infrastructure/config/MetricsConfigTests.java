@@ -0,0 +1,96 @@
+package com.paragon.infrastructure.config;
+
+import com.paragon.api.security.CachingJwtAuthenticationManager;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import com.paragon.infrastructure.persistence.repos.read.CachingStaffAccountReadRepo;
+import com.paragon.infrastructure.security.PasswordHashingEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsConfigTests {
+    private final MetricsConfig sut = new MetricsConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldPublishThePasswordHashingEngineCounters() {
+        // Given
+        PasswordHashingEngine engineMock = mock(PasswordHashingEngine.class);
+        when(engineMock.getQueueDepth()).thenReturn(5);
+        when(engineMock.getRejectedCount()).thenReturn(2L);
+        when(engineMock.getCompletedCount()).thenReturn(4L);
+        when(engineMock.getTotalHashNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(800));
+        when(engineMock.getMaxWaitNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(30));
+
+        // When
+        sut.passwordHashingMetrics(engineMock).bindTo(registry);
+
+        // Then
+        assertThat(registry.get("password.hashing.queue.depth").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("password.hashing.rejected").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("password.hashing.duration").functionTimer().count()).isEqualTo(4);
+        assertThat(registry.get("password.hashing.duration").functionTimer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(800);
+        assertThat(registry.get("password.hashing.wait.max").timeGauge().value(TimeUnit.MILLISECONDS)).isEqualTo(30);
+    }
+
+    @Test
+    void shouldPublishTheUnitOfWorkDataSourceCounters() {
+        // Given
+        UnitOfWorkAwareDataSource dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
+        when(dataSourceMock.getConnectionWrappersCreated()).thenReturn(6L);
+        when(dataSourceMock.getTransactionsCompleted()).thenReturn(5L);
+        when(dataSourceMock.getTotalTransactionNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(250));
+        when(dataSourceMock.getMaxTransactionNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(120));
+
+        // When
+        sut.unitOfWorkMetrics(dataSourceMock).bindTo(registry);
+
+        // Then
+        assertThat(registry.get("unit.of.work.connections").functionCounter().count()).isEqualTo(6);
+        assertThat(registry.get("unit.of.work.transactions").functionTimer().count()).isEqualTo(5);
+        assertThat(registry.get("unit.of.work.transactions").functionTimer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(registry.get("unit.of.work.transactions.max").timeGauge().value(TimeUnit.MILLISECONDS)).isEqualTo(120);
+    }
+
+    @Test
+    void shouldPublishTheStaffAccountReadCacheAsCacheMeters() {
+        // Given
+        CachingStaffAccountReadRepo repoMock = mock(CachingStaffAccountReadRepo.class);
+        when(repoMock.getCacheHits()).thenReturn(9L);
+        when(repoMock.getCacheMisses()).thenReturn(3L);
+        when(repoMock.getCacheEvictions()).thenReturn(1L);
+        when(repoMock.getCacheSize()).thenReturn(2L);
+
+        // When
+        sut.staffAccountReadCacheMetrics(repoMock).bindTo(registry);
+
+        // Then
+        assertThat(registry.get("cache.gets").tags("cache", "staffAccountReadModels", "result", "hit").functionCounter().count())
+                .isEqualTo(9);
+        assertThat(registry.get("cache.gets").tags("cache", "staffAccountReadModels", "result", "miss").functionCounter().count())
+                .isEqualTo(3);
+        assertThat(registry.get("cache.evictions").tag("cache", "staffAccountReadModels").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").tag("cache", "staffAccountReadModels").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPublishTheJwtAuthenticationCacheAsCacheMeters() {
+        // Given
+        CachingJwtAuthenticationManager managerMock = mock(CachingJwtAuthenticationManager.class);
+        when(managerMock.getHits()).thenReturn(7L);
+        when(managerMock.size()).thenReturn(4L);
+
+        // When
+        sut.jwtAuthenticationCacheMetrics(managerMock).bindTo(registry);
+
+        // Then
+        assertThat(registry.get("cache.gets").tags("cache", "jwtAuthentications", "result", "hit").functionCounter().count())
+                .isEqualTo(7);
+        assertThat(registry.get("cache.size").tag("cache", "jwtAuthentications").gauge().value()).isEqualTo(4);
+    }
+}
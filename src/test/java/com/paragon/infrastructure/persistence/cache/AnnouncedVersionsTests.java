@@ -0,0 +1,170 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AnnouncedVersionsTests {
+    private final AtomicLong now = new AtomicLong();
+    private final List<UUID> evicted = new ArrayList<>();
+
+    @Nested
+    class IsCurrent {
+        private final AnnouncedVersions sut = new AnnouncedVersions(100, Duration.ofSeconds(60), evicted::add, now::get);
+
+        @Test
+        void shouldTreatAnyVersionAsCurrent_whenNothingWasAnnounced() {
+            // When & Then
+            assertThat(sut.isCurrent(UUID.randomUUID(), 1)).isTrue();
+        }
+
+        @Test
+        void shouldRejectVersionsOlderThanTheAnnouncedOne() {
+            // Given
+            UUID id = UUID.randomUUID();
+            sut.announce(id, 3);
+
+            // When & Then
+            assertThat(sut.isCurrent(id, 2)).isFalse();
+            assertThat(sut.isCurrent(id, 3)).isTrue();
+            assertThat(sut.isCurrent(id, 4)).isTrue();
+        }
+
+        @Test
+        void shouldKeepTheHighestVersion_whenAnnouncementsArriveOutOfOrder() {
+            // Given
+            UUID id = UUID.randomUUID();
+            sut.announce(id, 5);
+            sut.announce(id, 4);
+
+            // When & Then
+            assertThat(sut.isCurrent(id, 4)).isFalse();
+            assertThat(sut.isCurrent(id, 5)).isTrue();
+        }
+
+        @Test
+        void shouldDropTheFloor_onceItHasOutlivedItsTimeToLive() {
+            // Given
+            UUID id = UUID.randomUUID();
+            sut.announce(id, 3);
+            now.addAndGet(Duration.ofSeconds(60).toNanos());
+
+            // When
+            boolean isCurrent = sut.isCurrent(id, 1);
+
+            // Then
+            assertThat(isCurrent).isTrue();
+            assertThat(sut.size()).isZero();
+            assertThat(evicted).isEmpty();
+        }
+
+        @Test
+        void shouldExtendTheTimeToLive_onEachAnnouncement() {
+            // Given
+            UUID id = UUID.randomUUID();
+            sut.announce(id, 3);
+            now.addAndGet(Duration.ofSeconds(40).toNanos());
+            sut.announce(id, 4);
+            now.addAndGet(Duration.ofSeconds(40).toNanos());
+
+            // When & Then
+            assertThat(sut.isCurrent(id, 3)).isFalse();
+        }
+
+        @Test
+        void shouldNotKeepAnExpiredHigherVersion_whenAnnouncedAgainAfterItExpired() {
+            // Given
+            UUID id = UUID.randomUUID();
+            sut.announce(id, 5);
+            now.addAndGet(Duration.ofSeconds(60).toNanos());
+            sut.announce(id, 2);
+
+            // When & Then
+            assertThat(sut.isCurrent(id, 2)).isTrue();
+            assertThat(sut.isCurrent(id, 1)).isFalse();
+        }
+    }
+
+    @Nested
+    class Bounds {
+        @Test
+        void shouldNotGrowPastTheMaximumSize() {
+            // Given
+            AnnouncedVersions sut = new AnnouncedVersions(16, Duration.ofSeconds(60), evicted::add, now::get);
+
+            // When
+            for (int i = 0; i < 1_000; i++) {
+                sut.announce(UUID.randomUUID(), 1);
+            }
+
+            // Then
+            assertThat(sut.size()).isLessThanOrEqualTo(16);
+            assertThat(evicted).hasSize(1_000 - (int) sut.size());
+        }
+
+        @Test
+        void shouldHandTheLeastRecentlyAnnouncedFloorToOnEvicted() {
+            // Given
+            AnnouncedVersions sut = new AnnouncedVersions(32, Duration.ofSeconds(60), evicted::add, now::get);
+            UUID first = UUID.randomUUID();
+            UUID second = sameSegmentAs(first, 16);
+            UUID third = sameSegmentAs(first, 16);
+            sut.announce(first, 1);
+            sut.announce(second, 1);
+            sut.announce(first, 2);
+
+            // When
+            sut.announce(third, 1);
+
+            // Then
+            assertThat(evicted).containsExactly(second);
+            assertThat(sut.isCurrent(first, 1)).isFalse();
+        }
+
+        @Test
+        void shouldNotReportExpiredFloors_whenTheyArePushedOut() {
+            // Given
+            AnnouncedVersions sut = new AnnouncedVersions(1, Duration.ofSeconds(60), evicted::add, now::get);
+            sut.announce(UUID.randomUUID(), 1);
+            now.addAndGet(Duration.ofSeconds(60).toNanos());
+
+            // When
+            sut.announce(UUID.randomUUID(), 1);
+
+            // Then
+            assertThat(evicted).isEmpty();
+            assertThat(sut.size()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectANonPositiveMaximumSize() {
+            // When & Then
+            assertThatThrownBy(() -> new AnnouncedVersions(0, Duration.ofSeconds(60), evicted::add))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // A maximum size of 32 makes 16 segments of 2, picked the same way AnnouncedVersions picks them
+        private UUID sameSegmentAs(UUID id, int segmentCount) {
+            while (true) {
+                UUID candidate = UUID.randomUUID();
+                if (segmentOf(candidate, segmentCount) == segmentOf(id, segmentCount)) {
+                    return candidate;
+                }
+            }
+        }
+
+        private int segmentOf(UUID id, int segmentCount) {
+            int hash = id.hashCode();
+            hash ^= hash >>> 16;
+            return Math.floorMod(hash, segmentCount);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedReadCacheTests {
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Optional<String> load(String key) {
+        loads.incrementAndGet();
+        return Optional.of(key + "-value");
+    }
+
+    @Nested
+    class Get {
+        private final BoundedReadCache<String, String> sut = new BoundedReadCache<>(100, Duration.ofSeconds(60), now::get);
+
+        @Test
+        void shouldLoadOnce_andServeRepeatLookupsFromTheCache() {
+            // When
+            Optional<String> first = sut.get("john_doe", BoundedReadCacheTests.this::load);
+            Optional<String> second = sut.get("john_doe", BoundedReadCacheTests.this::load);
+
+            // Then
+            assertThat(first).contains("john_doe-value");
+            assertThat(second).contains("john_doe-value");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(sut.getMisses()).isEqualTo(1);
+            assertThat(sut.getHits()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotCacheAbsentValues() {
+            // When
+            sut.get("missing", key -> { loads.incrementAndGet(); return Optional.empty(); });
+            Optional<String> result = sut.get("missing", key -> { loads.incrementAndGet(); return Optional.empty(); });
+
+            // Then
+            assertThat(result).isEmpty();
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(sut.size()).isZero();
+        }
+
+        @Test
+        void shouldReload_onceTheEntryHasOutlivedItsTimeToLive() {
+            // Given
+            sut.get("john_doe", BoundedReadCacheTests.this::load);
+            now.addAndGet(Duration.ofSeconds(60).toNanos());
+
+            // When
+            sut.get("john_doe", BoundedReadCacheTests.this::load);
+
+            // Then
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(sut.getEvictions()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotStoreALoad_thatOverlappedAnInvalidation() {
+            // When
+            Optional<String> result = sut.get("john_doe", key -> {
+                sut.invalidateIf((k, v) -> k.equals("john_doe"));
+                return Optional.of("stale");
+            });
+
+            // Then
+            assertThat(result).contains("stale");
+            assertThat(sut.size()).isZero();
+        }
+
+        @Test
+        void shouldReturnButNotStoreALoad_thatIsNotCurrent() {
+            // When
+            Optional<String> result = sut.get("john_doe", BoundedReadCacheTests.this::load, value -> false);
+
+            // Then
+            assertThat(result).contains("john_doe-value");
+            assertThat(sut.size()).isZero();
+        }
+
+        @Test
+        void shouldReload_onceTheCachedEntryIsNoLongerCurrent() {
+            // Given
+            sut.get("john_doe", BoundedReadCacheTests.this::load, value -> true);
+
+            // When
+            sut.get("john_doe", BoundedReadCacheTests.this::load, value -> false);
+
+            // Then
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(sut.getHits()).isZero();
+            assertThat(sut.getEvictions()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldExpireEachEntry_atTheTimeToLiveTakenFromItsValue() {
+            // Given
+            BoundedReadCache<String, String> expiring = new BoundedReadCache<>(
+                    100, value -> value.startsWith("short") ? Duration.ofSeconds(10) : Duration.ofSeconds(60), now::get);
+            expiring.get("short", BoundedReadCacheTests.this::load);
+            expiring.get("long", BoundedReadCacheTests.this::load);
+            now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+            // When
+            expiring.get("short", BoundedReadCacheTests.this::load);
+            expiring.get("long", BoundedReadCacheTests.this::load);
+
+            // Then
+            assertThat(loads.get()).isEqualTo(3);
+            assertThat(expiring.getHits()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldNotStoreAValue_whoseTimeToLiveIsNotPositive() {
+            // Given
+            BoundedReadCache<String, String> expiring = new BoundedReadCache<>(100, value -> Duration.ZERO, now::get);
+
+            // When
+            Optional<String> result = expiring.get("john_doe", BoundedReadCacheTests.this::load);
+
+            // Then
+            assertThat(result).contains("john_doe-value");
+            assertThat(expiring.size()).isZero();
+        }
+
+        @Test
+        void shouldRejectANonPositiveMaximumSize() {
+            // When & Then
+            assertThatThrownBy(() -> new BoundedReadCache<String, String>(0, Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Eviction {
+        @Test
+        void shouldEvictTheLeastRecentlyReadEntry_whenFull() {
+            // Given
+            BoundedReadCache<String, String> sut = new BoundedReadCache<>(1, Duration.ofSeconds(60), now::get);
+            sut.get("first", BoundedReadCacheTests.this::load);
+
+            // When
+            sut.get("second", BoundedReadCacheTests.this::load);
+            sut.get("first", BoundedReadCacheTests.this::load);
+
+            // Then
+            assertThat(loads.get()).isEqualTo(3);
+            assertThat(sut.size()).isEqualTo(1);
+            assertThat(sut.getEvictions()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldNeverHoldMoreThanItsSegmentsAllow() {
+            // Given
+            BoundedReadCache<String, String> sut = new BoundedReadCache<>(32, Duration.ofSeconds(60), now::get);
+
+            // When
+            for (int i = 0; i < 1_000; i++) {
+                sut.get("key-" + i, BoundedReadCacheTests.this::load);
+            }
+
+            // Then
+            assertThat(sut.size()).isLessThanOrEqualTo(32);
+            assertThat(sut.getEvictions()).isEqualTo(1_000 - sut.size());
+        }
+    }
+
+    @Nested
+    class Invalidation {
+        private final BoundedReadCache<String, String> sut = new BoundedReadCache<>(100, Duration.ofSeconds(60), now::get);
+
+        @Test
+        void shouldRemoveOnlyMatchingEntries() {
+            // Given
+            sut.get("john_doe", BoundedReadCacheTests.this::load);
+            sut.get("jane_doe", BoundedReadCacheTests.this::load);
+
+            // When
+            sut.invalidateIf((key, value) -> value.startsWith("john"));
+
+            // Then
+            sut.get("jane_doe", BoundedReadCacheTests.this::load);
+            sut.get("john_doe", BoundedReadCacheTests.this::load);
+            assertThat(loads.get()).isEqualTo(3);
+        }
+
+        @Test
+        void shouldRemoveEverything_whenInvalidatingAll() {
+            // Given
+            sut.get("john_doe", BoundedReadCacheTests.this::load);
+            sut.get("jane_doe", BoundedReadCacheTests.this::load);
+
+            // When
+            sut.invalidateAll();
+
+            // Then
+            assertThat(sut.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class CacheInvalidationListenerTests {
+    private final StaffAccountReadModelCache cacheMock;
+    private final Connection connectionMock;
+    private final PGConnection pgConnectionMock;
+    private final Statement statementMock;
+    private final AtomicInteger connects = new AtomicInteger();
+    private final CacheInvalidationListener sut;
+
+    public CacheInvalidationListenerTests() throws SQLException {
+        cacheMock = mock(StaffAccountReadModelCache.class);
+        connectionMock = mock(Connection.class);
+        pgConnectionMock = mock(PGConnection.class);
+        statementMock = mock(Statement.class);
+        when(connectionMock.createStatement()).thenReturn(statementMock);
+        when(connectionMock.unwrap(PGConnection.class)).thenReturn(pgConnectionMock);
+        sut = new CacheInvalidationListener(() -> {
+            connects.incrementAndGet();
+            return connectionMock;
+        }, cacheMock, true, Duration.ofMillis(10), Duration.ofMillis(10));
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+
+    @Nested
+    class Listen {
+        @Test
+        void shouldFlushEveryCachedReadModel_onceListening() throws SQLException {
+            // When
+            sut.listen();
+
+            // Then
+            InOrder inOrder = inOrder(statementMock, cacheMock);
+            inOrder.verify(statementMock).execute("LISTEN " + PgNotifyCacheInvalidationBus.CHANNEL);
+            inOrder.verify(cacheMock).invalidateAll();
+        }
+
+        @Test
+        void shouldCloseTheConnection_whenNotRunning() throws SQLException {
+            // When
+            sut.listen();
+
+            // Then
+            verify(connectionMock).close();
+            verifyNoInteractions(pgConnectionMock);
+        }
+
+        @Test
+        void shouldPropagateConnectFailures_soTheLoopRetries() {
+            // Given
+            CacheInvalidationListener unreachable = new CacheInvalidationListener(() -> {
+                throw new SQLException("connection refused");
+            }, cacheMock, true, Duration.ofMillis(10), Duration.ofMillis(10));
+
+            // When & Then
+            assertThatThrownBy(unreachable::listen).isInstanceOf(SQLException.class);
+            verifyNoInteractions(cacheMock);
+        }
+    }
+
+    @Nested
+    class Apply {
+        @Test
+        void shouldPassTheAnnouncedVersionToTheCache() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+
+            // When
+            sut.apply(CacheInvalidation.staffAccount(staffAccountId, Version.of(3)).toPayload());
+
+            // Then
+            verify(cacheMock).invalidate(staffAccountId, Version.of(3));
+            verify(cacheMock, never()).invalidate(staffAccountId);
+            verify(cacheMock, never()).invalidateAll();
+        }
+
+        @Test
+        void shouldEvictTheNamedStaffAccount_whenNoVersionWasAnnounced() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+
+            // When
+            sut.apply(CacheInvalidation.staffAccount(staffAccountId).toPayload());
+
+            // Then
+            verify(cacheMock).invalidate(staffAccountId);
+            verify(cacheMock, never()).invalidateAll();
+        }
+
+        @Test
+        void shouldEvictEverything_whenEveryStaffAccountIsInvalidated() {
+            // When
+            sut.apply(CacheInvalidation.allStaffAccounts().toPayload());
+
+            // Then
+            verify(cacheMock).invalidateAll();
+        }
+
+        @Test
+        void shouldIgnoreUnknownAggregateTypesAndMalformedPayloads() {
+            // When
+            sut.apply("order:*:0");
+            sut.apply("garbage");
+
+            // Then
+            verifyNoInteractions(cacheMock);
+        }
+    }
+
+    @Nested
+    class StartAndStop {
+        @Test
+        void shouldReconnectAndApplyNotifications_untilStopped() throws Exception {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+            PGNotification notification = notification(CacheInvalidation.staffAccount(staffAccountId, Version.of(2)).toPayload());
+            when(pgConnectionMock.getNotifications(anyInt()))
+                    .thenReturn(new PGNotification[]{notification})
+                    .thenReturn(new PGNotification[0]);
+            // The first connection drops after delivering the notification, the second stays up
+            when(connectionMock.isValid(anyInt())).thenReturn(false).thenReturn(true);
+
+            // When
+            sut.start();
+            verify(cacheMock, timeout(2000)).invalidate(staffAccountId, Version.of(2));
+            verify(cacheMock, timeout(2000).times(2)).invalidateAll();
+            sut.stop();
+
+            // Then
+            verify(connectionMock, atLeast(2)).close();
+        }
+
+        @Test
+        void shouldNotConnect_whenDisabled() throws Exception {
+            // Given
+            CacheInvalidationListener disabled = new CacheInvalidationListener(() -> {
+                connects.incrementAndGet();
+                return connectionMock;
+            }, cacheMock, false, Duration.ofMillis(10), Duration.ofMillis(10));
+
+            // When
+            disabled.start();
+            disabled.stop();
+
+            // Then
+            verifyNoInteractions(cacheMock);
+            assertThat(connects.get()).isZero();
+        }
+    }
+}
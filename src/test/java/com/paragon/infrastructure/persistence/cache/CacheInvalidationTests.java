@@ -0,0 +1,52 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheInvalidationTests {
+
+    @Nested
+    class Payload {
+        @Test
+        void shouldRoundTripASingleAggregate() {
+            // Given
+            CacheInvalidation invalidation = CacheInvalidation.staffAccount(StaffAccountId.generate(), Version.of(7));
+
+            // When
+            String payload = invalidation.toPayload();
+
+            // Then
+            assertThat(payload).startsWith("staff_account:").endsWith(":7");
+            assertThat(CacheInvalidation.fromPayload(payload)).contains(invalidation);
+        }
+
+        @Test
+        void shouldRoundTripEveryAggregateOfAType() {
+            // Given
+            CacheInvalidation invalidation = CacheInvalidation.allStaffAccounts();
+
+            // When
+            String payload = invalidation.toPayload();
+
+            // Then
+            assertThat(payload).isEqualTo("staff_account:*:0");
+            assertThat(CacheInvalidation.fromPayload(payload))
+                    .hasValueSatisfying(parsed -> assertThat(parsed.coversAll()).isTrue());
+        }
+
+        @ParameterizedTest
+        @NullSource
+        @ValueSource(strings = {"", "staff_account", "staff_account:not-a-uuid:1", "staff_account:*:x", ":*:1", "a:*:1:2"})
+        void shouldRejectMalformedPayloads(String payload) {
+            // When & Then
+            assertThat(CacheInvalidation.fromPayload(payload)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.paragon.infrastructure.persistence.cache;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import com.paragon.infrastructure.persistence.daos.CacheInvalidationNotifyDao;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PgNotifyCacheInvalidationBusTests {
+    private final WriteJdbcHelper jdbcHelperMock;
+    private final UnitOfWorkAwareDataSource dataSourceMock;
+    private final PgNotifyCacheInvalidationBus sut;
+
+    public PgNotifyCacheInvalidationBusTests() {
+        jdbcHelperMock = mock(WriteJdbcHelper.class);
+        dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
+        sut = new PgNotifyCacheInvalidationBus(jdbcHelperMock, dataSourceMock, true);
+    }
+
+    private String[] sentPayloads() {
+        ArgumentCaptor<SqlStatement> captor = ArgumentCaptor.forClass(SqlStatement.class);
+        verify(jdbcHelperMock).query(captor.capture(), eq(CacheInvalidationNotifyDao.class));
+        assertThat(captor.getValue().params().build().get("channel")).isEqualTo(PgNotifyCacheInvalidationBus.CHANNEL);
+        return (String[]) captor.getValue().params().build().get("payloads");
+    }
+
+    @Nested
+    class Publish {
+        @Test
+        void shouldNotifyStraightAway_whenNoUnitOfWorkIsActive() {
+            // Given
+            CacheInvalidation invalidation = CacheInvalidation.staffAccount(StaffAccountId.generate(), Version.of(2));
+            when(dataSourceMock.isTransactionActive()).thenReturn(false);
+
+            // When
+            sut.publish(invalidation);
+
+            // Then
+            assertThat(sentPayloads()).containsExactly(invalidation.toPayload());
+        }
+
+        @Test
+        void shouldHoldInvalidations_untilTheUnitOfWorkFlushesThem() {
+            // Given
+            when(dataSourceMock.isTransactionActive()).thenReturn(true);
+
+            // When
+            sut.publish(CacheInvalidation.staffAccount(StaffAccountId.generate(), Version.of(2)));
+
+            // Then
+            verifyNoInteractions(jdbcHelperMock);
+        }
+
+        @Test
+        void shouldDoNothing_whenDisabled() {
+            // Given
+            PgNotifyCacheInvalidationBus disabled = new PgNotifyCacheInvalidationBus(jdbcHelperMock, dataSourceMock, false);
+
+            // When
+            disabled.publish(CacheInvalidation.allStaffAccounts());
+
+            // Then
+            verifyNoInteractions(jdbcHelperMock, dataSourceMock);
+        }
+    }
+
+    @Nested
+    class FlushPending {
+        @Test
+        void shouldSendOneNotificationPerAggregate_atItsLatestVersion() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+            CacheInvalidation other = CacheInvalidation.staffAccount(StaffAccountId.generate(), Version.of(1));
+            when(dataSourceMock.isTransactionActive()).thenReturn(true);
+            sut.publish(CacheInvalidation.staffAccount(staffAccountId, Version.of(3)));
+            sut.publish(other);
+            sut.publish(CacheInvalidation.staffAccount(staffAccountId, Version.of(4)));
+            sut.publish(CacheInvalidation.staffAccount(staffAccountId));
+
+            // When
+            sut.flushPending();
+
+            // Then
+            assertThat(sentPayloads()).containsExactly(
+                    CacheInvalidation.staffAccount(staffAccountId, Version.of(4)).toPayload(),
+                    other.toPayload()
+            );
+        }
+
+        @Test
+        void shouldSendNothing_whenNothingIsPending() {
+            // When
+            sut.flushPending();
+
+            // Then
+            verifyNoInteractions(jdbcHelperMock);
+        }
+
+        @Test
+        void shouldNotResendWhatWasAlreadyFlushed() {
+            // Given
+            when(dataSourceMock.isTransactionActive()).thenReturn(true);
+            sut.publish(CacheInvalidation.allStaffAccounts());
+            sut.flushPending();
+
+            // When
+            sut.flushPending();
+
+            // Then
+            verify(jdbcHelperMock, times(1)).query(any(SqlStatement.class), eq(CacheInvalidationNotifyDao.class));
+        }
+    }
+
+    @Nested
+    class DiscardPending {
+        @Test
+        void shouldDropInvalidationsOfARolledBackUnitOfWork() {
+            // Given
+            when(dataSourceMock.isTransactionActive()).thenReturn(true);
+            sut.publish(CacheInvalidation.staffAccount(StaffAccountId.generate(), Version.of(2)));
+
+            // When
+            sut.discardPending();
+            sut.flushPending();
+
+            // Then
+            verifyNoInteractions(jdbcHelperMock);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.paragon.infrastructure.persistence.eventstore;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.constants.StaffAccountProperties;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.daos.StaffAccountEventDao;
+import com.paragon.infrastructure.persistence.daos.StaffAccountStreamHeadDao;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StaffAccountEventStoreTests {
+    private static final List<String> STORED_PROPERTIES = List.of(
+            "username", "email", "isPasswordTemporary", "passwordIssuedAt", "orderAccessDuration",
+            "modmailTranscriptAccessDuration", "status", "failedLoginAttempts", "lockedUntil", "lastLoginAt",
+            "createdBy", "disabledBy", "enabledBy", "passwordResetBy", "permissionCodes"
+    );
+
+    @Nested
+    class Append {
+        private final WriteJdbcHelper jdbcHelperMock;
+        private final ObjectMapper objectMapper;
+        private final StaffAccountEventStore sut;
+
+        public Append() {
+            jdbcHelperMock = mock(WriteJdbcHelper.class);
+            objectMapper = new ObjectMapper().findAndRegisterModules();
+            sut = new StaffAccountEventStore(jdbcHelperMock, objectMapper, 5);
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<SqlStatement> captureStatements() {
+            ArgumentCaptor<List<SqlStatement>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcHelperMock).executeMultiple(captor.capture());
+            return captor.getValue();
+        }
+
+        @Test
+        void shouldAppendOnlyTheChangedProperties_underTheAccountsVersion() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(2).build();
+            staffAccount.disable(StaffAccountId.generate());
+
+            // When
+            sut.append(staffAccount, staffAccount.getModifiedProperties());
+
+            // Then
+            List<SqlStatement> statements = captureStatements();
+            var params = statements.getFirst().params().build();
+            assertThat(statements.getFirst().sql()).contains("INSERT INTO staff_account_events");
+            assertThat(params)
+                    .containsEntry("aggregateId", staffAccount.getId().getValue())
+                    .containsEntry("version", 3)
+                    .containsEntry("eventName", EventNames.STAFF_ACCOUNT_DISABLED);
+            assertThat(fieldNamesOf(objectMapper.readTree((String) params.get("changes"))))
+                    .containsExactlyInAnyOrder("status", "disabledBy", "enabledBy");
+        }
+
+        @Test
+        void shouldNeverStoreThePasswordHash() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(4).build();
+            staffAccount.login();
+
+            // When
+            sut.append(staffAccount, StaffAccountProperties.ALL);
+
+            // Then
+            List<SqlStatement> statements = captureStatements();
+            assertThat(objectMapper.readTree((String) statements.get(0).params().build().get("changes")).has("password"))
+                    .isFalse();
+            assertThat(objectMapper.readTree((String) statements.get(1).params().build().get("state")).has("password"))
+                    .isFalse();
+        }
+
+        @Test
+        void shouldAdoptAnAccountWithoutHistory_inTheSameBatchAsItsEvent() {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(7).build();
+            staffAccount.disable(StaffAccountId.generate());
+
+            // When
+            sut.append(staffAccount, staffAccount.getModifiedProperties());
+
+            // Then
+            List<SqlStatement> statements = captureStatements();
+            assertThat(statements).hasSize(2);
+            assertThat(statements.get(1).sql()).contains("INSERT INTO staff_account_snapshots").contains("NOT EXISTS");
+            assertThat(statements.get(1).params().build())
+                    .containsEntry("version", 8)
+                    .containsEntry("initialVersion", 1);
+        }
+
+        @Test
+        void shouldNotAdopt_whenAppendingTheFirstVersion() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+
+            // When
+            sut.append(staffAccount, StaffAccountProperties.ALL);
+
+            // Then
+            assertThat(captureStatements()).hasSize(1);
+        }
+
+        @Test
+        void shouldSaveSnapshot_everySnapshotIntervalVersions() {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(4).build();
+            staffAccount.login();
+
+            // When
+            sut.append(staffAccount, staffAccount.getModifiedProperties());
+
+            // Then
+            List<SqlStatement> statements = captureStatements();
+            assertThat(statements).hasSize(2);
+            assertThat(statements.get(1).sql()).contains("INSERT INTO staff_account_snapshots");
+            assertThat(statements.get(1).params().build()).containsEntry("version", 5);
+        }
+
+        @Test
+        void shouldLeaveOutEventName_whenNoEventWasRaised() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            staffAccount.registerFailedLoginAttempt();
+
+            // When
+            sut.append(staffAccount, staffAccount.getModifiedProperties());
+
+            // Then
+            assertThat(captureStatements().getFirst().params().build().get("eventName")).isNull();
+        }
+    }
+
+    @Nested
+    class Load {
+        private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuuJ2qL0yG0rM6x2T1q1W8k9m2r1fHh3e6";
+
+        private final WriteJdbcHelper jdbcHelperMock;
+        private final ObjectMapper objectMapper;
+        private final StaffAccountEventStore sut;
+
+        public Load() {
+            jdbcHelperMock = mock(WriteJdbcHelper.class);
+            objectMapper = new ObjectMapper().findAndRegisterModules();
+            sut = new StaffAccountEventStore(jdbcHelperMock, objectMapper, 25);
+        }
+
+        private String stateOf(StaffAccount staffAccount) throws Exception {
+            return objectMapper.copy()
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .writeValueAsString(StaffAccountState.from(staffAccount));
+        }
+
+        private void givenHead(StaffAccountId staffAccountId, int currentVersion, Integer snapshotVersion, String snapshotState) {
+            when(jdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountStreamHeadDao.class)))
+                    .thenReturn(Optional.of(new StaffAccountStreamHeadDao(
+                            staffAccountId.getValue(), PASSWORD_HASH, currentVersion, snapshotVersion, snapshotState)));
+        }
+
+        private void givenEvents(StaffAccountEventDao... events) {
+            when(jdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountEventDao.class))).thenReturn(List.of(events));
+        }
+
+        @Test
+        void shouldRebuildAccount_fromItsFirstEvent_withThePasswordFromTheRow() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withPassword(PASSWORD_HASH).build();
+            givenHead(staffAccount.getId(), 1, null, null);
+            givenEvents(new StaffAccountEventDao(1, stateOf(staffAccount)));
+
+            // When
+            Optional<StaffAccount> result = sut.load(staffAccount.getId());
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get())
+                    .usingRecursiveComparison()
+                    .ignoringFields("uncommittedEvents", "modifiedProperties")
+                    .isEqualTo(staffAccount);
+        }
+
+        @Test
+        void shouldFoldEventsAfterTheSnapshot_ontoIt() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(25).build();
+            StaffAccountId disabledBy = StaffAccountId.generate();
+            givenHead(staffAccount.getId(), 26, 25, stateOf(staffAccount));
+            givenEvents(new StaffAccountEventDao(26,
+                    "{\"status\":\"DISABLED\",\"disabledBy\":\"" + disabledBy.getValue() + "\",\"enabledBy\":null}"));
+            ArgumentCaptor<SqlStatement> eventsQueryCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            StaffAccount result = sut.load(staffAccount.getId()).orElseThrow();
+
+            // Then
+            verify(jdbcHelperMock).query(eventsQueryCaptor.capture(), eq(StaffAccountEventDao.class));
+            assertThat(eventsQueryCaptor.getValue().params().build()).containsEntry("afterVersion", 25);
+            assertThat(result.getVersion().getValue()).isEqualTo(26);
+            assertThat(result.getStatus().toString()).isEqualTo("DISABLED");
+            assertThat(result.getDisabledBy()).isEqualTo(disabledBy);
+            assertThat(result.getUsername()).isEqualTo(staffAccount.getUsername());
+            assertThat(result.getPassword().getValue()).isEqualTo(PASSWORD_HASH);
+        }
+
+        @Test
+        void shouldNotReadEvents_whenTheSnapshotIsAtTheRowsVersion() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(25).build();
+            givenHead(staffAccount.getId(), 25, 25, stateOf(staffAccount));
+
+            // When
+            StaffAccount result = sut.load(staffAccount.getId()).orElseThrow();
+
+            // Then
+            assertThat(result.getVersion().getValue()).isEqualTo(25);
+            verify(jdbcHelperMock, never()).query(any(SqlStatement.class), eq(StaffAccountEventDao.class));
+        }
+
+        @Test
+        void shouldLoadByUsername_withoutAnIdLookup() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(25).build();
+            givenHead(staffAccount.getId(), 25, 25, stateOf(staffAccount));
+            ArgumentCaptor<SqlStatement> headQueryCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            StaffAccount result = sut.loadByUsername(staffAccount.getUsername()).orElseThrow();
+
+            // Then
+            verify(jdbcHelperMock).queryFirstOrDefault(headQueryCaptor.capture(), eq(StaffAccountStreamHeadDao.class));
+            assertThat(headQueryCaptor.getValue().params().build())
+                    .containsEntry("username", staffAccount.getUsername().getValue());
+            assertThat(result.getId()).isEqualTo(staffAccount.getId());
+        }
+
+        @Test
+        void shouldReadTimestampsWrittenWithAnOffset() throws Exception {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            givenHead(staffAccount.getId(), 2, 1, stateOf(staffAccount));
+            givenEvents(new StaffAccountEventDao(2, "{\"lastLoginAt\":\"2025-03-01T10:15:30.123456+00:00\"}"));
+
+            // When
+            StaffAccount result = sut.load(staffAccount.getId()).orElseThrow();
+
+            // Then
+            assertThat(result.getLastLoginAt()).isEqualTo("2025-03-01T10:15:30.123456Z");
+        }
+
+        @Test
+        void shouldReturnEmpty_whenThereIsNoSuchAccount() {
+            // Given
+            when(jdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountStreamHeadDao.class)))
+                    .thenReturn(Optional.empty());
+
+            // When & Then
+            assertThat(sut.load(StaffAccountId.generate())).isEmpty();
+            verify(jdbcHelperMock, never()).query(any(SqlStatement.class), eq(StaffAccountEventDao.class));
+        }
+
+        @Test
+        void shouldReturnEmpty_whenTheStoreHasNoHistory() {
+            // Given
+            givenHead(StaffAccountId.generate(), 4, null, null);
+            givenEvents();
+
+            // When & Then
+            assertThat(sut.load(StaffAccountId.generate())).isEmpty();
+        }
+
+        @Test
+        void shouldReturnEmpty_whenHistoryDoesNotStartAtTheFirstVersion() {
+            // Given
+            givenHead(StaffAccountId.generate(), 8, null, null);
+            givenEvents(new StaffAccountEventDao(8, "{\"status\":\"DISABLED\"}"));
+
+            // When & Then
+            assertThat(sut.load(StaffAccountId.generate())).isEmpty();
+        }
+
+        @Test
+        void shouldReturnEmpty_whenTheStoreIsBehindTheRow() throws Exception {
+            // Given
+            StaffAccount staffAccount = new StaffAccountFixture().withVersion(3).build();
+            givenHead(staffAccount.getId(), 5, 3, stateOf(staffAccount));
+            givenEvents(new StaffAccountEventDao(4, "{\"status\":\"DISABLED\"}"));
+
+            // When & Then
+            assertThat(sut.load(staffAccount.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    class State {
+        @Test
+        void shouldNamePropertiesAfterTheAggregatesModifiedProperties() {
+            // Given
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+            // When
+            JsonNode state = objectMapper.valueToTree(StaffAccountState.from(StaffAccountFixture.validStaffAccount()));
+
+            // Then
+            assertThat(fieldNamesOf(state)).containsExactlyInAnyOrderElementsOf(STORED_PROPERTIES);
+        }
+    }
+
+    private static List<String> fieldNamesOf(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,277 @@
+package com.paragon.infrastructure.persistence.jdbc.consistency;
+
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplica;
+import com.paragon.infrastructure.persistence.jdbc.replicas.ReadReplicaPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicaConsistencyRouterTests {
+    private static final String CURRENT_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLAY_LSN_SQL = "SELECT pg_last_wal_replay_lsn()::text";
+
+    @AfterEach
+    void resetRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class Read {
+        private final NamedParameterJdbcTemplate readJdbcMock;
+        private final NamedParameterJdbcTemplate writeJdbcMock;
+        private final JdbcOperations readOperationsMock;
+        private final MockHttpServletRequest request;
+        private final ReadReplica replica;
+        private final ReplicaConsistencyRouter sut;
+
+        public Read() {
+            readJdbcMock = mock(NamedParameterJdbcTemplate.class);
+            writeJdbcMock = mock(NamedParameterJdbcTemplate.class);
+            readOperationsMock = mock(JdbcOperations.class);
+            when(readJdbcMock.getJdbcOperations()).thenReturn(readOperationsMock);
+
+            request = new MockHttpServletRequest();
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+            replica = new ReadReplica("read", readJdbcMock, 1);
+            ReadReplicaPool pool = new ReadReplicaPool(List.of(replica), List.of());
+
+            sut = new ReplicaConsistencyRouter(pool, writeJdbcMock, new ReadConsistencyContext(), 20);
+        }
+
+        @Test
+        void shouldReadFromReplica_withoutCheckingLag_whenNoConsistencyTokenIsPresent() {
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+            verifyNoInteractions(readOperationsMock);
+        }
+
+        @Test
+        void shouldReadFromReplica_whenReplicaHasReplayedTheToken() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class)).thenReturn("0/3000100");
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+        }
+
+        @Test
+        void shouldFallBackToPrimary_whenReplicaDoesNotCatchUpInTime() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class)).thenReturn("0/2000000");
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(writeJdbcMock);
+            verify(readOperationsMock, atLeast(2)).queryForObject(REPLAY_LSN_SQL, String.class);
+        }
+
+        @Test
+        void shouldWaitForReplica_whenItCatchesUpWithinTheTimeout() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class)).thenReturn("0/2000000", "0/3000060");
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+            verify(readOperationsMock, times(2)).queryForObject(REPLAY_LSN_SQL, String.class);
+        }
+
+        @Test
+        void shouldNotAskReplicaAgain_forPositionsItIsKnownToHaveReplayed() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class)).thenReturn("0/4000000");
+            sut.read(jdbc -> jdbc);
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+            verify(readOperationsMock, times(1)).queryForObject(REPLAY_LSN_SQL, String.class);
+        }
+
+        @Test
+        void shouldReadFromReadSource_whenItIsNotAStandby() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class)).thenReturn(null);
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+        }
+
+        @Test
+        void shouldFallBackToPrimary_whenReplicaCannotBeQueried() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/3000060");
+            when(readOperationsMock.queryForObject(REPLAY_LSN_SQL, String.class))
+                    .thenThrow(new DataAccessResourceFailureException("replica down"));
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(writeJdbcMock);
+        }
+
+        @Test
+        void shouldIgnoreMalformedConsistencyToken() {
+            // Given
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "not-an-lsn");
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(readJdbcMock);
+            verifyNoInteractions(readOperationsMock);
+        }
+
+        @Test
+        void shouldReadFromPrimary_whenNoReplicaIsInRotation() {
+            // Given
+            for (int i = 0; i < ReadReplica.MAX_CONSECUTIVE_ERRORS; i++) {
+                replica.recordConnectionError();
+            }
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> jdbc);
+
+            // Then
+            assertThat(result).isSameAs(writeJdbcMock);
+        }
+
+        @Test
+        void shouldRetryOnPrimary_andRecordError_whenReplicaConnectionFails() {
+            // Given
+            List<NamedParameterJdbcTemplate> attempts = new ArrayList<>();
+
+            // When
+            NamedParameterJdbcTemplate result = sut.read(jdbc -> {
+                attempts.add(jdbc);
+                if (jdbc == readJdbcMock) {
+                    throw new CannotGetJdbcConnectionException("replica down");
+                }
+                return jdbc;
+            });
+
+            // Then
+            assertThat(result).isSameAs(writeJdbcMock);
+            assertThat(attempts).containsExactly(readJdbcMock, writeJdbcMock);
+            assertThat(replica.getOutstandingRequests()).isZero();
+        }
+
+        @Test
+        void shouldNotRetry_whenQueryFailsForOtherReasons() {
+            // When & Then
+            assertThatThrownBy(() -> sut.read(jdbc -> {
+                throw new BadSqlGrammarException("select", "SELECT", new SQLException());
+            })).isInstanceOf(BadSqlGrammarException.class);
+            assertThat(replica.getOutstandingRequests()).isZero();
+        }
+    }
+
+    @Nested
+    class RecordCommit {
+        private final NamedParameterJdbcTemplate writeJdbcMock;
+        private final JdbcOperations writeOperationsMock;
+        private final ReadConsistencyContext readConsistencyContext;
+        private final ReplicaConsistencyRouter sut;
+
+        public RecordCommit() {
+            writeJdbcMock = mock(NamedParameterJdbcTemplate.class);
+            writeOperationsMock = mock(JdbcOperations.class);
+            when(writeJdbcMock.getJdbcOperations()).thenReturn(writeOperationsMock);
+            readConsistencyContext = new ReadConsistencyContext();
+
+            ReadReplicaPool pool = new ReadReplicaPool(List.of(), List.of());
+
+            sut = new ReplicaConsistencyRouter(pool, writeJdbcMock, readConsistencyContext, 20);
+        }
+
+        @Test
+        void shouldRequirePrimaryWalPosition_forTheRestOfTheRequest() {
+            // Given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "0/1000000");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            when(writeOperationsMock.queryForObject(CURRENT_LSN_SQL, String.class)).thenReturn("0/3000060");
+
+            // When
+            sut.recordCommit();
+
+            // Then
+            assertThat(readConsistencyContext.getRequiredLsn()).contains(WalLsn.parse("0/3000060"));
+        }
+
+        @Test
+        void shouldKeepHigherTokenFromClient() {
+            // Given
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(ReadConsistencyContext.CONSISTENCY_TOKEN_HEADER, "1/0");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+            when(writeOperationsMock.queryForObject(CURRENT_LSN_SQL, String.class)).thenReturn("0/3000060");
+
+            // When
+            sut.recordCommit();
+
+            // Then
+            assertThat(readConsistencyContext.getRequiredLsn()).contains(WalLsn.parse("1/0"));
+        }
+
+        @Test
+        void shouldSkipLookup_outsideOfARequest() {
+            // When
+            sut.recordCommit();
+
+            // Then
+            verifyNoInteractions(writeOperationsMock);
+        }
+
+        @Test
+        void shouldNotThrow_whenPrimaryPositionCannotBeRead() {
+            // Given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(writeOperationsMock.queryForObject(anyString(), eq(String.class)))
+                    .thenThrow(new DataAccessResourceFailureException("primary down"));
+
+            // When & Then
+            assertThatCode(sut::recordCommit).doesNotThrowAnyException();
+            assertThat(readConsistencyContext.getRequiredLsn()).isEmpty();
+        }
+    }
+}
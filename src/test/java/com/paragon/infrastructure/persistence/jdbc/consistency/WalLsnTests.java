@@ -0,0 +1,54 @@
+package com.paragon.infrastructure.persistence.jdbc.consistency;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class WalLsnTests {
+    @Nested
+    class Parse {
+        @Test
+        void shouldCombineHighAndLowHalves() {
+            // When
+            WalLsn lsn = WalLsn.parse("16/B374D848");
+
+            // Then
+            assertThat(lsn.value()).isEqualTo((0x16L << 32) | 0xB374D848L);
+        }
+
+        @Test
+        void shouldRoundTripThroughToString() {
+            // When
+            WalLsn lsn = WalLsn.parse("0/3000060");
+
+            // Then
+            assertThat(lsn.toString()).isEqualTo("0/3000060");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "16", "/B374D848", "16/", "xyz/1", "1/100000000", "16/B374D848/1"})
+        void shouldThrowIllegalArgumentException_whenTextIsMalformed(String text) {
+            // When & Then
+            assertThatThrownBy(() -> WalLsn.parse(text))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class IsAtLeast {
+        @Test
+        void shouldCompareByHighHalfFirst() {
+            // Given
+            WalLsn lower = WalLsn.parse("0/FFFFFFFF");
+            WalLsn higher = WalLsn.parse("1/0");
+
+            // When & Then
+            assertThat(higher.isAtLeast(lower)).isTrue();
+            assertThat(lower.isAtLeast(higher)).isFalse();
+            assertThat(lower.isAtLeast(lower)).isTrue();
+        }
+    }
+}
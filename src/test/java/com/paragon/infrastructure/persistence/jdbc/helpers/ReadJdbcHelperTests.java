@@ -0,0 +1,123 @@
+package com.paragon.infrastructure.persistence.jdbc.helpers;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReplicaConsistencyRouter;
+import com.paragon.infrastructure.persistence.jdbc.mapping.RowMapperRegistry;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ReadJdbcHelperTests {
+    @Nested
+    class Stream {
+        private final Connection connectionMock;
+        private final PreparedStatement preparedStatementMock;
+        private final ResultSet resultSetMock;
+        private final ReadJdbcHelperImpl sut;
+
+        private static final String SQL = "SELECT username FROM staff_accounts WHERE status = :status";
+
+        record UsernameRow(String username) {}
+
+        @SuppressWarnings("unchecked")
+        public Stream() throws SQLException {
+            NamedParameterJdbcTemplate jdbcMock = mock(NamedParameterJdbcTemplate.class);
+            JdbcOperations jdbcOperationsMock = mock(JdbcOperations.class);
+            connectionMock = mock(Connection.class);
+            preparedStatementMock = mock(PreparedStatement.class);
+            resultSetMock = mock(ResultSet.class);
+            ResultSetMetaData metaDataMock = mock(ResultSetMetaData.class);
+
+            when(jdbcMock.getJdbcOperations()).thenReturn(jdbcOperationsMock);
+            when(jdbcOperationsMock.execute(any(ConnectionCallback.class)))
+                    .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connectionMock));
+            when(connectionMock.getAutoCommit()).thenReturn(true);
+            when(connectionMock.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatementMock);
+            when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+            when(resultSetMock.getMetaData()).thenReturn(metaDataMock);
+            when(metaDataMock.getColumnCount()).thenReturn(1);
+            when(metaDataMock.getColumnLabel(1)).thenReturn("username");
+            when(resultSetMock.next()).thenReturn(true, true, false);
+            when(resultSetMock.getString(1)).thenReturn("john_doe", "jane_smith");
+
+            ReplicaConsistencyRouter replicaConsistencyRouterMock = mock(ReplicaConsistencyRouter.class);
+            when(replicaConsistencyRouterMock.read(any()))
+                    .thenAnswer(invocation -> invocation.<Function<NamedParameterJdbcTemplate, ?>>getArgument(0).apply(jdbcMock));
+
+            sut = new ReadJdbcHelperImpl(replicaConsistencyRouterMock, new RowMapperRegistry(), 250);
+        }
+
+        @Test
+        void shouldHandEachRowToConsumer_throughAServerSideCursor() throws SQLException {
+            // Given
+            List<UsernameRow> rows = new ArrayList<>();
+
+            // When
+            sut.stream(new SqlStatement(SQL, new SqlParamsBuilder().add("status", "ACTIVE")), UsernameRow.class, rows::add);
+
+            // Then
+            assertThat(rows).containsExactly(new UsernameRow("john_doe"), new UsernameRow("jane_smith"));
+            verify(connectionMock).prepareStatement(
+                    "SELECT username FROM staff_accounts WHERE status = ?",
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            verify(preparedStatementMock).setFetchSize(250);
+            verify(preparedStatementMock).setString(1, "ACTIVE");
+
+            InOrder inOrder = inOrder(connectionMock, preparedStatementMock);
+            inOrder.verify(connectionMock).setAutoCommit(false);
+            inOrder.verify(preparedStatementMock).executeQuery();
+            inOrder.verify(connectionMock).commit();
+            inOrder.verify(connectionMock).setAutoCommit(true);
+        }
+
+        @Test
+        void shouldLeaveTransactionAlone_whenConnectionIsAlreadyInOne() throws SQLException {
+            // Given
+            when(connectionMock.getAutoCommit()).thenReturn(false);
+            List<UsernameRow> rows = new ArrayList<>();
+
+            // When
+            sut.stream(new SqlStatement(SQL, new SqlParamsBuilder().add("status", "ACTIVE")), UsernameRow.class, rows::add);
+
+            // Then
+            assertThat(rows).hasSize(2);
+            verify(connectionMock, never()).setAutoCommit(anyBoolean());
+            verify(connectionMock, never()).commit();
+        }
+
+        @Test
+        void shouldRollBackAndRestoreAutoCommit_whenConsumerThrows() throws SQLException {
+            // When & Then
+            assertThatThrownBy(() -> sut.stream(
+                    new SqlStatement(SQL, new SqlParamsBuilder().add("status", "ACTIVE")),
+                    UsernameRow.class,
+                    row -> { throw new IllegalStateException("client went away"); }
+            )).isInstanceOf(IllegalStateException.class);
+
+            verify(connectionMock, never()).commit();
+            verify(connectionMock).rollback();
+            verify(connectionMock).setAutoCommit(true);
+            verify(resultSetMock).close();
+            verify(preparedStatementMock).close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.paragon.infrastructure.persistence.jdbc.helpers;
+
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.exceptions.InfraExceptionHandler;
+import com.paragon.infrastructure.persistence.jdbc.mapping.RowMapperRegistry;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class WriteJdbcHelperTests {
+    @Nested
+    class ExecuteMultiple {
+        private final NamedParameterJdbcTemplate jdbcMock;
+        private final InfraExceptionHandler infraExceptionHandlerMock;
+        private final WriteJdbcHelperImpl sut;
+
+        private static final String INSERT_PARENT_SQL = "INSERT INTO parents (id) VALUES (:id)";
+        private static final String INSERT_CHILD_SQL = "INSERT INTO children (parent_id, code) VALUES (:parentId, :code)";
+
+        public ExecuteMultiple() {
+            jdbcMock = mock(NamedParameterJdbcTemplate.class);
+            infraExceptionHandlerMock = mock(InfraExceptionHandler.class);
+            sut = new WriteJdbcHelperImpl(jdbcMock, infraExceptionHandlerMock, new RowMapperRegistry());
+        }
+
+        @Test
+        void shouldBatchConsecutiveStatementsWithTheSameSql() {
+            // Given
+            List<SqlStatement> statements = List.of(
+                    new SqlStatement(INSERT_PARENT_SQL, new SqlParamsBuilder().add("id", 1)),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "A")),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "B")),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "C"))
+            );
+            when(jdbcMock.update(eq(INSERT_PARENT_SQL), anyMap())).thenReturn(1);
+            when(jdbcMock.batchUpdate(eq(INSERT_CHILD_SQL), any(SqlParameterSource[].class))).thenReturn(new int[]{1, 1, 1});
+
+            // When
+            sut.executeMultiple(statements);
+
+            // Then
+            ArgumentCaptor<SqlParameterSource[]> batchCaptor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+            verify(jdbcMock, times(1)).update(eq(INSERT_PARENT_SQL), anyMap());
+            verify(jdbcMock, times(1)).batchUpdate(eq(INSERT_CHILD_SQL), batchCaptor.capture());
+
+            SqlParameterSource[] batch = batchCaptor.getValue();
+            assertThat(batch).hasSize(3);
+            assertThat(batch[0].getValue("code")).isEqualTo("A");
+            assertThat(batch[1].getValue("code")).isEqualTo("B");
+            assertThat(batch[2].getValue("code")).isEqualTo("C");
+        }
+
+        @Test
+        void shouldNotGroupNonConsecutiveStatements_soThatOrderingIsPreserved() {
+            // Given
+            List<SqlStatement> statements = List.of(
+                    new SqlStatement(INSERT_PARENT_SQL, new SqlParamsBuilder().add("id", 1)),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "A")),
+                    new SqlStatement(INSERT_PARENT_SQL, new SqlParamsBuilder().add("id", 2))
+            );
+            when(jdbcMock.update(anyString(), anyMap())).thenReturn(1);
+
+            // When
+            sut.executeMultiple(statements);
+
+            // Then
+            var inOrder = inOrder(jdbcMock);
+            inOrder.verify(jdbcMock).update(eq(INSERT_PARENT_SQL), eq(Map.of("id", 1)));
+            inOrder.verify(jdbcMock).update(eq(INSERT_CHILD_SQL), anyMap());
+            inOrder.verify(jdbcMock).update(eq(INSERT_PARENT_SQL), eq(Map.of("id", 2)));
+            verify(jdbcMock, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        }
+
+        @Test
+        void shouldReturnAffectedRowsPerStatement_inTheOriginalOrder() {
+            // Given
+            List<SqlStatement> statements = List.of(
+                    new SqlStatement(INSERT_PARENT_SQL, new SqlParamsBuilder().add("id", 1)),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "A")),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "B"))
+            );
+            when(jdbcMock.update(eq(INSERT_PARENT_SQL), anyMap())).thenReturn(1);
+            when(jdbcMock.batchUpdate(eq(INSERT_CHILD_SQL), any(SqlParameterSource[].class))).thenReturn(new int[]{1, 0});
+
+            // When
+            int[] affectedRows = sut.executeMultiple(statements);
+
+            // Then
+            assertThat(affectedRows).containsExactly(1, 1, 0);
+        }
+
+        @Test
+        void shouldReturnEmptyArray_whenNoStatementsAreGiven() {
+            // When
+            int[] affectedRows = sut.executeMultiple(List.of());
+
+            // Then
+            assertThat(affectedRows).isEmpty();
+            verifyNoInteractions(jdbcMock);
+        }
+
+        @Test
+        void shouldTranslateDataAccessException() {
+            // Given
+            List<SqlStatement> statements = List.of(
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "A")),
+                    new SqlStatement(INSERT_CHILD_SQL, new SqlParamsBuilder().add("parentId", 1).add("code", "B"))
+            );
+            when(jdbcMock.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                    .thenThrow(new DataIntegrityViolationException("duplicate key"));
+            when(infraExceptionHandlerMock.handleDatabaseException(any(DataAccessException.class)))
+                    .thenReturn(new InfraException());
+
+            // When & Then
+            assertThatThrownBy(() -> sut.executeMultiple(statements))
+                    .isInstanceOf(InfraException.class);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.paragon.infrastructure.persistence.jdbc.mapping;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RecordRowMapperTests {
+    enum SampleStatus { ACTIVE, DISABLED }
+
+    record SampleRecord(
+            UUID id,
+            String username,
+            boolean isPasswordTemporary,
+            int failedLoginAttempts,
+            SampleStatus status,
+            List<String> permissionCodes,
+            Instant createdAtUtc
+    ) {}
+
+    @Nested
+    class NewRowMapper {
+        private final RecordRowMapper<SampleRecord> sut;
+        private final ResultSet resultSetMock;
+        private final ResultSetMetaData metaDataMock;
+
+        private final UUID id = UUID.randomUUID();
+        private final Instant createdAtUtc = Instant.parse("2025-01-01T10:00:00Z");
+
+        public NewRowMapper() throws SQLException {
+            sut = new RecordRowMapper<>(SampleRecord.class);
+            resultSetMock = mock(ResultSet.class);
+            metaDataMock = mock(ResultSetMetaData.class);
+
+            String[] columns = {"created_at_utc", "id", "username", "is_password_temporary", "failed_login_attempts", "status", "permission_codes"};
+            when(resultSetMock.getMetaData()).thenReturn(metaDataMock);
+            when(metaDataMock.getColumnCount()).thenReturn(columns.length);
+            for (int i = 0; i < columns.length; i++) {
+                when(metaDataMock.getColumnLabel(i + 1)).thenReturn(columns[i]);
+            }
+
+            Array permissionCodesArray = mock(Array.class);
+            when(permissionCodesArray.getArray()).thenReturn(new String[]{"APPROVE_PASSWORD_CHANGE", "VIEW_ACCOUNTS_LIST"});
+
+            when(resultSetMock.getTimestamp(1)).thenReturn(Timestamp.from(createdAtUtc));
+            when(resultSetMock.getObject(eq(2), eq(UUID.class))).thenReturn(id);
+            when(resultSetMock.getString(3)).thenReturn("john_doe");
+            when(resultSetMock.getBoolean(4)).thenReturn(true);
+            when(resultSetMock.getInt(5)).thenReturn(2);
+            when(resultSetMock.getObject(eq(6), eq(SampleStatus.class))).thenThrow(new SQLException("unsupported"));
+            when(resultSetMock.getObject(6)).thenReturn("ACTIVE");
+            when(resultSetMock.getArray(7)).thenReturn(permissionCodesArray);
+        }
+
+        @Test
+        void shouldMapColumnsToRecordComponents_byUnderscoredName() throws SQLException {
+            // Given
+            RowMapper<SampleRecord> rowMapper = sut.newRowMapper();
+
+            // When
+            SampleRecord result = rowMapper.mapRow(resultSetMock, 0);
+
+            // Then
+            assertThat(result).isNotNull();
+            assertThat(result.id()).isEqualTo(id);
+            assertThat(result.username()).isEqualTo("john_doe");
+            assertThat(result.isPasswordTemporary()).isTrue();
+            assertThat(result.failedLoginAttempts()).isEqualTo(2);
+            assertThat(result.status()).isEqualTo(SampleStatus.ACTIVE);
+            assertThat(result.permissionCodes()).containsExactly("APPROVE_PASSWORD_CHANGE", "VIEW_ACCOUNTS_LIST");
+            assertThat(result.createdAtUtc()).isEqualTo(createdAtUtc);
+        }
+
+        @Test
+        void shouldResolveColumnIndexesOnlyOnce_perResultSet() throws SQLException {
+            // Given
+            RowMapper<SampleRecord> rowMapper = sut.newRowMapper();
+
+            // When
+            rowMapper.mapRow(resultSetMock, 0);
+            rowMapper.mapRow(resultSetMock, 1);
+            rowMapper.mapRow(resultSetMock, 2);
+
+            // Then
+            verify(resultSetMock, times(1)).getMetaData();
+            verify(resultSetMock, never()).findColumn(anyString());
+        }
+
+        @Test
+        void shouldReuseResolvedColumnIndexes_forResultSetsWithTheSameShape() throws SQLException {
+            // Given
+            ResultSetMetaData metaData = resultSetMock.getMetaData();
+            int[] first = sut.resolveColumnIndexes(metaData);
+
+            // When
+            int[] second = sut.resolveColumnIndexes(metaData);
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(first).containsExactly(2, 3, 4, 5, 6, 7, 1);
+        }
+
+        @Test
+        void shouldDefaultPrimitiveComponents_whenColumnIsNull() throws SQLException {
+            // Given
+            when(resultSetMock.getInt(5)).thenReturn(0);
+            when(resultSetMock.wasNull()).thenReturn(true);
+            when(resultSetMock.getBoolean(4)).thenReturn(false);
+            when(resultSetMock.getArray(7)).thenReturn(null);
+            when(resultSetMock.getTimestamp(1)).thenReturn(null);
+
+            // When
+            SampleRecord result = sut.newRowMapper().mapRow(resultSetMock, 0);
+
+            // Then
+            assertThat(result).isNotNull();
+            assertThat(result.failedLoginAttempts()).isZero();
+            assertThat(result.isPasswordTemporary()).isFalse();
+            assertThat(result.permissionCodes()).isNull();
+            assertThat(result.createdAtUtc()).isNull();
+        }
+
+        @Test
+        void shouldThrowSqlException_whenComponentHasNoMatchingColumn() throws SQLException {
+            // Given
+            when(metaDataMock.getColumnCount()).thenReturn(3);
+
+            // When & Then
+            assertThatExceptionOfType(SQLException.class)
+                    .isThrownBy(() -> sut.newRowMapper().mapRow(resultSetMock, 0))
+                    .withMessageContaining("isPasswordTemporary");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.paragon.infrastructure.persistence.jdbc.mapping;
+
+import com.paragon.infrastructure.persistence.daos.StaffAccountDao;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RowMapperRegistryTests {
+    @Nested
+    class Constructor {
+        @Test
+        void shouldRegisterDaoAndReadModelRecords_atStartup() {
+            // When
+            RowMapperRegistry sut = new RowMapperRegistry();
+
+            // Then
+            assertThat(sut.isRegistered(StaffAccountDao.class)).isTrue();
+            assertThat(sut.isRegistered(StaffAccountSummaryReadModel.class)).isTrue();
+        }
+    }
+
+    @Nested
+    class GetRowMapper {
+        private final RowMapperRegistry sut;
+
+        public GetRowMapper() {
+            sut = new RowMapperRegistry();
+        }
+
+        record UnregisteredRecord(String value) {}
+
+        static class NonRecordType {
+            private String value;
+        }
+
+        @Test
+        void shouldRegisterRecordType_onFirstUse() {
+            // When
+            RowMapper<UnregisteredRecord> rowMapper = sut.getRowMapper(UnregisteredRecord.class);
+
+            // Then
+            assertThat(rowMapper).isNotNull();
+            assertThat(sut.isRegistered(UnregisteredRecord.class)).isTrue();
+        }
+
+        @Test
+        void shouldHandOutFreshRowMapper_perQuery() {
+            // When
+            RowMapper<StaffAccountDao> first = sut.getRowMapper(StaffAccountDao.class);
+            RowMapper<StaffAccountDao> second = sut.getRowMapper(StaffAccountDao.class);
+
+            // Then
+            assertThat(first).isNotSameAs(second);
+        }
+
+        @Test
+        void shouldFallBackToDataClassRowMapper_whenTypeIsNotARecord() {
+            // When
+            RowMapper<NonRecordType> rowMapper = sut.getRowMapper(NonRecordType.class);
+
+            // Then
+            assertThat(rowMapper).isInstanceOf(DataClassRowMapper.class);
+            assertThat(sut.isRegistered(NonRecordType.class)).isFalse();
+        }
+    }
+}
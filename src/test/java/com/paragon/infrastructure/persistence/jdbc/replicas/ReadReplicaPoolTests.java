@@ -0,0 +1,171 @@
+package com.paragon.infrastructure.persistence.jdbc.replicas;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReadReplicaPoolTests {
+    private static ReadReplica replica(String name, int weight) {
+        return new ReadReplica(name, mock(NamedParameterJdbcTemplate.class), weight);
+    }
+
+    @Nested
+    class Select {
+        @Test
+        void shouldPickReplicaWithFewestOutstandingRequests() {
+            // Given
+            ReadReplica busy = replica("busy", 1);
+            ReadReplica idle = replica("idle", 1);
+            busy.acquire();
+            busy.acquire();
+            idle.acquire();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(busy, idle), List.of());
+
+            // When & Then
+            for (int i = 0; i < 4; i++) {
+                assertThat(sut.select(null)).contains(idle);
+            }
+        }
+
+        @Test
+        void shouldWeighOutstandingRequestsByReplicaWeight() {
+            // Given
+            ReadReplica small = replica("small", 1);
+            ReadReplica large = replica("large", 3);
+            small.acquire();
+            large.acquire();
+            large.acquire();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(small, large), List.of());
+
+            // When & Then
+            assertThat(sut.select(null)).contains(large);
+        }
+
+        @Test
+        void shouldRotateBetweenEquallyLoadedReplicas() {
+            // Given
+            ReadReplica first = replica("first", 1);
+            ReadReplica second = replica("second", 1);
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(first, second), List.of());
+            Map<ReadReplica, Integer> picks = new HashMap<>();
+
+            // When
+            for (int i = 0; i < 10; i++) {
+                picks.merge(sut.select(null).orElseThrow(), 1, Integer::sum);
+            }
+
+            // Then
+            assertThat(picks).containsEntry(first, 5).containsEntry(second, 5);
+        }
+
+        @Test
+        void shouldSkipReplicasOutOfRotation() {
+            // Given
+            ReadReplica lagging = replica("lagging", 1);
+            ReadReplica healthy = replica("healthy", 1);
+            lagging.recordHealthCheck(10_000, WalLsn.parse("0/1"), 5_000);
+            healthy.acquire();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(lagging, healthy), List.of());
+
+            // When & Then
+            assertThat(sut.select(null)).contains(healthy);
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNoReplicaIsInRotation() {
+            // Given
+            ReadReplica down = replica("down", 1);
+            down.recordHealthCheckFailure();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(down), List.of());
+
+            // When & Then
+            assertThat(sut.select(null)).isEmpty();
+        }
+
+        @Test
+        void shouldPreferReplicaKnownToHaveReplayedRequiredPosition_evenIfBusier() {
+            // Given
+            ReadReplica behind = replica("behind", 1);
+            ReadReplica caughtUp = replica("caught-up", 1);
+            behind.recordReplayedLsn(WalLsn.parse("0/1000"));
+            caughtUp.recordReplayedLsn(WalLsn.parse("0/5000"));
+            caughtUp.acquire();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(behind, caughtUp), List.of());
+
+            // When & Then
+            assertThat(sut.select(WalLsn.parse("0/4000"))).contains(caughtUp);
+        }
+
+        @Test
+        void shouldFallBackToLeastLoadedReplica_whenNoneHasReplayedRequiredPosition() {
+            // Given
+            ReadReplica busy = replica("busy", 1);
+            ReadReplica idle = replica("idle", 1);
+            busy.acquire();
+            ReadReplicaPool sut = new ReadReplicaPool(List.of(busy, idle), List.of());
+
+            // When & Then
+            assertThat(sut.select(WalLsn.parse("0/4000"))).contains(idle);
+        }
+    }
+
+    @Nested
+    class ConnectionErrors {
+        @Test
+        void shouldTakeReplicaOutOfRotation_afterConsecutiveConnectionErrors() {
+            // Given
+            ReadReplica sut = replica("flaky", 1);
+
+            // When
+            for (int i = 0; i < ReadReplica.MAX_CONSECUTIVE_ERRORS; i++) {
+                sut.recordConnectionError();
+            }
+
+            // Then
+            assertThat(sut.isInRotation()).isFalse();
+        }
+
+        @Test
+        void shouldKeepReplicaInRotation_whenErrorsAreNotConsecutive() {
+            // Given
+            ReadReplica sut = replica("flaky", 1);
+
+            // When
+            for (int i = 0; i < ReadReplica.MAX_CONSECUTIVE_ERRORS * 2; i++) {
+                sut.recordConnectionError();
+                sut.recordSuccess();
+            }
+
+            // Then
+            assertThat(sut.isInRotation()).isTrue();
+        }
+    }
+
+    @Nested
+    class Close {
+        @Test
+        void shouldCloseEveryOwnedResource_evenIfOneFails() throws Exception {
+            // Given
+            AutoCloseable failing = mock(AutoCloseable.class);
+            AutoCloseable other = mock(AutoCloseable.class);
+            doThrow(new IllegalStateException("already closed")).when(failing).close();
+            ReadReplicaPool sut = new ReadReplicaPool(new ArrayList<>(), List.of(failing, other));
+
+            // When
+            sut.close();
+
+            // Then
+            verify(failing).close();
+            verify(other).close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.paragon.infrastructure.persistence.jdbc.replicas;
+
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicaHealthCheckerTests {
+    @Nested
+    class CheckReplicas {
+        private final JdbcOperations operationsMock;
+        private final ReadReplica replica;
+        private final ReplicaHealthChecker sut;
+
+        public CheckReplicas() {
+            NamedParameterJdbcTemplate jdbcMock = mock(NamedParameterJdbcTemplate.class);
+            operationsMock = mock(JdbcOperations.class);
+            when(jdbcMock.getJdbcOperations()).thenReturn(operationsMock);
+            replica = new ReadReplica("replica", jdbcMock, 1);
+
+            sut = new ReplicaHealthChecker(new ReadReplicaPool(List.of(replica), List.of()), Duration.ofSeconds(5));
+        }
+
+        private void givenHealthCheckReturns(long lagMillis, String replayLsn) {
+            givenHealthCheckReturns(true, lagMillis, replayLsn);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void givenHealthCheckReturns(boolean receiving, long lagMillis, String replayLsn) {
+            when(operationsMock.queryForObject(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getBoolean("receiving")).thenReturn(receiving);
+                when(rs.getLong("lag_millis")).thenReturn(lagMillis);
+                when(rs.getString("replay_lsn")).thenReturn(replayLsn);
+                return invocation.<RowMapper<?>>getArgument(1).mapRow(rs, 0);
+            });
+        }
+
+        @Test
+        void shouldKeepReplicaInRotation_andRecordLag_whenWithinThreshold() {
+            // Given
+            givenHealthCheckReturns(1_200, "0/3000060");
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isInRotation()).isTrue();
+            assertThat(replica.getReplicationLagMillis()).isEqualTo(1_200);
+            assertThat(replica.hasReplayed(WalLsn.parse("0/3000060"))).isTrue();
+        }
+
+        @Test
+        void shouldTakeReplicaOutOfRotation_whenLagExceedsThreshold() {
+            // Given
+            givenHealthCheckReturns(8_000, "0/3000060");
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isInRotation()).isFalse();
+        }
+
+        @Test
+        void shouldPutReplicaBackIntoRotation_onceItCatchesUp() {
+            // Given
+            givenHealthCheckReturns(8_000, "0/3000060");
+            sut.checkReplicas();
+            givenHealthCheckReturns(100, "0/4000000");
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isInRotation()).isTrue();
+        }
+
+        @Test
+        void shouldTakeReplicaOutOfRotation_whenWalReceiverIsNotStreaming() {
+            // Given
+            givenHealthCheckReturns(false, 0, "0/3000060");
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isInRotation()).isFalse();
+        }
+
+        @Test
+        void shouldTakeReplicaOutOfRotation_whenHealthCheckFails() {
+            // Given
+            when(operationsMock.queryForObject(anyString(), any(RowMapper.class)))
+                    .thenThrow(new DataAccessResourceFailureException("replica down"));
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isInRotation()).isFalse();
+        }
+
+        @Test
+        void shouldTreatReadSourceAsCurrent_whenItIsNotAStandby() {
+            // Given
+            givenHealthCheckReturns(0, null);
+
+            // When
+            sut.checkReplicas();
+
+            // Then
+            assertThat(replica.isStandby()).isFalse();
+            assertThat(replica.hasReplayed(WalLsn.parse("FF/FFFFFFFF"))).isTrue();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.paragon.infrastructure.persistence.jdbc.transaction;
 
+import com.paragon.infrastructure.persistence.cache.PgNotifyCacheInvalidationBus;
 import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReplicaConsistencyRouter;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -15,10 +17,14 @@ public class JdbcUnitOfWorkTests {
     class Begin {
         private final JdbcUnitOfWork sut;
         private final UnitOfWorkAwareDataSource dataSourceMock;
+        private final ReplicaConsistencyRouter replicaConsistencyRouterMock;
+        private final PgNotifyCacheInvalidationBus cacheInvalidationBusMock;
 
         public Begin() {
             dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
-            sut = new JdbcUnitOfWork(dataSourceMock);
+            replicaConsistencyRouterMock = mock(ReplicaConsistencyRouter.class);
+            cacheInvalidationBusMock = mock(PgNotifyCacheInvalidationBus.class);
+            sut = new JdbcUnitOfWork(dataSourceMock, replicaConsistencyRouterMock, cacheInvalidationBusMock);
         }
 
         @Test
@@ -46,10 +52,14 @@ public class JdbcUnitOfWorkTests {
     class Commit {
         private final JdbcUnitOfWork sut;
         private final UnitOfWorkAwareDataSource dataSourceMock;
+        private final ReplicaConsistencyRouter replicaConsistencyRouterMock;
+        private final PgNotifyCacheInvalidationBus cacheInvalidationBusMock;
 
         public Commit() {
             dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
-            sut = new JdbcUnitOfWork(dataSourceMock);
+            replicaConsistencyRouterMock = mock(ReplicaConsistencyRouter.class);
+            cacheInvalidationBusMock = mock(PgNotifyCacheInvalidationBus.class);
+            sut = new JdbcUnitOfWork(dataSourceMock, replicaConsistencyRouterMock, cacheInvalidationBusMock);
         }
 
         @Test
@@ -70,16 +80,54 @@ public class JdbcUnitOfWorkTests {
             assertThatThrownBy(sut::commit)
                     .isInstanceOf(InfraException.class);
         }
+
+        @Test
+        void shouldRecordWalPosition_afterCommitting() throws SQLException {
+            // When
+            sut.commit();
+
+            // Then
+            var inOrder = inOrder(dataSourceMock, replicaConsistencyRouterMock);
+            inOrder.verify(dataSourceMock).commitTransaction();
+            inOrder.verify(replicaConsistencyRouterMock).recordCommit();
+        }
+
+        @Test
+        void shouldNotRecordWalPosition_whenCommitFails() throws SQLException {
+            // Given
+            doThrow(new SQLException("Commit failed")).when(dataSourceMock).commitTransaction();
+
+            // When
+            assertThatThrownBy(sut::commit).isInstanceOf(InfraException.class);
+
+            // Then
+            verify(replicaConsistencyRouterMock, never()).recordCommit();
+        }
+
+        @Test
+        void shouldSendPendingCacheInvalidations_beforeCommitting() throws SQLException {
+            // When
+            sut.commit();
+
+            // Then
+            var inOrder = inOrder(cacheInvalidationBusMock, dataSourceMock);
+            inOrder.verify(cacheInvalidationBusMock).flushPending();
+            inOrder.verify(dataSourceMock).commitTransaction();
+        }
     }
 
     @Nested
     class Rollback {
         private final JdbcUnitOfWork sut;
         private final UnitOfWorkAwareDataSource dataSourceMock;
+        private final ReplicaConsistencyRouter replicaConsistencyRouterMock;
+        private final PgNotifyCacheInvalidationBus cacheInvalidationBusMock;
 
         public Rollback() {
             dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
-            sut = new JdbcUnitOfWork(dataSourceMock);
+            replicaConsistencyRouterMock = mock(ReplicaConsistencyRouter.class);
+            cacheInvalidationBusMock = mock(PgNotifyCacheInvalidationBus.class);
+            sut = new JdbcUnitOfWork(dataSourceMock, replicaConsistencyRouterMock, cacheInvalidationBusMock);
         }
 
         @Test
@@ -100,5 +148,15 @@ public class JdbcUnitOfWorkTests {
             assertThatThrownBy(sut::rollback)
                     .isInstanceOf(InfraException.class);
         }
+
+        @Test
+        void shouldDiscardPendingCacheInvalidations() throws SQLException {
+            // When
+            sut.rollback();
+
+            // Then
+            verify(cacheInvalidationBusMock).discardPending();
+            verify(cacheInvalidationBusMock, never()).flushPending();
+        }
     }
 }
\ No newline at end of file
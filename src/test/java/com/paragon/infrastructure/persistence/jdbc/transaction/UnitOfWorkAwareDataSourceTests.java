@@ -97,6 +97,52 @@ public class UnitOfWorkAwareDataSourceTests {
             verify(dataSourceMock, times(1)).getConnection(); // Only called once during begin
         }
 
+        @Test
+        void shouldReuseTheSameWrapper_forEveryCallWithinATransaction() throws SQLException {
+            // Given
+            sut.beginTransaction();
+
+            // When
+            Connection first = sut.getConnection();
+            Connection second = sut.getConnection();
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(sut.getConnectionWrappersCreated()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldIgnoreClose_andDelegateEverythingElse_whileTransactionIsActive() throws SQLException {
+            // Given
+            sut.beginTransaction();
+            Connection connection = sut.getConnection();
+
+            // When
+            connection.prepareStatement("SELECT 1");
+            connection.close();
+
+            // Then
+            verify(transactionConnectionMock, times(1)).prepareStatement("SELECT 1");
+            verify(transactionConnectionMock, never()).close();
+        }
+
+        @Test
+        void shouldCreateANewWrapper_forEachTransaction() throws SQLException {
+            // Given
+            when(dataSourceMock.getConnection()).thenReturn(transactionConnectionMock);
+            sut.beginTransaction();
+            Connection first = sut.getConnection();
+            sut.commitTransaction();
+
+            // When
+            sut.beginTransaction();
+            Connection second = sut.getConnection();
+
+            // Then
+            assertThat(second).isNotSameAs(first);
+            assertThat(sut.getConnectionWrappersCreated()).isEqualTo(2);
+        }
+
         @Test
         void shouldReturnNewConnection_whenNoTransactionIsActive() throws SQLException {
             // When
@@ -279,4 +325,43 @@ public class UnitOfWorkAwareDataSourceTests {
             verify(connectionMock, times(1)).close();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class TransactionMetrics {
+        private final UnitOfWorkAwareDataSource sut;
+        private final DataSource dataSourceMock;
+
+        public TransactionMetrics() throws SQLException {
+            dataSourceMock = mock(DataSource.class);
+            when(dataSourceMock.getConnection()).thenReturn(mock(Connection.class));
+
+            sut = new UnitOfWorkAwareDataSource(dataSourceMock);
+        }
+
+        @Test
+        void shouldRecordDuration_forCommittedAndRolledBackTransactions() throws SQLException {
+            // Given
+            sut.beginTransaction();
+            sut.commitTransaction();
+            sut.beginTransaction();
+
+            // When
+            sut.rollbackTransaction();
+
+            // Then
+            assertThat(sut.getTransactionsCompleted()).isEqualTo(2);
+            assertThat(sut.getTotalTransactionNanos()).isPositive();
+            assertThat(sut.getMaxTransactionNanos()).isPositive().isLessThanOrEqualTo(sut.getTotalTransactionNanos());
+        }
+
+        @Test
+        void shouldNotCreateWrappers_outsideOfATransaction() throws SQLException {
+            // When
+            sut.getConnection();
+
+            // Then
+            assertThat(sut.getConnectionWrappersCreated()).isZero();
+            assertThat(sut.getTransactionsCompleted()).isZero();
+        }
+    }
+}
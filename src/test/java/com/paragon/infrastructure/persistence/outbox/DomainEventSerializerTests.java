@@ -0,0 +1,141 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.domain.events.EventNames;
+import com.paragon.domain.events.staffaccountevents.*;
+import com.paragon.domain.events.staffaccountrequestevents.StaffAccountRequestSubmittedEvent;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.helpers.fixtures.StaffAccountRequestFixture;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class DomainEventSerializerTests {
+    private final DomainEventSerializer sut = new DomainEventSerializer(new ObjectMapper().findAndRegisterModules());
+
+    @Nested
+    class RoundTrip {
+        @ParameterizedTest
+        @MethodSource("com.paragon.infrastructure.persistence.outbox.DomainEventSerializerTests#provideEvents")
+        void shouldRebuildEquivalentEvent(DomainEvent event) {
+            // When
+            String payload = sut.serialize(event);
+            DomainEvent result = sut.deserialize(event.getEventName(), payload);
+
+            // Then
+            assertThat(result).isExactlyInstanceOf(event.getClass());
+            assertThat(result)
+                    .usingRecursiveComparison()
+                    .ignoringFields("eventId", "source", "snapshot")
+                    .isEqualTo(event);
+        }
+
+        @Test
+        void shouldKeepEventId_forStaffAccountEvents() {
+            // Given
+            StaffAccountEnabledEvent event = new StaffAccountEnabledEvent(StaffAccountFixture.validStaffAccount());
+
+            // When
+            DomainEvent result = sut.deserialize(event.getEventName(), sut.serialize(event));
+
+            // Then
+            assertThat(result.getEventId()).isEqualTo(event.getEventId());
+        }
+
+        @Test
+        void shouldLeaveOutPasswordHashAndPermissions() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            StaffAccountLoggedInEvent event = new StaffAccountLoggedInEvent(staffAccount);
+
+            // When
+            String payload = sut.serialize(event);
+
+            // Then
+            assertThat(payload).doesNotContain(staffAccount.getPassword().getValue());
+            assertThat(payload).doesNotContain("permissionCodes");
+        }
+
+        @Test
+        void shouldReadPayloadsWrittenAsFullSnapshots() {
+            // Given
+            UUID staffAccountId = UUID.randomUUID();
+            UUID disabledBy = UUID.randomUUID();
+            String legacyPayload = """
+                    {"staffAccountId":"%s","username":"john_doe","password":"hash","passwordTemporary":false,
+                     "status":"DISABLED","disabledBy":"%s","permissionCodes":["VIEW_ACCOUNTS"],"version":3}
+                    """.formatted(staffAccountId, disabledBy);
+
+            // When
+            StaffAccountDisabledEvent result = (StaffAccountDisabledEvent) sut.deserialize(
+                    EventNames.STAFF_ACCOUNT_DISABLED, legacyPayload
+            );
+
+            // Then
+            assertThat(result.getStaffAccountId().getValue()).isEqualTo(staffAccountId);
+            assertThat(result.getStaffAccountDisabledBy().getValue()).isEqualTo(disabledBy);
+            assertThat(result.getStaffAccountVersion().getValue()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class AggregateIdOf {
+        @Test
+        void shouldReturnStaffAccountId_forStaffAccountEvents() {
+            // Given
+            StaffAccountLockedEvent event = new StaffAccountLockedEvent(StaffAccountFixture.lockedStaffAccount());
+
+            // When & Then
+            assertThat(sut.aggregateIdOf(event)).isEqualTo(event.getStaffAccountId().getValue());
+        }
+
+        @Test
+        void shouldReturnRequestId_forStaffAccountRequestEvents() {
+            // Given
+            StaffAccountRequestSubmittedEvent event =
+                    new StaffAccountRequestSubmittedEvent(StaffAccountRequestFixture.validStaffAccountRequest());
+
+            // When & Then
+            assertThat(sut.aggregateIdOf(event)).isEqualTo(event.getStaffAccountRequestId().getValue());
+        }
+    }
+
+    @Nested
+    class Deserialize {
+        @Test
+        void shouldThrow_forUnknownEventName() {
+            // When & Then
+            assertThatThrownBy(() -> sut.deserialize("not_an_event", "{}"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrow_forMalformedPayload() {
+            // When & Then
+            assertThatThrownBy(() -> sut.deserialize(new StaffAccountLockedEvent(StaffAccountFixture.validStaffAccount()).getEventName(), "{not json"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    static Stream<Arguments> provideEvents() {
+        return Stream.of(
+                Arguments.of(new StaffAccountRegisteredEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountLoggedInEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountLockedEvent(StaffAccountFixture.lockedStaffAccount())),
+                Arguments.of(new StaffAccountDisabledEvent(StaffAccountFixture.disabledStaffAccount())),
+                Arguments.of(new StaffAccountEnabledEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountPasswordResetEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountPasswordChangedEvent(StaffAccountFixture.validStaffAccount())),
+                Arguments.of(new StaffAccountRequestSubmittedEvent(new StaffAccountRequestFixture().build()))
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paragon.domain.events.staffaccountevents.StaffAccountLockedEvent;
+import com.paragon.domain.events.staffaccountevents.StaffAccountLoggedInEvent;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JdbcEventOutboxTests {
+    @Nested
+    class Append {
+        private final WriteJdbcHelper jdbcHelperMock;
+        private final DomainEventSerializer domainEventSerializer;
+        private final JdbcEventOutbox sut;
+
+        public Append() {
+            jdbcHelperMock = mock(WriteJdbcHelper.class);
+            domainEventSerializer = new DomainEventSerializer(new ObjectMapper().findAndRegisterModules());
+            sut = new JdbcEventOutbox(jdbcHelperMock, domainEventSerializer);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldInsertOneRowPerEvent_inASingleBatch() {
+            // Given
+            var loggedIn = new StaffAccountLoggedInEvent(StaffAccountFixture.validStaffAccount());
+            var locked = new StaffAccountLockedEvent(StaffAccountFixture.lockedStaffAccount());
+            ArgumentCaptor<List<SqlStatement>> statementsCaptor = ArgumentCaptor.forClass(List.class);
+
+            // When
+            sut.append(List.of(loggedIn, locked));
+
+            // Then
+            verify(jdbcHelperMock, times(1)).executeMultiple(statementsCaptor.capture());
+            List<SqlStatement> statements = statementsCaptor.getValue();
+
+            assertThat(statements).hasSize(2);
+            assertThat(statements.getFirst().sql()).contains("INSERT INTO outbox_events");
+            assertThat(statements.get(0).params().build())
+                    .containsEntry("id", loggedIn.getEventId().getValue())
+                    .containsEntry("aggregateId", loggedIn.getStaffAccountId().getValue())
+                    .containsEntry("eventName", loggedIn.getEventName())
+                    .containsEntry("payload", domainEventSerializer.serialize(loggedIn));
+            assertThat(statements.get(1).params().build())
+                    .containsEntry("id", locked.getEventId().getValue())
+                    .containsEntry("eventName", locked.getEventName());
+        }
+    }
+}
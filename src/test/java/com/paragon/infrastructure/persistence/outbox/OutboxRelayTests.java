@@ -0,0 +1,257 @@
+package com.paragon.infrastructure.persistence.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paragon.application.common.interfaces.UnitOfWork;
+import com.paragon.application.events.EventBus;
+import com.paragon.domain.events.DomainEvent;
+import com.paragon.domain.events.staffaccountevents.StaffAccountLoggedInEvent;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.daos.OutboxEventDao;
+import com.paragon.infrastructure.persistence.daos.OutboxStripeLockDao;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class OutboxRelayTests {
+    @Nested
+    class RelayBatch {
+        private final EventBus eventBusMock;
+        private final UnitOfWork unitOfWorkMock;
+        private final Connection connectionMock;
+        private final Savepoint savepointMock;
+        private final WriteJdbcHelper jdbcHelperMock;
+        private final DomainEventSerializer domainEventSerializer;
+        private final OutboxRelay sut;
+
+        public RelayBatch() throws SQLException {
+            eventBusMock = mock(EventBus.class);
+            unitOfWorkMock = mock(UnitOfWork.class);
+            connectionMock = mock(Connection.class);
+            savepointMock = mock(Savepoint.class);
+            jdbcHelperMock = mock(WriteJdbcHelper.class);
+            UnitOfWorkAwareDataSource dataSourceMock = mock(UnitOfWorkAwareDataSource.class);
+            when(dataSourceMock.getConnection()).thenReturn(connectionMock);
+            when(connectionMock.setSavepoint()).thenReturn(savepointMock);
+            domainEventSerializer = new DomainEventSerializer(new ObjectMapper().findAndRegisterModules());
+            givenStripeLock(true);
+
+            sut = new OutboxRelay(eventBusMock, domainEventSerializer, unitOfWorkMock, dataSourceMock, jdbcHelperMock,
+                    true, 4, 16, 50, 100, 3);
+        }
+
+        private OutboxEventDao outboxRow(long sequenceNumber, int attempts) {
+            return outboxRow(sequenceNumber, UUID.randomUUID(), attempts);
+        }
+
+        private OutboxEventDao outboxRow(long sequenceNumber, UUID aggregateId, int attempts) {
+            StaffAccountLoggedInEvent event = new StaffAccountLoggedInEvent(StaffAccountFixture.validStaffAccount());
+            return new OutboxEventDao(sequenceNumber, UUID.randomUUID(), aggregateId, event.getEventName(),
+                    domainEventSerializer.serialize(event), attempts);
+        }
+
+        private void givenStripeLock(boolean acquired) {
+            when(jdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(OutboxStripeLockDao.class)))
+                    .thenReturn(Optional.of(new OutboxStripeLockDao(acquired)));
+        }
+
+        private void givenClaimedRows(OutboxEventDao... rows) {
+            when(jdbcHelperMock.query(any(SqlStatement.class), eq(OutboxEventDao.class))).thenReturn(List.of(rows));
+        }
+
+        @Test
+        void shouldClaimRowsWithSkipLocked() {
+            // Given
+            givenClaimedRows();
+            ArgumentCaptor<SqlStatement> statementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            int claimed = sut.relayBatch(0);
+
+            // Then
+            assertThat(claimed).isZero();
+            verify(jdbcHelperMock).query(statementCaptor.capture(), eq(OutboxEventDao.class));
+            assertThat(statementCaptor.getValue().sql()).contains("SKIP LOCKED");
+            verify(unitOfWorkMock).commit();
+            verifyNoInteractions(eventBusMock);
+        }
+
+        @Test
+        void shouldClaimOnlyRowsInTheWorkersStripe() {
+            // Given
+            givenClaimedRows();
+            ArgumentCaptor<SqlStatement> statementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.relayBatch(10);
+
+            // Then
+            verify(jdbcHelperMock).query(statementCaptor.capture(), eq(OutboxEventDao.class));
+            assertThat(statementCaptor.getValue().params().build())
+                    .containsEntry("stripe", 10)
+                    .containsEntry("stripes", 16);
+        }
+
+        @Test
+        void shouldNotClaimRows_whenAnotherInstanceHoldsTheStripe() {
+            // Given
+            givenStripeLock(false);
+
+            // When
+            int claimed = sut.relayBatch(0);
+
+            // Then
+            assertThat(claimed).isZero();
+            verify(jdbcHelperMock, never()).query(any(SqlStatement.class), eq(OutboxEventDao.class));
+            verify(unitOfWorkMock).commit();
+            verifyNoInteractions(eventBusMock);
+        }
+
+        @Test
+        void shouldHoldBackLaterEventsForAnAggregate_whenAnEarlierOneFails() {
+            // Given
+            UUID failingAggregate = UUID.randomUUID();
+            givenClaimedRows(outboxRow(1, failingAggregate, 0), outboxRow(2, 0), outboxRow(3, failingAggregate, 0));
+            doThrow(InfraException.class).doNothing().when(eventBusMock).dispatch(any(DomainEvent.class));
+            ArgumentCaptor<SqlStatement> statementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            int claimed = sut.relayBatch(0);
+
+            // Then
+            assertThat(claimed).isEqualTo(3);
+            verify(eventBusMock, times(2)).dispatch(any(DomainEvent.class));
+            verify(jdbcHelperMock, times(2)).execute(statementCaptor.capture());
+            SqlStatement delete = statementCaptor.getAllValues().get(1);
+            assertThat(delete.params().build().get("sequenceNumbers")).isEqualTo(List.of(2L));
+        }
+
+        @Test
+        void shouldDispatchEachEvent_andDeleteRelayedRows_inTheClaimingTransaction() {
+            // Given
+            givenClaimedRows(outboxRow(1, 0), outboxRow(2, 0));
+            ArgumentCaptor<SqlStatement> statementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            int claimed = sut.relayBatch(0);
+
+            // Then
+            assertThat(claimed).isEqualTo(2);
+            InOrder inOrder = inOrder(unitOfWorkMock, eventBusMock, jdbcHelperMock);
+            inOrder.verify(unitOfWorkMock).begin();
+            inOrder.verify(eventBusMock, times(2)).dispatch(any(StaffAccountLoggedInEvent.class));
+            inOrder.verify(jdbcHelperMock).execute(statementCaptor.capture());
+            inOrder.verify(unitOfWorkMock).commit();
+
+            SqlStatement delete = statementCaptor.getValue();
+            assertThat(delete.sql()).contains("DELETE FROM outbox_events");
+            assertThat(delete.params().build().get("sequenceNumbers")).isEqualTo(List.of(1L, 2L));
+        }
+
+        @Test
+        void shouldRollBackToSavepoint_andScheduleRetry_whenAHandlerThrows() throws SQLException {
+            // Given
+            givenClaimedRows(outboxRow(1, 0), outboxRow(2, 0));
+            doThrow(InfraException.class).doNothing().when(eventBusMock).dispatch(any(DomainEvent.class));
+            ArgumentCaptor<SqlStatement> statementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.relayBatch(0);
+
+            // Then
+            verify(connectionMock, times(1)).rollback(savepointMock);
+            verify(connectionMock, times(1)).releaseSavepoint(savepointMock);
+            verify(jdbcHelperMock, times(2)).execute(statementCaptor.capture());
+
+            SqlStatement recordFailure = statementCaptor.getAllValues().get(0);
+            assertThat(recordFailure.sql()).contains("attempts = attempts + 1");
+            assertThat(recordFailure.params().build().get("sequenceNumber")).isEqualTo(1L);
+
+            SqlStatement delete = statementCaptor.getAllValues().get(1);
+            assertThat(delete.params().build().get("sequenceNumbers")).isEqualTo(List.of(2L));
+            verify(unitOfWorkMock).commit();
+        }
+
+        @Test
+        void shouldScheduleRetry_whenPayloadCannotBeDeserialized() {
+            // Given
+            givenClaimedRows(new OutboxEventDao(1, UUID.randomUUID(), UUID.randomUUID(), "not_an_event", "{}", 0));
+
+            // When
+            sut.relayBatch(0);
+
+            // Then
+            verifyNoInteractions(eventBusMock);
+            verify(jdbcHelperMock, times(1)).execute(argThat(statement -> statement.sql().contains("attempts = attempts + 1")));
+            verify(unitOfWorkMock).commit();
+        }
+
+        @Test
+        void shouldRollBack_whenClaimingFails() {
+            // Given
+            when(jdbcHelperMock.query(any(SqlStatement.class), eq(OutboxEventDao.class))).thenThrow(InfraException.class);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.relayBatch(0)).isInstanceOf(InfraException.class);
+            verify(unitOfWorkMock).rollback();
+            verify(unitOfWorkMock, never()).commit();
+        }
+    }
+
+    @Nested
+    class Backoff {
+        @Test
+        void shouldDoubleWithEachAttempt() {
+            // When & Then
+            assertThat(OutboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+            assertThat(OutboxRelay.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+            assertThat(OutboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        }
+
+        @Test
+        void shouldBeCappedAtFiveMinutes() {
+            // When & Then
+            assertThat(OutboxRelay.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+        }
+    }
+
+    @Nested
+    class StripesFor {
+        @Test
+        void shouldGiveEachWorkerTheStripesCongruentToItModuloTheWorkerCount() {
+            // When & Then
+            assertThat(OutboxRelay.stripesFor(0, 4, 10)).containsExactly(0, 4, 8);
+            assertThat(OutboxRelay.stripesFor(1, 4, 10)).containsExactly(1, 5, 9);
+            assertThat(OutboxRelay.stripesFor(3, 4, 10)).containsExactly(3, 7);
+        }
+
+        @Test
+        void shouldCoverEveryStripeExactlyOnce() {
+            // When
+            List<Integer> stripes = IntStream.range(0, 3)
+                    .boxed()
+                    .flatMap(worker -> OutboxRelay.stripesFor(worker, 3, 16).stream())
+                    .toList();
+
+            // Then
+            assertThat(stripes).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 16).boxed().toList());
+        }
+    }
+}
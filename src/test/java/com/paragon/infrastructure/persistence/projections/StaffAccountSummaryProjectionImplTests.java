@@ -0,0 +1,106 @@
+package com.paragon.infrastructure.persistence.projections;
+
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidation;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.paragon.infrastructure.persistence.jdbc.helpers.WriteJdbcHelper;
+import com.paragon.infrastructure.persistence.jdbc.sql.SqlStatement;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class StaffAccountSummaryProjectionImplTests {
+    private final WriteJdbcHelper writeJdbcHelperMock;
+    private final CacheInvalidationBus cacheInvalidationBusMock;
+    private final StaffAccountSummaryProjectionImpl sut;
+
+    StaffAccountSummaryProjectionImplTests() {
+        writeJdbcHelperMock = mock(WriteJdbcHelper.class);
+        cacheInvalidationBusMock = mock(CacheInvalidationBus.class);
+        sut = new StaffAccountSummaryProjectionImpl(writeJdbcHelperMock, cacheInvalidationBusMock);
+    }
+
+    @Nested
+    class Refresh {
+        @Test
+        void shouldUpsertTheSummaryOfTheGivenAccountOnly() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+            ArgumentCaptor<SqlStatement> captor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.refresh(staffAccountId);
+
+            // Then
+            verify(writeJdbcHelperMock).execute(captor.capture());
+            SqlStatement statement = captor.getValue();
+            assertThat(statement.sql()).isEqualTo(StaffAccountSummaryProjectionImpl.REFRESH_SQL);
+            assertThat(statement.sql()).contains("WHERE sa.id = :id");
+            assertThat(statement.params().build().get("id")).isEqualTo(staffAccountId.getValue());
+        }
+
+        @Test
+        void shouldInvalidateCachedReadsOfTheAccount_afterTheUpsert() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+
+            // When
+            sut.refresh(staffAccountId);
+
+            // Then
+            var inOrder = inOrder(writeJdbcHelperMock, cacheInvalidationBusMock);
+            inOrder.verify(writeJdbcHelperMock).execute(any(SqlStatement.class));
+            inOrder.verify(cacheInvalidationBusMock).publish(CacheInvalidation.staffAccount(staffAccountId));
+        }
+
+        @Test
+        void shouldResolveUsernamesAndPermissionsInTheSummaryRow() {
+            // When & Then
+            assertThat(StaffAccountSummaryProjectionImpl.REFRESH_SQL)
+                    .contains("LEFT JOIN staff_accounts enabler ON enabler.id = sa.enabled_by")
+                    .contains("LEFT JOIN staff_accounts disabler ON disabler.id = sa.disabled_by")
+                    .contains("ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id)");
+        }
+
+        @Test
+        void shouldOnlyOverwriteAnOlderSummary() {
+            // When & Then
+            assertThat(StaffAccountSummaryProjectionImpl.REFRESH_SQL)
+                    .contains("ON CONFLICT (id) DO UPDATE")
+                    .contains("WHERE staff_account_summaries.version < EXCLUDED.version");
+        }
+    }
+
+    @Nested
+    class RebuildAll {
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldClearAndReinsertEverySummary() {
+            // Given
+            ArgumentCaptor<List<SqlStatement>> captor = ArgumentCaptor.forClass(List.class);
+            when(writeJdbcHelperMock.executeMultiple(anyList())).thenReturn(new int[]{3, 4});
+
+            // When
+            int rebuilt = sut.rebuildAll();
+
+            // Then
+            verify(writeJdbcHelperMock).executeMultiple(captor.capture());
+            List<SqlStatement> statements = captor.getValue();
+            assertThat(statements).extracting(SqlStatement::sql).containsExactly(
+                    StaffAccountSummaryProjectionImpl.DELETE_ALL_SQL,
+                    StaffAccountSummaryProjectionImpl.REBUILD_SQL
+            );
+            assertThat(StaffAccountSummaryProjectionImpl.REBUILD_SQL).doesNotContain(":id");
+            assertThat(rebuilt).isEqualTo(4);
+            verify(writeJdbcHelperMock, never()).execute(any());
+            verify(cacheInvalidationBusMock).publish(CacheInvalidation.allStaffAccounts());
+        }
+    }
+}
@@ -10,7 +10,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.sql.Timestamp;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 public class AuditTrailWriteRepoTests {
@@ -112,4 +116,76 @@ public class AuditTrailWriteRepoTests {
                     .isInstanceOf(InfraException.class);
         }
     }
+
+    @Nested
+    class CreateAll {
+        private final WriteJdbcHelper jdbcHelperMock;
+        private final AuditTrailWriteRepoImpl sut;
+
+        public CreateAll() {
+            this.jdbcHelperMock = mock(WriteJdbcHelper.class);
+            this.sut = new AuditTrailWriteRepoImpl(jdbcHelperMock);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void callsJdbcHelperOnce_withOneInsertPerEntry() {
+            // Given
+            var first = AuditTrailEntryFixture.validAuditTrailEntry();
+            var second = new AuditTrailEntryFixture().withTargetId(null).build();
+            ArgumentCaptor<List<SqlStatement>> statementsCaptor = ArgumentCaptor.forClass(List.class);
+
+            // When
+            sut.createAll(List.of(first, second));
+
+            // Then
+            verify(jdbcHelperMock, times(1)).executeMultiple(statementsCaptor.capture());
+
+            List<SqlStatement> statements = statementsCaptor.getValue();
+            assertThat(statements).hasSize(2);
+            assertThat(statements).extracting(SqlStatement::sql).containsOnly(statements.getFirst().sql());
+            assertThat(statements.get(0).params().build().get("id")).isEqualTo(first.getId().getValue());
+            assertThat(statements.get(1).params().build().get("id")).isEqualTo(second.getId().getValue());
+            assertThat(statements.get(1).params().build().get("targetId")).isNull();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldStampEachEntryWithWhenItWasCreated_ratherThanWhenItIsWritten() throws InterruptedException {
+            // Given
+            var first = AuditTrailEntryFixture.validAuditTrailEntry();
+            Thread.sleep(5);
+            var second = AuditTrailEntryFixture.validAuditTrailEntry();
+            ArgumentCaptor<List<SqlStatement>> statementsCaptor = ArgumentCaptor.forClass(List.class);
+
+            // When
+            sut.createAll(List.of(first, second));
+
+            // Then
+            verify(jdbcHelperMock, times(1)).executeMultiple(statementsCaptor.capture());
+
+            List<SqlStatement> statements = statementsCaptor.getValue();
+            assertThat(statements.get(0).params().build().get("createdAtUtc")).isEqualTo(Timestamp.from(first.getCreatedAtUtc()));
+            assertThat(statements.get(1).params().build().get("createdAtUtc")).isEqualTo(Timestamp.from(second.getCreatedAtUtc()));
+        }
+
+        @Test
+        void shouldNotCallJdbcHelper_whenThereAreNoEntries() {
+            // When
+            sut.createAll(List.of());
+
+            // Then
+            verifyNoInteractions(jdbcHelperMock);
+        }
+
+        @Test
+        void shouldPropagateInfraException_whenJdbcHelperThrows() {
+            // Given
+            when(jdbcHelperMock.executeMultiple(anyList())).thenThrow(InfraException.class);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.createAll(List.of(AuditTrailEntryFixture.validAuditTrailEntry())))
+                    .isInstanceOf(InfraException.class);
+        }
+    }
 }
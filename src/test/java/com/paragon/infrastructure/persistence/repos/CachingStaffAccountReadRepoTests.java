@@ -0,0 +1,223 @@
+package com.paragon.infrastructure.persistence.repos;
+
+import com.paragon.domain.enums.StaffAccountStatus;
+import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Version;
+import com.paragon.infrastructure.persistence.cache.Versioned;
+import com.paragon.infrastructure.persistence.jdbc.consistency.ReadConsistencyContext;
+import com.paragon.infrastructure.persistence.jdbc.consistency.WalLsn;
+import com.paragon.infrastructure.persistence.readmodels.StaffAccountSummaryReadModel;
+import com.paragon.infrastructure.persistence.repos.read.CachingStaffAccountReadRepo;
+import com.paragon.infrastructure.persistence.repos.read.StaffAccountReadRepoImpl;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachingStaffAccountReadRepoTests {
+    private final StaffAccountReadRepoImpl delegateMock;
+    private final ReadConsistencyContext readConsistencyContextMock;
+    private final CachingStaffAccountReadRepo sut;
+    private final StaffAccountSummaryReadModel summary;
+
+    CachingStaffAccountReadRepoTests() {
+        delegateMock = mock(StaffAccountReadRepoImpl.class);
+        readConsistencyContextMock = mock(ReadConsistencyContext.class);
+        when(readConsistencyContextMock.getRequiredLsn()).thenReturn(Optional.empty());
+        sut = new CachingStaffAccountReadRepo(delegateMock, readConsistencyContextMock, 100, Duration.ofSeconds(60));
+
+        summary = new StaffAccountSummaryReadModel(UUID.randomUUID(), "john_doe", "ACTIVE", Instant.now(), 1);
+        when(delegateMock.findSummaryByUsername("john_doe")).thenReturn(Optional.of(summary));
+    }
+
+    @Nested
+    class FindSummaryByUsername {
+        @Test
+        void shouldServeRepeatLookupsFromTheCache() {
+            // When
+            sut.findSummaryByUsername("john_doe");
+            Optional<StaffAccountSummaryReadModel> result = sut.findSummaryByUsername("john_doe");
+
+            // Then
+            assertThat(result).contains(summary);
+            verify(delegateMock, times(1)).findSummaryByUsername("john_doe");
+            assertThat(sut.getCacheHits()).isEqualTo(1);
+            assertThat(sut.getCacheMisses()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReadThrough_whenTheRequestCarriesAConsistencyToken() {
+            // Given
+            when(readConsistencyContextMock.getRequiredLsn()).thenReturn(Optional.of(WalLsn.parse("0/16B3748")));
+
+            // When
+            sut.findSummaryByUsername("john_doe");
+            sut.findSummaryByUsername("john_doe");
+
+            // Then
+            verify(delegateMock, times(2)).findSummaryByUsername("john_doe");
+            assertThat(sut.getCacheHits()).isZero();
+        }
+    }
+
+    @Nested
+    class Invalidate {
+        @Test
+        void shouldReloadEveryCachedViewOfTheAccount_onceANewerVersionIsAnnounced() {
+            // Given
+            UUID id = summary.id();
+            PermissionCode permissionCode = PermissionCode.of("VIEW_ACCOUNTS_LIST");
+            when(delegateMock.findVersionedStatusById(id)).thenReturn(Optional.of(new Versioned<>(StaffAccountStatus.ACTIVE, 1)));
+            when(delegateMock.findVersionedPermissionsById(id))
+                    .thenReturn(Optional.of(new Versioned<>(PermissionSet.of(List.of(permissionCode)), 1)));
+            sut.findSummaryByUsername("john_doe");
+            sut.findStatusById(id);
+            sut.hasPermission(id, permissionCode);
+
+            // When
+            sut.invalidate(StaffAccountId.of(id), Version.of(2));
+            sut.findSummaryByUsername("john_doe");
+            sut.findStatusById(id);
+            sut.hasPermission(id, permissionCode);
+
+            // Then
+            verify(delegateMock, times(2)).findSummaryByUsername("john_doe");
+            verify(delegateMock, times(2)).findVersionedStatusById(id);
+            verify(delegateMock, times(2)).findVersionedPermissionsById(id);
+        }
+
+        @Test
+        void shouldNotCacheALoadOlderThanTheAnnouncedVersion_untilTheReplicaCatchesUp() {
+            // Given
+            StaffAccountSummaryReadModel caughtUp = new StaffAccountSummaryReadModel(
+                    summary.id(), "john_doe", "DISABLED", summary.createdAtUtc(), 2);
+            when(delegateMock.findSummaryByUsername("john_doe"))
+                    .thenReturn(Optional.of(summary))
+                    .thenReturn(Optional.of(caughtUp));
+            sut.invalidate(StaffAccountId.of(summary.id()), Version.of(2));
+
+            // When
+            Optional<StaffAccountSummaryReadModel> lagging = sut.findSummaryByUsername("john_doe");
+            Optional<StaffAccountSummaryReadModel> current = sut.findSummaryByUsername("john_doe");
+            Optional<StaffAccountSummaryReadModel> cached = sut.findSummaryByUsername("john_doe");
+
+            // Then
+            assertThat(lagging).contains(summary);
+            assertThat(current).contains(caughtUp);
+            assertThat(cached).contains(caughtUp);
+            verify(delegateMock, times(2)).findSummaryByUsername("john_doe");
+        }
+
+        @Test
+        void shouldKeepEntriesAtOrAboveTheAnnouncedVersion() {
+            // Given
+            sut.findSummaryByUsername("john_doe");
+
+            // When
+            sut.invalidate(StaffAccountId.of(summary.id()), Version.of(1));
+            sut.findSummaryByUsername("john_doe");
+
+            // Then
+            verify(delegateMock, times(1)).findSummaryByUsername("john_doe");
+        }
+
+        @Test
+        void shouldDropTheAccount_whenNoVersionIsKnown() {
+            // Given
+            sut.findSummaryByUsername("john_doe");
+
+            // When
+            sut.invalidate(StaffAccountId.of(summary.id()));
+            sut.findSummaryByUsername("john_doe");
+
+            // Then
+            verify(delegateMock, times(2)).findSummaryByUsername("john_doe");
+        }
+
+        @Test
+        void shouldKeepOtherAccountsCached() {
+            // Given
+            sut.findSummaryByUsername("john_doe");
+
+            // When
+            sut.invalidate(StaffAccountId.generate(), Version.of(5));
+            sut.invalidate(StaffAccountId.generate());
+            sut.findSummaryByUsername("john_doe");
+
+            // Then
+            verify(delegateMock, times(1)).findSummaryByUsername("john_doe");
+        }
+    }
+
+    @Nested
+    class Listings {
+        @Test
+        void shouldNotBeCached() {
+            // When
+            sut.findAllSummaries(null, null, null, null, null, null, 10);
+            sut.findAllSummaries(null, null, null, null, null, null, 10);
+
+            // Then
+            verify(delegateMock, times(2)).findAllSummaries(null, null, null, null, null, null, 10);
+            verify(readConsistencyContextMock, never()).getRequiredLsn();
+        }
+    }
+
+    @Test
+    void shouldLoadThePermissionSetOnce_andAnswerEveryPermissionFromIt() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(delegateMock.findVersionedPermissionsById(id))
+                .thenReturn(Optional.of(new Versioned<>(PermissionSet.of(List.of(PermissionCode.of("VIEW_ACCOUNTS_LIST"))), 1)));
+
+        // When
+        boolean canView = sut.hasPermission(id, PermissionCode.of("VIEW_ACCOUNTS_LIST"));
+        boolean canManage = sut.hasPermission(id, PermissionCode.of("MANAGE_ACCOUNTS"));
+        sut.hasPermission(id, PermissionCode.of("MANAGE_ACCOUNTS"));
+
+        // Then
+        assertThat(canView).isTrue();
+        assertThat(canManage).isFalse();
+        verify(delegateMock, times(1)).findVersionedPermissionsById(id);
+        verify(delegateMock, never()).hasPermission(any(), any());
+    }
+
+    @Test
+    void shouldTreatAnUnknownAccountAsHavingNoPermissions() {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(delegateMock.findVersionedPermissionsById(id)).thenReturn(Optional.empty());
+
+        // When
+        PermissionSet result = sut.findPermissionsById(id);
+
+        // Then
+        assertThat(result).isEqualTo(PermissionSet.empty());
+    }
+
+    @Test
+    void shouldCheckPermissionsAgainstTheDatabase_whenTheRequestCarriesAConsistencyToken() {
+        // Given
+        UUID id = UUID.randomUUID();
+        PermissionCode permissionCode = PermissionCode.of("MANAGE_ACCOUNTS");
+        when(readConsistencyContextMock.getRequiredLsn()).thenReturn(Optional.of(WalLsn.parse("0/16B3748")));
+        when(delegateMock.hasPermission(id, permissionCode)).thenReturn(true);
+
+        // When
+        boolean result = sut.hasPermission(id, permissionCode);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(delegateMock, never()).findVersionedPermissionsById(any());
+    }
+}
@@ -0,0 +1,252 @@
+package com.paragon.infrastructure.persistence.repos;
+
+import com.paragon.application.common.interfaces.StaffAccountSummaryProjection;
+import com.paragon.domain.models.aggregates.StaffAccount;
+import com.paragon.domain.models.valueobjects.StaffAccountId;
+import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.helpers.fixtures.StaffAccountFixture;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidation;
+import com.paragon.infrastructure.persistence.cache.CacheInvalidationBus;
+import com.paragon.infrastructure.persistence.eventstore.StaffAccountEventStore;
+import com.paragon.infrastructure.persistence.exceptions.InfraException;
+import com.paragon.infrastructure.persistence.repos.write.EventSourcedStaffAccountWriteRepo;
+import com.paragon.infrastructure.persistence.repos.write.StaffAccountWriteRepoImpl;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EventSourcedStaffAccountWriteRepoTests {
+    private final StaffAccountWriteRepoImpl rowsMock;
+    private final StaffAccountEventStore eventStoreMock;
+    private final StaffAccountSummaryProjection staffAccountSummaryProjectionMock;
+    private final CacheInvalidationBus cacheInvalidationBusMock;
+    private final EventSourcedStaffAccountWriteRepo sut;
+
+    public EventSourcedStaffAccountWriteRepoTests() {
+        rowsMock = mock(StaffAccountWriteRepoImpl.class);
+        eventStoreMock = mock(StaffAccountEventStore.class);
+        staffAccountSummaryProjectionMock = mock(StaffAccountSummaryProjection.class);
+        cacheInvalidationBusMock = mock(CacheInvalidationBus.class);
+        sut = new EventSourcedStaffAccountWriteRepo(rowsMock, eventStoreMock, staffAccountSummaryProjectionMock, cacheInvalidationBusMock, true);
+    }
+
+    @Nested
+    class Create {
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldInsertRow_andAppendTheFullState() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            ArgumentCaptor<Collection<String>> propertiesCaptor = ArgumentCaptor.forClass(Collection.class);
+
+            // When
+            sut.create(staffAccount);
+
+            // Then
+            InOrder inOrder = inOrder(rowsMock, eventStoreMock);
+            inOrder.verify(rowsMock).create(staffAccount);
+            inOrder.verify(eventStoreMock).append(eq(staffAccount), propertiesCaptor.capture());
+            assertThat(propertiesCaptor.getValue()).contains("username", "password", "status", "permissionCodes");
+        }
+
+        @Test
+        void shouldRefreshTheSummaryRow_afterAppending() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+
+            // When
+            sut.create(staffAccount);
+
+            // Then
+            InOrder inOrder = inOrder(eventStoreMock, staffAccountSummaryProjectionMock);
+            inOrder.verify(eventStoreMock).append(eq(staffAccount), anyCollection());
+            inOrder.verify(staffAccountSummaryProjectionMock).refresh(staffAccount.getId());
+        }
+
+        @Test
+        void shouldPublishACacheInvalidationForTheAccount() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+
+            // When
+            sut.create(staffAccount);
+
+            // Then
+            verify(cacheInvalidationBusMock).publish(
+                    CacheInvalidation.staffAccount(staffAccount.getId(), staffAccount.getVersion()));
+        }
+    }
+
+    @Nested
+    class Update {
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldAppendThePropertiesModifiedBeforeTheRowUpdate() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            staffAccount.disable(StaffAccountId.generate());
+            doAnswer(invocation -> {
+                ((StaffAccount) invocation.getArgument(0)).clearModifiedProperties();
+                return null;
+            }).when(rowsMock).update(staffAccount);
+            ArgumentCaptor<Collection<String>> propertiesCaptor = ArgumentCaptor.forClass(Collection.class);
+
+            // When
+            sut.update(staffAccount);
+
+            // Then
+            verify(eventStoreMock).append(eq(staffAccount), propertiesCaptor.capture());
+            assertThat(propertiesCaptor.getValue()).containsExactlyInAnyOrder("status", "disabledBy", "enabledBy");
+        }
+
+        @Test
+        void shouldNotAppend_whenTheRowUpdateDetectsAConflict() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            doThrow(InfraException.class).when(rowsMock).update(staffAccount);
+
+            // When & Then
+            assertThatThrownBy(() -> sut.update(staffAccount)).isInstanceOf(InfraException.class);
+            verifyNoInteractions(eventStoreMock);
+            verifyNoInteractions(staffAccountSummaryProjectionMock);
+            verifyNoInteractions(cacheInvalidationBusMock);
+        }
+
+        @Test
+        void shouldRefreshTheSummaryRow_afterTheRowUpdate() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            staffAccount.disable(StaffAccountId.generate());
+
+            // When
+            sut.update(staffAccount);
+
+            // Then
+            InOrder inOrder = inOrder(rowsMock, staffAccountSummaryProjectionMock);
+            inOrder.verify(rowsMock).update(staffAccount);
+            inOrder.verify(staffAccountSummaryProjectionMock).refresh(staffAccount.getId());
+        }
+
+        @Test
+        void shouldPublishACacheInvalidationAtTheUpdatedVersion() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            staffAccount.disable(StaffAccountId.generate());
+
+            // When
+            sut.update(staffAccount);
+
+            // Then
+            InOrder inOrder = inOrder(eventStoreMock, cacheInvalidationBusMock);
+            inOrder.verify(eventStoreMock).append(eq(staffAccount), anyCollection());
+            inOrder.verify(cacheInvalidationBusMock).publish(
+                    CacheInvalidation.staffAccount(staffAccount.getId(), staffAccount.getVersion()));
+        }
+    }
+
+    @Nested
+    class GetById {
+        @Test
+        void shouldLoadFromTheStore() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            when(eventStoreMock.load(staffAccount.getId())).thenReturn(Optional.of(staffAccount));
+
+            // When
+            Optional<StaffAccount> result = sut.getById(staffAccount.getId());
+
+            // Then
+            assertThat(result).contains(staffAccount);
+            verifyNoInteractions(rowsMock);
+        }
+
+        @Test
+        void shouldReadTheRow_withoutWriting_whenTheStoreHasNoHistory() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            when(eventStoreMock.load(staffAccount.getId())).thenReturn(Optional.empty());
+            when(rowsMock.getById(staffAccount.getId())).thenReturn(Optional.of(staffAccount));
+
+            // When
+            Optional<StaffAccount> result = sut.getById(staffAccount.getId());
+
+            // Then
+            assertThat(result).contains(staffAccount);
+            verify(eventStoreMock, never()).append(any(), anyCollection());
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNeitherStoreNorRowHaveTheAccount() {
+            // Given
+            StaffAccountId staffAccountId = StaffAccountId.generate();
+            when(eventStoreMock.load(staffAccountId)).thenReturn(Optional.empty());
+            when(rowsMock.getById(staffAccountId)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThat(sut.getById(staffAccountId)).isEmpty();
+        }
+
+        @Test
+        void shouldReadRows_whenLoadingFromTheStoreIsOff() {
+            // Given
+            EventSourcedStaffAccountWriteRepo rowsOnly =
+                    new EventSourcedStaffAccountWriteRepo(rowsMock, eventStoreMock, staffAccountSummaryProjectionMock, cacheInvalidationBusMock, false);
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            when(rowsMock.getById(staffAccount.getId())).thenReturn(Optional.of(staffAccount));
+
+            // When
+            Optional<StaffAccount> result = rowsOnly.getById(staffAccount.getId());
+
+            // Then
+            assertThat(result).contains(staffAccount);
+            verifyNoInteractions(eventStoreMock);
+        }
+    }
+
+    @Nested
+    class GetByUsername {
+        @Test
+        void shouldLoadFromTheStoreByUsername() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            when(eventStoreMock.loadByUsername(staffAccount.getUsername())).thenReturn(Optional.of(staffAccount));
+
+            // When
+            Optional<StaffAccount> result = sut.getByUsername(staffAccount.getUsername());
+
+            // Then
+            assertThat(result).contains(staffAccount);
+            verifyNoInteractions(rowsMock);
+        }
+
+        @Test
+        void shouldReadTheRow_whenTheStoreHasNoHistory() {
+            // Given
+            StaffAccount staffAccount = StaffAccountFixture.validStaffAccount();
+            when(eventStoreMock.loadByUsername(staffAccount.getUsername())).thenReturn(Optional.empty());
+            when(rowsMock.getByUsername(staffAccount.getUsername())).thenReturn(Optional.of(staffAccount));
+
+            // When & Then
+            assertThat(sut.getByUsername(staffAccount.getUsername())).contains(staffAccount);
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNoAccountHasTheUsername() {
+            // Given
+            Username username = Username.of("nobody");
+            when(eventStoreMock.loadByUsername(username)).thenReturn(Optional.empty());
+            when(rowsMock.getByUsername(username)).thenReturn(Optional.empty());
+
+            // When & Then
+            assertThat(sut.getByUsername(username)).isEmpty();
+        }
+    }
+}
@@ -323,6 +323,7 @@ public class RefreshTokenWriteRepoTests {
                     """;
 
             ArgumentCaptor<List<SqlStatement>> sqlStatementsCaptor = ArgumentCaptor.forClass(List.class);
+            when(jdbcHelperMock.executeMultiple(anyList())).thenReturn(new int[]{1, 1});
 
             // When
             sut.updateAll(refreshTokens);
@@ -346,6 +347,17 @@ public class RefreshTokenWriteRepoTests {
             }
         }
 
+        @Test
+        void shouldThrowInfraException_whenAnyStatementAffectsNoRows() {
+            // Given
+            List<RefreshToken> refreshTokens = List.of(RefreshTokenFixture.validRefreshToken(), RefreshTokenFixture.validRefreshToken());
+            when(jdbcHelperMock.executeMultiple(anyList())).thenReturn(new int[]{1, 0}); // potential concurrency
+
+            // When & Then
+            assertThatExceptionOfType(InfraException.class)
+                    .isThrownBy(() -> sut.updateAll(refreshTokens));
+        }
+
         @Test
         void shouldPropagateInfraException() {
             // Given
@@ -1,14 +1,19 @@
 package com.paragon.infrastructure.persistence.repos;
 
+import com.paragon.application.queries.getallstaffaccounts.StaffAccountSummaryCursor;
 import com.paragon.application.queries.repositoryinterfaces.StaffAccountReadRepo;
 import com.paragon.domain.enums.StaffAccountStatus;
 import com.paragon.domain.models.valueobjects.DateTimeUtc;
 import com.paragon.domain.models.valueobjects.PermissionCode;
+import com.paragon.domain.models.valueobjects.PermissionSet;
 import com.paragon.domain.models.valueobjects.Username;
+import com.paragon.infrastructure.persistence.cache.Versioned;
 import com.paragon.infrastructure.persistence.daos.PermissionCodeDao;
 import com.paragon.infrastructure.persistence.daos.StaffAccountDetailedReadModelDao;
 import com.paragon.infrastructure.persistence.daos.StaffAccountIdDao;
 import com.paragon.infrastructure.persistence.daos.StaffAccountStatusDao;
+import com.paragon.infrastructure.persistence.daos.StaffAccountVersionedPermissionCodeDao;
+import com.paragon.infrastructure.persistence.daos.StaffAccountVersionedStatusDao;
 import com.paragon.infrastructure.persistence.exceptions.InfraException;
 import com.paragon.infrastructure.persistence.jdbc.helpers.ReadJdbcHelper;
 import com.paragon.infrastructure.persistence.jdbc.sql.SqlParamsBuilder;
@@ -28,6 +33,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -188,6 +194,60 @@ public class StaffAccountReadRepoTests {
         }
     }
 
+    @Nested
+    class FindPermissionsById {
+        private final ReadJdbcHelper readJdbcHelperMock;
+        private final StaffAccountReadRepo sut;
+
+        public FindPermissionsById() {
+            this.readJdbcHelperMock = mock(ReadJdbcHelper.class);
+            this.sut = new StaffAccountReadRepoImpl(readJdbcHelperMock);
+        }
+
+        @Test
+        void callsJdbcHelper_withExpectedSqlAndParams() {
+            // Given
+            UUID staffAccountId = UUID.randomUUID();
+            ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(PermissionCodeDao.class))).thenReturn(List.of());
+
+            // When
+            sut.findPermissionsById(staffAccountId);
+
+            // Then
+            verify(readJdbcHelperMock, times(1)).query(sqlStatementCaptor.capture(), eq(PermissionCodeDao.class));
+            SqlStatement statement = sqlStatementCaptor.getValue();
+            assertThat(statement.sql()).isEqualTo("SELECT permission_code FROM staff_account_permissions WHERE staff_account_id = :staffAccountId");
+            assertThat(statement.params().build().get("staffAccountId")).isEqualTo(staffAccountId);
+        }
+
+        @Test
+        void returnsTheGrantedPermissions_skippingCodesThatAreNotSystemPermissions() {
+            // Given
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(PermissionCodeDao.class))).thenReturn(List.of(
+                    new PermissionCodeDao("MANAGE_ACCOUNTS"),
+                    new PermissionCodeDao("RETIRED_PERMISSION"),
+                    new PermissionCodeDao("VIEW_ACCOUNTS_LIST")
+            ));
+
+            // When
+            PermissionSet result = sut.findPermissionsById(UUID.randomUUID());
+
+            // Then
+            assertThat(result).isEqualTo(PermissionSet.of(List.of(
+                    PermissionCode.of("VIEW_ACCOUNTS_LIST"), PermissionCode.of("MANAGE_ACCOUNTS"))));
+        }
+
+        @Test
+        void returnsAnEmptySet_whenTheAccountHasNoPermissions() {
+            // Given
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(PermissionCodeDao.class))).thenReturn(List.of());
+
+            // When & Then
+            assertThat(sut.findPermissionsById(UUID.randomUUID()).isEmpty()).isTrue();
+        }
+    }
+
     @Nested
     class FindByUsername {
         private final ReadJdbcHelper readJdbcHelperMock;
@@ -202,8 +262,8 @@ public class StaffAccountReadRepoTests {
         void callsJdbcHelperWithExpectedSqlAndParams() {
             // Given
             String expectedSql = """
-                SELECT id, username, status, created_at_utc
-                FROM staff_accounts
+                SELECT id, username, status, created_at_utc, version
+                FROM staff_account_summaries
                 WHERE username = :username
                 """;
             SqlParamsBuilder expectedParams = new SqlParamsBuilder()
@@ -229,7 +289,8 @@ public class StaffAccountReadRepoTests {
                     UUID.randomUUID(),
                     "john_doe",
                     "active",
-                    Instant.now()
+                    Instant.now(),
+                    1
             );
 
             when(readJdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountSummaryReadModel.class)))
@@ -294,7 +355,7 @@ public class StaffAccountReadRepoTests {
             ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
 
             // When
-            sut.findAllSummaries(status, enabledBy, disabledBy, createdBefore, createdAfter);
+            sut.findAllSummaries(status, enabledBy, disabledBy, createdBefore, createdAfter, null, 50);
 
             // Then
             verify(readJdbcHelperMock, times(1)).query(sqlStatementCaptor.capture(), eq(StaffAccountSummaryReadModel.class));
@@ -305,9 +366,12 @@ public class StaffAccountReadRepoTests {
 
             // Verify base SELECT and WHERE 1=1
             assertThat(actualSql).contains("SELECT id, username, status, created_at_utc");
-            assertThat(actualSql).contains("FROM staff_accounts");
+            assertThat(actualSql).contains("FROM staff_account_summaries");
             assertThat(actualSql).contains("WHERE 1=1");
-            assertThat(actualSql).endsWith("ORDER BY created_at_utc DESC");
+            assertThat(actualSql).doesNotContain("EXISTS");
+            assertThat(actualSql).endsWith("ORDER BY created_at_utc DESC, id DESC LIMIT :limit");
+            assertThat(params.get("limit")).isEqualTo(50);
+            assertThat(actualSql).doesNotContain("(created_at_utc, id) <");
 
             // Verify filters
             if (status != null) {
@@ -316,12 +380,12 @@ public class StaffAccountReadRepoTests {
             }
 
             if (enabledBy != null) {
-                assertThat(actualSql).contains("AND EXISTS (SELECT 1 FROM staff_accounts enabler WHERE enabler.id = staff_accounts.enabled_by AND enabler.username = :enabledBy)");
+                assertThat(actualSql).contains("AND enabled_by_username = :enabledBy");
                 assertThat(params.get("enabledBy")).isEqualTo(enabledBy.getValue());
             }
 
             if (disabledBy != null) {
-                assertThat(actualSql).contains("AND EXISTS (SELECT 1 FROM staff_accounts disabler WHERE disabler.id = staff_accounts.disabled_by AND disabler.username = :disabledBy)");
+                assertThat(actualSql).contains("AND disabled_by_username = :disabledBy");
                 assertThat(params.get("disabledBy")).isEqualTo(disabledBy.getValue());
             }
 
@@ -336,6 +400,28 @@ public class StaffAccountReadRepoTests {
             }
         }
 
+        @Test
+        void shouldSeekPastCursor_whenCursorIsGiven() {
+            // Given
+            StaffAccountSummaryCursor cursor = new StaffAccountSummaryCursor(Instant.parse("2024-06-01T10:15:30Z"), UUID.randomUUID());
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountSummaryReadModel.class)))
+                    .thenReturn(List.of());
+            ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null, cursor, 26);
+
+            // Then
+            verify(readJdbcHelperMock, times(1)).query(sqlStatementCaptor.capture(), eq(StaffAccountSummaryReadModel.class));
+            SqlStatement statement = sqlStatementCaptor.getValue();
+            var params = statement.params().build();
+
+            assertThat(statement.sql()).contains("AND (created_at_utc, id) < (:afterCreatedAtUtc, :afterId) ORDER BY created_at_utc DESC, id DESC LIMIT :limit");
+            assertThat(params.get("afterCreatedAtUtc")).isEqualTo(Timestamp.from(cursor.createdAtUtc()));
+            assertThat(params.get("afterId")).isEqualTo(cursor.id());
+            assertThat(params.get("limit")).isEqualTo(26);
+        }
+
         @Test
         void shouldReturnEmptyList_whenNoFiltersAndNoResults() {
             // Given
@@ -343,7 +429,7 @@ public class StaffAccountReadRepoTests {
                     .thenReturn(List.of());
 
             // When
-            var result = sut.findAllSummaries(null, null, null, null, null);
+            var result = sut.findAllSummaries(null, null, null, null, null, null, 50);
 
             // Then
             assertThat(result).isEmpty();
@@ -356,14 +442,15 @@ public class StaffAccountReadRepoTests {
                     UUID.randomUUID(),
                     "john_doe",
                     "active",
-                    Instant.now()
+                    Instant.now(),
+                    1
             );
 
             when(readJdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountSummaryReadModel.class)))
                     .thenReturn(List.of(summary));
 
             // When
-            var result = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null);
+            var result = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null, null, 50);
 
             // Then
             assertThat(result).hasSize(1);
@@ -377,7 +464,7 @@ public class StaffAccountReadRepoTests {
                     .thenThrow(InfraException.class);
 
             // When & Then
-            assertThatThrownBy(() -> sut.findAllSummaries(null, null, null, null, null))
+            assertThatThrownBy(() -> sut.findAllSummaries(null, null, null, null, null, null, 50))
                     .isInstanceOf(InfraException.class);
         }
 
@@ -443,6 +530,54 @@ public class StaffAccountReadRepoTests {
         }
     }
 
+    @Nested
+    class StreamAll {
+        private final ReadJdbcHelper readJdbcHelperMock;
+        private final StaffAccountReadRepo sut;
+
+        public StreamAll() {
+            this.readJdbcHelperMock = mock(ReadJdbcHelper.class);
+            this.sut = new StaffAccountReadRepoImpl(readJdbcHelperMock);
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldStreamFilteredSummaries_withoutLimit() {
+            // Given
+            Consumer<StaffAccountSummaryReadModel> consumer = mock(Consumer.class);
+            ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.streamAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler_user"), null, null, null, consumer);
+
+            // Then
+            verify(readJdbcHelperMock, times(1)).stream(sqlStatementCaptor.capture(), eq(StaffAccountSummaryReadModel.class), eq(consumer));
+
+            SqlStatement statement = sqlStatementCaptor.getValue();
+            var params = statement.params().build();
+
+            assertThat(statement.sql()).contains("SELECT id, username, status, created_at_utc");
+            assertThat(statement.sql()).contains("AND status = :status");
+            assertThat(statement.sql()).contains("AND enabled_by_username = :enabledBy");
+            assertThat(statement.sql()).endsWith("ORDER BY created_at_utc DESC, id DESC");
+            assertThat(statement.sql()).doesNotContain("LIMIT");
+            assertThat(params.get("status")).isEqualTo("ACTIVE");
+            assertThat(params.get("enabledBy")).isEqualTo("enabler_user");
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void shouldPropagateInfraException_whenJdbcHelperThrows() {
+            // Given
+            doThrow(InfraException.class)
+                    .when(readJdbcHelperMock).stream(any(SqlStatement.class), eq(StaffAccountSummaryReadModel.class), any(Consumer.class));
+
+            // When & Then
+            assertThatThrownBy(() -> sut.streamAllSummaries(null, null, null, null, null, summary -> {}))
+                    .isInstanceOf(InfraException.class);
+        }
+    }
+
     @Nested
     class FindDetailedById {
 
@@ -470,31 +605,13 @@ public class StaffAccountReadRepoTests {
                     last_login_at_utc,
                     created_by,
                     disabled_by,
-                    created_at_utc
-                FROM staff_accounts
+                    permission_codes,
+                    created_at_utc,
+                    version
+                FROM staff_account_summaries
                 WHERE id = :id
                 """;
 
-            // Return a DAO so the method continues to the permission query
-            StaffAccountDetailedReadModelDao dao = new StaffAccountDetailedReadModelDao(
-                    staffAccountId,
-                    "john_doe",
-                    10,
-                    20,
-                    "ACTIVE",
-                    Instant.now(),
-                    Instant.now(),
-                    UUID.randomUUID(),
-                    UUID.randomUUID(),
-                    Instant.now()
-            );
-
-            when(readJdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountDetailedReadModelDao.class)))
-                    .thenReturn(Optional.of(dao));
-
-            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(PermissionCodeDao.class)))
-                    .thenReturn(List.of());
-
             // When
             sut.findDetailedById(staffAccountId);
 
@@ -523,24 +640,16 @@ public class StaffAccountReadRepoTests {
                     Instant.parse("2024-12-31T23:45:00Z"),
                     UUID.randomUUID(),
                     UUID.randomUUID(),
-                    Instant.parse("2023-11-15T08:30:00Z")
-            );
-
-            List<PermissionCodeDao> permDaos = List.of(
-                    new PermissionCodeDao("MANAGE_ACCOUNTS"),
-                    new PermissionCodeDao("VIEW_ACCOUNTS_LIST")
+                    List.of("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST"),
+                    Instant.parse("2023-11-15T08:30:00Z"),
+                    3
             );
 
             when(readJdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountDetailedReadModelDao.class)))
                     .thenReturn(Optional.of(dao));
-            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(PermissionCodeDao.class)))
-                    .thenReturn(permDaos);
 
             // Expected final result
-            StaffAccountDetailedReadModel expected = StaffAccountDetailedReadModel.from(
-                    dao,
-                    List.of("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST")
-            );
+            StaffAccountDetailedReadModel expected = StaffAccountDetailedReadModel.from(dao);
 
             // When
             Optional<StaffAccountDetailedReadModel> result = sut.findDetailedById(staffAccountId);
@@ -548,6 +657,8 @@ public class StaffAccountReadRepoTests {
             // Then
             assertThat(result).isPresent();
             assertThat(result.get()).isEqualTo(expected);
+            assertThat(result.get().permissionCodes()).containsExactly("MANAGE_ACCOUNTS", "VIEW_ACCOUNTS_LIST");
+            verify(readJdbcHelperMock, never()).query(any(SqlStatement.class), any());
         }
 
         @Test
@@ -646,4 +757,77 @@ public class StaffAccountReadRepoTests {
                     .isInstanceOf(InfraException.class);
         }
     }
+
+    @Nested
+    class FindVersionedPermissionsById {
+        private final ReadJdbcHelper readJdbcHelperMock;
+        private final StaffAccountReadRepoImpl sut;
+
+        public FindVersionedPermissionsById() {
+            readJdbcHelperMock = mock(ReadJdbcHelper.class);
+            sut = new StaffAccountReadRepoImpl(readJdbcHelperMock);
+        }
+
+        @Test
+        void returnsThePermissionsWithTheAccountVersion() {
+            // Given
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountVersionedPermissionCodeDao.class))).thenReturn(List.of(
+                    new StaffAccountVersionedPermissionCodeDao(4, "MANAGE_ACCOUNTS"),
+                    new StaffAccountVersionedPermissionCodeDao(4, "RETIRED_PERMISSION")
+            ));
+
+            // When
+            Optional<Versioned<PermissionSet>> result = sut.findVersionedPermissionsById(UUID.randomUUID());
+
+            // Then
+            assertThat(result).contains(new Versioned<>(PermissionSet.of(List.of(PermissionCode.of("MANAGE_ACCOUNTS"))), 4));
+        }
+
+        @Test
+        void returnsAnEmptySet_whenTheAccountHasNoPermissions() {
+            // Given
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountVersionedPermissionCodeDao.class)))
+                    .thenReturn(List.of(new StaffAccountVersionedPermissionCodeDao(2, null)));
+
+            // When
+            Optional<Versioned<PermissionSet>> result = sut.findVersionedPermissionsById(UUID.randomUUID());
+
+            // Then
+            assertThat(result).contains(new Versioned<>(PermissionSet.empty(), 2));
+        }
+
+        @Test
+        void returnsEmptyOptional_whenStaffAccountDoesNotExist() {
+            // Given
+            when(readJdbcHelperMock.query(any(SqlStatement.class), eq(StaffAccountVersionedPermissionCodeDao.class)))
+                    .thenReturn(List.of());
+
+            // When & Then
+            assertThat(sut.findVersionedPermissionsById(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    class FindVersionedStatusById {
+        private final ReadJdbcHelper readJdbcHelperMock;
+        private final StaffAccountReadRepoImpl sut;
+
+        public FindVersionedStatusById() {
+            readJdbcHelperMock = mock(ReadJdbcHelper.class);
+            sut = new StaffAccountReadRepoImpl(readJdbcHelperMock);
+        }
+
+        @Test
+        void returnsTheStatusWithTheAccountVersion() {
+            // Given
+            when(readJdbcHelperMock.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountVersionedStatusDao.class)))
+                    .thenReturn(Optional.of(new StaffAccountVersionedStatusDao("LOCKED", 7)));
+
+            // When
+            Optional<Versioned<StaffAccountStatus>> result = sut.findVersionedStatusById(UUID.randomUUID());
+
+            // Then
+            assertThat(result).contains(new Versioned<>(StaffAccountStatus.LOCKED, 7));
+        }
+    }
 }
@@ -136,7 +136,12 @@ public class StaffAccountWriteRepoTests {
 
             SqlStatement statement = sqlStatementCaptor.getValue();
 
-            assertThat(statement.sql()).isEqualTo("SELECT * FROM staff_accounts WHERE id = :id");
+            assertThat(statement.sql()).isEqualToIgnoringWhitespace("""
+                    SELECT sa.*,
+                           ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id) AS permission_codes
+                    FROM staff_accounts sa
+                    WHERE sa.id = :id
+                    """);
             assertThat(statement.params().build().get("id")).isEqualTo(staffAccountId.getValue());
         }
 
@@ -157,6 +162,24 @@ public class StaffAccountWriteRepoTests {
             assertThat(result.get().getId()).isEqualTo(staffAccountId);
         }
 
+        @Test
+        void mapsAggregatedPermissionCodes_withoutAdditionalQueries() {
+            // Given
+            StaffAccountDao staffAccountDao = createStaffAccountDao();
+
+            when(jdbcHelper.queryFirstOrDefault(any(SqlStatement.class), eq(StaffAccountDao.class)))
+                    .thenReturn(Optional.of(staffAccountDao));
+
+            // When
+            Optional<StaffAccount> result = sut.getById(StaffAccountId.of(staffAccountDao.id()));
+
+            // Then
+            assertThat(result).isPresent();
+            assertThat(result.get().getPermissionCodes())
+                    .containsExactlyInAnyOrder(PermissionCode.of("VIEW_ACCOUNTS_LIST"), PermissionCode.of("MANAGE_ACCOUNTS"));
+            verify(jdbcHelper, never()).query(any(SqlStatement.class), any());
+        }
+
         @Test
         void returnsEmptyOptional_whenStaffAccountIsMissing() {
             // Given
@@ -206,7 +229,12 @@ public class StaffAccountWriteRepoTests {
 
             SqlStatement statement = sqlStatementCaptor.getValue();
 
-            assertThat(statement.sql()).isEqualTo("SELECT * FROM staff_accounts WHERE username = :username");
+            assertThat(statement.sql()).isEqualToIgnoringWhitespace("""
+                    SELECT sa.*,
+                           ARRAY(SELECT sap.permission_code FROM staff_account_permissions sap WHERE sap.staff_account_id = sa.id) AS permission_codes
+                    FROM staff_accounts sa
+                    WHERE sa.username = :username
+                    """);
             assertThat(statement.params().build().get("username")).isEqualTo(username.getValue());
         }
 
@@ -268,6 +296,7 @@ public class StaffAccountWriteRepoTests {
         void callsJdbcHelper_withCorrectUpdateSqlStatementAndParams() {
             // Given
             var account = StaffAccountFixture.validStaffAccount();
+            account.login();
             ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
 
             // When
@@ -279,29 +308,24 @@ public class StaffAccountWriteRepoTests {
             SqlStatement statement = sqlStatementCaptor.getValue();
             var params = statement.params().build();
 
-            assertThat(statement.sql()).contains("UPDATE staff_accounts");
-            assertThat(statement.sql()).contains("WHERE id = :id");
-            assertThat(statement.sql()).contains("AND version = :currentVersion");
+            assertThat(statement.sql()).isEqualTo(
+                    "UPDATE staff_accounts SET failed_login_attempts = :failedLoginAttempts, last_login_at_utc = :lastLoginAtUtc, " +
+                    "version = :version, updated_at_utc = :updatedAtUtc WHERE id = :id AND version = :currentVersion"
+            );
             assertThat(params.get("id")).isEqualTo(account.getId().getValue());
-            assertThat(params.get("username")).isEqualTo(account.getUsername().getValue());
-            assertThat(params.get("email")).isEqualTo(account.getEmail() != null ? account.getEmail().getValue() : null);
-            assertThat(params.get("password")).isEqualTo(account.getPassword().getValue());
-            assertThat(params.get("passwordIssuedAtUtc")).isNotNull();
-            assertThat(params.get("isPasswordTemporary")).isEqualTo(account.isPasswordTemporary());
-            assertThat(params.get("orderAccessDuration")).isEqualTo(account.getOrderAccessDuration().getValueInDays());
-            assertThat(params.get("modmailTranscriptAccessDuration")).isEqualTo(account.getModmailTranscriptAccessDuration().getValueInDays());
-            assertThat(params.get("status")).isEqualTo(account.getStatus().toString());
             assertThat(params.get("failedLoginAttempts")).isEqualTo(account.getFailedLoginAttempts().getValue());
-            assertThat(params.get("disabledBy")).isEqualTo(account.getDisabledBy() != null ? account.getDisabledBy().getValue() : null);
-            assertThat(params.get("enabledBy")).isEqualTo(account.getEnabledBy() != null ? account.getEnabledBy().getValue() : null);
+            assertThat(params.get("lastLoginAtUtc")).isNotNull();
+            assertThat(params.get("updatedAtUtc")).isNotNull();
             assertThat(params.get("version")).isEqualTo(account.getVersion().getValue());
             assertThat(params.get("currentVersion")).isEqualTo(account.getVersion().getValue() - 1);
+            assertThat(params).doesNotContainKeys("username", "email", "password", "status", "disabledBy", "enabledBy");
         }
 
         @Test
-        void updatesOnlyMutableFields_excludingImmutableFields() {
+        void updatesOnlyModifiedColumns_excludingImmutableFields() {
             // Given
             var account = StaffAccountFixture.validStaffAccount();
+            account.disable(StaffAccountId.generate());
             ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
 
             // When
@@ -312,28 +336,86 @@ public class StaffAccountWriteRepoTests {
 
             String sql = sqlStatementCaptor.getValue().sql();
 
-            // Should update mutable fields
-            assertThat(sql).contains("username = :username");
-            assertThat(sql).contains("email = :email");
-            assertThat(sql).contains("password = :password");
-            assertThat(sql).contains("is_password_temporary = :isPasswordTemporary");
-            assertThat(sql).contains("password_issued_at_utc = :passwordIssuedAtUtc");
-            assertThat(sql).contains("order_access_duration = :orderAccessDuration");
-            assertThat(sql).contains("modmail_transcript_access_duration = :modmailTranscriptAccessDuration");
+            // Should update modified fields
             assertThat(sql).contains("status = :status");
-            assertThat(sql).contains("failed_login_attempts = :failedLoginAttempts");
-            assertThat(sql).contains("locked_until_utc = :lockedUntilUtc");
-            assertThat(sql).contains("last_login_at_utc = :lastLoginAtUtc");
             assertThat(sql).contains("disabled_by = :disabledBy");
             assertThat(sql).contains("enabled_by = :enabledBy");
             assertThat(sql).contains("version = :version");
             assertThat(sql).contains("updated_at_utc = :updatedAtUtc");
 
+            // Should NOT update unmodified fields
+            assertThat(sql).doesNotContain("username = :username");
+            assertThat(sql).doesNotContain("password = :password");
+            assertThat(sql).doesNotContain("failed_login_attempts = :failedLoginAttempts");
+            assertThat(sql).doesNotContain("last_login_at_utc = :lastLoginAtUtc");
+
             // Should NOT update immutable fields
             assertThat(sql).doesNotContain("created_by = ");
             assertThat(sql).doesNotContain("created_at_utc = ");
         }
 
+        @Test
+        void updatesOnlyVersion_whenNoPropertiesWereModified() {
+            // Given
+            var account = StaffAccountFixture.validStaffAccount();
+            ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.update(account);
+
+            // Then
+            verify(jdbcHelper, times(1)).execute(sqlStatementCaptor.capture());
+            assertThat(sqlStatementCaptor.getValue().sql()).isEqualTo(
+                    "UPDATE staff_accounts SET version = :version, updated_at_utc = :updatedAtUtc WHERE id = :id AND version = :currentVersion"
+            );
+        }
+
+        @Test
+        void writesEveryPropertyModifiedByPasswordReset() {
+            // Given
+            var account = StaffAccountFixture.validStaffAccount();
+            account.resetPassword(Password.fromHashed("new-hashed-password"), StaffAccountId.generate());
+            ArgumentCaptor<SqlStatement> sqlStatementCaptor = ArgumentCaptor.forClass(SqlStatement.class);
+
+            // When
+            sut.update(account);
+
+            // Then
+            verify(jdbcHelper, times(1)).execute(sqlStatementCaptor.capture());
+            var params = sqlStatementCaptor.getValue().params().build();
+
+            assertThat(params).containsKeys("password", "passwordResetBy", "passwordIssuedAtUtc", "isPasswordTemporary", "status", "failedLoginAttempts");
+            assertThat(params.get("password")).isEqualTo("new-hashed-password");
+            assertThat(params.get("status")).isEqualTo(StaffAccountStatus.PENDING_PASSWORD_CHANGE.toString());
+        }
+
+        @Test
+        void clearsModifiedProperties_afterSuccessfulUpdate() {
+            // Given
+            var account = StaffAccountFixture.validStaffAccount();
+            account.login();
+
+            // When
+            sut.update(account);
+
+            // Then
+            assertThat(account.getModifiedProperties()).isEmpty();
+        }
+
+        @Test
+        void keepsModifiedProperties_whenUpdateFails() {
+            // Given
+            var account = StaffAccountFixture.validStaffAccount();
+            account.login();
+            when(jdbcHelper.execute(any(SqlStatement.class))).thenReturn(0);
+
+            // When
+            assertThatExceptionOfType(InfraException.class).isThrownBy(() -> sut.update(account));
+
+            // Then
+            assertThat(account.getModifiedProperties()).containsExactly("failedLoginAttempts", "lastLoginAt");
+        }
+
         @Test
         void shouldThrowInfraException_whenExecuteReturnsNoAffectedRows() {
             // Given
@@ -378,8 +460,8 @@ public class StaffAccountWriteRepoTests {
                 null,
                 1,
                 Instant.parse("2024-01-02T12:00:00Z"),
-                Instant.parse("2024-01-03T12:00:00Z")
-
+                Instant.parse("2024-01-03T12:00:00Z"),
+                List.of("VIEW_ACCOUNTS_LIST", "MANAGE_ACCOUNTS")
         );
     }
 }
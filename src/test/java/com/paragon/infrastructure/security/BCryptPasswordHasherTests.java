@@ -0,0 +1,97 @@
+package com.paragon.infrastructure.security;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionInfo;
+import com.paragon.domain.models.valueobjects.Password;
+import com.paragon.domain.models.valueobjects.PlaintextPassword;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BCryptPasswordHasherTests {
+    private final PasswordHashingEngine hashingEngine;
+    private final BCryptPasswordHasher sut;
+
+    BCryptPasswordHasherTests() {
+        hashingEngine = new PasswordHashingEngine(2, 4);
+        sut = new BCryptPasswordHasher(hashingEngine, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingEngine.shutdown();
+    }
+
+    @Test
+    void shouldVerifyOnlyThePasswordThatWasHashed() {
+        // Given
+        Password hashed = sut.hash(PlaintextPassword.of("Password123?"));
+
+        // When & Then
+        assertThat(sut.verify("Password123?", hashed)).isTrue();
+        assertThat(sut.verify("Password124?", hashed)).isFalse();
+        assertThat(hashingEngine.getCompletedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldHashAndVerifyWithoutBlocking() {
+        // When
+        CompletableFuture<Boolean> verified = sut.hashAsync(PlaintextPassword.of("Password123?"))
+                .thenCompose(hashed -> sut.verifyAsync("Password123?", hashed));
+
+        // Then
+        assertThat(verified.join()).isTrue();
+    }
+
+    @Test
+    void shouldRethrowTheEnginesRejection_fromTheBlockingMethods() {
+        // Given
+        PasswordHashingEngine saturatedEngine = mock(PasswordHashingEngine.class);
+        when(saturatedEngine.submit(any())).thenReturn(
+                CompletableFuture.failedFuture(new AppException(AppExceptionInfo.passwordHashingUnavailable())));
+        BCryptPasswordHasher hasher = new BCryptPasswordHasher(saturatedEngine, 4);
+
+        // When & Then
+        assertThatThrownBy(() -> hasher.verify("Password123?", Password.of("$2a$10$hashedPasswordValue")))
+                .isInstanceOf(AppException.class)
+                .isEqualTo(new AppException(AppExceptionInfo.passwordHashingUnavailable()));
+    }
+
+    @Nested
+    class RehashIfOutdated {
+        @Test
+        void shouldRehashWithTheCurrentWorkFactor_whenTheStoredHashIsWeaker() {
+            // Given
+            Password stored = sut.hash(PlaintextPassword.of("Password123?"));
+            BCryptPasswordHasher strongerHasher = new BCryptPasswordHasher(hashingEngine, 5);
+
+            // When
+            Optional<Password> rehashed = strongerHasher.rehashIfOutdated("Password123?", stored);
+
+            // Then
+            assertThat(rehashed).hasValueSatisfying(password -> {
+                assertThat(password.getWorkFactor()).isEqualTo(5);
+                assertThat(strongerHasher.verify("Password123?", password)).isTrue();
+            });
+        }
+
+        @Test
+        void shouldKeepTheStoredHash_whenItIsAtLeastAsStrong() {
+            // Given
+            Password stored = new BCryptPasswordHasher(hashingEngine, 5).hash(PlaintextPassword.of("Password123?"));
+
+            // When & Then
+            assertThat(sut.rehashIfOutdated("Password123?", stored)).isEmpty();
+            assertThat(sut.rehashIfOutdated("Password123?", sut.hash(PlaintextPassword.of("Password123?")))).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.paragon.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BCryptWorkFactorCalibratorTests {
+    // 50 ms at work factor 10, doubling with every step
+    private static final IntToLongFunction HASH_NANOS = workFactor ->
+            TimeUnit.MILLISECONDS.toNanos(50) << (workFactor - 10);
+
+    @Test
+    void shouldPickTheHighestWorkFactorWithinTheTargetVerifyTime() {
+        // Given
+        var sut = new BCryptWorkFactorCalibrator(0, Duration.ofMillis(250), 10, 16, HASH_NANOS);
+
+        // When
+        int workFactor = sut.calibrate();
+
+        // Then
+        assertThat(workFactor).isEqualTo(12); // 200 ms, where 13 would take 400 ms
+    }
+
+    @Test
+    void shouldNotGoBelowTheMinimum_onASlowMachine() {
+        // Given
+        var sut = new BCryptWorkFactorCalibrator(0, Duration.ofMillis(10), 10, 16, HASH_NANOS);
+
+        // When & Then
+        assertThat(sut.calibrate()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotGoAboveTheMaximum_onAFastMachine() {
+        // Given
+        var sut = new BCryptWorkFactorCalibrator(0, Duration.ofSeconds(60), 10, 14, HASH_NANOS);
+
+        // When & Then
+        assertThat(sut.calibrate()).isEqualTo(14);
+    }
+
+    @Test
+    void shouldEstimateFromTheFastestSample() {
+        // Given
+        List<Long> samples = new ArrayList<>(List.of(
+                TimeUnit.MILLISECONDS.toNanos(400), TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(90)));
+        var sut = new BCryptWorkFactorCalibrator(0, Duration.ofMillis(250), 10, 16, workFactor -> samples.removeFirst());
+
+        // When & Then
+        assertThat(sut.calibrate()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldUseTheConfiguredWorkFactorWithoutTiming() {
+        // Given
+        var sut = new BCryptWorkFactorCalibrator(11, Duration.ofMillis(250), 10, 16, workFactor -> {
+            throw new AssertionError("should not time a hash");
+        });
+
+        // When & Then
+        assertThat(sut.calibrate()).isEqualTo(11);
+    }
+
+    @Test
+    void shouldRejectWorkFactorBoundsBCryptDoesNotSupport() {
+        // When & Then
+        assertThatThrownBy(() -> new BCryptWorkFactorCalibrator(0, Duration.ofMillis(250), 3, 16, HASH_NANOS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BCryptWorkFactorCalibrator(0, Duration.ofMillis(250), 12, 10, HASH_NANOS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCalibrateAgainstRealHashes() {
+        // Given
+        var sut = new BCryptWorkFactorCalibrator(0, Duration.ofMillis(250), 4, 6);
+
+        // When & Then
+        assertThat(sut.calibrate()).isBetween(4, 6);
+    }
+}
@@ -0,0 +1,132 @@
+package com.paragon.infrastructure.security;
+
+import com.paragon.application.common.exceptions.AppException;
+import com.paragon.application.common.exceptions.AppExceptionStatusCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHashingEngineTests {
+    private final PasswordHashingEngine sut;
+
+    PasswordHashingEngineTests() {
+        sut = new PasswordHashingEngine(1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.shutdown();
+    }
+
+    @Nested
+    class Submit {
+        @Test
+        void shouldCompleteWithTheOperationsResult_onAHashingThread() {
+            // When
+            String threadName = sut.submit(() -> Thread.currentThread().getName()).join();
+
+            // Then
+            assertThat(threadName).startsWith("password-hasher-");
+            assertThat(sut.getCompletedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldCompleteExceptionally_whenTheOperationThrows() {
+            // When
+            CompletableFuture<Object> result = sut.submit(() -> {
+                throw new IllegalArgumentException("bad hash");
+            });
+
+            // Then
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(sut.getCompletedCount()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldRejectImmediatelyWithServiceUnavailable_whenThePoolAndQueueAreFull() throws Exception {
+            // Given
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> busy = sut.submit(() -> {
+                running.countDown();
+                return await(release);
+            });
+            running.await(5, TimeUnit.SECONDS);
+            CompletableFuture<Boolean> queued = sut.submit(() -> true);
+
+            // When
+            CompletableFuture<Boolean> rejected = sut.submit(() -> true);
+
+            // Then
+            assertThat(rejected).isCompletedExceptionally();
+            assertThatThrownBy(rejected::join)
+                    .cause()
+                    .isInstanceOfSatisfying(AppException.class, ex ->
+                            assertThat(ex.getStatusCode()).isEqualTo(AppExceptionStatusCode.SERVICE_UNAVAILABLE));
+            assertThat(sut.getRejectedCount()).isEqualTo(1);
+            assertThat(sut.getQueueDepth()).isEqualTo(1);
+            assertThat(sut.getActiveCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void shouldRecordHowLongQueuedWorkWaitedAndRan() throws Exception {
+            // Given
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Boolean> busy = sut.submit(() -> {
+                running.countDown();
+                return await(release);
+            });
+            CompletableFuture<Boolean> queued = sut.submit(() -> true);
+            running.await(5, TimeUnit.SECONDS);
+
+            // When
+            Thread.sleep(50);
+            release.countDown();
+            busy.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(sut.getMaxWaitNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            assertThat(sut.getMaxHashNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            assertThat(sut.getTotalHashNanos()).isGreaterThanOrEqualTo(sut.getMaxHashNanos());
+            assertThat(sut.getCompletedCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldSizeThePoolToTheCoreCount_whenNoThreadCountIsConfigured() {
+        // Given
+        PasswordHashingEngine engine = new PasswordHashingEngine(0, 1);
+
+        // When & Then
+        try {
+            assertThat(engine.getPoolSize()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
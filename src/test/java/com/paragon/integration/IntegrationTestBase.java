@@ -1,5 +1,6 @@
 package com.paragon.integration;
 
+import com.paragon.application.common.interfaces.StaffAccountReadModelCache;
 import com.paragon.infrastructure.persistence.jdbc.transaction.UnitOfWorkAwareDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,17 +25,23 @@ public abstract class IntegrationTestBase {
     @Autowired private JdbcTemplate jdbc;
     @Autowired protected ObjectMapper objectMapper;
     @Autowired private UnitOfWorkAwareDataSource dataSource;
+    @Autowired private StaffAccountReadModelCache staffAccountReadModelCache;
 
     protected final String adminId = "00000000-0000-0000-0000-000000000001";
 
     @AfterEach
     void cleanDynamicData() {
         rollbackAnyActiveTransactions();
+        jdbc.execute("DELETE FROM outbox_events");
+        jdbc.execute("DELETE FROM staff_account_events");
+        jdbc.execute("DELETE FROM staff_account_snapshots");
+        jdbc.execute("DELETE FROM staff_account_summaries WHERE username != 'admin'");
         jdbc.execute("DELETE FROM staff_account_requests");
         jdbc.execute("DELETE FROM refresh_tokens");
         jdbc.execute("DELETE FROM audit_trail");
         jdbc.execute("DELETE FROM staff_account_password_history");
         jdbc.execute("DELETE FROM staff_accounts WHERE username != 'admin'");
+        staffAccountReadModelCache.invalidateAll();
     }
 
     private void rollbackAnyActiveTransactions() {
@@ -84,7 +84,7 @@ public class StaffAccountControllerTests {
             assertThat(registeredAccount.getEmail().getValue()).isEqualTo(requestDto.email());
             assertThat(registeredAccount.getOrderAccessDuration().getValueInDays()).isEqualTo(requestDto.orderAccessDuration());
             assertThat(registeredAccount.getModmailTranscriptAccessDuration().getValueInDays()).isEqualTo(requestDto.modmailTranscriptAccessDuration());
-            assertThat(registeredAccount.getPermissionCodes().stream().map(PermissionCode::getValue).toList()).isEqualTo(requestDto.permissionCodes());
+            assertThat(registeredAccount.getPermissionCodes().stream().map(PermissionCode::getValue).toList()).containsExactlyInAnyOrderElementsOf(requestDto.permissionCodes());
         }
 
         @Test
@@ -40,7 +40,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         );
 
         // When
-        eventBus.publishAll(List.of(staffAccountRegisteredEvent));
+        eventBus.dispatch(staffAccountRegisteredEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(staffAccountRegisteredEvent.getStaffAccountCreatedBy(), AuditEntryActionType.REGISTER_ACCOUNT);
@@ -63,7 +63,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         );
 
         // When
-        eventBus.publishAll(List.of(staffAccountLockedEvent));
+        eventBus.dispatch(staffAccountLockedEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(staffAccountLockedEvent.getStaffAccountId(), AuditEntryActionType.ACCOUNT_LOCKED);
@@ -86,7 +86,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         );
 
         // When
-        eventBus.publishAll(List.of(staffAccountLoggedInEvent));
+        eventBus.dispatch(staffAccountLoggedInEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(staffAccountLoggedInEvent.getStaffAccountId(), AuditEntryActionType.LOGIN);
@@ -110,7 +110,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         StaffAccountDisabledEvent staffAccountDisabledEvent = new StaffAccountDisabledEvent(disabledStaffAccount);
 
         // When
-        eventBus.publishAll(List.of(staffAccountDisabledEvent));
+        eventBus.dispatch(staffAccountDisabledEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(
@@ -134,7 +134,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         StaffAccountPasswordResetEvent passwordResetEvent = new StaffAccountPasswordResetEvent(staffAccount);
 
         // When
-        eventBus.publishAll(List.of(passwordResetEvent));
+        eventBus.dispatch(passwordResetEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(
@@ -158,7 +158,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         StaffAccountEnabledEvent enabledEvent = new StaffAccountEnabledEvent(staffAccount);
 
         // When
-        eventBus.publishAll(List.of(enabledEvent));
+        eventBus.dispatch(enabledEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(
@@ -182,7 +182,7 @@ public class StaffAccountEventAuditTrailHandlerTests extends IntegrationTestBase
         StaffAccountPasswordChangedEvent passwordChangedEvent = new StaffAccountPasswordChangedEvent(staffAccount);
 
         // When
-        eventBus.publishAll(List.of(passwordChangedEvent));
+        eventBus.dispatch(passwordChangedEvent);
 
         // Then
         List<AuditTrailEntry> auditTrailEntries = jdbcHelper.getAuditTrailEntriesByActorAndAction(
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -110,4 +111,57 @@ public class AuditTrailWriteRepoTests {
                     .isInstanceOf(InfraException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class CreateAll extends IntegrationTestBase {
+        private final AuditTrailWriteRepoImpl sut;
+        private final TestJdbcHelper testJdbcHelper;
+        private final StaffAccount adminStaffAccount;
+
+        @Autowired
+        public CreateAll(WriteJdbcHelper writeJdbcHelper) {
+            sut = new AuditTrailWriteRepoImpl(writeJdbcHelper);
+            testJdbcHelper = new TestJdbcHelper(writeJdbcHelper);
+
+            adminStaffAccount = testJdbcHelper.getStaffAccountByUsername(Username.of("admin")).get();
+        }
+
+        @Test
+        void shouldInsertEveryAuditTrailEntry() {
+            // Given
+            List<AuditTrailEntry> insertedAuditTrailEntries = List.of(
+                    new AuditTrailEntryFixture().withActorId(adminStaffAccount.getId().getValue().toString()).build(),
+                    new AuditTrailEntryFixture().withActorId(adminStaffAccount.getId().getValue().toString()).withTargetId(null).build(),
+                    new AuditTrailEntryFixture().withActorId(adminStaffAccount.getId().getValue().toString()).withTargetType(null).build()
+            );
+
+            // When
+            sut.createAll(insertedAuditTrailEntries);
+
+            // Then
+            for (AuditTrailEntry insertedAuditTrailEntry : insertedAuditTrailEntries) {
+                Optional<AuditTrailEntry> optionalAuditTrailEntry = testJdbcHelper.getAuditTrailEntryById(insertedAuditTrailEntry.getId());
+                assertThat(optionalAuditTrailEntry).isPresent();
+                assertThat(optionalAuditTrailEntry.get())
+                        .usingRecursiveComparison()
+                        .isEqualTo(insertedAuditTrailEntry);
+            }
+        }
+
+        @Test
+        void shouldPropagateInfraException_whenAnEntryAlreadyExists() {
+            // Given
+            AuditTrailEntry existingAuditTrailEntry = new AuditTrailEntryFixture()
+                    .withActorId(adminStaffAccount.getId().getValue().toString())
+                    .build();
+            testJdbcHelper.insertAuditTrailEntry(existingAuditTrailEntry);
+            AuditTrailEntry newAuditTrailEntry = new AuditTrailEntryFixture()
+                    .withActorId(adminStaffAccount.getId().getValue().toString())
+                    .build();
+
+            // When & Then
+            assertThatThrownBy(() -> sut.createAll(List.of(newAuditTrailEntry, existingAuditTrailEntry)))
+                    .isInstanceOf(InfraException.class);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -180,7 +181,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(staffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(staffAccount.getId().getValue()));
@@ -197,7 +198,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(activeStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(activeStaffAccount.getId().getValue()));
@@ -215,7 +216,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(disabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, null, null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, null, null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(disabledStaffAccount.getId().getValue()));
@@ -241,7 +242,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(enabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, Username.of("enabler"), null, null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, Username.of("enabler"), null, null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(enabledStaffAccount.getId().getValue()));
@@ -267,7 +268,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(disabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, Username.of("disabler"), null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, Username.of("disabler"), null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(disabledStaffAccount.getId().getValue()));
@@ -286,7 +287,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(staffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, beforeDateTime, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, beforeDateTime, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(staffAccount.getId().getValue()));
@@ -305,7 +306,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(staffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, null, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, null, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(staffAccount.getId().getValue()));
@@ -331,7 +332,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(enabledActiveStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(enabledActiveStaffAccount.getId().getValue()));
@@ -357,7 +358,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(disabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, Username.of("disabler"), null, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, Username.of("disabler"), null, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(disabledStaffAccount.getId().getValue()));
@@ -376,7 +377,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(activeStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, beforeDateTime, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, beforeDateTime, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(activeStaffAccount.getId().getValue()));
@@ -395,7 +396,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(activeStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(activeStaffAccount.getId().getValue()));
@@ -423,7 +424,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(enabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, Username.of("enabler"), null, beforeDateTime, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, Username.of("enabler"), null, beforeDateTime, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(enabledStaffAccount.getId().getValue()));
@@ -451,7 +452,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(disabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, Username.of("disabler"), null, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, Username.of("disabler"), null, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(disabledStaffAccount.getId().getValue()));
@@ -472,7 +473,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(staffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, beforeDateTime, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(null, null, null, beforeDateTime, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(staffAccount.getId().getValue()));
@@ -500,7 +501,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(enabledActiveStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, beforeDateTime, null);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, beforeDateTime, null, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(enabledActiveStaffAccount.getId().getValue()));
@@ -521,7 +522,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(activeStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, beforeDateTime, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, null, null, beforeDateTime, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(activeStaffAccount.getId().getValue()));
@@ -551,7 +552,7 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(disabledStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, Username.of("disabler"), beforeDateTime, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.DISABLED, null, Username.of("disabler"), beforeDateTime, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(disabledStaffAccount.getId().getValue()));
@@ -581,13 +582,50 @@ public class StaffAccountReadRepoTests {
             testJdbcHelper.insertStaffAccount(enabledActiveStaffAccount);
 
             // When
-            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, beforeDateTime, afterDateTime);
+            List<StaffAccountSummaryReadModel> results = sut.findAllSummaries(StaffAccountStatus.ACTIVE, Username.of("enabler"), null, beforeDateTime, afterDateTime, null, 100);
 
             // Then
             assertThat(results).anyMatch(s -> s.id().equals(enabledActiveStaffAccount.getId().getValue()));
         }
     }
 
+    @Nested
+    class StreamAll extends IntegrationTestBase {
+        private final StaffAccountReadRepo sut;
+        private final TestJdbcHelper testJdbcHelper;
+
+        @Autowired
+        public StreamAll(WriteJdbcHelper writeJdbcHelper, StaffAccountReadRepo staffAccountReadRepo) {
+            sut = staffAccountReadRepo;
+            testJdbcHelper = new TestJdbcHelper(writeJdbcHelper);
+        }
+
+        @Test
+        void shouldStreamEveryMatchingStaffAccount() {
+            // Given
+            StaffAccount firstStaffAccount = new StaffAccountFixture()
+                    .withUsername("first_user")
+                    .withStatus(StaffAccountStatus.ACTIVE)
+                    .withCreatedBy(adminId)
+                    .build();
+            StaffAccount secondStaffAccount = new StaffAccountFixture()
+                    .withUsername("second_user")
+                    .withStatus(StaffAccountStatus.ACTIVE)
+                    .withCreatedBy(adminId)
+                    .build();
+            testJdbcHelper.insertStaffAccount(firstStaffAccount);
+            testJdbcHelper.insertStaffAccount(secondStaffAccount);
+            List<StaffAccountSummaryReadModel> results = new ArrayList<>();
+
+            // When
+            sut.streamAllSummaries(StaffAccountStatus.ACTIVE, null, null, null, null, results::add);
+
+            // Then
+            assertThat(results).anyMatch(s -> s.id().equals(firstStaffAccount.getId().getValue()));
+            assertThat(results).anyMatch(s -> s.id().equals(secondStaffAccount.getId().getValue()));
+        }
+    }
+
     @Nested
     class FindDetailedById extends IntegrationTestBase {
         private final StaffAccountReadRepo sut;